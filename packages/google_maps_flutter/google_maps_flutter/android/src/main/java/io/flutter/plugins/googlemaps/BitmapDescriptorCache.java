@@ -0,0 +1,160 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the {@link BitmapDescriptor}s of marker icons so that markers sharing an icon decode it
+ * once.
+ *
+ * <p>Icons are keyed by content: {@code fromBytes} icons by a SHA-1 of their bytes and all other
+ * icons by their arguments. Decoded icons are kept in an LRU bounded by their decoded size in
+ * bytes. Icons can also be registered by id, in which case they are kept until unregistered and
+ * markers reference them as {@code ["registered", iconId]} without resending the bytes.
+ *
+ * <p>This class is not thread-safe and must be used from the platform thread.
+ */
+final class BitmapDescriptorCache {
+  static final int DEFAULT_MAX_BYTES = 8 * 1024 * 1024;
+
+  /** Minimum size charged for an entry, so lazily decoded asset icons still count. */
+  private static final int MIN_ENTRY_BYTES = 64;
+
+  /** A descriptor and the size of the bitmap it holds. */
+  static final class Entry {
+    final BitmapDescriptor descriptor;
+    final int byteCount;
+
+    Entry(BitmapDescriptor descriptor, int byteCount) {
+      this.descriptor = descriptor;
+      this.byteCount = Math.max(byteCount, MIN_ENTRY_BYTES);
+    }
+  }
+
+  /** Creates the descriptor of an icon that is not cached. */
+  interface Loader {
+    Entry load(List<?> icon);
+  }
+
+  private final int maxBytes;
+  private final Loader loader;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, BitmapDescriptor> registeredIcons = new HashMap<>();
+  private int byteCount;
+
+  BitmapDescriptorCache() {
+    this(DEFAULT_MAX_BYTES, Convert::toBitmapDescriptorEntry);
+  }
+
+  BitmapDescriptorCache(int maxBytes, Loader loader) {
+    this.maxBytes = maxBytes;
+    this.loader = loader;
+  }
+
+  /** Returns the descriptor of {@code o}, an icon as sent by Dart. */
+  BitmapDescriptor get(Object o) {
+    final List<?> icon = (List<?>) o;
+    if ("registered".equals(icon.get(0))) {
+      return getRegistered(icon);
+    }
+    final String key = keyOf(icon);
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      entry = loader.load(icon);
+      entries.put(key, entry);
+      byteCount += entry.byteCount;
+      trimToSize();
+    }
+    return entry.descriptor;
+  }
+
+  /**
+   * Throws an {@link IllegalArgumentException} if {@code o} references an icon id that is not
+   * registered. Other icons are not decoded.
+   */
+  void checkIcon(Object o) {
+    if (o instanceof List && "registered".equals(((List<?>) o).get(0))) {
+      getRegistered((List<?>) o);
+    }
+  }
+
+  /** Decodes {@code icon} and keeps it under {@code iconId} until it is unregistered. */
+  void register(String iconId, Object icon) {
+    if (iconId == null) {
+      throw new IllegalArgumentException("iconId was null");
+    }
+    registeredIcons.put(iconId, loader.load((List<?>) icon).descriptor);
+  }
+
+  /** Forgets {@code iconId}. Markers already showing the icon keep it. */
+  void unregister(String iconId) {
+    registeredIcons.remove(iconId);
+  }
+
+  void clear() {
+    entries.clear();
+    registeredIcons.clear();
+    byteCount = 0;
+  }
+
+  int getByteCount() {
+    return byteCount;
+  }
+
+  int getCachedIconCount() {
+    return entries.size();
+  }
+
+  private BitmapDescriptor getRegistered(List<?> icon) {
+    final String iconId = (String) icon.get(1);
+    final BitmapDescriptor descriptor = registeredIcons.get(iconId);
+    if (descriptor == null) {
+      throw new IllegalArgumentException("No icon registered with id " + iconId);
+    }
+    return descriptor;
+  }
+
+  private void trimToSize() {
+    final Iterator<Entry> iterator = entries.values().iterator();
+    // The most recently used entry is last and is kept even if it exceeds the budget on its own.
+    while (byteCount > maxBytes && entries.size() > 1) {
+      byteCount -= iterator.next().byteCount;
+      iterator.remove();
+    }
+  }
+
+  private static String keyOf(List<?> icon) {
+    if ("fromBytes".equals(icon.get(0)) && icon.size() == 2 && icon.get(1) instanceof byte[]) {
+      final byte[] bytes = (byte[]) icon.get(1);
+      return "fromBytes:" + bytes.length + ":" + sha1(bytes);
+    }
+    return icon.toString();
+  }
+
+  static String sha1(byte[] bytes) {
+    final byte[] digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1").digest(bytes);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-1; fall back to a weaker content hash.
+      return Integer.toHexString(Arrays.hashCode(bytes));
+    }
+    final StringBuilder builder = new StringBuilder(digest.length * 2);
+    for (byte b : digest) {
+      builder.append(Character.forDigit((b >> 4) & 0xf, 16));
+      builder.append(Character.forDigit(b & 0xf, 16));
+    }
+    return builder.toString();
+  }
+}
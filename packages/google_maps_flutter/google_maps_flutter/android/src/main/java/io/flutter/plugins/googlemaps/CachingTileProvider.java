@@ -0,0 +1,107 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Supplies the tiles of a tile overlay from a {@link TileCache}, loading the missing ones.
+ *
+ * <p>The map requests tiles on several background threads and may ask for the same tile again while
+ * it is being loaded, as can prefetching. Only the first request for a tile loads it; the others
+ * wait for its result.
+ */
+final class CachingTileProvider implements TileProvider {
+
+  /** Loads the encoded bytes of a tile. Called on a background thread and may block. */
+  interface Loader {
+    /** Returns the bytes of the tile, or null if there is no tile at these coordinates. */
+    byte[] load(int x, int y, int zoom) throws IOException, InterruptedException;
+  }
+
+  /** A tile being loaded, which other requests for the same tile wait for. */
+  private static final class PendingTile {
+    final CountDownLatch loaded = new CountDownLatch(1);
+    byte[] bytes;
+  }
+
+  private final int tileSize;
+  private final Loader loader;
+  private final TileCache cache;
+  private final ConcurrentHashMap<String, PendingTile> pendingTiles = new ConcurrentHashMap<>();
+
+  CachingTileProvider(int tileSize, Loader loader, TileCache cache) {
+    this.tileSize = tileSize;
+    this.loader = loader;
+    this.cache = cache;
+  }
+
+  /**
+   * Returns the tile, {@link #NO_TILE} if there is none, or null if it could not be loaded now, in
+   * which case the map requests it again later.
+   */
+  @Override
+  public Tile getTile(int x, int y, int zoom) {
+    final byte[] bytes;
+    try {
+      bytes = load(x, y, zoom);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+    if (bytes == null) {
+      return null;
+    }
+    if (bytes == TileCache.NO_TILE) {
+      return NO_TILE;
+    }
+    return new Tile(tileSize, tileSize, bytes);
+  }
+
+  /** Loads the tile into the cache if it is not cached yet. */
+  void prefetch(int x, int y, int zoom) throws InterruptedException {
+    if (!cache.containsInMemory(TileCache.key(x, y, zoom))) {
+      load(x, y, zoom);
+    }
+  }
+
+  void clearCache() {
+    cache.clear();
+  }
+
+  /**
+   * Returns the bytes of the tile, {@link TileCache#NO_TILE} if there is none, or null if loading
+   * it failed.
+   */
+  private byte[] load(int x, int y, int zoom) throws InterruptedException {
+    final String key = TileCache.key(x, y, zoom);
+    final byte[] cached = cache.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    final PendingTile pending = new PendingTile();
+    final PendingTile existing = pendingTiles.putIfAbsent(key, pending);
+    if (existing != null) {
+      existing.loaded.await();
+      return existing.bytes;
+    }
+    try {
+      final byte[] bytes = loader.load(x, y, zoom);
+      pending.bytes = bytes != null && bytes.length > 0 ? bytes : TileCache.NO_TILE;
+      cache.put(key, pending.bytes);
+    } catch (IOException e) {
+      // Failures are not cached, so the tile is loaded again when next requested.
+      pending.bytes = null;
+    } finally {
+      pendingTiles.remove(key);
+      pending.loaded.countDown();
+    }
+    return pending.bytes;
+  }
+}
@@ -0,0 +1,101 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.CameraPosition;
+
+/**
+ * Decides which camera positions are sent as {@code camera#onMove} during a camera move.
+ *
+ * <p>A position is sent when at least the minimum interval has passed since the previous one and it
+ * differs enough from it: the target moved by at least the minimum distance, in logical pixels at
+ * the current zoom level, or the zoom, tilt or bearing changed. Other positions are coalesced into
+ * the latest one, which {@link #flush} returns once it is due, and which is always returned when
+ * the camera becomes idle. With no interval and no distance every position is sent.
+ */
+final class CameraMoveThrottle {
+  private static final int TILE_SIZE = 256;
+
+  private long minIntervalMillis;
+  private double minDistancePx;
+
+  private CameraPosition lastSent;
+  private long lastSentMillis;
+  private CameraPosition pending;
+
+  void setLimits(long minIntervalMillis, double minDistancePx) {
+    this.minIntervalMillis = Math.max(0, minIntervalMillis);
+    this.minDistancePx = Math.max(0, minDistancePx);
+  }
+
+  /**
+   * Records the camera moving to {@code position}. Returns the position to send now, or null if it
+   * is held back.
+   */
+  CameraPosition onMove(CameraPosition position, long nowMillis) {
+    pending = position;
+    return flush(nowMillis);
+  }
+
+  /** Returns the latest held back position if it is due, or null. */
+  CameraPosition flush(long nowMillis) {
+    if (pending == null
+        || (lastSent != null && nowMillis - lastSentMillis < minIntervalMillis)
+        || !movedEnough(pending)) {
+      return null;
+    }
+    return send(pending, nowMillis);
+  }
+
+  /**
+   * Returns the latest held back position if it was not sent yet, however close to the previous
+   * one, or null. Called when the camera becomes idle.
+   */
+  CameraPosition flushFinal(long nowMillis) {
+    if (pending == null || pending.equals(lastSent)) {
+      pending = null;
+      return null;
+    }
+    return send(pending, nowMillis);
+  }
+
+  boolean hasPending() {
+    return pending != null;
+  }
+
+  /** Returns how long until a held back position may be sent. */
+  long getDelayMillis(long nowMillis) {
+    if (lastSent == null) {
+      return 0;
+    }
+    return Math.max(0, lastSentMillis + minIntervalMillis - nowMillis);
+  }
+
+  private CameraPosition send(CameraPosition position, long nowMillis) {
+    lastSent = position;
+    lastSentMillis = nowMillis;
+    pending = null;
+    return position;
+  }
+
+  private boolean movedEnough(CameraPosition position) {
+    if (lastSent == null || minDistancePx == 0) {
+      return true;
+    }
+    if (position.zoom != lastSent.zoom
+        || position.tilt != lastSent.tilt
+        || position.bearing != lastSent.bearing) {
+      return true;
+    }
+    final double scale = TILE_SIZE * Math.pow(2, position.zoom);
+    final double dx =
+        MarkerClusterer.projectX(position.target.longitude, scale)
+            - MarkerClusterer.projectX(lastSent.target.longitude, scale);
+    final double dy =
+        MarkerClusterer.projectY(position.target.latitude, scale)
+            - MarkerClusterer.projectY(lastSent.target.latitude, scale);
+    return dx * dx + dy * dy >= minDistancePx * minDistancePx;
+  }
+}
@@ -7,15 +7,18 @@ package io.flutter.plugins.googlemaps;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.Circle;
 import com.google.android.gms.maps.model.CircleOptions;
+import com.google.android.gms.maps.model.LatLng;
 import io.flutter.plugin.common.MethodChannel;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class CirclesController {
 
   private final Map<String, CircleController> circleIdToController;
   private final Map<String, String> googleMapsCircleIdToDartCircleId;
+  private final SpatialIndex circleIndex = new SpatialIndex();
   private final MethodChannel methodChannel;
   private final float density;
   private GoogleMap googleMap;
@@ -61,9 +64,21 @@ class CirclesController {
         circleController.remove();
         googleMapsCircleIdToDartCircleId.remove(circleController.getGoogleMapsCircleId());
       }
+      circleIndex.remove(circleId);
     }
   }
 
+  /** Adds the ids of the circles intersecting the region to {@code result}. */
+  void queryRegion(double south, double west, double north, double east, Set<String> result) {
+    circleIndex.query(south, west, north, east, result);
+  }
+
+  /** Adds the {@code count} circles nearest to the point to {@code result}, nearest first. */
+  void queryNearest(
+      double latitude, double longitude, int count, List<SpatialIndex.Neighbor> result) {
+    circleIndex.nearest(latitude, longitude, count, result);
+  }
+
   boolean onCircleTap(String googleCircleId) {
     String circleId = googleMapsCircleIdToDartCircleId.get(googleCircleId);
     if (circleId == null) {
@@ -85,6 +100,12 @@ class CirclesController {
     String circleId = Convert.interpretCircleOptions(circle, circleBuilder);
     CircleOptions options = circleBuilder.build();
     addCircle(circleId, options, circleBuilder.consumeTapEvents());
+    if (options.getCenter() != null) {
+      circleIndex.put(
+          circleId,
+          new Geometry.Circle(
+              options.getCenter().latitude, options.getCenter().longitude, options.getRadius()));
+    }
   }
 
   private void addCircle(String circleId, CircleOptions circleOptions, boolean consumeTapEvents) {
@@ -102,7 +123,29 @@ class CirclesController {
     CircleController circleController = circleIdToController.get(circleId);
     if (circleController != null) {
       Convert.interpretCircleOptions(circle, circleController);
+      indexChangedCircle(circleId, (Map<?, ?>) circle);
+    }
+  }
+
+  /** Re-indexes a circle whose center or radius changed, keeping the one that did not. */
+  private void indexChangedCircle(String circleId, Map<?, ?> circle) {
+    final Object center = circle.get("center");
+    final Object radius = circle.get("radius");
+    if (center == null && radius == null) {
+      return;
+    }
+    final SpatialIndex.Item item = circleIndex.get(circleId);
+    final Geometry.Circle current = item != null ? (Geometry.Circle) item.shape : null;
+    if (center == null && current == null) {
+      return;
     }
+    final LatLng latLng =
+        center != null ? Convert.toLatLng(center) : new LatLng(current.latitude, current.longitude);
+    final double radiusMeters =
+        radius != null
+            ? ((Number) radius).doubleValue()
+            : current != null ? current.radiusMeters : 0;
+    circleIndex.put(circleId, new Geometry.Circle(latLng.latitude, latLng.longitude, radiusMeters));
   }
 
   @SuppressWarnings("unchecked")
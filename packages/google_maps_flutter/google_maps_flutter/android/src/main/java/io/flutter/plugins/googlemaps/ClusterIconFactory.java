@@ -0,0 +1,80 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import com.google.android.gms.maps.model.BitmapDescriptorFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Draws the icons of marker clusters: a filled circle labelled with the number of markers.
+ *
+ * <p>Counts are bucketed (for example "100+") so that only a handful of icons are ever drawn.
+ */
+final class ClusterIconFactory {
+  private static final int[] BUCKETS = {10, 20, 50, 100, 200, 500, 1000};
+  private static final float DIAMETER_DP = 40;
+  private static final float TEXT_SIZE_DP = 14;
+  private static final float OUTLINE_DP = 3;
+
+  private final float density;
+  private final Map<String, BitmapDescriptor> icons = new HashMap<>();
+  private int color;
+
+  ClusterIconFactory(float density, int color) {
+    this.density = density;
+    this.color = color;
+  }
+
+  void setColor(int color) {
+    if (this.color != color) {
+      this.color = color;
+      icons.clear();
+    }
+  }
+
+  BitmapDescriptor getIcon(int markerCount) {
+    final String label = labelFor(markerCount);
+    BitmapDescriptor icon = icons.get(label);
+    if (icon == null) {
+      icon = BitmapDescriptorFactory.fromBitmap(draw(label));
+      icons.put(label, icon);
+    }
+    return icon;
+  }
+
+  static String labelFor(int markerCount) {
+    for (int i = BUCKETS.length - 1; i >= 0; i--) {
+      if (markerCount >= BUCKETS[i]) {
+        return BUCKETS[i] + "+";
+      }
+    }
+    return Integer.toString(markerCount);
+  }
+
+  private Bitmap draw(String label) {
+    final int size = Math.round(DIAMETER_DP * density);
+    final Bitmap bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+    final Canvas canvas = new Canvas(bitmap);
+    final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    final float radius = size / 2f;
+    paint.setColor(Color.WHITE);
+    canvas.drawCircle(radius, radius, radius, paint);
+    paint.setColor(color);
+    canvas.drawCircle(radius, radius, radius - OUTLINE_DP * density, paint);
+    paint.setColor(Color.WHITE);
+    paint.setTextSize(TEXT_SIZE_DP * density);
+    paint.setTextAlign(Paint.Align.CENTER);
+    paint.setFakeBoldText(true);
+    final float baseline = radius - (paint.descent() + paint.ascent()) / 2;
+    canvas.drawText(label, radius, baseline, paint);
+    return bitmap;
+  }
+}
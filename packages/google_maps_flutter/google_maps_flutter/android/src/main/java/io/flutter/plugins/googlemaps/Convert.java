@@ -23,12 +23,15 @@ import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.PatternItem;
 import com.google.android.gms.maps.model.RoundCap;
 import com.google.android.gms.maps.model.SquareCap;
+import io.flutter.plugin.common.StandardMessageCodec;
 import io.flutter.view.FlutterMain;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /** Conversions between JSON-like values and GoogleMaps data types. */
 class Convert {
@@ -69,10 +72,13 @@ class Convert {
   }
 
   private static BitmapDescriptor getBitmapFromBytes(List<?> data) {
+    return BitmapDescriptorFactory.fromBitmap(getBitmapFromBytesData(data));
+  }
+
+  private static Bitmap getBitmapFromBytesData(List<?> data) {
     if (data.size() == 2) {
       try {
-        Bitmap bitmap = toBitmap(data.get(1));
-        return BitmapDescriptorFactory.fromBitmap(bitmap);
+        return toBitmap(data.get(1));
       } catch (Exception e) {
         throw new IllegalArgumentException("Unable to interpret bytes as a valid image.", e);
       }
@@ -82,6 +88,17 @@ class Convert {
     }
   }
 
+  /** Interprets a BitmapDescriptor along with the size of any bitmap it had to decode. */
+  static BitmapDescriptorCache.Entry toBitmapDescriptorEntry(List<?> data) {
+    if ("fromBytes".equals(data.get(0))) {
+      final Bitmap bitmap = getBitmapFromBytesData(data);
+      return new BitmapDescriptorCache.Entry(
+          BitmapDescriptorFactory.fromBitmap(bitmap), bitmap.getByteCount());
+    }
+    // Asset descriptors are decoded lazily by the map.
+    return new BitmapDescriptorCache.Entry(toBitmapDescriptor(data), 0);
+  }
+
   private static boolean toBoolean(Object o) {
     return (Boolean) o;
   }
@@ -145,6 +162,10 @@ class Convert {
     return ((Number) o).intValue();
   }
 
+  private static long toLong(Object o) {
+    return ((Number) o).longValue();
+  }
+
   static Object cameraPositionToJson(CameraPosition position) {
     if (position == null) {
       return null;
@@ -204,6 +225,14 @@ class Convert {
     return Arrays.asList(latLng.latitude, latLng.longitude);
   }
 
+  static Object neighborToJson(String type, SpatialIndex.Neighbor neighbor) {
+    final Map<String, Object> data = new HashMap<>(3);
+    data.put("type", type);
+    data.put("id", neighbor.id);
+    data.put("distance", neighbor.distanceMeters);
+    return data;
+  }
+
   static LatLng toLatLng(Object o) {
     final List<?> data = toList(o);
     return new LatLng(toDouble(data.get(0)), toDouble(data.get(1)));
@@ -222,7 +251,7 @@ class Convert {
     return data;
   }
 
-  private static LatLngBounds toLatLngBounds(Object o) {
+  static LatLngBounds toLatLngBounds(Object o) {
     if (o == null) {
       return null;
     }
@@ -328,6 +357,13 @@ class Convert {
     if (trackCameraPosition != null) {
       sink.setTrackCameraPosition(toBoolean(trackCameraPosition));
     }
+    final Object cameraMoveThrottle = data.get("cameraMoveThrottle");
+    if (cameraMoveThrottle != null) {
+      final List<?> throttleData = toList(cameraMoveThrottle);
+      sink.setCameraMoveThrottle(
+          toInt(throttleData.get(0)), //
+          toDouble(throttleData.get(1)));
+    }
     final Object zoomGesturesEnabled = data.get("zoomGesturesEnabled");
     if (zoomGesturesEnabled != null) {
       sink.setZoomGesturesEnabled(toBoolean(zoomGesturesEnabled));
@@ -362,8 +398,126 @@ class Convert {
     }
   }
 
-  /** Returns the dartMarkerId of the interpreted marker. */
-  static String interpretMarkerOptions(Object o, MarkerOptionsSink sink) {
+  static MarkerClusterer.Options toClusterOptions(Object o) {
+    final Map<?, ?> data = toMap(o);
+    final Object algorithm = data.get("algorithm");
+    final Object size = data.get("size");
+    final Object minClusterSize = data.get("minClusterSize");
+    final Object color = data.get("color");
+    return new MarkerClusterer.Options(
+        algorithm != null ? toString(algorithm) : MarkerClusterer.ALGORITHM_GRID,
+        size != null ? toDouble(size) : 60,
+        minClusterSize != null ? toInt(minClusterSize) : 2,
+        color != null ? toInt(color) : 0xff1a73e8);
+  }
+
+  /** Returns how to encode a map snapshot; {@code o} is null for the default PNG. */
+  static SnapshotEncoder.Options toSnapshotOptions(Object o) {
+    if (o == null) {
+      return SnapshotEncoder.Options.DEFAULT;
+    }
+    final Map<?, ?> data = toMap(o);
+    final Object format = data.get("format");
+    final Object quality = data.get("quality");
+    final Object scale = data.get("scale");
+    final Object path = data.get("path");
+    return new SnapshotEncoder.Options(
+        format != null ? toString(format) : SnapshotEncoder.FORMAT_PNG,
+        quality != null ? toInt(quality) : 100,
+        scale != null ? toFloat(scale) : 1,
+        path != null ? toString(path) : null);
+  }
+
+  /** Returns the simplification of a polyline, or null if it is drawn with all its points. */
+  static PolylineSimplifier.Options toSimplificationOptions(Object o) {
+    if (o == null) {
+      return null;
+    }
+    final Map<?, ?> data = toMap(o);
+    final Object algorithm = data.get("algorithm");
+    final Object tolerance = data.get("tolerance");
+    return new PolylineSimplifier.Options(
+        algorithm != null ? toString(algorithm) : PolylineSimplifier.ALGORITHM_DOUGLAS_PEUCKER,
+        tolerance != null ? toDouble(tolerance) : 1);
+  }
+
+  /**
+   * Returns the arguments of an {@code overlays#update} call, which are either a map or that map
+   * encoded with the {@link StandardMessageCodec}, so that its decoding can be measured.
+   */
+  static Object toOverlayUpdates(Object o) {
+    if (o instanceof byte[]) {
+      final Object decoded =
+          StandardMessageCodec.INSTANCE.decodeMessage(ByteBuffer.wrap((byte[]) o));
+      if (!(decoded instanceof Map)) {
+        throw new IllegalArgumentException("Overlay updates must encode a map");
+      }
+      return decoded;
+    }
+    if (!(o instanceof Map)) {
+      throw new IllegalArgumentException("Overlay updates must be a map or its encoding");
+    }
+    return o;
+  }
+
+  static Object overlayUpdateMetricsToJson(long decodeNanos, long applyNanos) {
+    final Map<String, Object> data = new HashMap<>(2);
+    data.put("decodeMicros", TimeUnit.NANOSECONDS.toMicros(decodeNanos));
+    data.put("applyMicros", TimeUnit.NANOSECONDS.toMicros(applyNanos));
+    return data;
+  }
+
+  /** Returns the metrics of overlay updates that were not encoded, so had nothing to decode. */
+  static Object overlayUpdateMetricsToJson(long applyNanos) {
+    final Map<String, Object> data = new HashMap<>(1);
+    data.put("applyMicros", TimeUnit.NANOSECONDS.toMicros(applyNanos));
+    return data;
+  }
+
+  /**
+   * Returns the keyframes of a marker animation: either a {@code position} reached after {@code
+   * duration} milliseconds, with an optional {@code rotation}, or a {@code path} of [latitude,
+   * longitude, time] or [latitude, longitude, time, rotation] lists, times being milliseconds from
+   * the start of the animation.
+   */
+  static List<MarkerAnimator.Keyframe> toMarkerKeyframes(Object o) {
+    final Map<?, ?> data = toMap(o);
+    final List<MarkerAnimator.Keyframe> keyframes = new ArrayList<>();
+    final Object path = data.get("path");
+    if (path != null) {
+      for (Object ob : toList(path)) {
+        final List<?> point = toList(ob);
+        keyframes.add(
+            new MarkerAnimator.Keyframe(
+                toLong(point.get(2)),
+                toDouble(point.get(0)),
+                toDouble(point.get(1)),
+                point.size() > 3 && point.get(3) != null ? toFloat(point.get(3)) : Float.NaN));
+      }
+      return keyframes;
+    }
+    final Object position = data.get("position");
+    if (position == null) {
+      throw new IllegalArgumentException("A marker animation needs a position or a path");
+    }
+    final Object duration = data.get("duration");
+    final Object rotation = data.get("rotation");
+    final List<?> latLng = toList(position);
+    keyframes.add(
+        new MarkerAnimator.Keyframe(
+            duration != null ? toLong(duration) : 0,
+            toDouble(latLng.get(0)),
+            toDouble(latLng.get(1)),
+            rotation != null ? toFloat(rotation) : Float.NaN));
+    return keyframes;
+  }
+
+  /**
+   * Returns the dartMarkerId of the interpreted marker. Icons are resolved through {@code
+   * iconCache}.
+   */
+  static String interpretMarkerOptions(
+      Object o, MarkerOptionsSink sink, BitmapDescriptorCache iconCache) {
     final Map<?, ?> data = toMap(o);
     final Object alpha = data.get("alpha");
     if (alpha != null) {
@@ -388,7 +542,7 @@ class Convert {
     }
     final Object icon = data.get("icon");
     if (icon != null) {
-      sink.setIcon(toBitmapDescriptor(icon));
+      sink.setIcon(iconCache.get(icon));
     }
 
     final Object infoWindow = data.get("infoWindow");
@@ -530,6 +684,124 @@ class Convert {
     }
   }
 
+  static String interpretTileOverlayOptions(Object o, TileOverlayOptionsSink sink) {
+    final Map<?, ?> data = toMap(o);
+    final Object fadeIn = data.get("fadeIn");
+    if (fadeIn != null) {
+      sink.setFadeIn(toBoolean(fadeIn));
+    }
+    final Object transparency = data.get("transparency");
+    if (transparency != null) {
+      sink.setTransparency(toFloat(transparency));
+    }
+    final Object zIndex = data.get("zIndex");
+    if (zIndex != null) {
+      sink.setZIndex(toFloat(zIndex));
+    }
+    final Object visible = data.get("visible");
+    if (visible != null) {
+      sink.setVisible(toBoolean(visible));
+    }
+    final String tileOverlayId = (String) data.get("tileOverlayId");
+    if (tileOverlayId == null) {
+      throw new IllegalArgumentException("tileOverlayId was null");
+    } else {
+      return tileOverlayId;
+    }
+  }
+
+  static String interpretHeatmapOptions(Object o, TileOverlayOptionsSink sink) {
+    final Map<?, ?> data = toMap(o);
+    final Object fadeIn = data.get("fadeIn");
+    if (fadeIn != null) {
+      sink.setFadeIn(toBoolean(fadeIn));
+    }
+    final Object zIndex = data.get("zIndex");
+    if (zIndex != null) {
+      sink.setZIndex(toFloat(zIndex));
+    }
+    final Object visible = data.get("visible");
+    if (visible != null) {
+      sink.setVisible(toBoolean(visible));
+    }
+    final String heatmapId = (String) data.get("heatmapId");
+    if (heatmapId == null) {
+      throw new IllegalArgumentException("heatmapId was null");
+    } else {
+      return heatmapId;
+    }
+  }
+
+  /** Interprets how a heatmap is rendered, taking the options it does not set from {@code base}. */
+  static HeatmapRenderer.Options toHeatmapRenderOptions(Object o, HeatmapRenderer.Options base) {
+    final Map<?, ?> data = toMap(o);
+    final Object radius = data.get("radius");
+    final Object gradient = data.get("gradient");
+    final Object opacity = data.get("opacity");
+    final Object maxIntensity = data.get("maxIntensity");
+    return new HeatmapRenderer.Options(
+        radius != null ? toInt(radius) : base.radius,
+        gradient != null ? toHeatmapGradient(gradient) : base.gradient,
+        opacity != null ? toDouble(opacity) : base.opacity,
+        maxIntensity != null ? toDouble(maxIntensity) : base.maxIntensity);
+  }
+
+  private static HeatmapRenderer.Gradient toHeatmapGradient(Object o) {
+    final Map<?, ?> data = toMap(o);
+    final List<?> colors = toList(data.get("colors"));
+    final List<?> startPoints = toList(data.get("startPoints"));
+    final int[] colorValues = new int[colors.size()];
+    for (int i = 0; i < colorValues.length; i++) {
+      colorValues[i] = toInt(colors.get(i));
+    }
+    final float[] startPointValues = new float[startPoints.size()];
+    for (int i = 0; i < startPointValues.length; i++) {
+      startPointValues[i] = toFloat(startPoints.get(i));
+    }
+    return new HeatmapRenderer.Gradient(colorValues, startPointValues);
+  }
+
+  /**
+   * Interprets the points of a heatmap, given as packed latitude, longitude and weight triples (a
+   * {@code Float64List}) or as a list of [latitude, longitude] or [latitude, longitude, weight]
+   * lists, with a weight of 1 when omitted.
+   */
+  static double[] toWeightedPoints(Object o) {
+    if (o == null) {
+      return new double[0];
+    }
+    if (o instanceof double[]) {
+      return (double[]) o;
+    }
+    final List<?> data = toList(o);
+    final double[] weightedLatLngs = new double[data.size() * 3];
+    int i = 0;
+    for (Object ob : data) {
+      final List<?> point = toList(ob);
+      weightedLatLngs[i++] = toDouble(point.get(0));
+      weightedLatLngs[i++] = toDouble(point.get(1));
+      weightedLatLngs[i++] = point.size() > 2 ? toDouble(point.get(2)) : 1;
+    }
+    return weightedLatLngs;
+  }
+
+  static TileOverlaysController.SourceOptions toTileSourceOptions(Object o) {
+    final Map<?, ?> data = toMap(o);
+    final Object urlTemplate = data.get("urlTemplate");
+    final Object tileSize = data.get("tileSize");
+    final Object memoryCacheSize = data.get("memoryCacheSize");
+    final Object diskCacheKey = data.get("diskCacheKey");
+    final Object diskCacheSize = data.get("diskCacheSize");
+    return new TileOverlaysController.SourceOptions(
+        urlTemplate != null ? toString(urlTemplate) : null,
+        tileSize != null ? toInt(tileSize) : 256,
+        memoryCacheSize != null ? toInt(memoryCacheSize) : TileCache.DEFAULT_MAX_MEMORY_BYTES,
+        diskCacheKey != null ? toString(diskCacheKey) : null,
+        diskCacheSize != null
+            ? ((Number) diskCacheSize).longValue()
+            : TileCache.DEFAULT_MAX_DISK_BYTES);
+  }
+
   static String interpretCircleOptions(Object o, CircleOptionsSink sink) {
     final Map<?, ?> data = toMap(o);
     final Object consumeTapEvents = data.get("consumeTapEvents");
@@ -572,13 +844,77 @@ class Convert {
     }
   }
 
-  private static List<LatLng> toPoints(Object o) {
+  /**
+   * Interprets the points of a polyline or polygon, given as a list of [latitude, longitude] lists,
+   * as packed latitude/longitude pairs (a {@code Float64List}) or as an encoded polyline string.
+   */
+  static List<LatLng> toPoints(Object o) {
+    if (o instanceof double[]) {
+      return toPointsFromPacked((double[]) o);
+    }
+    if (o instanceof String) {
+      return decodePolyline((String) o);
+    }
     final List<?> data = toList(o);
     final List<LatLng> points = new ArrayList<>(data.size());
 
     for (Object ob : data) {
       final List<?> point = toList(ob);
-      points.add(new LatLng(toFloat(point.get(0)), toFloat(point.get(1))));
+      points.add(new LatLng(toDouble(point.get(0)), toDouble(point.get(1))));
+    }
+    return points;
+  }
+
+  private static List<LatLng> toPointsFromPacked(double[] latLngs) {
+    if (latLngs.length % 2 != 0) {
+      throw new IllegalArgumentException(
+          "Packed points must have an even length, got: " + latLngs.length);
+    }
+    final List<LatLng> points = new ArrayList<>(latLngs.length / 2);
+    for (int i = 0; i < latLngs.length; i += 2) {
+      points.add(new LatLng(latLngs[i], latLngs[i + 1]));
+    }
+    return points;
+  }
+
+  /**
+   * Decodes a polyline in the Encoded Polyline Algorithm Format, with five decimal digits of
+   * precision.
+   */
+  static List<LatLng> decodePolyline(String encoded) {
+    final int length = encoded.length();
+    // Each coordinate takes at least one character, and usually 3 to 5.
+    final List<LatLng> points = new ArrayList<>(length / 6 + 1);
+    int index = 0;
+    long latitude = 0;
+    long longitude = 0;
+    while (index < length) {
+      long result = 0;
+      int shift = 0;
+      int b;
+      do {
+        if (index >= length) {
+          throw new IllegalArgumentException("Truncated encoded polyline");
+        }
+        b = encoded.charAt(index++) - 63;
+        result |= (long) (b & 0x1f) << shift;
+        shift += 5;
+      } while (b >= 0x20);
+      latitude += (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+
+      result = 0;
+      shift = 0;
+      do {
+        if (index >= length) {
+          throw new IllegalArgumentException("Truncated encoded polyline");
+        }
+        b = encoded.charAt(index++) - 63;
+        result |= (long) (b & 0x1f) << shift;
+        shift += 5;
+      } while (b >= 0x20);
+      longitude += (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+
+      points.add(new LatLng(latitude / 1e5, longitude / 1e5));
     }
     return points;
   }
@@ -0,0 +1,303 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.List;
+
+/**
+ * Distances and intersections on the sphere, for the shapes of a {@link SpatialIndex}.
+ *
+ * <p>Distances between points are great-circle distances. Distances to the edges of polylines and
+ * polygons are measured on a plane tangent at the query point, as the edges are drawn straight in
+ * latitude and longitude, which is accurate for the short distances between nearby overlays.
+ */
+final class Geometry {
+  static final double EARTH_RADIUS_METERS = 6371009;
+
+  private Geometry() {}
+
+  /** A circle of a radius in meters around its center, as drawn by {@code Circle}. */
+  static final class Circle implements SpatialIndex.Shape {
+    final double latitude;
+    final double longitude;
+    final double radiusMeters;
+
+    Circle(double latitude, double longitude, double radiusMeters) {
+      this.latitude = latitude;
+      this.longitude = longitude;
+      this.radiusMeters = radiusMeters;
+    }
+
+    @Override
+    public double[] getBounds() {
+      final double angle = radiusMeters / EARTH_RADIUS_METERS;
+      final double south = Math.max(-90, latitude - Math.toDegrees(angle));
+      final double north = Math.min(90, latitude + Math.toDegrees(angle));
+      final double sinAngle = Math.sin(Math.min(angle, Math.PI / 2));
+      final double cosLatitude = Math.cos(Math.toRadians(latitude));
+      if (south == -90 || north == 90 || sinAngle >= cosLatitude) {
+        return new double[] {south, -180, north, 180};
+      }
+      final double longitudeDelta = Math.toDegrees(Math.asin(sinAngle / cosLatitude));
+      return new double[] {
+        south,
+        wrapLongitude(longitude - longitudeDelta),
+        north,
+        wrapLongitude(longitude + longitudeDelta)
+      };
+    }
+
+    /** Approximates the point of the region closest to the center by clamping the center to it. */
+    @Override
+    public boolean intersects(double south, double west, double north, double east) {
+      final double closestLatitude = Math.max(south, Math.min(north, latitude));
+      double closestLongitude = longitude;
+      if (!containsLongitude(west, east, longitude)) {
+        closestLongitude =
+            longitudeDistance(longitude, west) <= longitudeDistance(longitude, east) ? west : east;
+      }
+      return Geometry.distanceMeters(latitude, longitude, closestLatitude, closestLongitude)
+          <= radiusMeters;
+    }
+
+    @Override
+    public double distanceMeters(double latitude, double longitude) {
+      return Math.max(
+          0,
+          Geometry.distanceMeters(latitude, longitude, this.latitude, this.longitude)
+              - radiusMeters);
+    }
+  }
+
+  /**
+   * The edges of a polyline, or of a polygon when closed, drawn straight in latitude and longitude
+   * the short way around the globe.
+   */
+  static final class Path implements SpatialIndex.Shape {
+    /** Packed latitude/longitude pairs. */
+    final double[] latLngs;
+
+    final boolean closed;
+
+    Path(List<LatLng> points, boolean closed) {
+      this.latLngs = new double[points.size() * 2];
+      int i = 0;
+      for (LatLng point : points) {
+        latLngs[i++] = point.latitude;
+        latLngs[i++] = point.longitude;
+      }
+      this.closed = closed;
+    }
+
+    /** Follows the edges, so that a path crossing the antimeridian gets bounds crossing it too. */
+    @Override
+    public double[] getBounds() {
+      if (latLngs.length == 0) {
+        return new double[] {0, 0, 0, 0};
+      }
+      double south = latLngs[0];
+      double north = latLngs[0];
+      double longitude = latLngs[1];
+      double west = longitude;
+      double east = longitude;
+      for (int i = 2; i < latLngs.length; i += 2) {
+        south = Math.min(south, latLngs[i]);
+        north = Math.max(north, latLngs[i]);
+        longitude += longitudeDelta(latLngs[i - 1], latLngs[i + 1]);
+        west = Math.min(west, longitude);
+        east = Math.max(east, longitude);
+      }
+      if (east - west >= 360) {
+        return new double[] {south, -180, north, 180};
+      }
+      return new double[] {south, wrapLongitude(west), north, wrapLongitude(east)};
+    }
+
+    /** The region is never wider than 180 degrees, as queries split it at the antimeridian. */
+    @Override
+    public boolean intersects(double south, double west, double north, double east) {
+      final double centerLongitude = (west + east) / 2;
+      if (closed && contains((south + north) / 2, centerLongitude)) {
+        return true;
+      }
+      final int count = latLngs.length / 2;
+      if (count == 1) {
+        return latLngs[0] >= south
+            && latLngs[0] <= north
+            && containsLongitude(west, east, latLngs[1]);
+      }
+      final int edges = closed ? count : count - 1;
+      for (int i = 0; i < edges; i++) {
+        final int j = (i + 1) % count;
+        final double ax = centerLongitude + longitudeDelta(centerLongitude, latLngs[2 * i + 1]);
+        final double bx = ax + longitudeDelta(latLngs[2 * i + 1], latLngs[2 * j + 1]);
+        // The end of the edge may be unwrapped past the region, onto one of its copies.
+        for (double shift = -360; shift <= 360; shift += 360) {
+          if (segmentIntersectsRectangle(
+              ax, latLngs[2 * i], bx, latLngs[2 * j], west + shift, south, east + shift, north)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public double distanceMeters(double latitude, double longitude) {
+      final int count = latLngs.length / 2;
+      if (count == 0) {
+        return Double.POSITIVE_INFINITY;
+      }
+      if (closed && contains(latitude, longitude)) {
+        return 0;
+      }
+      final double metersPerDegree = Math.toRadians(EARTH_RADIUS_METERS);
+      final double metersPerLongitudeDegree = metersPerDegree * Math.cos(Math.toRadians(latitude));
+      double previousX = longitudeDelta(longitude, latLngs[1]) * metersPerLongitudeDegree;
+      double previousY = (latLngs[0] - latitude) * metersPerDegree;
+      double closest = Math.hypot(previousX, previousY);
+      final int edges = closed ? count : count - 1;
+      for (int i = 1; i <= edges; i++) {
+        final int j = i % count;
+        final double x = longitudeDelta(longitude, latLngs[2 * j + 1]) * metersPerLongitudeDegree;
+        final double y = (latLngs[2 * j] - latitude) * metersPerDegree;
+        closest = Math.min(closest, distanceToSegment(previousX, previousY, x, y));
+        previousX = x;
+        previousY = y;
+      }
+      return closest;
+    }
+
+    /** Whether the polygon contains the point, by the even-odd rule. */
+    boolean contains(double latitude, double longitude) {
+      final int count = latLngs.length / 2;
+      boolean inside = false;
+      for (int i = 0, j = count - 1; i < count; j = i++) {
+        final double ay = latLngs[2 * i];
+        final double by = latLngs[2 * j];
+        if ((ay > latitude) == (by > latitude)) {
+          continue;
+        }
+        final double ax = longitudeDelta(longitude, latLngs[2 * i + 1]);
+        final double bx = longitudeDelta(longitude, latLngs[2 * j + 1]);
+        if (ax + (latitude - ay) * (bx - ax) / (by - ay) > 0) {
+          inside = !inside;
+        }
+      }
+      return inside;
+    }
+  }
+
+  /** Returns the great-circle distance between two points. */
+  static double distanceMeters(
+      double latitude1, double longitude1, double latitude2, double longitude2) {
+    final double sinLatitude = Math.sin(Math.toRadians(latitude2 - latitude1) / 2);
+    final double sinLongitude = Math.sin(Math.toRadians(longitude2 - longitude1) / 2);
+    final double a =
+        sinLatitude * sinLatitude
+            + Math.cos(Math.toRadians(latitude1))
+                * Math.cos(Math.toRadians(latitude2))
+                * sinLongitude
+                * sinLongitude;
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  /**
+   * Returns a distance no greater than the one from the point to any point of the bounds.
+   *
+   * <p>Reaching the bounds means crossing the parallel of its nearest edge, or the meridian of its
+   * nearest side, and no point of a meridian is closer than its great circle.
+   */
+  static double distanceToBoundsLowerBound(
+      double latitude, double longitude, double south, double west, double north, double east) {
+    final double latitudeGap = latitude < south ? south - latitude : Math.max(0, latitude - north);
+    double longitudeBound = 0;
+    if (!containsLongitude(west, east, longitude)) {
+      longitudeBound =
+          Math.min(
+              distanceToMeridianMeters(latitude, longitudeDistance(longitude, west)),
+              distanceToMeridianMeters(latitude, longitudeDistance(longitude, east)));
+    }
+    return Math.max(Math.toRadians(latitudeGap) * EARTH_RADIUS_METERS, longitudeBound);
+  }
+
+  /**
+   * Returns the distance from the point to the great circle of a meridian that many degrees away.
+   */
+  static double distanceToMeridianMeters(double latitude, double longitudeDegrees) {
+    final double sin =
+        Math.cos(Math.toRadians(latitude))
+            * Math.sin(Math.toRadians(Math.min(180, longitudeDegrees)));
+    return EARTH_RADIUS_METERS * Math.asin(Math.max(0, Math.min(1, sin)));
+  }
+
+  static double wrapLongitude(double longitude) {
+    return longitude < -180 ? longitude + 360 : longitude > 180 ? longitude - 360 : longitude;
+  }
+
+  static boolean containsLongitude(double west, double east, double longitude) {
+    return west <= east
+        ? longitude >= west && longitude <= east
+        : longitude >= west || longitude <= east;
+  }
+
+  /** Returns the signed difference from one longitude to another the short way, in [-180, 180]. */
+  private static double longitudeDelta(double from, double to) {
+    double delta = (to - from) % 360;
+    if (delta > 180) {
+      delta -= 360;
+    } else if (delta < -180) {
+      delta += 360;
+    }
+    return delta;
+  }
+
+  private static double longitudeDistance(double a, double b) {
+    return Math.abs(longitudeDelta(a, b));
+  }
+
+  private static double distanceToSegment(double ax, double ay, double bx, double by) {
+    final double dx = bx - ax;
+    final double dy = by - ay;
+    final double lengthSquared = dx * dx + dy * dy;
+    double t = lengthSquared == 0 ? 0 : -(ax * dx + ay * dy) / lengthSquared;
+    t = Math.max(0, Math.min(1, t));
+    return Math.hypot(ax + t * dx, ay + t * dy);
+  }
+
+  /** Clips the segment to the rectangle, as Liang and Barsky do. */
+  private static boolean segmentIntersectsRectangle(
+      double ax,
+      double ay,
+      double bx,
+      double by,
+      double minX,
+      double minY,
+      double maxX,
+      double maxY) {
+    final double dx = bx - ax;
+    final double dy = by - ay;
+    final double[] p = {-dx, dx, -dy, dy};
+    final double[] q = {ax - minX, maxX - ax, ay - minY, maxY - ay};
+    double enter = 0;
+    double exit = 1;
+    for (int i = 0; i < 4; i++) {
+      if (p[i] == 0) {
+        if (q[i] < 0) {
+          return false;
+        }
+      } else {
+        final double t = q[i] / p[i];
+        if (p[i] < 0) {
+          enter = Math.max(enter, t);
+        } else {
+          exit = Math.min(exit, t);
+        }
+      }
+    }
+    return enter <= exit;
+  }
+}
@@ -11,6 +11,9 @@ import android.content.pm.PackageManager;
 import android.graphics.Bitmap;
 import android.graphics.Point;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
 import android.view.View;
 import androidx.annotation.NonNull;
@@ -19,11 +22,13 @@ import androidx.lifecycle.DefaultLifecycleObserver;
 import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.LifecycleOwner;
 import com.google.android.gms.maps.CameraUpdate;
+import com.google.android.gms.maps.CameraUpdateFactory;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.GoogleMap.SnapshotReadyCallback;
 import com.google.android.gms.maps.GoogleMapOptions;
 import com.google.android.gms.maps.MapView;
 import com.google.android.gms.maps.OnMapReadyCallback;
+import com.google.android.gms.maps.UiSettings;
 import com.google.android.gms.maps.model.CameraPosition;
 import com.google.android.gms.maps.model.Circle;
 import com.google.android.gms.maps.model.LatLng;
@@ -37,12 +42,13 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.platform.PlatformView;
-import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /** Controller of a single GoogleMaps MapView instance. */
 final class GoogleMapController
@@ -58,7 +64,13 @@ final class GoogleMapController
   private final int id;
   private final MethodChannel methodChannel;
   private final GoogleMapOptions options;
+  @Nullable private final MapViewPool mapViewPool;
   @Nullable private MapView mapView;
+  // Whether mapView came from the pool, and so was created for an earlier map.
+  private final boolean mapViewPooled;
+  // The context the map view was created with, which is the pool's activity for pooled views.
+  private final Context mapViewContext;
+  private final boolean liteMode;
   private GoogleMap googleMap;
   private boolean trackCameraPosition = false;
   private boolean myLocationEnabled = false;
@@ -72,10 +84,25 @@ final class GoogleMapController
   private MethodChannel.Result mapReadyResult;
   private final Context context;
   private final LifecycleProvider lifecycleProvider;
+  private final BitmapDescriptorCache iconCache;
   private final MarkersController markersController;
   private final PolygonsController polygonsController;
   private final PolylinesController polylinesController;
   private final CirclesController circlesController;
+  private final TileOverlaysController tileOverlaysController;
+  private final HeatmapsController heatmapsController;
+  private final SnapshotEncoder snapshotEncoder = new SnapshotEncoder();
+  private final CameraMoveThrottle cameraMoveThrottle = new CameraMoveThrottle();
+  private final Handler cameraMoveHandler = new Handler(Looper.getMainLooper());
+  private final Runnable flushCameraMove =
+      new Runnable() {
+        @Override
+        public void run() {
+          cameraMoveFlushScheduled = false;
+          sendCameraMove(cameraMoveThrottle.flush(SystemClock.uptimeMillis()));
+        }
+      };
+  private boolean cameraMoveFlushScheduled = false;
   private List<Object> initialMarkers;
   private List<Object> initialPolygons;
   private List<Object> initialPolylines;
@@ -86,19 +113,29 @@ final class GoogleMapController
       Context context,
       BinaryMessenger binaryMessenger,
       LifecycleProvider lifecycleProvider,
-      GoogleMapOptions options) {
+      GoogleMapOptions options,
+      @Nullable MapViewPool mapViewPool) {
     this.id = id;
     this.context = context;
     this.options = options;
-    this.mapView = new MapView(context, options);
+    this.mapViewPool = mapViewPool;
+    this.liteMode = options != null && Boolean.TRUE.equals(options.getLiteMode());
+    final MapView pooledMapView =
+        mapViewPool != null ? mapViewPool.acquire(context, liteMode) : null;
+    this.mapViewPooled = pooledMapView != null;
+    this.mapViewContext = mapViewPooled ? mapViewPool.getActivity() : context;
+    this.mapView = mapViewPooled ? pooledMapView : new MapView(context, options);
     this.density = context.getResources().getDisplayMetrics().density;
     methodChannel = new MethodChannel(binaryMessenger, "plugins.flutter.io/google_maps_" + id);
     methodChannel.setMethodCallHandler(this);
     this.lifecycleProvider = lifecycleProvider;
-    this.markersController = new MarkersController(methodChannel);
+    this.iconCache = new BitmapDescriptorCache();
+    this.markersController = new MarkersController(methodChannel, iconCache, density);
     this.polygonsController = new PolygonsController(methodChannel, density);
     this.polylinesController = new PolylinesController(methodChannel, density);
     this.circlesController = new CirclesController(methodChannel, density);
+    this.tileOverlaysController = new TileOverlaysController(methodChannel, context.getCacheDir());
+    this.heatmapsController = new HeatmapsController();
   }
 
   @Override
@@ -126,6 +163,9 @@ final class GoogleMapController
   @Override
   public void onMapReady(GoogleMap googleMap) {
     this.googleMap = googleMap;
+    if (mapViewPooled) {
+      applyOptions(googleMap);
+    }
     this.googleMap.setIndoorEnabled(this.indoorEnabled);
     this.googleMap.setTrafficEnabled(this.trafficEnabled);
     this.googleMap.setBuildingsEnabled(this.buildingsEnabled);
@@ -140,6 +180,8 @@ final class GoogleMapController
     polygonsController.setGoogleMap(googleMap);
     polylinesController.setGoogleMap(googleMap);
     circlesController.setGoogleMap(googleMap);
+    tileOverlaysController.setGoogleMap(googleMap);
+    heatmapsController.setGoogleMap(googleMap);
     updateInitialMarkers();
     updateInitialPolygons();
     updateInitialPolylines();
@@ -201,19 +243,48 @@ final class GoogleMapController
           }
           break;
         }
+      case "map#queryRegion":
+        {
+          final LatLngBounds bounds = Convert.toLatLngBounds(call.argument("bounds"));
+          if (bounds == null) {
+            result.error("Invalid query", "queryRegion called without bounds", null);
+            break;
+          }
+          result.success(queryRegion(bounds));
+          break;
+        }
+      case "map#queryNearest":
+        {
+          final Object position = call.argument("position");
+          final Number count = call.argument("count");
+          if (position == null) {
+            result.error("Invalid query", "queryNearest called without a position", null);
+            break;
+          }
+          result.success(
+              queryNearest(Convert.toLatLng(position), count != null ? count.intValue() : 1));
+          break;
+        }
       case "map#takeSnapshot":
         {
           if (googleMap != null) {
+            final SnapshotEncoder.Options options;
+            try {
+              options = Convert.toSnapshotOptions(call.arguments);
+            } catch (IllegalArgumentException e) {
+              result.error("Invalid snapshot options", e.getMessage(), null);
+              break;
+            }
             final MethodChannel.Result _result = result;
             googleMap.snapshot(
                 new SnapshotReadyCallback() {
                   @Override
                   public void onSnapshotReady(Bitmap bitmap) {
-                    ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                    bitmap.compress(Bitmap.CompressFormat.PNG, 100, stream);
-                    byte[] byteArray = stream.toByteArray();
-                    bitmap.recycle();
-                    _result.success(byteArray);
+                    if (bitmap == null) {
+                      _result.error("Snapshot failed", "The map returned no snapshot", null);
+                      return;
+                    }
+                    snapshotEncoder.encode(bitmap, options, _result);
                   }
                 });
           } else {
@@ -239,12 +310,55 @@ final class GoogleMapController
         }
       case "markers#update":
         {
-          List<Object> markersToAdd = call.argument("markersToAdd");
-          markersController.addMarkers(markersToAdd);
-          List<Object> markersToChange = call.argument("markersToChange");
-          markersController.changeMarkers(markersToChange);
-          List<Object> markerIdsToRemove = call.argument("markerIdsToRemove");
-          markersController.removeMarkers(markerIdsToRemove);
+          try {
+            markersController.checkIcons(call.<List<Object>>argument("markersToAdd"));
+            markersController.checkIcons(call.<List<Object>>argument("markersToChange"));
+          } catch (IllegalArgumentException e) {
+            result.error("Invalid marker icon", e.getMessage(), null);
+            break;
+          }
+          updateMarkers(call);
+          result.success(null);
+          break;
+        }
+      case "markers#bulkUpdate":
+        {
+          try {
+            markersController.bulkUpdateMarkers((byte[]) call.arguments);
+            result.success(null);
+          } catch (IllegalArgumentException e) {
+            result.error("Invalid bulk update", e.getMessage(), null);
+          }
+          break;
+        }
+      case "markers#animate":
+        {
+          List<Object> animations = call.argument("animations");
+          try {
+            markersController.animateMarkers(animations);
+            result.success(null);
+          } catch (IllegalArgumentException e) {
+            result.error("Invalid marker animation", e.getMessage(), null);
+          }
+          break;
+        }
+      case "markers#setClusterOptions":
+        {
+          try {
+            markersController.setClusterOptions(
+                call.arguments == null ? null : Convert.toClusterOptions(call.arguments));
+            result.success(null);
+          } catch (IllegalArgumentException e) {
+            result.error("Invalid cluster options", e.getMessage(), null);
+          }
+          break;
+        }
+      case "markers#setVirtualization":
+        {
+          final Boolean enabled = call.argument("enabled");
+          final Number margin = call.argument("margin");
+          markersController.setVirtualization(
+              enabled != null && enabled, margin != null ? margin.doubleValue() : 0.5);
           result.success(null);
           break;
         }
@@ -266,36 +380,82 @@ final class GoogleMapController
           markersController.isInfoWindowShown((String) markerId, result);
           break;
         }
+      case "icons#register":
+        {
+          try {
+            iconCache.register((String) call.argument("iconId"), call.argument("icon"));
+            result.success(null);
+          } catch (IllegalArgumentException e) {
+            result.error("Invalid icon", e.getMessage(), null);
+          }
+          break;
+        }
+      case "icons#unregister":
+        {
+          iconCache.unregister((String) call.argument("iconId"));
+          result.success(null);
+          break;
+        }
       case "polygons#update":
         {
-          List<Object> polygonsToAdd = call.argument("polygonsToAdd");
-          polygonsController.addPolygons(polygonsToAdd);
-          List<Object> polygonsToChange = call.argument("polygonsToChange");
-          polygonsController.changePolygons(polygonsToChange);
-          List<Object> polygonIdsToRemove = call.argument("polygonIdsToRemove");
-          polygonsController.removePolygons(polygonIdsToRemove);
+          updatePolygons(call);
           result.success(null);
           break;
         }
       case "polylines#update":
         {
-          List<Object> polylinesToAdd = call.argument("polylinesToAdd");
-          polylinesController.addPolylines(polylinesToAdd);
-          List<Object> polylinesToChange = call.argument("polylinesToChange");
-          polylinesController.changePolylines(polylinesToChange);
-          List<Object> polylineIdsToRemove = call.argument("polylineIdsToRemove");
-          polylinesController.removePolylines(polylineIdsToRemove);
+          updatePolylines(call);
           result.success(null);
           break;
         }
       case "circles#update":
         {
-          List<Object> circlesToAdd = call.argument("circlesToAdd");
-          circlesController.addCircles(circlesToAdd);
-          List<Object> circlesToChange = call.argument("circlesToChange");
-          circlesController.changeCircles(circlesToChange);
-          List<Object> circleIdsToRemove = call.argument("circleIdsToRemove");
-          circlesController.removeCircles(circleIdsToRemove);
+          updateCircles(call);
+          result.success(null);
+          break;
+        }
+      case "tileOverlays#update":
+        {
+          updateTileOverlays(call);
+          result.success(null);
+          break;
+        }
+      case "heatmaps#update":
+        {
+          updateHeatmaps(call);
+          result.success(null);
+          break;
+        }
+      case "overlays#update":
+        {
+          final long startNanos = System.nanoTime();
+          final MethodCall overlays;
+          try {
+            overlays = new MethodCall(call.method, Convert.toOverlayUpdates(call.arguments));
+          } catch (IllegalArgumentException e) {
+            result.error("Invalid overlay update", e.getMessage(), null);
+            break;
+          }
+          final long decodedNanos = System.nanoTime();
+          try {
+            checkOverlays(overlays);
+          } catch (IllegalArgumentException e) {
+            result.error("Invalid overlay update", e.getMessage(), null);
+            break;
+          }
+          updateOverlays(overlays);
+          final long appliedNanos = System.nanoTime();
+          result.success(
+              call.arguments instanceof byte[]
+                  ? Convert.overlayUpdateMetricsToJson(
+                      decodedNanos - startNanos, appliedNanos - decodedNanos)
+                  : Convert.overlayUpdateMetricsToJson(appliedNanos - decodedNanos));
+          break;
+        }
+      case "tileOverlays#clearTileCache":
+        {
+          String tileOverlayId = call.argument("tileOverlayId");
+          tileOverlaysController.clearTileCache(tileOverlayId);
           result.success(null);
           break;
         }
@@ -422,13 +582,42 @@ final class GoogleMapController
     if (!trackCameraPosition) {
       return;
     }
+    final long now = SystemClock.uptimeMillis();
+    final CameraPosition position = cameraMoveThrottle.onMove(googleMap.getCameraPosition(), now);
+    if (position != null) {
+      sendCameraMove(position);
+    } else if (cameraMoveThrottle.hasPending() && !cameraMoveFlushScheduled) {
+      // Send the latest position once the interval has passed, even if the camera stops moving
+      // before the next frame.
+      cameraMoveFlushScheduled = true;
+      cameraMoveHandler.postDelayed(flushCameraMove, cameraMoveThrottle.getDelayMillis(now));
+    }
+  }
+
+  private void sendCameraMove(CameraPosition position) {
+    if (position == null) {
+      return;
+    }
     final Map<String, Object> arguments = new HashMap<>(2);
-    arguments.put("position", Convert.cameraPositionToJson(googleMap.getCameraPosition()));
+    arguments.put("position", Convert.cameraPositionToJson(position));
     methodChannel.invokeMethod("camera#onMove", arguments);
   }
 
+  private void cancelCameraMoveFlush() {
+    cameraMoveHandler.removeCallbacks(flushCameraMove);
+    cameraMoveFlushScheduled = false;
+  }
+
   @Override
   public void onCameraIdle() {
+    cancelCameraMoveFlush();
+    if (trackCameraPosition) {
+      // The last position of a move is always reported before the camera becomes idle.
+      sendCameraMove(cameraMoveThrottle.flushFinal(SystemClock.uptimeMillis()));
+    }
+    markersController.onCameraIdle();
+    polylinesController.onCameraIdle();
+    tileOverlaysController.onCameraIdle();
     methodChannel.invokeMethod("camera#onIdle", Collections.singletonMap("map", id));
   }
 
@@ -463,6 +652,221 @@ final class GoogleMapController
     circlesController.onCircleTap(circle.getId());
   }
 
+  /**
+   * Checks the diffs of an {@code overlays#update} call before any of them is applied, so that an
+   * invalid diff fails the call with every overlay left as it was.
+   */
+  private void checkOverlays(MethodCall overlays) {
+    final Map<?, ?> markers = getOverlayDiff(overlays, "markers");
+    if (markers != null) {
+      checkOverlayIds(markers, "markersToAdd", "markerId");
+      checkOverlayIds(markers, "markersToChange", "markerId");
+      markersController.checkIcons(getOverlayList(markers, "markersToAdd"));
+      markersController.checkIcons(getOverlayList(markers, "markersToChange"));
+    }
+    final Map<?, ?> polygons = getOverlayDiff(overlays, "polygons");
+    if (polygons != null) {
+      checkOverlayIds(polygons, "polygonsToAdd", "polygonId");
+      checkOverlayIds(polygons, "polygonsToChange", "polygonId");
+    }
+    final Map<?, ?> polylines = getOverlayDiff(overlays, "polylines");
+    if (polylines != null) {
+      checkOverlayIds(polylines, "polylinesToAdd", "polylineId");
+      checkOverlayIds(polylines, "polylinesToChange", "polylineId");
+    }
+    final Map<?, ?> circles = getOverlayDiff(overlays, "circles");
+    if (circles != null) {
+      checkOverlayIds(circles, "circlesToAdd", "circleId");
+      checkOverlayIds(circles, "circlesToChange", "circleId");
+    }
+    final Map<?, ?> tileOverlays = getOverlayDiff(overlays, "tileOverlays");
+    if (tileOverlays != null) {
+      checkOverlayIds(tileOverlays, "tileOverlaysToAdd", "tileOverlayId");
+      checkOverlayIds(tileOverlays, "tileOverlaysToChange", "tileOverlayId");
+    }
+    final Map<?, ?> heatmaps = getOverlayDiff(overlays, "heatmaps");
+    if (heatmaps != null) {
+      checkOverlayIds(heatmaps, "heatmapsToAdd", "heatmapId");
+      checkOverlayIds(heatmaps, "heatmapsToChange", "heatmapId");
+      heatmapsController.checkHeatmaps(getOverlayList(heatmaps, "heatmapsToAdd"));
+      heatmapsController.checkHeatmaps(getOverlayList(heatmaps, "heatmapsToChange"));
+    }
+  }
+
+  private static Map<?, ?> getOverlayDiff(MethodCall overlays, String key) {
+    final Object diff = overlays.argument(key);
+    if (diff != null && !(diff instanceof Map)) {
+      throw new IllegalArgumentException("The " + key + " diff must be a map");
+    }
+    return (Map<?, ?>) diff;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Object> getOverlayList(Map<?, ?> diff, String key) {
+    final Object list = diff.get(key);
+    if (list != null && !(list instanceof List)) {
+      throw new IllegalArgumentException(key + " must be a list");
+    }
+    return (List<Object>) list;
+  }
+
+  private static void checkOverlayIds(Map<?, ?> diff, String key, String idKey) {
+    final List<Object> overlays = getOverlayList(diff, key);
+    if (overlays == null) {
+      return;
+    }
+    for (Object overlay : overlays) {
+      if (overlay == null) {
+        continue;
+      }
+      if (!(overlay instanceof Map) || !(((Map<?, ?>) overlay).get(idKey) instanceof String)) {
+        throw new IllegalArgumentException("Every entry of " + key + " needs a " + idKey);
+      }
+    }
+  }
+
+  /**
+   * Applies the diffs of every overlay type in a single pass, so that the map never draws some
+   * types updated and others not. Each diff has the arguments of its own update call.
+   */
+  private void updateOverlays(MethodCall overlays) {
+    final Object markers = overlays.argument("markers");
+    if (markers != null) {
+      updateMarkers(new MethodCall("markers#update", markers));
+    }
+    final Object polygons = overlays.argument("polygons");
+    if (polygons != null) {
+      updatePolygons(new MethodCall("polygons#update", polygons));
+    }
+    final Object polylines = overlays.argument("polylines");
+    if (polylines != null) {
+      updatePolylines(new MethodCall("polylines#update", polylines));
+    }
+    final Object circles = overlays.argument("circles");
+    if (circles != null) {
+      updateCircles(new MethodCall("circles#update", circles));
+    }
+    final Object tileOverlays = overlays.argument("tileOverlays");
+    if (tileOverlays != null) {
+      updateTileOverlays(new MethodCall("tileOverlays#update", tileOverlays));
+    }
+    final Object heatmaps = overlays.argument("heatmaps");
+    if (heatmaps != null) {
+      updateHeatmaps(new MethodCall("heatmaps#update", heatmaps));
+    }
+  }
+
+  private void updateMarkers(MethodCall call) {
+    List<Object> markersToAdd = call.argument("markersToAdd");
+    markersController.addMarkers(markersToAdd);
+    List<Object> markersToChange = call.argument("markersToChange");
+    markersController.changeMarkers(markersToChange);
+    List<Object> markerIdsToRemove = call.argument("markerIdsToRemove");
+    markersController.removeMarkers(markerIdsToRemove);
+  }
+
+  private void updatePolygons(MethodCall call) {
+    List<Object> polygonsToAdd = call.argument("polygonsToAdd");
+    polygonsController.addPolygons(polygonsToAdd);
+    List<Object> polygonsToChange = call.argument("polygonsToChange");
+    polygonsController.changePolygons(polygonsToChange);
+    List<Object> polygonIdsToRemove = call.argument("polygonIdsToRemove");
+    polygonsController.removePolygons(polygonIdsToRemove);
+  }
+
+  private void updatePolylines(MethodCall call) {
+    List<Object> polylinesToAdd = call.argument("polylinesToAdd");
+    polylinesController.addPolylines(polylinesToAdd);
+    List<Object> polylinesToChange = call.argument("polylinesToChange");
+    polylinesController.changePolylines(polylinesToChange);
+    List<Object> polylineIdsToRemove = call.argument("polylineIdsToRemove");
+    polylinesController.removePolylines(polylineIdsToRemove);
+  }
+
+  private void updateCircles(MethodCall call) {
+    List<Object> circlesToAdd = call.argument("circlesToAdd");
+    circlesController.addCircles(circlesToAdd);
+    List<Object> circlesToChange = call.argument("circlesToChange");
+    circlesController.changeCircles(circlesToChange);
+    List<Object> circleIdsToRemove = call.argument("circleIdsToRemove");
+    circlesController.removeCircles(circleIdsToRemove);
+  }
+
+  private void updateTileOverlays(MethodCall call) {
+    List<Object> tileOverlaysToAdd = call.argument("tileOverlaysToAdd");
+    tileOverlaysController.addTileOverlays(tileOverlaysToAdd);
+    List<Object> tileOverlaysToChange = call.argument("tileOverlaysToChange");
+    tileOverlaysController.changeTileOverlays(tileOverlaysToChange);
+    List<Object> tileOverlayIdsToRemove = call.argument("tileOverlayIdsToRemove");
+    tileOverlaysController.removeTileOverlays(tileOverlayIdsToRemove);
+  }
+
+  private void updateHeatmaps(MethodCall call) {
+    List<Object> heatmapsToAdd = call.argument("heatmapsToAdd");
+    heatmapsController.addHeatmaps(heatmapsToAdd);
+    List<Object> heatmapsToChange = call.argument("heatmapsToChange");
+    heatmapsController.changeHeatmaps(heatmapsToChange);
+    List<Object> heatmapIdsToRemove = call.argument("heatmapIdsToRemove");
+    heatmapsController.removeHeatmaps(heatmapIdsToRemove);
+  }
+
+  /** Returns the ids of the overlays intersecting the bounds, including markers not on the map. */
+  private Map<String, Object> queryRegion(LatLngBounds bounds) {
+    final double south = bounds.southwest.latitude;
+    final double west = bounds.southwest.longitude;
+    final double north = bounds.northeast.latitude;
+    final double east = bounds.northeast.longitude;
+    final Set<String> markerIds = new HashSet<>();
+    final Set<String> polygonIds = new HashSet<>();
+    final Set<String> polylineIds = new HashSet<>();
+    final Set<String> circleIds = new HashSet<>();
+    markersController.queryRegion(south, west, north, east, markerIds);
+    polygonsController.queryRegion(south, west, north, east, polygonIds);
+    polylinesController.queryRegion(south, west, north, east, polylineIds);
+    circlesController.queryRegion(south, west, north, east, circleIds);
+    final Map<String, Object> data = new HashMap<>();
+    data.put("markerIds", new ArrayList<>(markerIds));
+    data.put("polygonIds", new ArrayList<>(polygonIds));
+    data.put("polylineIds", new ArrayList<>(polylineIds));
+    data.put("circleIds", new ArrayList<>(circleIds));
+    return data;
+  }
+
+  /** Returns the {@code count} overlays nearest to the position, of any type, nearest first. */
+  private List<Object> queryNearest(LatLng position, int count) {
+    final String[] types = {"marker", "polygon", "polyline", "circle"};
+    final List<List<SpatialIndex.Neighbor>> nearestByType = new ArrayList<>(types.length);
+    for (int i = 0; i < types.length; i++) {
+      nearestByType.add(new ArrayList<SpatialIndex.Neighbor>());
+    }
+    final double latitude = position.latitude;
+    final double longitude = position.longitude;
+    markersController.queryNearest(latitude, longitude, count, nearestByType.get(0));
+    polygonsController.queryNearest(latitude, longitude, count, nearestByType.get(1));
+    polylinesController.queryNearest(latitude, longitude, count, nearestByType.get(2));
+    circlesController.queryNearest(latitude, longitude, count, nearestByType.get(3));
+    // Each list is sorted, so the nearest overall is always at the head of one of them.
+    final int[] next = new int[types.length];
+    final List<Object> nearest = new ArrayList<>();
+    while (nearest.size() < count) {
+      int closest = -1;
+      for (int i = 0; i < types.length; i++) {
+        if (next[i] < nearestByType.get(i).size()
+            && (closest < 0
+                || nearestByType.get(i).get(next[i]).distanceMeters
+                    < nearestByType.get(closest).get(next[closest]).distanceMeters)) {
+          closest = i;
+        }
+      }
+      if (closest < 0) {
+        break;
+      }
+      nearest.add(
+          Convert.neighborToJson(types[closest], nearestByType.get(closest).get(next[closest]++)));
+    }
+    return nearest;
+  }
+
   @Override
   public void dispose() {
     if (disposed) {
@@ -471,7 +875,13 @@ final class GoogleMapController
     disposed = true;
     methodChannel.setMethodCallHandler(null);
     setGoogleMapListener(null);
-    destroyMapViewIfNecessary();
+    releaseMapView();
+    cancelCameraMoveFlush();
+    snapshotEncoder.dispose();
+    markersController.dispose();
+    polylinesController.dispose();
+    tileOverlaysController.dispose();
+    iconCache.clear();
     Lifecycle lifecycle = lifecycleProvider.getLifecycle();
     if (lifecycle != null) {
       lifecycle.removeObserver(this);
@@ -509,7 +919,7 @@ final class GoogleMapController
 
   @Override
   public void onCreate(@NonNull LifecycleOwner owner) {
-    if (disposed) {
+    if (disposed || mapViewPooled) {
       return;
     }
     mapView.onCreate(null);
@@ -558,7 +968,7 @@ final class GoogleMapController
 
   @Override
   public void onRestoreInstanceState(Bundle bundle) {
-    if (disposed) {
+    if (disposed || mapViewPooled) {
       return;
     }
     mapView.onCreate(bundle);
@@ -597,6 +1007,14 @@ final class GoogleMapController
   @Override
   public void setTrackCameraPosition(boolean trackCameraPosition) {
     this.trackCameraPosition = trackCameraPosition;
+    if (!trackCameraPosition) {
+      cancelCameraMoveFlush();
+    }
+  }
+
+  @Override
+  public void setCameraMoveThrottle(long minIntervalMillis, double minDistancePx) {
+    cameraMoveThrottle.setLimits(minIntervalMillis, minDistancePx);
   }
 
   @Override
@@ -772,6 +1190,59 @@ final class GoogleMapController
     mapView = null;
   }
 
+  /**
+   * Hands the view back to the pool once its map is cleared, so that the next map of this context
+   * does not have to create one, or destroys it.
+   */
+  private void releaseMapView() {
+    if (mapView == null) {
+      return;
+    }
+    if (mapViewPool == null || googleMap == null) {
+      destroyMapViewIfNecessary();
+      return;
+    }
+    googleMap.clear();
+    googleMap.setMapStyle(null);
+    googleMap.setPadding(0, 0, 0, 0);
+    googleMap.setOnInfoWindowClickListener(null);
+    mapViewPool.release(mapView, mapViewContext, liteMode);
+    mapView = null;
+  }
+
+  /**
+   * Applies the options a new {@link MapView} would have been created with to the map of a pooled
+   * one, which may have been changed by the map it was shown for.
+   */
+  private void applyOptions(GoogleMap googleMap) {
+    if (options.getCamera() != null) {
+      googleMap.moveCamera(CameraUpdateFactory.newCameraPosition(options.getCamera()));
+    }
+    googleMap.setMapType(
+        options.getMapType() != -1 ? options.getMapType() : GoogleMap.MAP_TYPE_NORMAL);
+    final UiSettings uiSettings = googleMap.getUiSettings();
+    uiSettings.setCompassEnabled(isEnabled(options.getCompassEnabled()));
+    uiSettings.setMapToolbarEnabled(isEnabled(options.getMapToolbarEnabled()));
+    uiSettings.setRotateGesturesEnabled(isEnabled(options.getRotateGesturesEnabled()));
+    uiSettings.setScrollGesturesEnabled(isEnabled(options.getScrollGesturesEnabled()));
+    uiSettings.setTiltGesturesEnabled(isEnabled(options.getTiltGesturesEnabled()));
+    uiSettings.setZoomGesturesEnabled(isEnabled(options.getZoomGesturesEnabled()));
+    uiSettings.setZoomControlsEnabled(isEnabled(options.getZoomControlsEnabled()));
+    googleMap.resetMinMaxZoomPreference();
+    if (options.getMinZoomPreference() != null) {
+      googleMap.setMinZoomPreference(options.getMinZoomPreference());
+    }
+    if (options.getMaxZoomPreference() != null) {
+      googleMap.setMaxZoomPreference(options.getMaxZoomPreference());
+    }
+    googleMap.setLatLngBoundsForCameraTarget(options.getLatLngBoundsForCameraTarget());
+  }
+
+  /** Options left unset take the map's defaults, which enable all of these. */
+  private static boolean isEnabled(@Nullable Boolean option) {
+    return option == null || option;
+  }
+
   public void setIndoorEnabled(boolean indoorEnabled) {
     this.indoorEnabled = indoorEnabled;
   }
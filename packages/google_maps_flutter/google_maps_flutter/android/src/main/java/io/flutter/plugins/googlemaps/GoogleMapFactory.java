@@ -16,11 +16,16 @@ public class GoogleMapFactory extends PlatformViewFactory {
 
   private final BinaryMessenger binaryMessenger;
   private final LifecycleProvider lifecycleProvider;
+  private final MapViewPool mapViewPool;
 
-  GoogleMapFactory(BinaryMessenger binaryMessenger, LifecycleProvider lifecycleProvider) {
+  GoogleMapFactory(
+      BinaryMessenger binaryMessenger,
+      LifecycleProvider lifecycleProvider,
+      MapViewPool mapViewPool) {
     super(StandardMessageCodec.INSTANCE);
     this.binaryMessenger = binaryMessenger;
     this.lifecycleProvider = lifecycleProvider;
+    this.mapViewPool = mapViewPool;
   }
 
   @SuppressWarnings("unchecked")
@@ -46,6 +51,6 @@ public class GoogleMapFactory extends PlatformViewFactory {
     if (params.containsKey("circlesToAdd")) {
       builder.setInitialCircles(params.get("circlesToAdd"));
     }
-    return builder.build(id, context, binaryMessenger, lifecycleProvider);
+    return builder.build(id, context, binaryMessenger, lifecycleProvider, mapViewPool);
   }
 }
@@ -17,6 +17,9 @@ import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.embedding.engine.plugins.activity.ActivityAware;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.embedding.engine.plugins.lifecycle.FlutterLifecycleAdapter;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
 
 /**
  * Plugin for controlling a set of GoogleMap views to be shown as overlays on top of the Flutter
@@ -24,11 +27,16 @@ import io.flutter.embedding.engine.plugins.lifecycle.FlutterLifecycleAdapter;
  * the map. A Texture drawn using GoogleMap bitmap snapshots can then be shown instead of the
  * overlay.
  */
-public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
+public class GoogleMapsPlugin
+    implements FlutterPlugin, ActivityAware, MethodChannel.MethodCallHandler {
 
   @Nullable private Lifecycle lifecycle;
+  @Nullable private Activity activity;
+  @Nullable private MethodChannel methodChannel;
+  private final MapViewPool mapViewPool = new MapViewPool();
 
   private static final String VIEW_TYPE = "plugins.flutter.io/google_maps";
+  private static final String CHANNEL_NAME = "plugins.flutter.io/google_maps";
 
   @SuppressWarnings("deprecation")
   public static void registerWith(
@@ -39,6 +47,17 @@ public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
       // We stop the registration process as this plugin is foreground only.
       return;
     }
+    final GoogleMapsPlugin plugin = new GoogleMapsPlugin();
+    plugin.activity = activity;
+    plugin.startListening(registrar.messenger());
+    registrar.addViewDestroyListener(
+        new io.flutter.plugin.common.PluginRegistry.ViewDestroyListener() {
+          @Override
+          public boolean onViewDestroy(io.flutter.view.FlutterNativeView view) {
+            plugin.mapViewPool.clear();
+            return false;
+          }
+        });
     if (activity instanceof LifecycleOwner) {
       registrar
           .platformViewRegistry()
@@ -51,13 +70,15 @@ public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
                     public Lifecycle getLifecycle() {
                       return ((LifecycleOwner) activity).getLifecycle();
                     }
-                  }));
+                  },
+                  plugin.mapViewPool));
     } else {
       registrar
           .platformViewRegistry()
           .registerViewFactory(
               VIEW_TYPE,
-              new GoogleMapFactory(registrar.messenger(), new ProxyLifecycleProvider(activity)));
+              new GoogleMapFactory(
+                  registrar.messenger(), new ProxyLifecycleProvider(activity), plugin.mapViewPool));
     }
   }
 
@@ -67,6 +88,7 @@ public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
 
   @Override
   public void onAttachedToEngine(FlutterPluginBinding binding) {
+    startListening(binding.getBinaryMessenger());
     binding
         .getPlatformViewRegistry()
         .registerViewFactory(
@@ -79,22 +101,32 @@ public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
                   public Lifecycle getLifecycle() {
                     return lifecycle;
                   }
-                }));
+                },
+                mapViewPool));
   }
 
   @Override
-  public void onDetachedFromEngine(FlutterPluginBinding binding) {}
+  public void onDetachedFromEngine(FlutterPluginBinding binding) {
+    if (methodChannel != null) {
+      methodChannel.setMethodCallHandler(null);
+      methodChannel = null;
+    }
+  }
 
   // ActivityAware
 
   @Override
   public void onAttachedToActivity(ActivityPluginBinding binding) {
     lifecycle = FlutterLifecycleAdapter.getActivityLifecycle(binding);
+    activity = binding.getActivity();
   }
 
   @Override
   public void onDetachedFromActivity() {
     lifecycle = null;
+    activity = null;
+    // Pooled views belong to the activity, and are only reused for it.
+    mapViewPool.clear();
   }
 
   @Override
@@ -107,6 +139,36 @@ public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
     onDetachedFromActivity();
   }
 
+  // MethodChannel.MethodCallHandler
+
+  @Override
+  public void onMethodCall(MethodCall call, MethodChannel.Result result) {
+    switch (call.method) {
+      case "maps#initialize":
+        {
+          if (activity == null) {
+            result.error("No activity", "initialize called without a foreground activity", null);
+            break;
+          }
+          final Number mapViewCount = call.argument("mapViewCount");
+          final Boolean liteMode = call.argument("liteMode");
+          mapViewPool.preload(
+              activity,
+              mapViewCount != null ? mapViewCount.intValue() : 0,
+              Boolean.TRUE.equals(liteMode));
+          result.success(null);
+          break;
+        }
+      default:
+        result.notImplemented();
+    }
+  }
+
+  private void startListening(BinaryMessenger messenger) {
+    methodChannel = new MethodChannel(messenger, CHANNEL_NAME);
+    methodChannel.setMethodCallHandler(this);
+  }
+
   /**
    * This class provides a {@link LifecycleOwner} for the activity driven by {@link
    * ActivityLifecycleCallbacks}.
@@ -0,0 +1,46 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.TileOverlay;
+
+/** Controller of a single heatmap, drawn as a TileOverlay on the map. */
+class HeatmapController implements TileOverlayOptionsSink {
+  private final TileOverlay tileOverlay;
+  private final HeatmapRenderer renderer;
+
+  HeatmapController(TileOverlay tileOverlay, HeatmapRenderer renderer) {
+    this.tileOverlay = tileOverlay;
+    this.renderer = renderer;
+  }
+
+  void remove() {
+    tileOverlay.remove();
+  }
+
+  HeatmapRenderer getRenderer() {
+    return renderer;
+  }
+
+  @Override
+  public void setFadeIn(boolean fadeIn) {
+    tileOverlay.setFadeIn(fadeIn);
+  }
+
+  @Override
+  public void setTransparency(float transparency) {
+    tileOverlay.setTransparency(transparency);
+  }
+
+  @Override
+  public void setZIndex(float zIndex) {
+    tileOverlay.setZIndex(zIndex);
+  }
+
+  @Override
+  public void setVisible(boolean visible) {
+    tileOverlay.setVisible(visible);
+  }
+}
@@ -0,0 +1,401 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders the tiles of a heatmap: the kernel density of weighted points, colored by a gradient.
+ *
+ * <p>The points of a tile and of a margin of one radius around it are summed into a grid of pixels,
+ * which is blurred with a Gaussian kernel in two one-dimensional passes and colored by the
+ * intensity of each pixel relative to the maximum intensity of the zoom level. The cost of a tile
+ * is therefore linear in its points rather than in points times kernel area.
+ *
+ * <p>Points are projected and bucketed on first use. This class is thread-safe, as the map requests
+ * tiles on several background threads.
+ */
+final class HeatmapRenderer {
+  static final int TILE_SIZE = 256;
+
+  static final int DEFAULT_RADIUS = 20;
+  static final double DEFAULT_OPACITY = 0.7;
+
+  /**
+   * Maximum intensities are computed between these zoom levels and reused beyond them, so that
+   * sparse points do not saturate when zoomed in nor dense ones when zoomed out.
+   */
+  private static final int MIN_INTENSITY_ZOOM = 5;
+
+  private static final int MAX_INTENSITY_ZOOM = 11;
+
+  /** Points are bucketed in cells the size of a tile at this zoom level. */
+  private static final int BUCKET_ZOOM = 12;
+
+  private static final int COLOR_MAP_SIZE = 1000;
+
+  /** Colors interpolated between intensities relative to the maximum, in (0, 1]. */
+  static final class Gradient {
+    static final Gradient DEFAULT =
+        new Gradient(new int[] {0xff66e100, 0xffff0000}, new float[] {0.2f, 1});
+
+    final int[] colors;
+    final float[] startPoints;
+
+    Gradient(int[] colors, float[] startPoints) {
+      if (colors.length == 0 || colors.length != startPoints.length) {
+        throw new IllegalArgumentException(
+            "A gradient needs as many start points as colors, and at least one");
+      }
+      for (int i = 0; i < startPoints.length; i++) {
+        if (!(startPoints[i] > 0 && startPoints[i] <= 1)
+            || (i > 0 && startPoints[i] <= startPoints[i - 1])) {
+          throw new IllegalArgumentException(
+              "Gradient start points must increase within (0, 1], got "
+                  + Arrays.toString(startPoints));
+        }
+      }
+      this.colors = colors;
+      this.startPoints = startPoints;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Gradient)) {
+        return false;
+      }
+      final Gradient other = (Gradient) o;
+      return Arrays.equals(colors, other.colors) && Arrays.equals(startPoints, other.startPoints);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(colors) * 31 + Arrays.hashCode(startPoints);
+    }
+
+    /**
+     * Returns the colors of {@code size} intensities evenly spaced in [0, 1]. Intensities below the
+     * first start point fade in from transparent.
+     */
+    int[] toColorMap(int size, double opacity) {
+      final int[] colorMap = new int[size];
+      for (int i = 0; i < size; i++) {
+        final float intensity = (float) i / (size - 1);
+        int color;
+        if (intensity <= startPoints[0]) {
+          color = withAlphaScaled(colors[0], intensity / startPoints[0]);
+        } else {
+          int segment = 1;
+          while (segment < startPoints.length - 1 && intensity > startPoints[segment]) {
+            segment++;
+          }
+          final float fraction =
+              (intensity - startPoints[segment - 1])
+                  / (startPoints[segment] - startPoints[segment - 1]);
+          color = interpolate(colors[segment - 1], colors[segment], Math.min(1, fraction));
+        }
+        colorMap[i] = withAlphaScaled(color, (float) opacity);
+      }
+      return colorMap;
+    }
+
+    private static int interpolate(int from, int to, float fraction) {
+      int color = 0;
+      for (int shift = 0; shift < 32; shift += 8) {
+        final int a = (from >>> shift) & 0xff;
+        final int b = (to >>> shift) & 0xff;
+        color |= Math.round(a + (b - a) * fraction) << shift;
+      }
+      return color;
+    }
+
+    private static int withAlphaScaled(int color, float factor) {
+      final int alpha = Math.round((color >>> 24) * factor);
+      return (alpha << 24) | (color & 0xffffff);
+    }
+  }
+
+  /** How a heatmap is rendered. */
+  static final class Options {
+    static final Options DEFAULT =
+        new Options(DEFAULT_RADIUS, Gradient.DEFAULT, DEFAULT_OPACITY, 0);
+
+    /** The radius of the kernel of each point, in tile pixels. */
+    final int radius;
+
+    final Gradient gradient;
+    final double opacity;
+    /** The intensity shown with the last color of the gradient, or 0 to compute it per zoom. */
+    final double maxIntensity;
+
+    Options(int radius, Gradient gradient, double opacity, double maxIntensity) {
+      if (radius < 1 || radius > TILE_SIZE / 2) {
+        throw new IllegalArgumentException(
+            "Radius must be between 1 and " + TILE_SIZE / 2 + ", was " + radius);
+      }
+      if (!(opacity >= 0 && opacity <= 1)) {
+        throw new IllegalArgumentException("Opacity must be in [0, 1], was " + opacity);
+      }
+      this.radius = radius;
+      this.gradient = gradient;
+      this.opacity = opacity;
+      this.maxIntensity = Math.max(0, maxIntensity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Options)) {
+        return false;
+      }
+      final Options other = (Options) o;
+      return radius == other.radius
+          && gradient.equals(other.gradient)
+          && opacity == other.opacity
+          && maxIntensity == other.maxIntensity;
+    }
+
+    @Override
+    public int hashCode() {
+      return radius * 31 + gradient.hashCode();
+    }
+  }
+
+  private final double[] weightedLatLngs;
+  private final Options options;
+  private final float[] kernel;
+  private final int[] colorMap;
+
+  // Set by prepare(): the points projected to world pixels at zoom level 0, and the indices of the
+  // points in each bucket.
+  private double[] worldXs;
+  private double[] worldYs;
+  private double[] weights;
+  private Map<Long, int[]> buckets;
+  private final double[] maxIntensityByZoom = new double[MAX_INTENSITY_ZOOM + 1];
+
+  /** Renders {@code weightedLatLngs}, packed as latitude, longitude and weight triples. */
+  HeatmapRenderer(double[] weightedLatLngs, Options options) {
+    if (weightedLatLngs.length % 3 != 0) {
+      throw new IllegalArgumentException(
+          "Weighted points must be packed in triples, got a length of " + weightedLatLngs.length);
+    }
+    this.weightedLatLngs = weightedLatLngs;
+    this.options = options;
+    this.kernel = gaussianKernel(options.radius);
+    this.colorMap = options.gradient.toColorMap(COLOR_MAP_SIZE, options.opacity);
+  }
+
+  Options getOptions() {
+    return options;
+  }
+
+  double[] getWeightedLatLngs() {
+    return weightedLatLngs;
+  }
+
+  /**
+   * Returns the ARGB pixels of the tile, {@link #TILE_SIZE} pixels square and row by row, or null
+   * if no point is close enough to color it.
+   */
+  int[] render(int x, int y, int zoom) {
+    prepare();
+    final int radius = options.radius;
+    final int gridSize = TILE_SIZE + 2 * radius;
+    final double scale = Math.pow(2, zoom);
+    final double[] grid = new double[gridSize * gridSize];
+    final double margin = radius / scale;
+    final double minX = x * TILE_SIZE / scale;
+    final double minY = y * TILE_SIZE / scale;
+    final double maxX = (x + 1) * TILE_SIZE / scale;
+    final double maxY = (y + 1) * TILE_SIZE / scale;
+    boolean empty = true;
+    // Points near the antimeridian also color the tiles at the other edge of the world.
+    for (int copy = -1; copy <= 1; copy++) {
+      final double shift = copy * (double) TILE_SIZE;
+      final List<int[]> candidates =
+          bucketsIn(minX - margin - shift, minY - margin, maxX + margin - shift, maxY + margin);
+      for (int[] bucket : candidates) {
+        for (int index : bucket) {
+          final int px = (int) Math.floor((worldXs[index] + shift - minX) * scale) + radius;
+          final int py = (int) Math.floor((worldYs[index] - minY) * scale) + radius;
+          if (px >= 0 && px < gridSize && py >= 0 && py < gridSize) {
+            grid[py * gridSize + px] += weights[index];
+            empty = false;
+          }
+        }
+      }
+    }
+    if (empty) {
+      return null;
+    }
+    final double[] blurred = blur(grid, gridSize);
+    final double maxIntensity =
+        options.maxIntensity > 0 ? options.maxIntensity : getMaxIntensity(zoom);
+    final int[] pixels = new int[TILE_SIZE * TILE_SIZE];
+    boolean colored = false;
+    for (int row = 0; row < TILE_SIZE; row++) {
+      for (int column = 0; column < TILE_SIZE; column++) {
+        final double intensity = blurred[(row + radius) * gridSize + column + radius];
+        if (intensity <= 0) {
+          continue;
+        }
+        final int colorIndex =
+            (int) Math.min(COLOR_MAP_SIZE - 1, intensity / maxIntensity * (COLOR_MAP_SIZE - 1));
+        pixels[row * TILE_SIZE + column] = colorMap[colorIndex];
+        colored |= colorMap[colorIndex] >>> 24 != 0;
+      }
+    }
+    return colored ? pixels : null;
+  }
+
+  /**
+   * Returns the intensity of the densest area of the points at {@code zoom}, approximated by the
+   * largest sum of weights in a cell one radius wide.
+   */
+  synchronized double getMaxIntensity(int zoom) {
+    prepare();
+    final int clampedZoom = Math.max(MIN_INTENSITY_ZOOM, Math.min(MAX_INTENSITY_ZOOM, zoom));
+    if (maxIntensityByZoom[clampedZoom] > 0) {
+      return maxIntensityByZoom[clampedZoom];
+    }
+    final double cellsPerWorldPixel = Math.pow(2, clampedZoom) / options.radius;
+    final Map<Long, double[]> sums = new HashMap<>();
+    double max = 0;
+    for (int i = 0; i < weights.length; i++) {
+      final long key =
+          cellKey(
+              (long) (worldXs[i] * cellsPerWorldPixel), (long) (worldYs[i] * cellsPerWorldPixel));
+      double[] sum = sums.get(key);
+      if (sum == null) {
+        sum = new double[1];
+        sums.put(key, sum);
+      }
+      sum[0] += weights[i];
+      max = Math.max(max, sum[0]);
+    }
+    // A heatmap without positive weights is never colored, whatever its maximum.
+    maxIntensityByZoom[clampedZoom] = max > 0 ? max : 1;
+    return maxIntensityByZoom[clampedZoom];
+  }
+
+  private synchronized void prepare() {
+    if (buckets != null) {
+      return;
+    }
+    final int count = weightedLatLngs.length / 3;
+    worldXs = new double[count];
+    worldYs = new double[count];
+    weights = new double[count];
+    final Map<Long, int[]> sizedBuckets = new HashMap<>();
+    final long[] keys = new long[count];
+    final double bucketsPerWorldPixel = (double) (1 << BUCKET_ZOOM) / TILE_SIZE;
+    // Buckets are counted first, so that each is allocated once at its final size.
+    final Map<Long, int[]> counts = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      worldXs[i] = MarkerClusterer.projectX(weightedLatLngs[3 * i + 1], TILE_SIZE);
+      worldYs[i] = MarkerClusterer.projectY(weightedLatLngs[3 * i], TILE_SIZE);
+      weights[i] = weightedLatLngs[3 * i + 2];
+      keys[i] =
+          cellKey(
+              (long) (worldXs[i] * bucketsPerWorldPixel),
+              (long) (worldYs[i] * bucketsPerWorldPixel));
+      int[] bucketCount = counts.get(keys[i]);
+      if (bucketCount == null) {
+        bucketCount = new int[1];
+        counts.put(keys[i], bucketCount);
+      }
+      bucketCount[0]++;
+    }
+    for (Map.Entry<Long, int[]> entry : counts.entrySet()) {
+      sizedBuckets.put(entry.getKey(), new int[entry.getValue()[0]]);
+      entry.getValue()[0] = 0;
+    }
+    for (int i = 0; i < count; i++) {
+      final int[] filled = counts.get(keys[i]);
+      sizedBuckets.get(keys[i])[filled[0]++] = i;
+    }
+    buckets = sizedBuckets;
+  }
+
+  /** Returns the buckets overlapping the rectangle, in world pixels at zoom level 0. */
+  private List<int[]> bucketsIn(double minX, double minY, double maxX, double maxY) {
+    final List<int[]> result = new ArrayList<>();
+    if (maxX < 0 || minX >= TILE_SIZE || maxY < 0 || minY >= TILE_SIZE) {
+      return result;
+    }
+    final double bucketsPerWorldPixel = (double) (1 << BUCKET_ZOOM) / TILE_SIZE;
+    final long minColumn = (long) (Math.max(0, minX) * bucketsPerWorldPixel);
+    final long maxColumn = (long) (Math.min(TILE_SIZE, maxX) * bucketsPerWorldPixel);
+    final long minRow = (long) (Math.max(0, minY) * bucketsPerWorldPixel);
+    final long maxRow = (long) (Math.min(TILE_SIZE, maxY) * bucketsPerWorldPixel);
+    if ((maxColumn - minColumn + 1) * (maxRow - minRow + 1) > buckets.size()) {
+      // Zoomed out: checking every bucket is cheaper than every cell of the rectangle.
+      result.addAll(buckets.values());
+      return result;
+    }
+    for (long column = minColumn; column <= maxColumn; column++) {
+      for (long row = minRow; row <= maxRow; row++) {
+        final int[] bucket = buckets.get(cellKey(column, row));
+        if (bucket != null) {
+          result.add(bucket);
+        }
+      }
+    }
+    return result;
+  }
+
+  /** Convolves the grid with the kernel horizontally, then vertically. */
+  private double[] blur(double[] grid, int size) {
+    final int radius = options.radius;
+    final double[] horizontal = new double[grid.length];
+    for (int row = 0; row < size; row++) {
+      final int offset = row * size;
+      for (int column = 0; column < size; column++) {
+        final double value = grid[offset + column];
+        if (value == 0) {
+          continue;
+        }
+        final int from = Math.max(0, column - radius);
+        final int to = Math.min(size - 1, column + radius);
+        for (int target = from; target <= to; target++) {
+          horizontal[offset + target] += value * kernel[target - column + radius];
+        }
+      }
+    }
+    final double[] blurred = new double[grid.length];
+    for (int row = 0; row < size; row++) {
+      final int from = Math.max(0, row - radius);
+      final int to = Math.min(size - 1, row + radius);
+      for (int column = 0; column < size; column++) {
+        final double value = horizontal[row * size + column];
+        if (value == 0) {
+          continue;
+        }
+        for (int target = from; target <= to; target++) {
+          blurred[target * size + column] += value * kernel[target - row + radius];
+        }
+      }
+    }
+    return blurred;
+  }
+
+  /** Returns a Gaussian kernel of {@code 2 * radius + 1} values peaking at 1. */
+  static float[] gaussianKernel(int radius) {
+    final double sigma = radius / 3.0;
+    final float[] kernel = new float[2 * radius + 1];
+    for (int i = -radius; i <= radius; i++) {
+      kernel[i + radius] = (float) Math.exp(-i * i / (2 * sigma * sigma));
+    }
+    return kernel;
+  }
+
+  private static long cellKey(long column, long row) {
+    return (column << 32) ^ (row & 0xffffffffL);
+  }
+}
@@ -0,0 +1,179 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.TileOverlay;
+import com.google.android.gms.maps.model.TileOverlayOptions;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Heatmaps are tile overlays whose tiles are rendered on the map's tile threads by a {@link
+ * HeatmapRenderer} and kept in a memory {@link TileCache}, so each tile of each zoom level is
+ * rendered once.
+ */
+class HeatmapsController {
+  private final Map<String, HeatmapController> heatmapIdToController;
+  private GoogleMap googleMap;
+
+  HeatmapsController() {
+    this.heatmapIdToController = new HashMap<>();
+  }
+
+  void setGoogleMap(GoogleMap googleMap) {
+    this.googleMap = googleMap;
+  }
+
+  void addHeatmaps(List<Object> heatmapsToAdd) {
+    if (heatmapsToAdd != null) {
+      for (Object heatmapToAdd : heatmapsToAdd) {
+        addHeatmap(heatmapToAdd);
+      }
+    }
+  }
+
+  void changeHeatmaps(List<Object> heatmapsToChange) {
+    if (heatmapsToChange != null) {
+      for (Object heatmapToChange : heatmapsToChange) {
+        changeHeatmap(heatmapToChange);
+      }
+    }
+  }
+
+  /**
+   * Checks the render options and points of heatmaps to add or change without applying them, so
+   * that a batch of updates can be rejected before any of it is applied.
+   */
+  void checkHeatmaps(List<Object> heatmaps) {
+    if (heatmaps == null) {
+      return;
+    }
+    for (Object heatmap : heatmaps) {
+      if (heatmap == null) {
+        continue;
+      }
+      final Map<?, ?> data = getHeatmapData(heatmap);
+      final HeatmapController heatmapController = heatmapIdToController.get(data.get("heatmapId"));
+      Convert.toHeatmapRenderOptions(
+          heatmap,
+          heatmapController != null
+              ? heatmapController.getRenderer().getOptions()
+              : HeatmapRenderer.Options.DEFAULT);
+      final Object points = data.get("points");
+      // Packed points are not copied, so only lists of points pay for a second conversion.
+      if (points != null && Convert.toWeightedPoints(points).length % 3 != 0) {
+        throw new IllegalArgumentException("Weighted points must be packed in triples");
+      }
+    }
+  }
+
+  void removeHeatmaps(List<Object> heatmapIdsToRemove) {
+    if (heatmapIdsToRemove == null) {
+      return;
+    }
+    for (Object rawHeatmapId : heatmapIdsToRemove) {
+      if (rawHeatmapId == null) {
+        continue;
+      }
+      final HeatmapController heatmapController =
+          heatmapIdToController.remove((String) rawHeatmapId);
+      if (heatmapController != null) {
+        heatmapController.remove();
+      }
+    }
+  }
+
+  private void addHeatmap(Object heatmap) {
+    if (heatmap == null) {
+      return;
+    }
+    final double[] points = Convert.toWeightedPoints(getHeatmapData(heatmap).get("points"));
+    final HeatmapRenderer.Options renderOptions =
+        Convert.toHeatmapRenderOptions(heatmap, HeatmapRenderer.Options.DEFAULT);
+    addHeatmap(heatmap, new HeatmapRenderer(points, renderOptions));
+  }
+
+  private void addHeatmap(Object heatmap, HeatmapRenderer renderer) {
+    TileOverlayBuilder tileOverlayBuilder = new TileOverlayBuilder();
+    String heatmapId = Convert.interpretHeatmapOptions(heatmap, tileOverlayBuilder);
+    final CachingTileProvider tileProvider =
+        new CachingTileProvider(
+            HeatmapRenderer.TILE_SIZE,
+            new RenderingTileLoader(renderer),
+            new TileCache(TileCache.DEFAULT_MAX_MEMORY_BYTES, null, 0));
+    TileOverlayOptions options = tileOverlayBuilder.build().tileProvider(tileProvider);
+    final TileOverlay tileOverlay = googleMap.addTileOverlay(options);
+    heatmapIdToController.put(heatmapId, new HeatmapController(tileOverlay, renderer));
+  }
+
+  private void changeHeatmap(Object heatmap) {
+    if (heatmap == null) {
+      return;
+    }
+    final Map<?, ?> data = getHeatmapData(heatmap);
+    final String heatmapId = (String) data.get("heatmapId");
+    final HeatmapController heatmapController = heatmapIdToController.get(heatmapId);
+    if (heatmapController == null) {
+      return;
+    }
+    final HeatmapRenderer renderer = heatmapController.getRenderer();
+    final HeatmapRenderer.Options renderOptions =
+        Convert.toHeatmapRenderOptions(heatmap, renderer.getOptions());
+    final Object points = data.get("points");
+    if (points != null || !renderer.getOptions().equals(renderOptions)) {
+      // A tile provider cannot be replaced, so the overlay is recreated with new tiles.
+      heatmapIdToController.remove(heatmapId);
+      heatmapController.remove();
+      addHeatmap(
+          heatmap,
+          new HeatmapRenderer(
+              points != null ? Convert.toWeightedPoints(points) : renderer.getWeightedLatLngs(),
+              renderOptions));
+      return;
+    }
+    Convert.interpretHeatmapOptions(heatmap, heatmapController);
+  }
+
+  private static Map<?, ?> getHeatmapData(Object heatmap) {
+    return (Map<?, ?>) heatmap;
+  }
+
+  /** Renders tiles and encodes them as PNG. */
+  private static final class RenderingTileLoader implements CachingTileProvider.Loader {
+    private final HeatmapRenderer renderer;
+
+    RenderingTileLoader(HeatmapRenderer renderer) {
+      this.renderer = renderer;
+    }
+
+    @Override
+    public byte[] load(int x, int y, int zoom) throws IOException {
+      final int[] pixels = renderer.render(x, y, zoom);
+      if (pixels == null) {
+        return null;
+      }
+      final Bitmap bitmap =
+          Bitmap.createBitmap(
+              pixels,
+              HeatmapRenderer.TILE_SIZE,
+              HeatmapRenderer.TILE_SIZE,
+              Bitmap.Config.ARGB_8888);
+      try {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream(16 * 1024);
+        if (!bitmap.compress(Bitmap.CompressFormat.PNG, 100, stream)) {
+          throw new IOException("Unable to encode heatmap tile " + TileCache.key(x, y, zoom));
+        }
+        return stream.toByteArray();
+      } finally {
+        bitmap.recycle();
+      }
+    }
+  }
+}
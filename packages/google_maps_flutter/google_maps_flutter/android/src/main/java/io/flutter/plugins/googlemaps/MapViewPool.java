@@ -0,0 +1,152 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.view.ViewGroup;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.GoogleMapOptions;
+import com.google.android.gms.maps.MapView;
+import com.google.android.gms.maps.MapsInitializer;
+import com.google.android.gms.maps.OnMapReadyCallback;
+import java.util.ArrayDeque;
+
+/**
+ * Keeps a few created {@link MapView}s, so that opening a map screen does not pay for creating one,
+ * and initializes the maps SDK ahead of the first map.
+ *
+ * <p>Lite mode is fixed when a {@code MapView} is created, so views are pooled per lite mode. The
+ * pool holds views created for a single activity, and only hands them out for contexts of that
+ * activity. Platform views are often created with a wrapper of the activity, or with the context of
+ * the virtual display showing them, which wraps none, so contexts are matched by the activity they
+ * wrap, and those wrapping no activity by application. Pooled views are in the created state:
+ * {@code onCreate} was called, and {@code onDestroy} is called when they leave the pool other than
+ * to be reused.
+ *
+ * <p>The pool is disabled, and released views are destroyed, until {@link #preload} sets its size.
+ * This class must be used from the platform thread.
+ */
+final class MapViewPool {
+  /** Each pooled view keeps a map surface in memory, so at most this many are kept per mode. */
+  static final int MAX_SIZE = 3;
+
+  private final ArrayDeque<MapView> mapViews = new ArrayDeque<>();
+  private final ArrayDeque<MapView> liteModeMapViews = new ArrayDeque<>();
+  @Nullable private Activity activity;
+  private int maxSize;
+
+  /**
+   * Initializes the maps SDK and creates {@code count} views for {@code activity}, up to {@link
+   * #MAX_SIZE}, which are then kept when maps are disposed.
+   */
+  void preload(Activity activity, int count, boolean liteMode) {
+    MapsInitializer.initialize(activity);
+    ensureCapacity(activity, count);
+    final ArrayDeque<MapView> pool = getPool(liteMode);
+    while (pool.size() < Math.min(MAX_SIZE, count)) {
+      final MapView mapView = new MapView(activity, new GoogleMapOptions().liteMode(liteMode));
+      mapView.onCreate(null);
+      // Getting the map loads its renderer now rather than when the view is first shown.
+      mapView.getMapAsync(
+          new OnMapReadyCallback() {
+            @Override
+            public void onMapReady(GoogleMap googleMap) {}
+          });
+      pool.add(mapView);
+    }
+  }
+
+  /**
+   * Keeps up to {@code count} released views of {@code activity} per mode, but no more than {@link
+   * #MAX_SIZE}, destroying the views of any other activity.
+   */
+  void ensureCapacity(Activity activity, int count) {
+    if (this.activity != activity) {
+      clear();
+      this.activity = activity;
+    }
+    maxSize = Math.max(maxSize, Math.min(MAX_SIZE, count));
+  }
+
+  /** Returns the activity the pooled views were created with, or null if the pool is disabled. */
+  @Nullable
+  Activity getActivity() {
+    return activity;
+  }
+
+  /**
+   * Returns a created view for a map shown with {@code context}, or null if there is none or the
+   * context belongs to another activity.
+   */
+  @Nullable
+  MapView acquire(Context context, boolean liteMode) {
+    if (activity == null) {
+      return null;
+    }
+    final Activity contextActivity = findActivity(context);
+    final boolean matches =
+        contextActivity != null
+            ? contextActivity == activity
+            : context.getApplicationContext() == activity.getApplicationContext();
+    return matches ? getPool(liteMode).pollFirst() : null;
+  }
+
+  /**
+   * Takes back a view whose map was cleared, stopping it, or destroys it if the pool is full or the
+   * view was not created with a context of the pool's activity. Returns whether the view was kept.
+   *
+   * @param viewContext the context the view was created with, as views created for a virtual
+   *     display cannot outlive it.
+   */
+  boolean release(MapView mapView, Context viewContext, boolean liteMode) {
+    final ArrayDeque<MapView> pool = getPool(liteMode);
+    if (activity == null || findActivity(viewContext) != activity || pool.size() >= maxSize) {
+      mapView.onDestroy();
+      return false;
+    }
+    mapView.onPause();
+    mapView.onStop();
+    if (mapView.getParent() instanceof ViewGroup) {
+      ((ViewGroup) mapView.getParent()).removeView(mapView);
+    }
+    pool.add(mapView);
+    return true;
+  }
+
+  /**
+   * Destroys the pooled views and disables the pool, for instance when their activity is destroyed.
+   */
+  void clear() {
+    for (MapView mapView : mapViews) {
+      mapView.onDestroy();
+    }
+    for (MapView mapView : liteModeMapViews) {
+      mapView.onDestroy();
+    }
+    mapViews.clear();
+    liteModeMapViews.clear();
+    activity = null;
+    maxSize = 0;
+  }
+
+  /** Returns the activity the context is or wraps, or null if it wraps none. */
+  @Nullable
+  static Activity findActivity(Context context) {
+    while (context instanceof ContextWrapper) {
+      if (context instanceof Activity) {
+        return (Activity) context;
+      }
+      context = ((ContextWrapper) context).getBaseContext();
+    }
+    return null;
+  }
+
+  private ArrayDeque<MapView> getPool(boolean liteMode) {
+    return liteMode ? liteModeMapViews : mapViews;
+  }
+}
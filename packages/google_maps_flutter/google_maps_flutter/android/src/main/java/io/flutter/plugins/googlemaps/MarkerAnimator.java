@@ -0,0 +1,213 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves markers along timed paths, one frame at a time.
+ *
+ * <p>Each animation starts at the marker's position when it is started and passes through its
+ * keyframes at their times. Positions are interpolated linearly in latitude and longitude, the
+ * short way around the globe, and rotations the short way around the circle. This class only does
+ * arithmetic; the caller drives it from the frame clock and applies the positions to the markers.
+ */
+final class MarkerAnimator {
+
+  /** A point of an animation, reached {@code timeMillis} after the animation starts. */
+  static final class Keyframe {
+    final long timeMillis;
+    final double latitude;
+    final double longitude;
+    /** The rotation at this point, or NaN to keep the rotation of the previous one. */
+    final float rotation;
+
+    Keyframe(long timeMillis, double latitude, double longitude, float rotation) {
+      this.timeMillis = timeMillis;
+      this.latitude = latitude;
+      this.longitude = longitude;
+      this.rotation = rotation;
+    }
+  }
+
+  /** Receives the positions of the animated markers. */
+  interface Listener {
+    /**
+     * Called once per frame for each animated marker. {@code rotation} is NaN when the animation
+     * does not rotate the marker.
+     */
+    void onMarkerMoved(String markerId, double latitude, double longitude, float rotation);
+  }
+
+  private static final class Track {
+    final long startMillis;
+    /** Times, relative to startMillis, and values of the points, starting with the origin. */
+    final long[] times;
+
+    final double[] latitudes;
+    /** Unwrapped, so that consecutive longitudes are less than 180 degrees apart. */
+    final double[] longitudes;
+    /** Unwrapped like longitudes, or null if the animation does not rotate the marker. */
+    final float[] rotations;
+    /** The segment of the last frame, as frames only move forward in time. */
+    int segment;
+
+    Track(
+        long startMillis,
+        long[] times,
+        double[] latitudes,
+        double[] longitudes,
+        float[] rotations) {
+      this.startMillis = startMillis;
+      this.times = times;
+      this.latitudes = latitudes;
+      this.longitudes = longitudes;
+      this.rotations = rotations;
+    }
+
+    long endMillis() {
+      return startMillis + times[times.length - 1];
+    }
+  }
+
+  private final Map<String, Track> tracks = new HashMap<>();
+
+  /**
+   * Animates the marker from its current position and rotation through {@code keyframes}, which
+   * must be in time order, replacing its current animation.
+   */
+  void start(
+      String markerId,
+      double latitude,
+      double longitude,
+      float rotation,
+      List<Keyframe> keyframes,
+      long nowMillis) {
+    final int count = keyframes.size() + 1;
+    final long[] times = new long[count];
+    final double[] latitudes = new double[count];
+    final double[] longitudes = new double[count];
+    final float[] rotations = new float[count];
+    boolean rotates = false;
+    latitudes[0] = latitude;
+    longitudes[0] = longitude;
+    rotations[0] = rotation;
+    for (int i = 1; i < count; i++) {
+      final Keyframe keyframe = keyframes.get(i - 1);
+      if (keyframe.timeMillis < times[i - 1]) {
+        throw new IllegalArgumentException("Keyframes must be in time order");
+      }
+      times[i] = keyframe.timeMillis;
+      latitudes[i] = keyframe.latitude;
+      longitudes[i] = longitudes[i - 1] + angleDelta(longitudes[i - 1], keyframe.longitude);
+      if (Float.isNaN(keyframe.rotation)) {
+        rotations[i] = rotations[i - 1];
+      } else {
+        rotates = true;
+        rotations[i] = rotations[i - 1] + (float) angleDelta(rotations[i - 1], keyframe.rotation);
+      }
+    }
+    tracks.put(
+        markerId, new Track(nowMillis, times, latitudes, longitudes, rotates ? rotations : null));
+  }
+
+  /** Stops the animation of the marker where it is. */
+  void cancel(String markerId) {
+    tracks.remove(markerId);
+  }
+
+  void clear() {
+    tracks.clear();
+  }
+
+  boolean isRunning() {
+    return !tracks.isEmpty();
+  }
+
+  boolean isAnimating(String markerId) {
+    return tracks.containsKey(markerId);
+  }
+
+  /**
+   * Returns the latitude, longitude and rotation of the animated marker at {@code nowMillis}, the
+   * rotation being NaN if the animation does not rotate it, or null if it is not animated.
+   */
+  @Nullable
+  double[] getPosition(String markerId, long nowMillis) {
+    final Track track = tracks.get(markerId);
+    if (track == null) {
+      return null;
+    }
+    final double[] position = new double[3];
+    sample(track, nowMillis, position);
+    return position;
+  }
+
+  /**
+   * Reports the position of every animated marker at {@code nowMillis}, and ends the animations
+   * that reached their last keyframe. The listener must not start or cancel animations.
+   */
+  void onFrame(long nowMillis, Listener listener) {
+    final double[] position = new double[3];
+    final Iterator<Map.Entry<String, Track>> iterator = tracks.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<String, Track> entry = iterator.next();
+      final Track track = entry.getValue();
+      sample(track, nowMillis, position);
+      if (nowMillis >= track.endMillis()) {
+        iterator.remove();
+      }
+      listener.onMarkerMoved(entry.getKey(), position[0], position[1], (float) position[2]);
+    }
+  }
+
+  private static void sample(Track track, long nowMillis, double[] position) {
+    final long time = Math.max(0, nowMillis - track.startMillis);
+    final int last = track.times.length - 1;
+    if (time >= track.times[last]) {
+      position[0] = track.latitudes[last];
+      position[1] = Geometry.wrapLongitude(track.longitudes[last]);
+      position[2] = track.rotations == null ? Double.NaN : normalizeRotation(track.rotations[last]);
+      return;
+    }
+    while (track.times[track.segment + 1] <= time) {
+      track.segment++;
+    }
+    final int i = track.segment;
+    // Frame times may lag the time an animation was sampled at, which moved past this segment.
+    final double t =
+        Math.max(0, (double) (time - track.times[i]) / (track.times[i + 1] - track.times[i]));
+    position[0] = lerp(track.latitudes[i], track.latitudes[i + 1], t);
+    position[1] = Geometry.wrapLongitude(lerp(track.longitudes[i], track.longitudes[i + 1], t));
+    position[2] =
+        track.rotations == null
+            ? Double.NaN
+            : normalizeRotation(lerp(track.rotations[i], track.rotations[i + 1], t));
+  }
+
+  private static double lerp(double from, double to, double t) {
+    return from + (to - from) * t;
+  }
+
+  /** Returns the signed difference from one angle to another the short way, in [-180, 180]. */
+  private static double angleDelta(double from, double to) {
+    double delta = (to - from) % 360;
+    if (delta > 180) {
+      delta -= 360;
+    } else if (delta < -180) {
+      delta += 360;
+    }
+    return delta;
+  }
+
+  private static float normalizeRotation(double rotation) {
+    final double normalized = rotation % 360;
+    return (float) (normalized < 0 ? normalized + 360 : normalized);
+  }
+}
@@ -0,0 +1,124 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * Decodes the compact binary format of {@code markers#bulkUpdate}, which changes a few properties
+ * of many existing markers at once.
+ *
+ * <p>All values are little-endian. The payload is an {@code int32} marker count followed by, for
+ * each marker:
+ *
+ * <ul>
+ *   <li>{@code uint16} length and UTF-8 bytes of the marker id,
+ *   <li>{@code uint16} bitmask of the changed fields ({@code FIELD_*}),
+ *   <li>the value of each changed field, in the order of the bits: {@code float64} latitude and
+ *       longitude, {@code float32} rotation, {@code float32} alpha, {@code uint8} visible, {@code
+ *       float32} z-index, {@code float32} anchor u and v, and the {@code uint16} length and UTF-8
+ *       bytes of a registered icon id.
+ * </ul>
+ *
+ * <p>Only the fields in the bitmask are decoded and applied, so moving a marker costs 20 bytes plus
+ * its id. Entries are applied as they are decoded, so those before a malformed entry remain
+ * applied.
+ */
+final class MarkerBulkUpdate {
+  static final int FIELD_POSITION = 1;
+  static final int FIELD_ROTATION = 1 << 1;
+  static final int FIELD_ALPHA = 1 << 2;
+  static final int FIELD_VISIBLE = 1 << 3;
+  static final int FIELD_Z_INDEX = 1 << 4;
+  static final int FIELD_ANCHOR = 1 << 5;
+  static final int FIELD_ICON = 1 << 6;
+
+  private static final int KNOWN_FIELDS = (FIELD_ICON << 1) - 1;
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  /** The changes to one marker. Reused between markers, so it must not be retained. */
+  static final class Entry {
+    String markerId;
+    int fields;
+    double latitude;
+    double longitude;
+    float rotation;
+    float alpha;
+    boolean visible;
+    float zIndex;
+    float anchorU;
+    float anchorV;
+    String iconId;
+
+    boolean has(int field) {
+      return (fields & field) != 0;
+    }
+  }
+
+  /** Receives every decoded entry, in order. */
+  interface Visitor {
+    void visit(Entry entry);
+  }
+
+  private MarkerBulkUpdate() {}
+
+  /** Decodes {@code data} in a single pass, calling {@code visitor} once per marker. */
+  static void decode(byte[] data, Visitor visitor) {
+    final ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    final Entry entry = new Entry();
+    try {
+      final int count = buffer.getInt();
+      for (int i = 0; i < count; i++) {
+        entry.markerId = readString(buffer);
+        entry.fields = buffer.getShort() & 0xffff;
+        if ((entry.fields & ~KNOWN_FIELDS) != 0) {
+          throw new IllegalArgumentException(
+              "Unknown marker fields " + Integer.toBinaryString(entry.fields & ~KNOWN_FIELDS));
+        }
+        if (entry.has(FIELD_POSITION)) {
+          entry.latitude = buffer.getDouble();
+          entry.longitude = buffer.getDouble();
+        }
+        if (entry.has(FIELD_ROTATION)) {
+          entry.rotation = buffer.getFloat();
+        }
+        if (entry.has(FIELD_ALPHA)) {
+          entry.alpha = buffer.getFloat();
+        }
+        if (entry.has(FIELD_VISIBLE)) {
+          entry.visible = buffer.get() != 0;
+        }
+        if (entry.has(FIELD_Z_INDEX)) {
+          entry.zIndex = buffer.getFloat();
+        }
+        if (entry.has(FIELD_ANCHOR)) {
+          entry.anchorU = buffer.getFloat();
+          entry.anchorV = buffer.getFloat();
+        }
+        entry.iconId = entry.has(FIELD_ICON) ? readString(buffer) : null;
+        visitor.visit(entry);
+      }
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated marker bulk update", e);
+    }
+    if (buffer.hasRemaining()) {
+      throw new IllegalArgumentException(
+          buffer.remaining() + " unexpected bytes after the marker bulk update");
+    }
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    final int length = buffer.getShort() & 0xffff;
+    if (length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    final String value = new String(buffer.array(), buffer.position(), length, UTF_8);
+    buffer.position(buffer.position() + length);
+    return value;
+  }
+}
@@ -0,0 +1,233 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups marker positions that are close together on screen at a given zoom level.
+ *
+ * <p>Positions are projected to world pixel coordinates with the Web Mercator projection used by
+ * the map, at the integer part of the zoom level so that clusters only change when crossing a zoom
+ * level. This class only does arithmetic and is safe to run on a background thread.
+ */
+final class MarkerClusterer {
+  static final String ALGORITHM_GRID = "grid";
+  static final String ALGORITHM_DISTANCE = "distance";
+
+  private static final int TILE_SIZE = 256;
+  private static final double MAX_SIN_LATITUDE = 0.9999;
+
+  /** How markers are clustered. */
+  static final class Options {
+    final String algorithm;
+    /** The size of a grid cell, or the clustering radius, in pixels. */
+    final double sizePx;
+    /** The fewest markers displayed as a cluster rather than individually. */
+    final int minClusterSize;
+
+    final int color;
+
+    Options(String algorithm, double sizePx, int minClusterSize, int color) {
+      if (!ALGORITHM_GRID.equals(algorithm) && !ALGORITHM_DISTANCE.equals(algorithm)) {
+        throw new IllegalArgumentException("Unknown clustering algorithm: " + algorithm);
+      }
+      if (sizePx <= 0) {
+        throw new IllegalArgumentException("Cluster size must be positive, was " + sizePx);
+      }
+      this.algorithm = algorithm;
+      this.sizePx = sizePx;
+      this.minClusterSize = Math.max(2, minClusterSize);
+      this.color = color;
+    }
+  }
+
+  /** A group of markers, or a single marker when {@link #markerIds} has one element. */
+  static final class Cluster {
+    /** Stable for the same cell or seed marker across reclustering at the same zoom level. */
+    final String id;
+
+    final double latitude;
+    final double longitude;
+    final List<String> markerIds;
+
+    Cluster(String id, double latitude, double longitude, List<String> markerIds) {
+      this.id = id;
+      this.latitude = latitude;
+      this.longitude = longitude;
+      this.markerIds = markerIds;
+    }
+
+    boolean isSingleMarker() {
+      return markerIds.size() == 1;
+    }
+  }
+
+  private MarkerClusterer() {}
+
+  /**
+   * Clusters the markers {@code markerIds}, whose positions are packed as latitude/longitude pairs
+   * in {@code latLngs}.
+   */
+  static List<Cluster> cluster(String[] markerIds, double[] latLngs, float zoom, Options options) {
+    final int count = markerIds.length;
+    final int zoomLevel = (int) Math.floor(zoom);
+    final double scale = TILE_SIZE * Math.pow(2, zoomLevel);
+    final double[] points = new double[count * 2];
+    for (int i = 0; i < count; i++) {
+      points[2 * i] = projectX(latLngs[2 * i + 1], scale);
+      points[2 * i + 1] = projectY(latLngs[2 * i], scale);
+    }
+    final Map<Long, Cell> cells = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      final long key = cellKey(points[2 * i], points[2 * i + 1], options.sizePx);
+      Cell cell = cells.get(key);
+      if (cell == null) {
+        cell = new Cell(key);
+        cells.put(key, cell);
+      }
+      cell.add(i);
+    }
+    if (ALGORITHM_GRID.equals(options.algorithm)) {
+      return clusterByGrid(markerIds, latLngs, zoomLevel, options, cells);
+    }
+    return clusterByDistance(markerIds, latLngs, points, options, cells);
+  }
+
+  private static List<Cluster> clusterByGrid(
+      String[] markerIds, double[] latLngs, int zoomLevel, Options options, Map<Long, Cell> cells) {
+    final List<Cluster> clusters = new ArrayList<>();
+    for (Cell cell : cells.values()) {
+      if (cell.size < options.minClusterSize) {
+        for (int i = 0; i < cell.size; i++) {
+          clusters.add(singleMarker(markerIds, latLngs, cell.indices[i]));
+        }
+        continue;
+      }
+      clusters.add(
+          group("grid:" + zoomLevel + ":" + cell.key, markerIds, latLngs, cell.indices, cell.size));
+    }
+    return clusters;
+  }
+
+  /**
+   * Greedily clusters markers within {@code sizePx} of a seed marker, taking seeds in input order.
+   * Cells are as large as the radius, so the candidates for a seed are in the 3x3 cells around it.
+   */
+  private static List<Cluster> clusterByDistance(
+      String[] markerIds,
+      double[] latLngs,
+      double[] points,
+      Options options,
+      Map<Long, Cell> cells) {
+    final int count = markerIds.length;
+    final double radius = options.sizePx;
+    final double radiusSquared = radius * radius;
+    final boolean[] assigned = new boolean[count];
+    final int[] members = new int[count];
+    final List<Cluster> clusters = new ArrayList<>();
+    for (int seed = 0; seed < count; seed++) {
+      if (assigned[seed]) {
+        continue;
+      }
+      final double x = points[2 * seed];
+      final double y = points[2 * seed + 1];
+      final long cellX = (long) Math.floor(x / radius);
+      final long cellY = (long) Math.floor(y / radius);
+      int memberCount = 0;
+      for (long dx = -1; dx <= 1; dx++) {
+        for (long dy = -1; dy <= 1; dy++) {
+          final Cell cell = cells.get(cellKey(cellX + dx, cellY + dy));
+          if (cell == null) {
+            continue;
+          }
+          for (int j = 0; j < cell.size; j++) {
+            final int candidate = cell.indices[j];
+            if (assigned[candidate]) {
+              continue;
+            }
+            final double distanceX = points[2 * candidate] - x;
+            final double distanceY = points[2 * candidate + 1] - y;
+            if (distanceX * distanceX + distanceY * distanceY <= radiusSquared) {
+              members[memberCount++] = candidate;
+            }
+          }
+        }
+      }
+      if (memberCount < options.minClusterSize) {
+        // Only the seed is consumed; its neighbours may still seed or join other clusters.
+        assigned[seed] = true;
+        clusters.add(singleMarker(markerIds, latLngs, seed));
+        continue;
+      }
+      for (int j = 0; j < memberCount; j++) {
+        assigned[members[j]] = true;
+      }
+      clusters.add(group("distance:" + markerIds[seed], markerIds, latLngs, members, memberCount));
+    }
+    return clusters;
+  }
+
+  private static Cluster singleMarker(String[] markerIds, double[] latLngs, int index) {
+    final List<String> ids = new ArrayList<>(1);
+    ids.add(markerIds[index]);
+    return new Cluster(markerIds[index], latLngs[2 * index], latLngs[2 * index + 1], ids);
+  }
+
+  private static Cluster group(
+      String id, String[] markerIds, double[] latLngs, int[] indices, int size) {
+    final List<String> ids = new ArrayList<>(size);
+    double latitude = 0;
+    double longitude = 0;
+    for (int i = 0; i < size; i++) {
+      final int index = indices[i];
+      ids.add(markerIds[index]);
+      latitude += latLngs[2 * index];
+      longitude += latLngs[2 * index + 1];
+    }
+    return new Cluster(id, latitude / size, longitude / size, ids);
+  }
+
+  static double projectX(double longitude, double scale) {
+    return (longitude / 360 + 0.5) * scale;
+  }
+
+  static double projectY(double latitude, double scale) {
+    double sin = Math.sin(Math.toRadians(latitude));
+    sin = Math.min(Math.max(sin, -MAX_SIN_LATITUDE), MAX_SIN_LATITUDE);
+    return (0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI)) * scale;
+  }
+
+  private static long cellKey(double x, double y, double size) {
+    return cellKey((long) Math.floor(x / size), (long) Math.floor(y / size));
+  }
+
+  private static long cellKey(long cellX, long cellY) {
+    return (cellX << 32) ^ (cellY & 0xffffffffL);
+  }
+
+  /** The indices of the markers in one grid cell. */
+  private static final class Cell {
+    final long key;
+    int[] indices = new int[4];
+    int size;
+
+    Cell(long key) {
+      this.key = key;
+    }
+
+    void add(int index) {
+      if (size == indices.length) {
+        final int[] grown = new int[size * 2];
+        System.arraycopy(indices, 0, grown, 0, size);
+        indices = grown;
+      }
+      indices[size++] = index;
+    }
+  }
+}
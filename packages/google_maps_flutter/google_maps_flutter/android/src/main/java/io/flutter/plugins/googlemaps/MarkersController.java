@@ -4,32 +4,121 @@
 
 package io.flutter.plugins.googlemaps;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 class MarkersController {
 
   private final Map<String, MarkerController> markerIdToController;
   private final Map<String, String> googleMapsMarkerIdToDartMarkerId;
+  /** The options of every marker, including those that are not on the map. */
+  private final Map<String, Object> markerIdToOptions;
+
   private final MethodChannel methodChannel;
+  private final BitmapDescriptorCache iconCache;
+  private final float density;
   private GoogleMap googleMap;
 
-  MarkersController(MethodChannel methodChannel) {
+  // Clustering, enabled while clusterOptions is set. Only the markers that are not part of a
+  // cluster have a MarkerController; each cluster is shown as a single marker.
+  @Nullable private MarkerClusterer.Options clusterOptions;
+  private final Map<String, Marker> clusterIdToMarker = new HashMap<>();
+  private final Map<String, MarkerClusterer.Cluster> googleMapsMarkerIdToCluster = new HashMap<>();
+  private ClusterIconFactory clusterIcons;
+  private ExecutorService clusterExecutor;
+  private Handler mainHandler;
+  private boolean clusteringScheduled;
+  private boolean clustersDirty;
+  private int clusterGeneration;
+  private int clusteredZoomLevel = -1;
+
+  /** The position of every marker, for virtualization and spatial queries. */
+  private final SpatialIndex markerIndex = new SpatialIndex();
+
+  // Virtualization, enabled while virtualized is set. Only the markers in materializedRegion, the
+  // visible region grown by virtualizationMargin, have a MarkerController. Clustering takes
+  // precedence while both are enabled.
+  private boolean virtualized;
+  private double virtualizationMargin;
+  /** South, west, north and east of the region, or null until it is first needed. */
+  @Nullable private double[] materializedRegion;
+
+  // Animations, which move the markers on the map on each frame. The stored options and the index
+  // hold where the animations end.
+  private final MarkerAnimator markerAnimator = new MarkerAnimator();
+  private final Choreographer.FrameCallback animationFrame =
+      new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+          animationFrameScheduled = false;
+          markerAnimator.onFrame(TimeUnit.NANOSECONDS.toMillis(frameTimeNanos), animationListener);
+          scheduleAnimationFrame();
+        }
+      };
+  private final MarkerAnimator.Listener animationListener =
+      new MarkerAnimator.Listener() {
+        @Override
+        public void onMarkerMoved(
+            String markerId, double latitude, double longitude, float rotation) {
+          final MarkerController controller = markerIdToController.get(markerId);
+          if (controller == null) {
+            return;
+          }
+          controller.setPosition(new LatLng(latitude, longitude));
+          if (!Float.isNaN(rotation)) {
+            controller.setRotation(rotation);
+          }
+        }
+      };
+  private boolean animationFrameScheduled;
+
+  MarkersController(MethodChannel methodChannel, BitmapDescriptorCache iconCache, float density) {
     this.markerIdToController = new HashMap<>();
     this.googleMapsMarkerIdToDartMarkerId = new HashMap<>();
+    this.markerIdToOptions = new HashMap<>();
     this.methodChannel = methodChannel;
+    this.iconCache = iconCache;
+    this.density = density;
   }
 
   void setGoogleMap(GoogleMap googleMap) {
     this.googleMap = googleMap;
   }
 
+  /**
+   * Throws an {@link IllegalArgumentException} if one of {@code markers} references an icon id that
+   * is not registered, so that an update can be rejected before any of it is applied.
+   */
+  void checkIcons(List<Object> markers) {
+    if (markers == null) {
+      return;
+    }
+    for (Object marker : markers) {
+      if (marker != null) {
+        iconCache.checkIcon(((Map<?, ?>) marker).get("icon"));
+      }
+    }
+  }
+
   void addMarkers(List<Object> markersToAdd) {
     if (markersToAdd != null) {
       for (Object markerToAdd : markersToAdd) {
@@ -55,12 +144,456 @@ class MarkersController {
         continue;
       }
       String markerId = (String) rawMarkerId;
-      final MarkerController markerController = markerIdToController.remove(markerId);
-      if (markerController != null) {
-        markerController.remove();
-        googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
+      markerAnimator.cancel(markerId);
+      markerIdToOptions.remove(markerId);
+      markerIndex.remove(markerId);
+      removeMarkerFromMap(markerId);
+      invalidateClusters();
+    }
+  }
+
+  /** Applies a {@link MarkerBulkUpdate} to existing markers, skipping unknown marker ids. */
+  void bulkUpdateMarkers(byte[] data) {
+    final BulkUpdateVisitor visitor = new BulkUpdateVisitor();
+    MarkerBulkUpdate.decode(data, visitor);
+    if (visitor.positionsChanged) {
+      invalidateClusters();
+    }
+  }
+
+  private final class BulkUpdateVisitor implements MarkerBulkUpdate.Visitor {
+    boolean positionsChanged;
+
+    @Override
+    public void visit(MarkerBulkUpdate.Entry entry) {
+      @SuppressWarnings("unchecked")
+      final Map<String, Object> options =
+          (Map<String, Object>) markerIdToOptions.get(entry.markerId);
+      if (options == null) {
+        return;
+      }
+      // The stored options are kept current for markers that are later (re)added to the map.
+      final MarkerController controller = markerIdToController.get(entry.markerId);
+      if (entry.has(MarkerBulkUpdate.FIELD_POSITION)) {
+        markerAnimator.cancel(entry.markerId);
+        options.put("position", Arrays.asList(entry.latitude, entry.longitude));
+        positionsChanged = true;
+        markerIndex.put(entry.markerId, entry.latitude, entry.longitude);
+        if (controller != null) {
+          controller.setPosition(new LatLng(entry.latitude, entry.longitude));
+        }
+      }
+      if (entry.has(MarkerBulkUpdate.FIELD_ROTATION)) {
+        options.put("rotation", (double) entry.rotation);
+        if (controller != null) {
+          controller.setRotation(entry.rotation);
+        }
+      }
+      if (entry.has(MarkerBulkUpdate.FIELD_ALPHA)) {
+        options.put("alpha", (double) entry.alpha);
+        if (controller != null) {
+          controller.setAlpha(entry.alpha);
+        }
+      }
+      if (entry.has(MarkerBulkUpdate.FIELD_VISIBLE)) {
+        options.put("visible", entry.visible);
+        if (controller != null) {
+          controller.setVisible(entry.visible);
+        }
+      }
+      if (entry.has(MarkerBulkUpdate.FIELD_Z_INDEX)) {
+        options.put("zIndex", (double) entry.zIndex);
+        if (controller != null) {
+          controller.setZIndex(entry.zIndex);
+        }
+      }
+      if (entry.has(MarkerBulkUpdate.FIELD_ANCHOR)) {
+        options.put("anchor", Arrays.asList((double) entry.anchorU, (double) entry.anchorV));
+        if (controller != null) {
+          controller.setAnchor(entry.anchorU, entry.anchorV);
+        }
+      }
+      if (entry.has(MarkerBulkUpdate.FIELD_ICON)) {
+        final Object icon = Arrays.asList("registered", entry.iconId);
+        options.put("icon", icon);
+        if (controller != null) {
+          controller.setIcon(iconCache.get(icon));
+        }
+      }
+      if (entry.has(MarkerBulkUpdate.FIELD_POSITION)) {
+        materializeIfInRegion(entry.markerId);
+      }
+    }
+  }
+
+  /**
+   * Starts animating markers from where they are shown through the keyframes of {@code animations},
+   * each of which has a {@code markerId}. Unknown marker ids are skipped.
+   *
+   * <p>The markers are moved on the map on each frame until their last keyframe, which becomes
+   * their position right away for clustering, virtualization and queries. Changing the position of
+   * a marker otherwise stops its animation.
+   */
+  void animateMarkers(List<Object> animations) {
+    if (animations == null) {
+      return;
+    }
+    final long now = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    for (Object animation : animations) {
+      final String markerId = getMarkerId(animation);
+      @SuppressWarnings("unchecked")
+      final Map<String, Object> options = (Map<String, Object>) markerIdToOptions.get(markerId);
+      if (options == null) {
+        continue;
+      }
+      final List<MarkerAnimator.Keyframe> keyframes = Convert.toMarkerKeyframes(animation);
+      if (keyframes.isEmpty()) {
+        continue;
+      }
+      double[] from = markerAnimator.getPosition(markerId, now);
+      final Object rotation = options.get("rotation");
+      if (from == null) {
+        final List<?> position = getPosition(options);
+        if (position == null) {
+          continue;
+        }
+        from =
+            new double[] {
+              ((Number) position.get(0)).doubleValue(),
+              ((Number) position.get(1)).doubleValue(),
+              Double.NaN
+            };
+      }
+      if (Double.isNaN(from[2])) {
+        from[2] = rotation != null ? ((Number) rotation).doubleValue() : 0;
+      }
+      markerAnimator.start(markerId, from[0], from[1], (float) from[2], keyframes, now);
+      final MarkerAnimator.Keyframe last = keyframes.get(keyframes.size() - 1);
+      options.put("position", Arrays.asList(last.latitude, last.longitude));
+      for (int i = keyframes.size() - 1; i >= 0; i--) {
+        if (!Float.isNaN(keyframes.get(i).rotation)) {
+          options.put("rotation", (double) keyframes.get(i).rotation);
+          break;
+        }
+      }
+      markerIndex.put(markerId, last.latitude, last.longitude);
+      materializeIfInRegion(markerId);
+    }
+    invalidateClusters();
+    scheduleAnimationFrame();
+  }
+
+  private void scheduleAnimationFrame() {
+    if (animationFrameScheduled || !markerAnimator.isRunning()) {
+      return;
+    }
+    animationFrameScheduled = true;
+    Choreographer.getInstance().postFrameCallback(animationFrame);
+  }
+
+  private void removeMarkerFromMap(String markerId) {
+    final MarkerController markerController = markerIdToController.remove(markerId);
+    if (markerController != null) {
+      markerController.remove();
+      googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
+    }
+  }
+
+  /**
+   * Enables clustering with {@code options}, or disables it if {@code options} is null.
+   *
+   * <p>While clustering, markers close to each other on screen are replaced by a single cluster
+   * marker. Clusters are computed on a background thread when markers change and when the camera
+   * settles at a new zoom level.
+   */
+  void setClusterOptions(@Nullable MarkerClusterer.Options options) {
+    clusterOptions = options;
+    if (options == null) {
+      clusterGeneration++;
+      removeClusterMarkers();
+      if (virtualized) {
+        updateMaterializedMarkers();
+        return;
+      }
+      for (Object marker : markerIdToOptions.values()) {
+        if (!markerIdToController.containsKey(getMarkerId(marker))) {
+          addMarkerToMap(marker);
+        }
+      }
+      return;
+    }
+    if (clusterIcons == null) {
+      clusterIcons = new ClusterIconFactory(density, options.color);
+      clusterExecutor = Executors.newSingleThreadExecutor();
+      mainHandler = new Handler(Looper.getMainLooper());
+    } else {
+      clusterIcons.setColor(options.color);
+      for (Map.Entry<String, Marker> entry : clusterIdToMarker.entrySet()) {
+        final MarkerClusterer.Cluster cluster =
+            googleMapsMarkerIdToCluster.get(entry.getValue().getId());
+        entry.getValue().setIcon(clusterIcons.getIcon(cluster.markerIds.size()));
+      }
+    }
+    invalidateClusters();
+  }
+
+  /**
+   * Enables or disables virtualization.
+   *
+   * <p>While virtualized, only the markers inside the visible region, grown on each side by {@code
+   * margin} times its size, are added to the map. The region is updated when the camera settles,
+   * adding and removing only the markers that entered or left it.
+   */
+  void setVirtualization(boolean enabled, double margin) {
+    final boolean wasVirtualized = virtualized;
+    virtualized = enabled;
+    virtualizationMargin = Math.max(0, margin);
+    materializedRegion = null;
+    if (enabled) {
+      updateMaterializedMarkers();
+    } else if (wasVirtualized && clusterOptions == null) {
+      for (Object marker : markerIdToOptions.values()) {
+        if (!markerIdToController.containsKey(getMarkerId(marker))) {
+          addMarkerToMap(marker);
+        }
+      }
+    }
+  }
+
+  /**
+   * Reclusters the markers if the camera settled at another zoom level, or materializes the markers
+   * of the new region while virtualized.
+   */
+  void onCameraIdle() {
+    if (virtualized && clusterOptions == null && googleMap != null) {
+      materializedRegion = null;
+      updateMaterializedMarkers();
+      return;
+    }
+    if (clusterOptions == null || googleMap == null) {
+      return;
+    }
+    if ((int) Math.floor(googleMap.getCameraPosition().zoom) != clusteredZoomLevel) {
+      scheduleClustering();
+    }
+  }
+
+  void dispose() {
+    markerAnimator.clear();
+    if (animationFrameScheduled) {
+      Choreographer.getInstance().removeFrameCallback(animationFrame);
+      animationFrameScheduled = false;
+    }
+    clusterGeneration++;
+    if (clusterExecutor != null) {
+      clusterExecutor.shutdownNow();
+    }
+    if (mainHandler != null) {
+      mainHandler.removeCallbacksAndMessages(null);
+    }
+  }
+
+  private void invalidateClusters() {
+    if (clusterOptions == null) {
+      return;
+    }
+    clustersDirty = true;
+    scheduleClustering();
+  }
+
+  /** Clusters once per main thread message, however many markers changed. */
+  private void scheduleClustering() {
+    if (clusteringScheduled) {
+      return;
+    }
+    clusteringScheduled = true;
+    mainHandler.post(
+        new Runnable() {
+          @Override
+          public void run() {
+            clusteringScheduled = false;
+            startClustering();
+          }
+        });
+  }
+
+  private void startClustering() {
+    final MarkerClusterer.Options options = clusterOptions;
+    if (options == null || googleMap == null) {
+      return;
+    }
+    final float zoom = googleMap.getCameraPosition().zoom;
+    final String[] markerIds = new String[markerIdToOptions.size()];
+    final double[] latLngs = new double[markerIds.length * 2];
+    int count = 0;
+    for (Map.Entry<String, Object> entry : markerIdToOptions.entrySet()) {
+      final List<?> position = getPosition(entry.getValue());
+      if (position == null) {
+        continue;
+      }
+      markerIds[count] = entry.getKey();
+      latLngs[2 * count] = ((Number) position.get(0)).doubleValue();
+      latLngs[2 * count + 1] = ((Number) position.get(1)).doubleValue();
+      count++;
+    }
+    final String[] clusteredIds =
+        count == markerIds.length ? markerIds : Arrays.copyOf(markerIds, count);
+    final int generation = ++clusterGeneration;
+    clustersDirty = false;
+    clusteredZoomLevel = (int) Math.floor(zoom);
+    clusterExecutor.execute(
+        new Runnable() {
+          @Override
+          public void run() {
+            final List<MarkerClusterer.Cluster> clusters =
+                MarkerClusterer.cluster(clusteredIds, latLngs, zoom, options);
+            mainHandler.post(
+                new Runnable() {
+                  @Override
+                  public void run() {
+                    if (generation == clusterGeneration && !clustersDirty) {
+                      applyClusters(clusters);
+                    }
+                  }
+                });
+          }
+        });
+  }
+
+  /** Updates the markers on the map to match {@code clusters}, reusing existing ones. */
+  private void applyClusters(List<MarkerClusterer.Cluster> clusters) {
+    final Set<String> singleMarkerIds = new HashSet<>();
+    final Map<String, MarkerClusterer.Cluster> groups = new HashMap<>();
+    for (MarkerClusterer.Cluster cluster : clusters) {
+      if (cluster.isSingleMarker()) {
+        singleMarkerIds.add(cluster.id);
+      } else {
+        groups.put(cluster.id, cluster);
       }
     }
+    for (String markerId : new ArrayList<>(markerIdToController.keySet())) {
+      if (!singleMarkerIds.contains(markerId) && markerIdToOptions.containsKey(markerId)) {
+        removeMarkerFromMap(markerId);
+      }
+    }
+    for (String markerId : singleMarkerIds) {
+      if (!markerIdToController.containsKey(markerId)) {
+        addMarkerToMap(markerIdToOptions.get(markerId));
+      }
+    }
+    final Iterator<Map.Entry<String, Marker>> iterator = clusterIdToMarker.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<String, Marker> entry = iterator.next();
+      final Marker marker = entry.getValue();
+      final MarkerClusterer.Cluster previous = googleMapsMarkerIdToCluster.get(marker.getId());
+      final MarkerClusterer.Cluster cluster = groups.remove(entry.getKey());
+      if (cluster == null) {
+        googleMapsMarkerIdToCluster.remove(marker.getId());
+        marker.remove();
+        iterator.remove();
+        continue;
+      }
+      marker.setPosition(new LatLng(cluster.latitude, cluster.longitude));
+      if (previous.markerIds.size() != cluster.markerIds.size()) {
+        marker.setIcon(clusterIcons.getIcon(cluster.markerIds.size()));
+      }
+      googleMapsMarkerIdToCluster.put(marker.getId(), cluster);
+    }
+    for (MarkerClusterer.Cluster cluster : groups.values()) {
+      final Marker marker =
+          googleMap.addMarker(
+              new MarkerOptions()
+                  .position(new LatLng(cluster.latitude, cluster.longitude))
+                  .icon(clusterIcons.getIcon(cluster.markerIds.size()))
+                  .anchor(0.5f, 0.5f));
+      clusterIdToMarker.put(cluster.id, marker);
+      googleMapsMarkerIdToCluster.put(marker.getId(), cluster);
+    }
+  }
+
+  /** Adds the markers in the region to the map and removes the others. */
+  private void updateMaterializedMarkers() {
+    final double[] region = getMaterializedRegion();
+    if (region == null || clusterOptions != null) {
+      return;
+    }
+    final Set<String> markerIds = new HashSet<>();
+    markerIndex.query(region[0], region[1], region[2], region[3], markerIds);
+    for (String markerId : new ArrayList<>(markerIdToController.keySet())) {
+      if (!markerIds.contains(markerId)) {
+        removeMarkerFromMap(markerId);
+      }
+    }
+    for (String markerId : markerIds) {
+      if (!markerIdToController.containsKey(markerId)) {
+        addMarkerToMap(markerIdToOptions.get(markerId));
+      }
+    }
+  }
+
+  /** Adds or removes a virtualized marker whose position changed. */
+  private void materializeIfInRegion(String markerId) {
+    if (!virtualized || clusterOptions != null) {
+      return;
+    }
+    final double[] region = getMaterializedRegion();
+    final SpatialIndex.Item item = markerIndex.get(markerId);
+    final boolean inRegion =
+        region != null
+            && item != null
+            && item.intersects(region[0], region[1], region[2], region[3]);
+    final boolean onMap = markerIdToController.containsKey(markerId);
+    if (inRegion && !onMap) {
+      addMarkerToMap(markerIdToOptions.get(markerId));
+    } else if (!inRegion && onMap) {
+      removeMarkerFromMap(markerId);
+    }
+  }
+
+  /**
+   * Adds the ids of the markers in the region, including those not on the map, to {@code result}.
+   */
+  void queryRegion(double south, double west, double north, double east, Set<String> result) {
+    markerIndex.query(south, west, north, east, result);
+  }
+
+  /** Adds the {@code count} markers nearest to the point to {@code result}, nearest first. */
+  void queryNearest(
+      double latitude, double longitude, int count, List<SpatialIndex.Neighbor> result) {
+    markerIndex.nearest(latitude, longitude, count, result);
+  }
+
+  @Nullable
+  private double[] getMaterializedRegion() {
+    if (materializedRegion == null && googleMap != null) {
+      final LatLngBounds bounds = googleMap.getProjection().getVisibleRegion().latLngBounds;
+      materializedRegion =
+          SpatialIndex.grow(
+              bounds.southwest.latitude,
+              bounds.southwest.longitude,
+              bounds.northeast.latitude,
+              bounds.northeast.longitude,
+              virtualizationMargin);
+    }
+    return materializedRegion;
+  }
+
+  private void indexMarker(String markerId, Object marker) {
+    final List<?> position = getPosition(marker);
+    if (position != null) {
+      markerIndex.put(
+          markerId,
+          ((Number) position.get(0)).doubleValue(),
+          ((Number) position.get(1)).doubleValue());
+    }
+  }
+
+  private void removeClusterMarkers() {
+    for (Marker marker : clusterIdToMarker.values()) {
+      marker.remove();
+    }
+    clusterIdToMarker.clear();
+    googleMapsMarkerIdToCluster.clear();
   }
 
   void showMarkerInfoWindow(String markerId, MethodChannel.Result result) {
@@ -95,6 +628,7 @@ class MarkersController {
   boolean onMarkerTap(String googleMarkerId) {
     String markerId = googleMapsMarkerIdToDartMarkerId.get(googleMarkerId);
     if (markerId == null) {
+      onClusterTap(googleMarkerId);
       return false;
     }
     methodChannel.invokeMethod("marker#onTap", Convert.markerIdToJson(markerId));
@@ -105,11 +639,32 @@ class MarkersController {
     return false;
   }
 
+  private void onClusterTap(String googleMarkerId) {
+    final MarkerClusterer.Cluster cluster = googleMapsMarkerIdToCluster.get(googleMarkerId);
+    if (cluster == null) {
+      return;
+    }
+    final Map<String, Object> data = new HashMap<>();
+    data.put("clusterId", cluster.id);
+    data.put("position", Convert.latLngToJson(new LatLng(cluster.latitude, cluster.longitude)));
+    data.put("markerIds", cluster.markerIds);
+    methodChannel.invokeMethod("cluster#onTap", data);
+  }
+
   void onMarkerDragEnd(String googleMarkerId, LatLng latLng) {
     String markerId = googleMapsMarkerIdToDartMarkerId.get(googleMarkerId);
     if (markerId == null) {
       return;
     }
+    // Markers are rebuilt from their stored options when they come back into the visible region
+    // or out of a cluster, so the dragged position must be stored too.
+    @SuppressWarnings("unchecked")
+    final Map<String, Object> options = (Map<String, Object>) markerIdToOptions.get(markerId);
+    if (options != null) {
+      options.put("position", Arrays.asList(latLng.latitude, latLng.longitude));
+    }
+    markerIndex.put(markerId, latLng.latitude, latLng.longitude);
+    invalidateClusters();
     final Map<String, Object> data = new HashMap<>();
     data.put("markerId", markerId);
     data.put("position", Convert.latLngToJson(latLng));
@@ -128,10 +683,23 @@ class MarkersController {
     if (marker == null) {
       return;
     }
+    final String markerId = requireMarkerId(marker);
+    indexMarker(markerId, marker);
+    if (clusterOptions != null || virtualized) {
+      markerIdToOptions.put(markerId, marker);
+      materializeIfInRegion(markerId);
+      invalidateClusters();
+      return;
+    }
+    addMarkerToMap(marker);
+  }
+
+  private void addMarkerToMap(Object marker) {
     MarkerBuilder markerBuilder = new MarkerBuilder();
-    String markerId = Convert.interpretMarkerOptions(marker, markerBuilder);
+    String markerId = Convert.interpretMarkerOptions(marker, markerBuilder, iconCache);
     MarkerOptions options = markerBuilder.build();
     addMarker(markerId, options, markerBuilder.consumeTapEvents());
+    markerIdToOptions.put(markerId, marker);
   }
 
   private void addMarker(String markerId, MarkerOptions markerOptions, boolean consumeTapEvents) {
@@ -146,9 +714,21 @@ class MarkersController {
       return;
     }
     String markerId = getMarkerId(marker);
+    final Object previous = markerIdToOptions.get(markerId);
+    if (previous == null) {
+      return;
+    }
+    markerIdToOptions.put(markerId, marker);
     MarkerController markerController = markerIdToController.get(markerId);
     if (markerController != null) {
-      Convert.interpretMarkerOptions(marker, markerController);
+      Convert.interpretMarkerOptions(marker, markerController, iconCache);
+    }
+    final List<?> position = getPosition(marker);
+    if (position != null && !position.equals(getPosition(previous))) {
+      markerAnimator.cancel(markerId);
+      indexMarker(markerId, marker);
+      materializeIfInRegion(markerId);
+      invalidateClusters();
     }
   }
 
@@ -157,4 +737,16 @@ class MarkersController {
     Map<String, Object> markerMap = (Map<String, Object>) marker;
     return (String) markerMap.get("markerId");
   }
+
+  private static String requireMarkerId(Object marker) {
+    final String markerId = getMarkerId(marker);
+    if (markerId == null) {
+      throw new IllegalArgumentException("markerId was null");
+    }
+    return markerId;
+  }
+
+  private static List<?> getPosition(Object marker) {
+    return (List<?>) ((Map<?, ?>) marker).get("position");
+  }
 }
@@ -11,11 +11,13 @@ import io.flutter.plugin.common.MethodChannel;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class PolygonsController {
 
   private final Map<String, PolygonController> polygonIdToController;
   private final Map<String, String> googleMapsPolygonIdToDartPolygonId;
+  private final SpatialIndex polygonIndex = new SpatialIndex();
   private final MethodChannel methodChannel;
   private final float density;
   private GoogleMap googleMap;
@@ -61,9 +63,21 @@ class PolygonsController {
         polygonController.remove();
         googleMapsPolygonIdToDartPolygonId.remove(polygonController.getGoogleMapsPolygonId());
       }
+      polygonIndex.remove(polygonId);
     }
   }
 
+  /** Adds the ids of the polygons intersecting the region to {@code result}. */
+  void queryRegion(double south, double west, double north, double east, Set<String> result) {
+    polygonIndex.query(south, west, north, east, result);
+  }
+
+  /** Adds the {@code count} polygons nearest to the point to {@code result}, nearest first. */
+  void queryNearest(
+      double latitude, double longitude, int count, List<SpatialIndex.Neighbor> result) {
+    polygonIndex.nearest(latitude, longitude, count, result);
+  }
+
   boolean onPolygonTap(String googlePolygonId) {
     String polygonId = googleMapsPolygonIdToDartPolygonId.get(googlePolygonId);
     if (polygonId == null) {
@@ -85,6 +99,7 @@ class PolygonsController {
     String polygonId = Convert.interpretPolygonOptions(polygon, polygonBuilder);
     PolygonOptions options = polygonBuilder.build();
     addPolygon(polygonId, options, polygonBuilder.consumeTapEvents());
+    polygonIndex.put(polygonId, new Geometry.Path(options.getPoints(), true));
   }
 
   private void addPolygon(
@@ -103,6 +118,10 @@ class PolygonsController {
     PolygonController polygonController = polygonIdToController.get(polygonId);
     if (polygonController != null) {
       Convert.interpretPolygonOptions(polygon, polygonController);
+      final Object points = ((Map<?, ?>) polygon).get("points");
+      if (points != null) {
+        polygonIndex.put(polygonId, new Geometry.Path(Convert.toPoints(points), true));
+      }
     }
   }
 
@@ -0,0 +1,272 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+/**
+ * Reduces the number of points of a line while keeping its shape within a tolerance.
+ *
+ * <p>Points are simplified in Web Mercator world coordinates at zoom level 0, where the world is
+ * 256 logical pixels wide, so a tolerance of {@code t} pixels at zoom level {@code z} is {@code t /
+ * 2^z} world units. The first and last points are always kept. This class only does arithmetic and
+ * is safe to run on a background thread.
+ */
+final class PolylineSimplifier {
+  static final String ALGORITHM_DOUGLAS_PEUCKER = "douglasPeucker";
+  static final String ALGORITHM_VISVALINGAM = "visvalingam";
+
+  private static final double WORLD_SIZE = 256;
+
+  /** How a polyline is simplified for display. */
+  static final class Options {
+    final String algorithm;
+    /** The largest deviation from the original line, in logical pixels on screen. */
+    final double tolerancePx;
+
+    Options(String algorithm, double tolerancePx) {
+      if (!ALGORITHM_DOUGLAS_PEUCKER.equals(algorithm)
+          && !ALGORITHM_VISVALINGAM.equals(algorithm)) {
+        throw new IllegalArgumentException("Unknown simplification algorithm: " + algorithm);
+      }
+      if (tolerancePx <= 0) {
+        throw new IllegalArgumentException("Tolerance must be positive, was " + tolerancePx);
+      }
+      this.algorithm = algorithm;
+      this.tolerancePx = tolerancePx;
+    }
+
+    /** Returns the tolerance in world units at {@code zoomLevel}. */
+    double worldTolerance(int zoomLevel) {
+      return tolerancePx / Math.pow(2, zoomLevel);
+    }
+  }
+
+  private PolylineSimplifier() {}
+
+  /** Projects latitude/longitude pairs to world x/y pairs at zoom level 0. */
+  static double[] project(double[] latLngs) {
+    final double[] points = new double[latLngs.length];
+    for (int i = 0; i < latLngs.length; i += 2) {
+      points[i] = MarkerClusterer.projectX(latLngs[i + 1], WORLD_SIZE);
+      points[i + 1] = MarkerClusterer.projectY(latLngs[i], WORLD_SIZE);
+    }
+    return points;
+  }
+
+  /**
+   * Returns the indices of the points of {@code points}, packed x/y pairs, to keep, in increasing
+   * order.
+   */
+  static int[] simplify(double[] points, double tolerance, String algorithm) {
+    final int count = points.length / 2;
+    if (count <= 2) {
+      return allIndices(count);
+    }
+    final boolean[] keep =
+        ALGORITHM_VISVALINGAM.equals(algorithm)
+            ? visvalingam(points, count, tolerance)
+            : douglasPeucker(points, count, tolerance);
+    int kept = 0;
+    for (boolean k : keep) {
+      if (k) {
+        kept++;
+      }
+    }
+    final int[] indices = new int[kept];
+    int j = 0;
+    for (int i = 0; i < count; i++) {
+      if (keep[i]) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  /**
+   * Keeps the point farthest from the segment between the ends of each range if it is farther than
+   * {@code tolerance}, and recurses on both halves. Uses an explicit stack so that long tracks do
+   * not overflow the thread stack.
+   */
+  private static boolean[] douglasPeucker(double[] points, int count, double tolerance) {
+    final boolean[] keep = new boolean[count];
+    keep[0] = true;
+    keep[count - 1] = true;
+    final double toleranceSquared = tolerance * tolerance;
+    final int[] stack = new int[2 * count];
+    int top = 0;
+    stack[top++] = 0;
+    stack[top++] = count - 1;
+    while (top > 0) {
+      final int end = stack[--top];
+      final int start = stack[--top];
+      double maxDistance = -1;
+      int farthest = -1;
+      for (int i = start + 1; i < end; i++) {
+        final double distance = segmentDistanceSquared(points, i, start, end);
+        if (distance > maxDistance) {
+          maxDistance = distance;
+          farthest = i;
+        }
+      }
+      if (farthest != -1 && maxDistance > toleranceSquared) {
+        keep[farthest] = true;
+        stack[top++] = start;
+        stack[top++] = farthest;
+        stack[top++] = farthest;
+        stack[top++] = end;
+      }
+    }
+    return keep;
+  }
+
+  /**
+   * Repeatedly removes the point forming the smallest triangle with its neighbours while that area
+   * is below {@code tolerance} squared. The interior points are kept in an indexed binary heap of
+   * primitive arrays so that the areas of the neighbours can be updated in place.
+   */
+  private static boolean[] visvalingam(double[] points, int count, double tolerance) {
+    final boolean[] keep = new boolean[count];
+    final int[] previous = new int[count];
+    final int[] next = new int[count];
+    for (int i = 0; i < count; i++) {
+      keep[i] = true;
+      previous[i] = i - 1;
+      next[i] = i + 1;
+    }
+    final AreaHeap heap = new AreaHeap(count);
+    for (int i = 1; i < count - 1; i++) {
+      heap.add(i, triangleArea(points, i - 1, i, i + 1));
+    }
+    final double threshold = tolerance * tolerance;
+    while (heap.size > 0 && heap.minArea() < threshold) {
+      final double area = heap.minArea();
+      final int vertex = heap.removeMin();
+      keep[vertex] = false;
+      final int before = previous[vertex];
+      final int after = next[vertex];
+      next[before] = after;
+      previous[after] = before;
+      // Areas never decrease, so that removing a point cannot make earlier removals wrong.
+      if (before > 0) {
+        heap.update(before, Math.max(area, triangleArea(points, previous[before], before, after)));
+      }
+      if (after < count - 1) {
+        heap.update(after, Math.max(area, triangleArea(points, before, after, next[after])));
+      }
+    }
+    return keep;
+  }
+
+  private static double segmentDistanceSquared(double[] points, int i, int start, int end) {
+    final double x = points[2 * i];
+    final double y = points[2 * i + 1];
+    final double startX = points[2 * start];
+    final double startY = points[2 * start + 1];
+    final double dx = points[2 * end] - startX;
+    final double dy = points[2 * end + 1] - startY;
+    final double lengthSquared = dx * dx + dy * dy;
+    double t = lengthSquared == 0 ? 0 : ((x - startX) * dx + (y - startY) * dy) / lengthSquared;
+    t = Math.max(0, Math.min(1, t));
+    final double distanceX = x - (startX + t * dx);
+    final double distanceY = y - (startY + t * dy);
+    return distanceX * distanceX + distanceY * distanceY;
+  }
+
+  private static double triangleArea(double[] points, int a, int b, int c) {
+    return Math.abs(
+            (points[2 * b] - points[2 * a]) * (points[2 * c + 1] - points[2 * a + 1])
+                - (points[2 * c] - points[2 * a]) * (points[2 * b + 1] - points[2 * a + 1]))
+        / 2;
+  }
+
+  private static int[] allIndices(int count) {
+    final int[] indices = new int[count];
+    for (int i = 0; i < count; i++) {
+      indices[i] = i;
+    }
+    return indices;
+  }
+
+  /** A min-heap of point indices ordered by area, which knows where each index is. */
+  private static final class AreaHeap {
+    final int[] heap;
+    final int[] positions;
+    final double[] areas;
+    int size;
+
+    AreaHeap(int capacity) {
+      heap = new int[capacity];
+      positions = new int[capacity];
+      areas = new double[capacity];
+    }
+
+    double minArea() {
+      return areas[heap[0]];
+    }
+
+    void add(int index, double area) {
+      areas[index] = area;
+      heap[size] = index;
+      positions[index] = size;
+      siftUp(size++);
+    }
+
+    int removeMin() {
+      final int min = heap[0];
+      size--;
+      if (size > 0) {
+        move(heap[size], 0);
+        siftDown(0);
+      }
+      return min;
+    }
+
+    void update(int index, double area) {
+      final double old = areas[index];
+      areas[index] = area;
+      if (area < old) {
+        siftUp(positions[index]);
+      } else {
+        siftDown(positions[index]);
+      }
+    }
+
+    private void siftUp(int position) {
+      final int index = heap[position];
+      while (position > 0) {
+        final int parent = (position - 1) / 2;
+        if (areas[heap[parent]] <= areas[index]) {
+          break;
+        }
+        move(heap[parent], position);
+        position = parent;
+      }
+      move(index, position);
+    }
+
+    private void siftDown(int position) {
+      final int index = heap[position];
+      while (true) {
+        int child = 2 * position + 1;
+        if (child >= size) {
+          break;
+        }
+        if (child + 1 < size && areas[heap[child + 1]] < areas[heap[child]]) {
+          child++;
+        }
+        if (areas[index] <= areas[heap[child]]) {
+          break;
+        }
+        move(heap[child], position);
+        position = child;
+      }
+      move(index, position);
+    }
+
+    private void move(int index, int position) {
+      heap[position] = index;
+      positions[index] = position;
+    }
+  }
+}
@@ -4,25 +4,67 @@
 
 package io.flutter.plugins.googlemaps;
 
+import android.os.Handler;
+import android.os.Looper;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Polyline;
 import com.google.android.gms.maps.model.PolylineOptions;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 class PolylinesController {
+  /** Beyond this zoom level tolerances are far below a pixel of any real track. */
+  private static final int MAX_SIMPLIFIED_ZOOM_LEVEL = 21;
 
   private final Map<String, PolylineController> polylineIdToController;
   private final Map<String, String> googleMapsPolylineIdToDartPolylineId;
+  private final Map<String, LevelOfDetail> polylineIdToLevelOfDetail;
+  /** Indexes every polyline by its full points, even when simplified. */
+  private final SpatialIndex polylineIndex = new SpatialIndex();
+
   private final MethodChannel methodChannel;
   private GoogleMap googleMap;
   private final float density;
+  private ExecutorService simplificationExecutor;
+  private Handler mainHandler;
+
+  /**
+   * The full points of a simplified polyline and the points kept at each zoom level computed so
+   * far. Replaced rather than updated when the points or the simplification change.
+   */
+  private static final class LevelOfDetail {
+    final PolylineSimplifier.Options options;
+    final List<LatLng> points;
+    final Map<Integer, int[]> keptIndicesByZoomLevel = new HashMap<>();
+    final Set<Integer> pendingZoomLevels = new HashSet<>();
+    int shownZoomLevel = -1;
+    /** Only accessed on the simplification thread. */
+    double[] projectedPoints;
+
+    LevelOfDetail(PolylineSimplifier.Options options, List<LatLng> points) {
+      this.options = options;
+      this.points = points;
+    }
+
+    boolean isSameAs(PolylineSimplifier.Options options, List<LatLng> points) {
+      return this.options.algorithm.equals(options.algorithm)
+          && this.options.tolerancePx == options.tolerancePx
+          && this.points.equals(points);
+    }
+  }
 
   PolylinesController(MethodChannel methodChannel, float density) {
     this.polylineIdToController = new HashMap<>();
     this.googleMapsPolylineIdToDartPolylineId = new HashMap<>();
+    this.polylineIdToLevelOfDetail = new HashMap<>();
     this.methodChannel = methodChannel;
     this.density = density;
   }
@@ -61,9 +103,43 @@ class PolylinesController {
         polylineController.remove();
         googleMapsPolylineIdToDartPolylineId.remove(polylineController.getGoogleMapsPolylineId());
       }
+      polylineIdToLevelOfDetail.remove(polylineId);
+      polylineIndex.remove(polylineId);
+    }
+  }
+
+  /** Swaps in the points of simplified polylines for the zoom level the camera settled at. */
+  void onCameraIdle() {
+    if (polylineIdToLevelOfDetail.isEmpty() || googleMap == null) {
+      return;
+    }
+    final int zoomLevel = getZoomLevel();
+    for (Map.Entry<String, LevelOfDetail> entry : polylineIdToLevelOfDetail.entrySet()) {
+      showLevelOfDetail(entry.getKey(), entry.getValue(), zoomLevel);
+    }
+  }
+
+  void dispose() {
+    polylineIdToLevelOfDetail.clear();
+    if (simplificationExecutor != null) {
+      simplificationExecutor.shutdownNow();
+    }
+    if (mainHandler != null) {
+      mainHandler.removeCallbacksAndMessages(null);
     }
   }
 
+  /** Adds the ids of the polylines intersecting the region to {@code result}. */
+  void queryRegion(double south, double west, double north, double east, Set<String> result) {
+    polylineIndex.query(south, west, north, east, result);
+  }
+
+  /** Adds the {@code count} polylines nearest to the point to {@code result}, nearest first. */
+  void queryNearest(
+      double latitude, double longitude, int count, List<SpatialIndex.Neighbor> result) {
+    polylineIndex.nearest(latitude, longitude, count, result);
+  }
+
   boolean onPolylineTap(String googlePolylineId) {
     String polylineId = googleMapsPolylineIdToDartPolylineId.get(googlePolylineId);
     if (polylineId == null) {
@@ -81,10 +157,24 @@ class PolylinesController {
     if (polyline == null) {
       return;
     }
+    final PolylineSimplifier.Options simplification = getSimplification(polyline);
+    final Object points = getPoints(polyline);
+    final boolean simplified = simplification != null && points != null;
     PolylineBuilder polylineBuilder = new PolylineBuilder(density);
-    String polylineId = Convert.interpretPolylineOptions(polyline, polylineBuilder);
+    // Simplified polylines are added without points, which are set once simplified for the zoom
+    // level.
+    String polylineId =
+        Convert.interpretPolylineOptions(
+            simplified ? withoutPoints(polyline) : polyline, polylineBuilder);
     PolylineOptions options = polylineBuilder.build();
     addPolyline(polylineId, options, polylineBuilder.consumeTapEvents());
+    if (simplified) {
+      final List<LatLng> allPoints = Convert.toPoints(points);
+      setLevelOfDetail(polylineId, new LevelOfDetail(simplification, allPoints));
+      polylineIndex.put(polylineId, new Geometry.Path(allPoints, false));
+    } else {
+      polylineIndex.put(polylineId, new Geometry.Path(options.getPoints(), false));
+    }
   }
 
   private void addPolyline(
@@ -101,9 +191,139 @@ class PolylinesController {
     }
     String polylineId = getPolylineId(polyline);
     PolylineController polylineController = polylineIdToController.get(polylineId);
-    if (polylineController != null) {
+    if (polylineController == null) {
+      return;
+    }
+    final PolylineSimplifier.Options simplification = getSimplification(polyline);
+    final LevelOfDetail current = polylineIdToLevelOfDetail.get(polylineId);
+    final Object rawPoints = getPoints(polyline);
+    if (rawPoints != null && simplification == null) {
+      polylineIndex.put(polylineId, new Geometry.Path(Convert.toPoints(rawPoints), false));
+    }
+    if (simplification == null || (rawPoints == null && current == null)) {
       Convert.interpretPolylineOptions(polyline, polylineController);
+      if (current != null) {
+        polylineIdToLevelOfDetail.remove(polylineId);
+        if (rawPoints == null) {
+          polylineController.setPoints(current.points);
+        }
+      }
+      return;
+    }
+    Convert.interpretPolylineOptions(withoutPoints(polyline), polylineController);
+    final List<LatLng> points = rawPoints != null ? Convert.toPoints(rawPoints) : current.points;
+    if (current == null || !current.isSameAs(simplification, points)) {
+      setLevelOfDetail(polylineId, new LevelOfDetail(simplification, points));
+    }
+    if (rawPoints != null) {
+      polylineIndex.put(polylineId, new Geometry.Path(points, false));
+    }
+  }
+
+  private void setLevelOfDetail(String polylineId, LevelOfDetail levelOfDetail) {
+    if (simplificationExecutor == null) {
+      simplificationExecutor = Executors.newSingleThreadExecutor();
+      mainHandler = new Handler(Looper.getMainLooper());
+    }
+    polylineIdToLevelOfDetail.put(polylineId, levelOfDetail);
+    showLevelOfDetail(polylineId, levelOfDetail, getZoomLevel());
+  }
+
+  /**
+   * Sets the points of the polyline kept at {@code zoomLevel}, simplifying them on the background
+   * thread first if that zoom level was not shown before.
+   */
+  private void showLevelOfDetail(
+      final String polylineId, final LevelOfDetail levelOfDetail, final int zoomLevel) {
+    if (levelOfDetail.shownZoomLevel == zoomLevel) {
+      return;
+    }
+    final int[] keptIndices = levelOfDetail.keptIndicesByZoomLevel.get(zoomLevel);
+    if (keptIndices != null) {
+      final PolylineController polylineController = polylineIdToController.get(polylineId);
+      if (polylineController != null) {
+        polylineController.setPoints(select(levelOfDetail.points, keptIndices));
+        levelOfDetail.shownZoomLevel = zoomLevel;
+      }
+      return;
+    }
+    if (!levelOfDetail.pendingZoomLevels.add(zoomLevel)) {
+      return;
+    }
+    simplificationExecutor.execute(
+        new Runnable() {
+          @Override
+          public void run() {
+            if (levelOfDetail.projectedPoints == null) {
+              levelOfDetail.projectedPoints =
+                  PolylineSimplifier.project(toLatLngArray(levelOfDetail.points));
+            }
+            final int[] simplified =
+                PolylineSimplifier.simplify(
+                    levelOfDetail.projectedPoints,
+                    levelOfDetail.options.worldTolerance(zoomLevel),
+                    levelOfDetail.options.algorithm);
+            mainHandler.post(
+                new Runnable() {
+                  @Override
+                  public void run() {
+                    if (polylineIdToLevelOfDetail.get(polylineId) != levelOfDetail) {
+                      return;
+                    }
+                    levelOfDetail.pendingZoomLevels.remove(zoomLevel);
+                    levelOfDetail.keptIndicesByZoomLevel.put(zoomLevel, simplified);
+                    if (googleMap != null && getZoomLevel() == zoomLevel) {
+                      showLevelOfDetail(polylineId, levelOfDetail, zoomLevel);
+                    }
+                  }
+                });
+          }
+        });
+  }
+
+  private int getZoomLevel() {
+    final int zoomLevel = (int) Math.floor(googleMap.getCameraPosition().zoom);
+    return Math.max(0, Math.min(MAX_SIMPLIFIED_ZOOM_LEVEL, zoomLevel));
+  }
+
+  private static List<LatLng> select(List<LatLng> points, int[] indices) {
+    if (indices.length == points.size()) {
+      return points;
     }
+    final List<LatLng> selected = new ArrayList<>(indices.length);
+    for (int index : indices) {
+      selected.add(points.get(index));
+    }
+    return selected;
+  }
+
+  private static double[] toLatLngArray(List<LatLng> points) {
+    final double[] latLngs = new double[points.size() * 2];
+    int i = 0;
+    for (LatLng point : points) {
+      latLngs[i++] = point.latitude;
+      latLngs[i++] = point.longitude;
+    }
+    return latLngs;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static PolylineSimplifier.Options getSimplification(Object polyline) {
+    Map<String, Object> polylineMap = (Map<String, Object>) polyline;
+    return Convert.toSimplificationOptions(polylineMap.get("simplification"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object getPoints(Object polyline) {
+    Map<String, Object> polylineMap = (Map<String, Object>) polyline;
+    return polylineMap.get("points");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> withoutPoints(Object polyline) {
+    Map<String, Object> polylineMap = new HashMap<>((Map<String, Object>) polyline);
+    polylineMap.remove("points");
+    return polylineMap;
   }
 
   @SuppressWarnings("unchecked")
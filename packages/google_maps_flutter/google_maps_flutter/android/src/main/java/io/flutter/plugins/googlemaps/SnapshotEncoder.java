@@ -0,0 +1,169 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Encodes map snapshots on a background thread and replies to {@code map#takeSnapshot} on the main
+ * thread, either with the encoded bytes or with the path of the file they were written to.
+ */
+final class SnapshotEncoder {
+  static final String FORMAT_PNG = "png";
+  static final String FORMAT_JPEG = "jpeg";
+  static final String FORMAT_WEBP = "webp";
+
+  private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
+  /** How a snapshot is encoded. */
+  static final class Options {
+    static final Options DEFAULT = new Options(FORMAT_PNG, 100, 1, null);
+
+    final String format;
+    /** Ignored by PNG, which is lossless. */
+    final int quality;
+    /** The factor applied to the width and height of the snapshot, in (0, 1]. */
+    final float scale;
+    /** The file to write the snapshot to, or null to return its bytes. */
+    @Nullable final String path;
+
+    Options(String format, int quality, float scale, @Nullable String path) {
+      if (!FORMAT_PNG.equals(format)
+          && !FORMAT_JPEG.equals(format)
+          && !FORMAT_WEBP.equals(format)) {
+        throw new IllegalArgumentException("Unknown snapshot format: " + format);
+      }
+      if (quality < 0 || quality > 100) {
+        throw new IllegalArgumentException("Quality must be between 0 and 100, was " + quality);
+      }
+      if (!(scale > 0 && scale <= 1)) {
+        throw new IllegalArgumentException("Scale must be in (0, 1], was " + scale);
+      }
+      this.format = format;
+      this.quality = quality;
+      this.scale = scale;
+      this.path = path;
+    }
+
+    int scaledSize(int size) {
+      return Math.max(1, Math.round(size * scale));
+    }
+  }
+
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private ExecutorService executor;
+
+  /** Encodes {@code bitmap}, which is recycled afterwards, and replies to {@code result}. */
+  void encode(final Bitmap bitmap, final Options options, final MethodChannel.Result result) {
+    if (executor == null) {
+      executor = Executors.newSingleThreadExecutor();
+    }
+    try {
+      executor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              try {
+                final Object encoded = encode(bitmap, options);
+                postSuccess(result, encoded);
+              } catch (IOException e) {
+                postError(result, e);
+              } finally {
+                bitmap.recycle();
+              }
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      bitmap.recycle();
+      result.error("Snapshot failed", "The map was disposed", null);
+    }
+  }
+
+  /** Lets snapshots being encoded finish, and rejects new ones. */
+  void dispose() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  private static Object encode(Bitmap bitmap, Options options) throws IOException {
+    final int width = options.scaledSize(bitmap.getWidth());
+    final int height = options.scaledSize(bitmap.getHeight());
+    Bitmap scaled = bitmap;
+    if (width != bitmap.getWidth() || height != bitmap.getHeight()) {
+      scaled = Bitmap.createScaledBitmap(bitmap, width, height, true);
+    }
+    try {
+      if (options.path == null) {
+        // PNG compresses a map to roughly a quarter of its pixel data.
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream(width * height);
+        compress(scaled, options, stream);
+        return stream.toByteArray();
+      }
+      final OutputStream stream =
+          new BufferedOutputStream(new FileOutputStream(options.path), FILE_BUFFER_SIZE);
+      try {
+        compress(scaled, options, stream);
+      } finally {
+        stream.close();
+      }
+      return options.path;
+    } finally {
+      if (scaled != bitmap) {
+        scaled.recycle();
+      }
+    }
+  }
+
+  private static void compress(Bitmap bitmap, Options options, OutputStream stream)
+      throws IOException {
+    if (!bitmap.compress(toCompressFormat(options.format), options.quality, stream)) {
+      throw new IOException("Unable to encode the snapshot as " + options.format);
+    }
+  }
+
+  private static Bitmap.CompressFormat toCompressFormat(String format) {
+    switch (format) {
+      case FORMAT_JPEG:
+        return Bitmap.CompressFormat.JPEG;
+      case FORMAT_WEBP:
+        return Bitmap.CompressFormat.WEBP;
+      default:
+        return Bitmap.CompressFormat.PNG;
+    }
+  }
+
+  private void postSuccess(final MethodChannel.Result result, final Object encoded) {
+    mainHandler.post(
+        new Runnable() {
+          @Override
+          public void run() {
+            result.success(encoded);
+          }
+        });
+  }
+
+  private void postError(final MethodChannel.Result result, final IOException e) {
+    mainHandler.post(
+        new Runnable() {
+          @Override
+          public void run() {
+            result.error("Snapshot failed", e.getMessage(), null);
+          }
+        });
+  }
+}
@@ -0,0 +1,414 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Finds the items whose latitude/longitude bounding boxes intersect a region, using a uniform grid
+ * of cells a fixed number of degrees wide.
+ *
+ * <p>Each item is stored in every cell its bounding box overlaps, so queries only look at the items
+ * of the cells overlapping the region, or at every item when the region covers more cells than
+ * there are occupied ones. Items covering many cells, such as large polygons, are kept in a
+ * separate list that every query checks. Bounding boxes whose west is greater than their east cross
+ * the antimeridian.
+ *
+ * <p>Items other than points may have a {@link Shape}, which queries check after their bounding box
+ * and which measures the distance to them when looking for the nearest items.
+ *
+ * <p>This class is not thread-safe and must be used from the platform thread.
+ */
+final class SpatialIndex {
+  static final double DEFAULT_CELL_DEGREES = 0.25;
+
+  /** Items overlapping more cells than this are kept out of the grid. */
+  private static final int MAX_CELLS_PER_ITEM = 64;
+
+  /** The exact geometry of an item that is not a point. */
+  interface Shape {
+    /** Returns the bounding box as south, west, north and east. */
+    double[] getBounds();
+
+    /** Called only for regions intersecting the bounding box and not crossing the antimeridian. */
+    boolean intersects(double south, double west, double north, double east);
+
+    double distanceMeters(double latitude, double longitude);
+  }
+
+  /** An indexed item and its bounding box. */
+  static final class Item {
+    final String id;
+    final double south;
+    final double west;
+    final double north;
+    final double east;
+    @Nullable final Shape shape;
+
+    Item(String id, double south, double west, double north, double east, @Nullable Shape shape) {
+      this.id = id;
+      this.south = south;
+      this.west = west;
+      this.north = north;
+      this.east = east;
+      this.shape = shape;
+    }
+
+    boolean intersects(double south, double west, double north, double east) {
+      if (this.south > north || this.north < south) {
+        return false;
+      }
+      final boolean boundsIntersect =
+          this.west <= this.east
+              ? this.west <= east && this.east >= west
+              : this.west <= east || this.east >= west;
+      return boundsIntersect && (shape == null || shape.intersects(south, west, north, east));
+    }
+
+    double distanceMeters(double latitude, double longitude) {
+      return shape == null
+          ? Geometry.distanceMeters(latitude, longitude, south, west)
+          : shape.distanceMeters(latitude, longitude);
+    }
+  }
+
+  /** An item found by {@link #nearest}, and its distance. */
+  static final class Neighbor {
+    final String id;
+    final double distanceMeters;
+
+    Neighbor(String id, double distanceMeters) {
+      this.id = id;
+      this.distanceMeters = distanceMeters;
+    }
+  }
+
+  static final Comparator<Neighbor> NEAREST_FIRST =
+      new Comparator<Neighbor>() {
+        @Override
+        public int compare(Neighbor a, Neighbor b) {
+          return Double.compare(a.distanceMeters, b.distanceMeters);
+        }
+      };
+
+  private final double cellDegrees;
+  private final long columns;
+  private final long rows;
+  private final Map<String, Item> items = new HashMap<>();
+  private final Map<Long, Set<Item>> cells = new HashMap<>();
+  private final Set<Item> largeItems = new HashSet<>();
+
+  SpatialIndex() {
+    this(DEFAULT_CELL_DEGREES);
+  }
+
+  SpatialIndex(double cellDegrees) {
+    this.cellDegrees = cellDegrees;
+    this.columns = (long) Math.ceil(360 / cellDegrees);
+    this.rows = (long) Math.ceil(180 / cellDegrees);
+  }
+
+  /** Indexes a point, replacing any item with the same id. */
+  void put(String id, double latitude, double longitude) {
+    put(id, latitude, longitude, latitude, longitude);
+  }
+
+  /** Indexes a bounding box, replacing any item with the same id. */
+  void put(String id, double south, double west, double north, double east) {
+    put(new Item(id, south, west, north, east, null));
+  }
+
+  /** Indexes a shape, replacing any item with the same id. */
+  void put(String id, Shape shape) {
+    final double[] bounds = shape.getBounds();
+    put(new Item(id, bounds[0], bounds[1], bounds[2], bounds[3], shape));
+  }
+
+  private void put(Item item) {
+    final String id = item.id;
+    remove(id);
+    items.put(id, item);
+    if (cellCount(item) > MAX_CELLS_PER_ITEM) {
+      largeItems.add(item);
+      return;
+    }
+    forEachCell(item, true);
+  }
+
+  /** Removes an item. Returns whether it was indexed. */
+  boolean remove(String id) {
+    final Item item = items.remove(id);
+    if (item == null) {
+      return false;
+    }
+    if (!largeItems.remove(item)) {
+      forEachCell(item, false);
+    }
+    return true;
+  }
+
+  Item get(String id) {
+    return items.get(id);
+  }
+
+  int size() {
+    return items.size();
+  }
+
+  void clear() {
+    items.clear();
+    cells.clear();
+    largeItems.clear();
+  }
+
+  /** Adds the ids of the items intersecting the region to {@code result}. */
+  void query(double south, double west, double north, double east, Set<String> result) {
+    if (west > east) {
+      query(south, west, north, 180, result);
+      query(south, -180, north, east, result);
+      return;
+    }
+    for (Item item : largeItems) {
+      if (item.intersects(south, west, north, east)) {
+        result.add(item.id);
+      }
+    }
+    final long minX = cellX(west);
+    final long maxX = cellX(east);
+    final long minY = cellY(south);
+    final long maxY = cellY(north);
+    if ((maxX - minX + 1) * (maxY - minY + 1) > cells.size()) {
+      for (Item item : items.values()) {
+        if (item.intersects(south, west, north, east)) {
+          result.add(item.id);
+        }
+      }
+      return;
+    }
+    for (long x = minX; x <= maxX; x++) {
+      for (long y = minY; y <= maxY; y++) {
+        final Set<Item> cell = cells.get(cellKey(x, y));
+        if (cell == null) {
+          continue;
+        }
+        for (Item item : cell) {
+          if (item.intersects(south, west, north, east)) {
+            result.add(item.id);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds the {@code count} items nearest to the point to {@code result}, nearest first.
+   *
+   * <p>Cells are visited in rings of growing size around the point, until the items found so far
+   * are all closer than anything outside the ring, or until more cells were visited than are
+   * occupied, in which case the remaining items are scanned. Items whose bounding box is farther
+   * than the farthest item found so far are skipped without measuring their shape.
+   */
+  void nearest(double latitude, double longitude, int count, List<Neighbor> result) {
+    if (count <= 0 || items.isEmpty()) {
+      return;
+    }
+    final NearestSearch search = new NearestSearch(latitude, longitude, count);
+    for (Item item : largeItems) {
+      search.consider(item);
+    }
+    final long centerX = cellX(longitude);
+    final long centerY = cellY(latitude);
+    long visitedCells = 0;
+    for (long ring = 0; ; ring++) {
+      if (visitedCells > cells.size()) {
+        for (Item item : items.values()) {
+          search.consider(item);
+        }
+        break;
+      }
+      for (long y = Math.max(0, centerY - ring); y <= Math.min(rows - 1, centerY + ring); y++) {
+        final boolean edgeRow = y == centerY - ring || y == centerY + ring;
+        final long step = edgeRow || ring == 0 ? 1 : 2 * ring;
+        for (long x = centerX - ring; x <= centerX + ring; x += step) {
+          visitedCells++;
+          final Set<Item> cell = cells.get(cellKey(((x % columns) + columns) % columns, y));
+          if (cell != null) {
+            for (Item item : cell) {
+              search.consider(item);
+            }
+          }
+        }
+      }
+      final double unvisitedDistance = distanceOutsideRing(latitude, longitude, ring);
+      if (unvisitedDistance == Double.POSITIVE_INFINITY
+          || (search.isFull() && unvisitedDistance >= search.farthestDistance())) {
+        break;
+      }
+    }
+    search.addTo(result);
+  }
+
+  /** The nearest items found so far, and those already measured. */
+  private static final class NearestSearch {
+    final double latitude;
+    final double longitude;
+    final int count;
+    final PriorityQueue<Neighbor> farthestFirst;
+    final Set<Item> considered = new HashSet<>();
+
+    NearestSearch(double latitude, double longitude, int count) {
+      this.latitude = latitude;
+      this.longitude = longitude;
+      this.count = count;
+      this.farthestFirst = new PriorityQueue<>(count, Collections.reverseOrder(NEAREST_FIRST));
+    }
+
+    void consider(Item item) {
+      if (!considered.add(item)) {
+        return;
+      }
+      if (isFull()
+          && item.shape != null
+          && Geometry.distanceToBoundsLowerBound(
+                  latitude, longitude, item.south, item.west, item.north, item.east)
+              >= farthestDistance()) {
+        return;
+      }
+      final double distance = item.distanceMeters(latitude, longitude);
+      if (!isFull()) {
+        farthestFirst.add(new Neighbor(item.id, distance));
+      } else if (distance < farthestDistance()) {
+        farthestFirst.poll();
+        farthestFirst.add(new Neighbor(item.id, distance));
+      }
+    }
+
+    boolean isFull() {
+      return farthestFirst.size() == count;
+    }
+
+    double farthestDistance() {
+      return farthestFirst.peek().distanceMeters;
+    }
+
+    void addTo(List<Neighbor> result) {
+      final List<Neighbor> nearest = new ArrayList<>(farthestFirst);
+      Collections.sort(nearest, NEAREST_FIRST);
+      result.addAll(nearest);
+    }
+  }
+
+  /**
+   * Returns a distance no greater than the one from the point to any cell outside the square of
+   * cells {@code ring} cells around it, or infinity if that square covers the whole grid.
+   */
+  private double distanceOutsideRing(double latitude, double longitude, long ring) {
+    final long centerX = cellX(longitude);
+    final long centerY = cellY(latitude);
+    double distance = Double.POSITIVE_INFINITY;
+    if (centerY - ring > 0) {
+      final double south = -90 + (centerY - ring) * cellDegrees;
+      distance =
+          Math.min(distance, Math.toRadians(latitude - south) * Geometry.EARTH_RADIUS_METERS);
+    }
+    if (centerY + ring < rows - 1) {
+      final double north = -90 + (centerY + ring + 1) * cellDegrees;
+      distance =
+          Math.min(distance, Math.toRadians(north - latitude) * Geometry.EARTH_RADIUS_METERS);
+    }
+    if (2 * ring + 1 < columns) {
+      final double west = -180 + (centerX - ring) * cellDegrees;
+      final double east = -180 + (centerX + ring + 1) * cellDegrees;
+      distance =
+          Math.min(
+              distance,
+              Math.min(
+                  Geometry.distanceToMeridianMeters(latitude, longitude - west),
+                  Geometry.distanceToMeridianMeters(latitude, east - longitude)));
+    }
+    return distance;
+  }
+
+  /**
+   * Returns the region grown by {@code margin} times its size on each side, as south, west, north
+   * and east, wrapping around the antimeridian.
+   */
+  static double[] grow(double south, double west, double north, double east, double margin) {
+    final double latitudeMargin = (north - south) * margin;
+    final double width = east >= west ? east - west : east - west + 360;
+    final double longitudeMargin = width * margin;
+    final double grownSouth = Math.max(-90, south - latitudeMargin);
+    final double grownNorth = Math.min(90, north + latitudeMargin);
+    if (width + 2 * longitudeMargin >= 360) {
+      return new double[] {grownSouth, -180, grownNorth, 180};
+    }
+    return new double[] {
+      grownSouth,
+      Geometry.wrapLongitude(west - longitudeMargin),
+      grownNorth,
+      Geometry.wrapLongitude(east + longitudeMargin)
+    };
+  }
+
+  private long cellCount(Item item) {
+    final long rows = cellY(item.north) - cellY(item.south) + 1;
+    if (item.west <= item.east) {
+      return rows * (cellX(item.east) - cellX(item.west) + 1);
+    }
+    return rows * (cellX(180) - cellX(item.west) + 1 + cellX(item.east) - cellX(-180) + 1);
+  }
+
+  private void forEachCell(Item item, boolean add) {
+    if (item.west <= item.east) {
+      forEachCell(item, item.west, item.east, add);
+    } else {
+      forEachCell(item, item.west, 180, add);
+      forEachCell(item, -180, item.east, add);
+    }
+  }
+
+  private void forEachCell(Item item, double west, double east, boolean add) {
+    for (long x = cellX(west); x <= cellX(east); x++) {
+      for (long y = cellY(item.south); y <= cellY(item.north); y++) {
+        final long key = cellKey(x, y);
+        Set<Item> cell = cells.get(key);
+        if (add) {
+          if (cell == null) {
+            cell = new HashSet<>();
+            cells.put(key, cell);
+          }
+          cell.add(item);
+        } else if (cell != null) {
+          cell.remove(item);
+          if (cell.isEmpty()) {
+            cells.remove(key);
+          }
+        }
+      }
+    }
+  }
+
+  /** Longitude 180 falls in the last column rather than in one of its own. */
+  private long cellX(double longitude) {
+    return Math.max(0, Math.min(columns - 1, (long) Math.floor((longitude + 180) / cellDegrees)));
+  }
+
+  private long cellY(double latitude) {
+    return Math.max(0, Math.min(rows - 1, (long) Math.floor((latitude + 90) / cellDegrees)));
+  }
+
+  private static long cellKey(long cellX, long cellY) {
+    return (cellX << 32) ^ (cellY & 0xffffffffL);
+  }
+}
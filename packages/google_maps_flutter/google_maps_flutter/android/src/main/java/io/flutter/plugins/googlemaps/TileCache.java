@@ -0,0 +1,257 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Caches the encoded bytes of map tiles in memory and, optionally, on disk.
+ *
+ * <p>The memory tier is an LRU bounded by the total size of the tiles. The disk tier keeps one file
+ * per tile in its own directory, bounded by the total size of the files; the least recently read
+ * files are deleted first. Tiles known not to exist are cached as {@link #NO_TILE}.
+ *
+ * <p>This class is thread-safe, as tiles are requested by the map on several background threads.
+ */
+final class TileCache {
+  /** Cached for tiles that do not exist, so that they are not requested again. */
+  static final byte[] NO_TILE = new byte[0];
+
+  static final int DEFAULT_MAX_MEMORY_BYTES = 4 * 1024 * 1024;
+  static final long DEFAULT_MAX_DISK_BYTES = 32 * 1024 * 1024;
+
+  /** Charged per memory entry, so that many empty tiles still count. */
+  private static final int MIN_ENTRY_BYTES = 64;
+
+  private static final String FILE_SUFFIX = ".tile";
+
+  private final int maxMemoryBytes;
+  private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(64, 0.75f, true);
+  private int memoryBytes;
+
+  private final File directory;
+  private final long maxDiskBytes;
+  private final Object diskLock = new Object();
+  /** The total size of the files in {@link #directory}, or -1 until they are first listed. */
+  private long diskBytes = -1;
+
+  /** Creates a cache keeping tiles on disk in {@code directory}, or in memory only if null. */
+  TileCache(int maxMemoryBytes, File directory, long maxDiskBytes) {
+    this.maxMemoryBytes = maxMemoryBytes;
+    this.directory = directory;
+    this.maxDiskBytes = maxDiskBytes;
+  }
+
+  static String key(int x, int y, int zoom) {
+    return zoom + "_" + x + "_" + y;
+  }
+
+  /** Returns the cached tile, {@link #NO_TILE}, or null if it is not cached. */
+  byte[] get(String key) {
+    synchronized (memory) {
+      final byte[] bytes = memory.get(key);
+      if (bytes != null) {
+        return bytes;
+      }
+    }
+    final byte[] bytes = readFromDisk(key);
+    if (bytes != null) {
+      putInMemory(key, bytes);
+    }
+    return bytes;
+  }
+
+  /** Returns whether the tile is cached in memory, without reading the disk. */
+  boolean containsInMemory(String key) {
+    synchronized (memory) {
+      return memory.containsKey(key);
+    }
+  }
+
+  void put(String key, byte[] bytes) {
+    putInMemory(key, bytes);
+    writeToDisk(key, bytes);
+  }
+
+  void clear() {
+    synchronized (memory) {
+      memory.clear();
+      memoryBytes = 0;
+    }
+    if (directory == null) {
+      return;
+    }
+    synchronized (diskLock) {
+      final File[] files = directory.listFiles();
+      if (files != null) {
+        for (File file : files) {
+          file.delete();
+        }
+      }
+      diskBytes = 0;
+    }
+  }
+
+  int getMemoryByteCount() {
+    synchronized (memory) {
+      return memoryBytes;
+    }
+  }
+
+  long getDiskByteCount() {
+    synchronized (diskLock) {
+      return diskBytes();
+    }
+  }
+
+  private void putInMemory(String key, byte[] bytes) {
+    synchronized (memory) {
+      final byte[] previous = memory.put(key, bytes);
+      if (previous != null) {
+        memoryBytes -= entrySize(previous);
+      }
+      memoryBytes += entrySize(bytes);
+      final Iterator<byte[]> iterator = memory.values().iterator();
+      // The most recently used tile is last and is kept even if it exceeds the budget on its own.
+      while (memoryBytes > maxMemoryBytes && memory.size() > 1) {
+        memoryBytes -= entrySize(iterator.next());
+        iterator.remove();
+      }
+    }
+  }
+
+  private byte[] readFromDisk(String key) {
+    if (directory == null) {
+      return null;
+    }
+    synchronized (diskLock) {
+      final File file = new File(directory, key + FILE_SUFFIX);
+      if (!file.isFile()) {
+        return null;
+      }
+      try {
+        final byte[] bytes = readFully(file);
+        // The modification time orders files by last use when trimming.
+        file.setLastModified(System.currentTimeMillis());
+        return bytes.length == 0 ? NO_TILE : bytes;
+      } catch (IOException e) {
+        file.delete();
+        return null;
+      }
+    }
+  }
+
+  private void writeToDisk(String key, byte[] bytes) {
+    if (directory == null) {
+      return;
+    }
+    synchronized (diskLock) {
+      if (!directory.isDirectory() && !directory.mkdirs()) {
+        return;
+      }
+      final long before = diskBytes();
+      final File file = new File(directory, key + FILE_SUFFIX);
+      final long previousLength = file.length();
+      // Written to a temporary file first so that a crash never leaves a truncated tile.
+      final File temporary = new File(directory, key + ".tmp");
+      try {
+        final OutputStream stream = new FileOutputStream(temporary);
+        try {
+          stream.write(bytes);
+        } finally {
+          stream.close();
+        }
+        if (!temporary.renameTo(file)) {
+          temporary.delete();
+          return;
+        }
+      } catch (IOException e) {
+        temporary.delete();
+        return;
+      }
+      diskBytes = before - previousLength + bytes.length;
+      trimDisk();
+    }
+  }
+
+  private long diskBytes() {
+    if (diskBytes < 0) {
+      diskBytes = 0;
+      final File[] files = directory == null ? null : directory.listFiles();
+      if (files != null) {
+        for (File file : files) {
+          diskBytes += file.length();
+        }
+      }
+    }
+    return diskBytes;
+  }
+
+  /** Deletes the least recently used files until the cache is within 90% of its budget. */
+  private void trimDisk() {
+    if (diskBytes <= maxDiskBytes) {
+      return;
+    }
+    final File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    final long[] lastModified = new long[files.length];
+    final Integer[] order = new Integer[files.length];
+    for (int i = 0; i < files.length; i++) {
+      lastModified[i] = files[i].lastModified();
+      order[i] = i;
+    }
+    Arrays.sort(
+        order,
+        new Comparator<Integer>() {
+          @Override
+          public int compare(Integer a, Integer b) {
+            final long left = lastModified[a];
+            final long right = lastModified[b];
+            return left < right ? -1 : (left == right ? 0 : 1);
+          }
+        });
+    final long target = maxDiskBytes / 10 * 9;
+    for (int i = 0; i < order.length && diskBytes > target; i++) {
+      final File file = files[order[i]];
+      final long length = file.length();
+      if (file.delete()) {
+        diskBytes -= length;
+      }
+    }
+  }
+
+  private static int entrySize(byte[] bytes) {
+    return Math.max(bytes.length, MIN_ENTRY_BYTES);
+  }
+
+  private static byte[] readFully(File file) throws IOException {
+    final byte[] bytes = new byte[(int) file.length()];
+    final InputStream stream = new FileInputStream(file);
+    try {
+      int offset = 0;
+      while (offset < bytes.length) {
+        final int read = stream.read(bytes, offset, bytes.length - offset);
+        if (read < 0) {
+          throw new IOException("Tile file " + file + " was truncated");
+        }
+        offset += read;
+      }
+    } finally {
+      stream.close();
+    }
+    return bytes;
+  }
+}
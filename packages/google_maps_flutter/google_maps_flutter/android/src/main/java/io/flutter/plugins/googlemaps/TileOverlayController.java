@@ -0,0 +1,65 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.TileOverlay;
+
+/** Controller of a single TileOverlay on the map. */
+class TileOverlayController implements TileOverlayOptionsSink {
+  private final TileOverlay tileOverlay;
+  private final CachingTileProvider tileProvider;
+  private final TileOverlaysController.SourceOptions sourceOptions;
+
+  TileOverlayController(
+      TileOverlay tileOverlay,
+      CachingTileProvider tileProvider,
+      TileOverlaysController.SourceOptions sourceOptions) {
+    this.tileOverlay = tileOverlay;
+    this.tileProvider = tileProvider;
+    this.sourceOptions = sourceOptions;
+  }
+
+  void remove() {
+    tileOverlay.remove();
+  }
+
+  /** Drops the cached tiles, so that they are requested again. */
+  void clearTileCache() {
+    tileProvider.clearCache();
+    tileOverlay.clearTileCache();
+  }
+
+  boolean isVisible() {
+    return tileOverlay.isVisible();
+  }
+
+  CachingTileProvider getTileProvider() {
+    return tileProvider;
+  }
+
+  TileOverlaysController.SourceOptions getSourceOptions() {
+    return sourceOptions;
+  }
+
+  @Override
+  public void setFadeIn(boolean fadeIn) {
+    tileOverlay.setFadeIn(fadeIn);
+  }
+
+  @Override
+  public void setTransparency(float transparency) {
+    tileOverlay.setTransparency(transparency);
+  }
+
+  @Override
+  public void setZIndex(float zIndex) {
+    tileOverlay.setZIndex(zIndex);
+  }
+
+  @Override
+  public void setVisible(boolean visible) {
+    tileOverlay.setVisible(visible);
+  }
+}
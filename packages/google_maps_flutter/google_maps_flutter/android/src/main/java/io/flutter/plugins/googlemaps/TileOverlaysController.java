@@ -0,0 +1,432 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.os.Handler;
+import android.os.Looper;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.TileOverlay;
+import com.google.android.gms.maps.model.TileOverlayOptions;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class TileOverlaysController {
+  private static final String DISK_CACHE_DIRECTORY = "google_maps_tiles";
+  private static final int PREFETCH_THREADS = 2;
+  /** Prefetching stops at this many tiles, which covers the ring around a tablet screen. */
+  private static final int MAX_PREFETCH_TILES = 64;
+
+  private static final int NETWORK_TIMEOUT_MILLIS = 10000;
+  private static final int DART_TIMEOUT_SECONDS = 10;
+
+  /** Where the tiles of an overlay come from and how they are cached. */
+  static final class SourceOptions {
+    /** The URL tiles are downloaded from, or null to request them from Dart. */
+    final String urlTemplate;
+
+    final int tileSize;
+    final int memoryCacheBytes;
+    /**
+     * Identifies the tiles on disk across sessions. Defaults to the URL template; tiles from Dart
+     * are only cached in memory without it.
+     */
+    final String diskCacheKey;
+
+    final long diskCacheBytes;
+
+    SourceOptions(
+        String urlTemplate,
+        int tileSize,
+        int memoryCacheBytes,
+        String diskCacheKey,
+        long diskCacheBytes) {
+      if (tileSize <= 0) {
+        throw new IllegalArgumentException("Tile size must be positive, was " + tileSize);
+      }
+      this.urlTemplate = urlTemplate;
+      this.tileSize = tileSize;
+      this.memoryCacheBytes = memoryCacheBytes;
+      this.diskCacheKey = diskCacheKey;
+      this.diskCacheBytes = diskCacheBytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof SourceOptions)) {
+        return false;
+      }
+      final SourceOptions other = (SourceOptions) o;
+      return equal(urlTemplate, other.urlTemplate)
+          && tileSize == other.tileSize
+          && memoryCacheBytes == other.memoryCacheBytes
+          && equal(diskCacheKey, other.diskCacheKey)
+          && diskCacheBytes == other.diskCacheBytes;
+    }
+
+    @Override
+    public int hashCode() {
+      return (urlTemplate != null ? urlTemplate.hashCode() : 0) * 31 + tileSize;
+    }
+
+    private static boolean equal(Object a, Object b) {
+      return a == null ? b == null : a.equals(b);
+    }
+  }
+
+  private final Map<String, TileOverlayController> tileOverlayIdToController;
+  private final MethodChannel methodChannel;
+  private final File cacheDirectory;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private GoogleMap googleMap;
+  private ExecutorService prefetchExecutor;
+  /** Incremented when the camera settles, so that prefetches for older positions are skipped. */
+  private volatile int prefetchGeneration;
+
+  TileOverlaysController(MethodChannel methodChannel, File cacheDirectory) {
+    this.tileOverlayIdToController = new HashMap<>();
+    this.methodChannel = methodChannel;
+    this.cacheDirectory = cacheDirectory;
+  }
+
+  void setGoogleMap(GoogleMap googleMap) {
+    this.googleMap = googleMap;
+  }
+
+  void addTileOverlays(List<Object> tileOverlaysToAdd) {
+    if (tileOverlaysToAdd != null) {
+      for (Object tileOverlayToAdd : tileOverlaysToAdd) {
+        addTileOverlay(tileOverlayToAdd);
+      }
+    }
+  }
+
+  void changeTileOverlays(List<Object> tileOverlaysToChange) {
+    if (tileOverlaysToChange != null) {
+      for (Object tileOverlayToChange : tileOverlaysToChange) {
+        changeTileOverlay(tileOverlayToChange);
+      }
+    }
+  }
+
+  void removeTileOverlays(List<Object> tileOverlayIdsToRemove) {
+    if (tileOverlayIdsToRemove == null) {
+      return;
+    }
+    for (Object rawTileOverlayId : tileOverlayIdsToRemove) {
+      if (rawTileOverlayId == null) {
+        continue;
+      }
+      final TileOverlayController tileOverlayController =
+          tileOverlayIdToController.remove((String) rawTileOverlayId);
+      if (tileOverlayController != null) {
+        tileOverlayController.remove();
+      }
+    }
+  }
+
+  void clearTileCache(String tileOverlayId) {
+    final TileOverlayController tileOverlayController =
+        tileOverlayIdToController.get(tileOverlayId);
+    if (tileOverlayController != null) {
+      tileOverlayController.clearTileCache();
+    }
+  }
+
+  /** Loads the ring of tiles just outside the visible region, where the user is likely to pan. */
+  void onCameraIdle() {
+    if (tileOverlayIdToController.isEmpty() || googleMap == null) {
+      return;
+    }
+    final LatLngBounds bounds = googleMap.getProjection().getVisibleRegion().latLngBounds;
+    final int zoom = (int) Math.floor(googleMap.getCameraPosition().zoom);
+    final int[] ring =
+        prefetchRing(
+            bounds.southwest.latitude,
+            bounds.southwest.longitude,
+            bounds.northeast.latitude,
+            bounds.northeast.longitude,
+            zoom);
+    final int generation = ++prefetchGeneration;
+    for (TileOverlayController tileOverlayController : tileOverlayIdToController.values()) {
+      if (tileOverlayController.isVisible()) {
+        prefetch(tileOverlayController.getTileProvider(), ring, zoom, generation);
+      }
+    }
+  }
+
+  void dispose() {
+    prefetchGeneration++;
+    if (prefetchExecutor != null) {
+      prefetchExecutor.shutdownNow();
+    }
+    mainHandler.removeCallbacksAndMessages(null);
+  }
+
+  private void prefetch(
+      final CachingTileProvider tileProvider,
+      final int[] ring,
+      final int zoom,
+      final int generation) {
+    if (prefetchExecutor == null) {
+      prefetchExecutor = Executors.newFixedThreadPool(PREFETCH_THREADS);
+    }
+    for (int i = 0; i < ring.length; i += 2) {
+      final int x = ring[i];
+      final int y = ring[i + 1];
+      prefetchExecutor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              if (generation != prefetchGeneration) {
+                return;
+              }
+              try {
+                tileProvider.prefetch(x, y, zoom);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            }
+          });
+    }
+  }
+
+  /**
+   * Returns the coordinates, packed as x/y pairs, of the tiles at {@code zoom} bordering the tiles
+   * that cover the given bounds, at most {@link #MAX_PREFETCH_TILES} of them.
+   */
+  static int[] prefetchRing(double south, double west, double north, double east, int zoom) {
+    final int tileCount = 1 << zoom;
+    final int minX = (int) Math.floor(MarkerClusterer.projectX(west, tileCount));
+    int maxX = (int) Math.floor(MarkerClusterer.projectX(east, tileCount));
+    if (east < west) {
+      // The bounds cross the antimeridian.
+      maxX += tileCount;
+    }
+    final int minY = (int) Math.floor(MarkerClusterer.projectY(north, tileCount));
+    final int maxY = (int) Math.floor(MarkerClusterer.projectY(south, tileCount));
+    // Columns wrap around, so there is no ring left or right once the bounds span the world.
+    final boolean wrapsAround = maxX - minX + 3 > tileCount;
+    final int[] ring = new int[2 * MAX_PREFETCH_TILES];
+    int size = 0;
+    for (int y = minY - 1; y <= maxY + 1 && size < ring.length; y++) {
+      if (y < 0 || y >= tileCount) {
+        continue;
+      }
+      final boolean edgeRow = y == minY - 1 || y == maxY + 1;
+      for (int x = minX - 1; x <= maxX + 1 && size < ring.length; x++) {
+        final boolean edgeColumn = x == minX - 1 || x == maxX + 1;
+        if ((!edgeRow && !edgeColumn) || (wrapsAround && edgeColumn)) {
+          continue;
+        }
+        ring[size++] = ((x % tileCount) + tileCount) % tileCount;
+        ring[size++] = y;
+      }
+    }
+    final int[] result = new int[size];
+    System.arraycopy(ring, 0, result, 0, size);
+    return result;
+  }
+
+  private void addTileOverlay(Object tileOverlay) {
+    if (tileOverlay == null) {
+      return;
+    }
+    TileOverlayBuilder tileOverlayBuilder = new TileOverlayBuilder();
+    String tileOverlayId = Convert.interpretTileOverlayOptions(tileOverlay, tileOverlayBuilder);
+    SourceOptions sourceOptions = Convert.toTileSourceOptions(tileOverlay);
+    CachingTileProvider tileProvider = createTileProvider(tileOverlayId, sourceOptions);
+    TileOverlayOptions options = tileOverlayBuilder.build().tileProvider(tileProvider);
+    final TileOverlay googleMapsTileOverlay = googleMap.addTileOverlay(options);
+    tileOverlayIdToController.put(
+        tileOverlayId,
+        new TileOverlayController(googleMapsTileOverlay, tileProvider, sourceOptions));
+  }
+
+  private void changeTileOverlay(Object tileOverlay) {
+    if (tileOverlay == null) {
+      return;
+    }
+    String tileOverlayId = getTileOverlayId(tileOverlay);
+    TileOverlayController tileOverlayController = tileOverlayIdToController.get(tileOverlayId);
+    if (tileOverlayController == null) {
+      return;
+    }
+    if (!tileOverlayController
+        .getSourceOptions()
+        .equals(Convert.toTileSourceOptions(tileOverlay))) {
+      // A tile provider cannot be replaced, so the overlay is recreated with the new source.
+      tileOverlayIdToController.remove(tileOverlayId);
+      tileOverlayController.remove();
+      addTileOverlay(tileOverlay);
+      return;
+    }
+    Convert.interpretTileOverlayOptions(tileOverlay, tileOverlayController);
+  }
+
+  private CachingTileProvider createTileProvider(String tileOverlayId, SourceOptions options) {
+    File diskCacheDirectory = null;
+    String diskCacheKey = options.diskCacheKey;
+    if (diskCacheKey == null) {
+      // Downloaded tiles are identified by their URLs; tiles from Dart only if asked to.
+      diskCacheKey = options.urlTemplate;
+    }
+    if (diskCacheKey != null && cacheDirectory != null) {
+      diskCacheDirectory =
+          new File(
+              new File(cacheDirectory, DISK_CACHE_DIRECTORY),
+              BitmapDescriptorCache.sha1(diskCacheKey.getBytes(Charset.forName("UTF-8"))));
+    }
+    final TileCache cache =
+        new TileCache(options.memoryCacheBytes, diskCacheDirectory, options.diskCacheBytes);
+    final CachingTileProvider.Loader loader =
+        options.urlTemplate != null
+            ? new UrlTileLoader(options.urlTemplate)
+            : new DartTileLoader(tileOverlayId);
+    return new CachingTileProvider(options.tileSize, loader, cache);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static String getTileOverlayId(Object tileOverlay) {
+    Map<String, Object> tileOverlayMap = (Map<String, Object>) tileOverlay;
+    return (String) tileOverlayMap.get("tileOverlayId");
+  }
+
+  /** Downloads tiles from a URL template. */
+  private static final class UrlTileLoader implements CachingTileProvider.Loader {
+    private final String urlTemplate;
+
+    UrlTileLoader(String urlTemplate) {
+      this.urlTemplate = urlTemplate;
+    }
+
+    @Override
+    public byte[] load(int x, int y, int zoom) throws IOException {
+      final String url =
+          urlTemplate
+              .replace("{x}", Integer.toString(x))
+              .replace("{y}", Integer.toString(y))
+              .replace("{z}", Integer.toString(zoom));
+      final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+      connection.setConnectTimeout(NETWORK_TIMEOUT_MILLIS);
+      connection.setReadTimeout(NETWORK_TIMEOUT_MILLIS);
+      try {
+        final int status = connection.getResponseCode();
+        if (status == HttpURLConnection.HTTP_NOT_FOUND
+            || status == HttpURLConnection.HTTP_NO_CONTENT) {
+          return null;
+        }
+        if (status != HttpURLConnection.HTTP_OK) {
+          throw new IOException("Tile request to " + url + " failed with status " + status);
+        }
+        final InputStream stream = connection.getInputStream();
+        try {
+          final ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 * 1024);
+          final byte[] buffer = new byte[8 * 1024];
+          int read;
+          while ((read = stream.read(buffer)) != -1) {
+            bytes.write(buffer, 0, read);
+          }
+          return bytes.toByteArray();
+        } finally {
+          stream.close();
+        }
+      } finally {
+        connection.disconnect();
+      }
+    }
+  }
+
+  /**
+   * Requests tiles from Dart with {@code tileOverlay#getTile} and waits for the reply.
+   *
+   * <p>If Dart does not handle the call, the overlay has no tiles and Dart is not asked again.
+   */
+  private final class DartTileLoader implements CachingTileProvider.Loader {
+    private final String tileOverlayId;
+    private volatile boolean notImplemented;
+
+    DartTileLoader(String tileOverlayId) {
+      this.tileOverlayId = tileOverlayId;
+    }
+
+    @Override
+    public byte[] load(int x, int y, int zoom) throws IOException, InterruptedException {
+      if (notImplemented) {
+        return null;
+      }
+      final Map<String, Object> arguments = new HashMap<>(4);
+      arguments.put("tileOverlayId", tileOverlayId);
+      arguments.put("x", x);
+      arguments.put("y", y);
+      arguments.put("zoom", zoom);
+      final TileReply reply = new TileReply();
+      mainHandler.post(
+          new Runnable() {
+            @Override
+            public void run() {
+              methodChannel.invokeMethod("tileOverlay#getTile", arguments, reply);
+            }
+          });
+      if (!reply.received.await(DART_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        throw new IOException("Timed out waiting for tile " + TileCache.key(x, y, zoom));
+      }
+      if (reply.notImplemented) {
+        notImplemented = true;
+        return null;
+      }
+      if (reply.error != null) {
+        throw new IOException(reply.error);
+      }
+      return reply.bytes;
+    }
+  }
+
+  /**
+   * The reply of Dart to {@code tileOverlay#getTile}: a map with the tile {@code data}, or null.
+   */
+  private static final class TileReply implements MethodChannel.Result {
+    final CountDownLatch received = new CountDownLatch(1);
+    volatile byte[] bytes;
+    volatile String error;
+    volatile boolean notImplemented;
+
+    @Override
+    public void success(Object result) {
+      if (result instanceof Map) {
+        final Object data = ((Map<?, ?>) result).get("data");
+        if (data instanceof byte[]) {
+          bytes = (byte[]) data;
+        }
+      }
+      received.countDown();
+    }
+
+    @Override
+    public void error(String errorCode, String errorMessage, Object errorDetails) {
+      error = "Dart failed to provide a tile: " + errorCode + " " + errorMessage;
+      received.countDown();
+    }
+
+    @Override
+    public void notImplemented() {
+      notImplemented = true;
+      received.countDown();
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.google.android.gms.dynamic.IObjectWrapper;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BitmapDescriptorCacheTest {
+  private static final int ICON_BYTES = 1000;
+
+  private int loadCount;
+  private BitmapDescriptorCache cache;
+
+  @Before
+  public void setUp() {
+    loadCount = 0;
+    cache =
+        new BitmapDescriptorCache(
+            2 * ICON_BYTES,
+            new BitmapDescriptorCache.Loader() {
+              @Override
+              public BitmapDescriptorCache.Entry load(List<?> icon) {
+                loadCount++;
+                return new BitmapDescriptorCache.Entry(
+                    new BitmapDescriptor(mock(IObjectWrapper.class)), ICON_BYTES);
+              }
+            });
+  }
+
+  @Test
+  public void identicalBytesAreDecodedOnce() {
+    final BitmapDescriptor first = cache.get(fromBytes(1, 2, 3));
+    final BitmapDescriptor second = cache.get(fromBytes(1, 2, 3));
+
+    assertSame(first, second);
+    assertEquals(1, loadCount);
+  }
+
+  @Test
+  public void differentBytesAreDecodedSeparately() {
+    final BitmapDescriptor first = cache.get(fromBytes(1, 2, 3));
+    final BitmapDescriptor second = cache.get(fromBytes(1, 2, 4));
+
+    assertNotSame(first, second);
+    assertEquals(2, loadCount);
+  }
+
+  @Test
+  public void assetsAreKeyedByArguments() {
+    cache.get(Arrays.asList("fromAsset", "a.png"));
+    cache.get(Arrays.asList("fromAsset", "a.png"));
+    cache.get(Arrays.asList("fromAsset", "b.png"));
+
+    assertEquals(2, loadCount);
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedIconOverBudget() {
+    cache.get(fromBytes(1));
+    cache.get(fromBytes(2));
+    cache.get(fromBytes(1));
+    cache.get(fromBytes(3));
+
+    assertEquals(2, cache.getCachedIconCount());
+    assertEquals(2 * ICON_BYTES, cache.getByteCount());
+
+    cache.get(fromBytes(1));
+    assertEquals(3, loadCount);
+    cache.get(fromBytes(2));
+    assertEquals(4, loadCount);
+  }
+
+  @Test
+  public void registeredIconsAreReferencedById() {
+    cache.register("car", fromBytes(1, 2, 3));
+    final BitmapDescriptor first = cache.get(Arrays.asList("registered", "car"));
+    final BitmapDescriptor second = cache.get(Arrays.asList("registered", "car"));
+
+    assertSame(first, second);
+    assertEquals(1, loadCount);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void unregisteredIconsCannotBeReferenced() {
+    cache.register("car", fromBytes(1, 2, 3));
+    cache.unregister("car");
+    cache.get(Arrays.asList("registered", "car"));
+  }
+
+  @Test
+  public void checkingIconsDoesNotDecodeThem() {
+    cache.register("car", fromBytes(1, 2, 3));
+    cache.checkIcon(Arrays.asList("registered", "car"));
+    cache.checkIcon(fromBytes(4, 5, 6));
+    cache.checkIcon(null);
+
+    assertEquals(1, loadCount);
+    assertEquals(0, cache.getCachedIconCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void checkingUnregisteredIconsFails() {
+    cache.checkIcon(Arrays.asList("registered", "car"));
+  }
+
+  private static List<Object> fromBytes(int... values) {
+    final byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return Arrays.<Object>asList("fromBytes", bytes);
+  }
+}
@@ -0,0 +1,131 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class CachingTileProviderTest {
+  private static final byte[] TILE = {1, 2, 3};
+
+  @Test
+  public void loadsEachTileOnce() {
+    final CountingLoader loader = new CountingLoader(TILE);
+    final CachingTileProvider provider = newProvider(loader);
+
+    final Tile first = provider.getTile(1, 2, 3);
+    final Tile second = provider.getTile(1, 2, 3);
+
+    assertEquals(1, loader.loads.get());
+    assertEquals(256, first.width);
+    assertArrayEquals(TILE, first.data);
+    assertArrayEquals(TILE, second.data);
+  }
+
+  @Test
+  public void concurrentRequestsShareOneLoad() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountingLoader loader =
+        new CountingLoader(TILE) {
+          @Override
+          public byte[] load(int x, int y, int zoom) throws InterruptedException {
+            release.await();
+            return super.load(x, y, zoom);
+          }
+        };
+    final CachingTileProvider provider = newProvider(loader);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final Future<?>[] requests = new Future<?>[4];
+      for (int i = 0; i < requests.length; i++) {
+        requests[i] =
+            executor.submit(
+                new Runnable() {
+                  @Override
+                  public void run() {
+                    assertArrayEquals(TILE, provider.getTile(0, 0, 0).data);
+                  }
+                });
+      }
+      Thread.sleep(100);
+      release.countDown();
+      for (Future<?> request : requests) {
+        request.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(1, loader.loads.get());
+  }
+
+  @Test
+  public void returnsNoTileForMissingTilesAndCachesIt() {
+    final CountingLoader loader = new CountingLoader(null);
+    final CachingTileProvider provider = newProvider(loader);
+
+    assertSame(TileProvider.NO_TILE, provider.getTile(0, 0, 0));
+    assertSame(TileProvider.NO_TILE, provider.getTile(0, 0, 0));
+    assertEquals(1, loader.loads.get());
+  }
+
+  @Test
+  public void retriesFailedTiles() {
+    final AtomicInteger attempts = new AtomicInteger();
+    final CachingTileProvider provider =
+        newProvider(
+            new CachingTileProvider.Loader() {
+              @Override
+              public byte[] load(int x, int y, int zoom) throws IOException {
+                if (attempts.incrementAndGet() == 1) {
+                  throw new IOException("offline");
+                }
+                return TILE;
+              }
+            });
+
+    assertNull(provider.getTile(0, 0, 0));
+    assertArrayEquals(TILE, provider.getTile(0, 0, 0).data);
+  }
+
+  @Test
+  public void prefetchFillsTheCache() throws Exception {
+    final CountingLoader loader = new CountingLoader(TILE);
+    final CachingTileProvider provider = newProvider(loader);
+
+    provider.prefetch(5, 5, 5);
+    provider.prefetch(5, 5, 5);
+    provider.getTile(5, 5, 5);
+
+    assertEquals(1, loader.loads.get());
+  }
+
+  private static CachingTileProvider newProvider(CachingTileProvider.Loader loader) {
+    return new CachingTileProvider(256, loader, new TileCache(1024 * 1024, null, 0));
+  }
+
+  private static class CountingLoader implements CachingTileProvider.Loader {
+    final AtomicInteger loads = new AtomicInteger();
+    private final byte[] tile;
+
+    CountingLoader(byte[] tile) {
+      this.tile = tile;
+    }
+
+    @Override
+    public byte[] load(int x, int y, int zoom) throws InterruptedException {
+      loads.incrementAndGet();
+      return tile;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import org.junit.Test;
+
+public class CameraMoveThrottleTest {
+  // At zoom level 10 a degree of longitude is 256 * 2^10 / 360, about 728 pixels.
+  private static final double PIXEL = 360.0 / (256 * 1024);
+
+  @Test
+  public void sendsEveryPositionWithoutLimits() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle();
+
+    for (int i = 0; i < 5; i++) {
+      final CameraPosition position = position(i * PIXEL, 10);
+      assertSame(position, throttle.onMove(position, 0));
+    }
+  }
+
+  @Test
+  public void holdsBackPositionsWithinTheInterval() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle();
+    throttle.setLimits(100, 0);
+
+    final CameraPosition first = position(0, 10);
+    assertSame(first, throttle.onMove(first, 0));
+    assertNull(throttle.onMove(position(10 * PIXEL, 10), 16));
+    assertNull(throttle.onMove(position(20 * PIXEL, 10), 32));
+    assertTrue(throttle.hasPending());
+    assertEquals(68, throttle.getDelayMillis(32));
+
+    final CameraPosition latest = position(30 * PIXEL, 10);
+    assertNull(throttle.onMove(latest, 48));
+    assertSame(latest, throttle.flush(100));
+    assertFalse(throttle.hasPending());
+  }
+
+  @Test
+  public void holdsBackPositionsCloserThanTheMinimumDistance() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle();
+    throttle.setLimits(0, 5);
+
+    final CameraPosition first = position(0, 10);
+    assertSame(first, throttle.onMove(first, 0));
+    assertNull(throttle.onMove(position(2 * PIXEL, 10), 16));
+    assertNull(throttle.onMove(position(4 * PIXEL, 10), 32));
+
+    final CameraPosition far = position(6 * PIXEL, 10);
+    assertSame(far, throttle.onMove(far, 48));
+  }
+
+  @Test
+  public void sendsZoomChangesRegardlessOfDistance() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle();
+    throttle.setLimits(0, 50);
+
+    throttle.onMove(position(0, 10), 0);
+    final CameraPosition zoomed = position(0, 10.5f);
+    assertSame(zoomed, throttle.onMove(zoomed, 16));
+  }
+
+  @Test
+  public void flushesTheFinalPositionHoweverClose() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle();
+    throttle.setLimits(1000, 50);
+
+    throttle.onMove(position(0, 10), 0);
+    final CameraPosition last = position(PIXEL, 10);
+    assertNull(throttle.onMove(last, 16));
+    assertNull(throttle.flush(2000));
+    assertSame(last, throttle.flushFinal(2000));
+    assertNull(throttle.flushFinal(2000));
+  }
+
+  @Test
+  public void doesNotRepeatTheLastSentPositionWhenIdle() {
+    final CameraMoveThrottle throttle = new CameraMoveThrottle();
+    throttle.setLimits(100, 0);
+
+    final CameraPosition position = position(0, 10);
+    throttle.onMove(position, 0);
+    assertNull(throttle.onMove(position(0, 10), 10));
+    assertNull(throttle.flushFinal(20));
+  }
+
+  private static CameraPosition position(double longitude, float zoom) {
+    return new CameraPosition(new LatLng(0, longitude), zoom, 0, 0);
+  }
+}
@@ -0,0 +1,75 @@
+package io.flutter.plugins.googlemaps;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import org.junit.Test;
+
+/**
+ * Compares decoding route points sent as a list of [latitude, longitude] lists, as packed doubles
+ * and as an encoded polyline.
+ *
+ * <p>Excluded from the unit suite. Run it with {@code ./gradlew test -Pbenchmarks --tests
+ * '*ConvertPointsBenchmark'}; the measurements are printed.
+ */
+public class ConvertPointsBenchmark {
+  private static final int POINT_COUNT = 50000;
+  private static final int WARMUP_RUNS = 20;
+  private static final int MEASURED_RUNS = 50;
+
+  @Test
+  public void decodeListsVersusPackedVersusEncoded() {
+    final double[] packed = new double[POINT_COUNT * 2];
+    final List<Object> lists = new ArrayList<>(POINT_COUNT);
+    final StringBuilder encoded = new StringBuilder();
+    long previousLatitude = 0;
+    long previousLongitude = 0;
+    for (int i = 0; i < POINT_COUNT; i++) {
+      final double latitude = 48.0 + i * 1e-5;
+      final double longitude = 2.0 + Math.sin(i / 100.0) * 1e-2;
+      packed[2 * i] = latitude;
+      packed[2 * i + 1] = longitude;
+      lists.add(Arrays.asList(latitude, longitude));
+      final long e5Latitude = Math.round(latitude * 1e5);
+      final long e5Longitude = Math.round(longitude * 1e5);
+      encode(e5Latitude - previousLatitude, encoded);
+      encode(e5Longitude - previousLongitude, encoded);
+      previousLatitude = e5Latitude;
+      previousLongitude = e5Longitude;
+    }
+    final String polyline = encoded.toString();
+
+    final double listsMillis = measure(lists);
+    final double packedMillis = measure(packed);
+    final double encodedMillis = measure(polyline);
+    System.out.println(
+        String.format(
+            Locale.US,
+            "%d points: lists %.2f ms, packed %.2f ms, encoded %.2f ms",
+            POINT_COUNT,
+            listsMillis,
+            packedMillis,
+            encodedMillis));
+  }
+
+  private static double measure(Object points) {
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      Convert.toPoints(points);
+    }
+    final long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_RUNS; i++) {
+      Convert.toPoints(points);
+    }
+    return (System.nanoTime() - start) / 1e6 / MEASURED_RUNS;
+  }
+
+  private static void encode(long value, StringBuilder out) {
+    long shifted = value < 0 ? ~(value << 1) : value << 1;
+    while (shifted >= 0x20) {
+      out.append((char) ((0x20 | (shifted & 0x1f)) + 63));
+      shifted >>= 5;
+    }
+    out.append((char) (shifted + 63));
+  }
+}
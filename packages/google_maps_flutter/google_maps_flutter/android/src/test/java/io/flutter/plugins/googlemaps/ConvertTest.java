@@ -0,0 +1,133 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class ConvertTest {
+
+  @Test
+  public void toPoints_KeepsDoublePrecisionOfLists() {
+    final List<LatLng> points =
+        Convert.toPoints(Arrays.asList(Arrays.asList(52.520008123456, 13.404954987654)));
+
+    assertEquals(1, points.size());
+    assertEquals(52.520008123456, points.get(0).latitude, 0);
+    assertEquals(13.404954987654, points.get(0).longitude, 0);
+  }
+
+  @Test
+  public void toPoints_DecodesPackedPoints() {
+    final List<LatLng> points =
+        Convert.toPoints(new double[] {52.520008123456, 13.404954987654, -33.8688, 151.2093});
+
+    assertEquals(2, points.size());
+    assertEquals(52.520008123456, points.get(0).latitude, 0);
+    assertEquals(13.404954987654, points.get(0).longitude, 0);
+    assertEquals(-33.8688, points.get(1).latitude, 0);
+    assertEquals(151.2093, points.get(1).longitude, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toPoints_RejectsOddPackedLength() {
+    Convert.toPoints(new double[] {1, 2, 3});
+  }
+
+  @Test
+  public void toPoints_DecodesEncodedPolyline() {
+    // The example of the Encoded Polyline Algorithm Format documentation.
+    final List<LatLng> points = Convert.toPoints("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+
+    assertEquals(3, points.size());
+    assertEquals(38.5, points.get(0).latitude, 0);
+    assertEquals(-120.2, points.get(0).longitude, 0);
+    assertEquals(40.7, points.get(1).latitude, 0);
+    assertEquals(-120.95, points.get(1).longitude, 0);
+    assertEquals(43.252, points.get(2).latitude, 0);
+    assertEquals(-126.453, points.get(2).longitude, 0);
+  }
+
+  @Test
+  public void toPoints_DecodesEmptyEncodedPolyline() {
+    assertEquals(0, Convert.toPoints("").size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toPoints_RejectsTruncatedEncodedPolyline() {
+    Convert.toPoints("_p~iF~ps|U_ulL");
+  }
+
+  @Test
+  public void toMarkerKeyframes_ReadsTargetAndDuration() {
+    final Map<String, Object> animation = new HashMap<>();
+    animation.put("markerId", "m");
+    animation.put("position", Arrays.asList(1.0, 2.0));
+    animation.put("duration", 500);
+
+    final List<MarkerAnimator.Keyframe> keyframes = Convert.toMarkerKeyframes(animation);
+
+    assertEquals(1, keyframes.size());
+    assertEquals(500, keyframes.get(0).timeMillis);
+    assertEquals(1.0, keyframes.get(0).latitude, 0);
+    assertEquals(2.0, keyframes.get(0).longitude, 0);
+    assertTrue(Float.isNaN(keyframes.get(0).rotation));
+  }
+
+  @Test
+  public void toMarkerKeyframes_ReadsTimedPath() {
+    final Map<String, Object> animation = new HashMap<>();
+    animation.put(
+        "path", Arrays.asList(Arrays.asList(1.0, 2.0, 100), Arrays.asList(3.0, 4.0, 250, 90.0)));
+
+    final List<MarkerAnimator.Keyframe> keyframes = Convert.toMarkerKeyframes(animation);
+
+    assertEquals(2, keyframes.size());
+    assertEquals(100, keyframes.get(0).timeMillis);
+    assertTrue(Float.isNaN(keyframes.get(0).rotation));
+    assertEquals(250, keyframes.get(1).timeMillis);
+    assertEquals(3.0, keyframes.get(1).latitude, 0);
+    assertEquals(90f, keyframes.get(1).rotation, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toMarkerKeyframes_RejectsAnimationsWithoutTarget() {
+    Convert.toMarkerKeyframes(new HashMap<String, Object>());
+  }
+
+  @Test
+  public void toOverlayUpdates_PassesMapsThrough() {
+    final Map<String, Object> updates = new HashMap<>();
+    updates.put("markers", new HashMap<String, Object>());
+
+    assertSame(updates, Convert.toOverlayUpdates(updates));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toOverlayUpdates_RejectsOtherArguments() {
+    Convert.toOverlayUpdates(Arrays.asList(1, 2));
+  }
+
+  @Test
+  public void overlayUpdateMetricsToJson_ReportsMicroseconds() {
+    final Map<?, ?> metrics = (Map<?, ?>) Convert.overlayUpdateMetricsToJson(1500000, 2500);
+
+    assertEquals(1500L, metrics.get("decodeMicros"));
+    assertEquals(2L, metrics.get("applyMicros"));
+  }
+
+  @Test
+  public void overlayUpdateMetricsToJson_OmitsDecodingOfMaps() {
+    final Map<?, ?> metrics = (Map<?, ?>) Convert.overlayUpdateMetricsToJson(2500);
+
+    assertFalse(metrics.containsKey("decodeMicros"));
+    assertEquals(2L, metrics.get("applyMicros"));
+  }
+}
@@ -0,0 +1,74 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class GeometryTest {
+
+  @Test
+  public void measuresGreatCircleDistances() {
+    // Paris to London.
+    assertEquals(343500, Geometry.distanceMeters(48.8566, 2.3522, 51.5074, -0.1278), 1000);
+    assertEquals(111195, Geometry.distanceMeters(0, 179.5, 0, -179.5), 10);
+  }
+
+  @Test
+  public void boundsOfPathsFollowTheirEdges() {
+    final Geometry.Path path =
+        new Geometry.Path(
+            Arrays.asList(new LatLng(10, 170), new LatLng(20, -170), new LatLng(15, -160)), false);
+
+    assertArrayEquals(new double[] {10, 170, 20, -160}, path.getBounds(), 1e-9);
+  }
+
+  @Test
+  public void boundsOfCirclesGrowTowardsThePoles() {
+    final double[] equator = new Geometry.Circle(0, 0, 111195).getBounds();
+    final double[] north = new Geometry.Circle(60, 0, 111195).getBounds();
+
+    assertEquals(1, equator[2], 1e-3);
+    assertEquals(1, equator[3], 1e-3);
+    assertEquals(2, north[3], 0.01);
+    assertArrayEquals(
+        new double[] {87, -180, 90, 180}, new Geometry.Circle(89, 0, 222390).getBounds(), 1e-3);
+  }
+
+  @Test
+  public void polygonsContainPointsByTheEvenOddRule() {
+    final Geometry.Path polygon =
+        new Geometry.Path(
+            Arrays.asList(
+                new LatLng(0, 0), new LatLng(0, 10), new LatLng(10, 10), new LatLng(10, 0)),
+            true);
+
+    assertTrue(polygon.contains(5, 5));
+    assertFalse(polygon.contains(5, 15));
+    assertFalse(polygon.contains(-5, 5));
+    assertEquals(0, polygon.distanceMeters(5, 5), 0);
+    assertEquals(5 * 111195, polygon.distanceMeters(5, 15), 3000);
+  }
+
+  @Test
+  public void lowerBoundNeverExceedsTheDistance() {
+    final double[][] points = {{0, 0}, {50, 20}, {-70, 175}, {85, -100}};
+    for (double[] point : points) {
+      for (double[] corner : new double[][] {{10, 30}, {-10, -30}, {60, 160}}) {
+        final double bound =
+            Geometry.distanceToBoundsLowerBound(
+                point[0], point[1], corner[0], corner[1], corner[0] + 5, corner[1] + 5);
+        for (double latitude = corner[0]; latitude <= corner[0] + 5; latitude += 0.5) {
+          for (double longitude = corner[1]; longitude <= corner[1] + 5; longitude += 0.5) {
+            assertTrue(
+                bound <= Geometry.distanceMeters(point[0], point[1], latitude, longitude) + 1e-6);
+          }
+        }
+      }
+    }
+  }
+}
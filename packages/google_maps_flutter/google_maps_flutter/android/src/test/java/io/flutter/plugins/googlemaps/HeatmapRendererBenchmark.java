@@ -0,0 +1,43 @@
+package io.flutter.plugins.googlemaps;
+
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Measures how long rendering a heatmap tile of dense telemetry takes at increasing zoom levels.
+ *
+ * <p>Excluded from the unit suite. Run it with {@code ./gradlew test -Pbenchmarks --tests
+ * '*HeatmapRendererBenchmark'}; the measurements are printed.
+ */
+public class HeatmapRendererBenchmark {
+  private static final int POINTS = 200000;
+  private static final int[] ZOOM_LEVELS = {3, 8, 12, 16};
+
+  @Test
+  public void tileRenderTimeVersusZoom() {
+    final Random random = new Random(1);
+    final double[] points = new double[POINTS * 3];
+    for (int i = 0; i < POINTS; i++) {
+      // Clustered around a city center, as telemetry usually is.
+      points[3 * i] = 40.7 + random.nextGaussian() * 0.05;
+      points[3 * i + 1] = -74 + random.nextGaussian() * 0.05;
+      points[3 * i + 2] = 1 + random.nextInt(5);
+    }
+    final HeatmapRenderer renderer = new HeatmapRenderer(points, HeatmapRenderer.Options.DEFAULT);
+    renderer.getMaxIntensity(0);
+    for (int zoom : ZOOM_LEVELS) {
+      final int tileCount = 1 << zoom;
+      final int x = (int) MarkerClusterer.projectX(-74, tileCount);
+      final int y = (int) MarkerClusterer.projectY(40.7, tileCount);
+      renderer.render(x, y, zoom);
+      final int runs = 20;
+      final long start = System.nanoTime();
+      for (int i = 0; i < runs; i++) {
+        renderer.render(x, y, zoom);
+      }
+      final double millis = (System.nanoTime() - start) / 1e6 / runs;
+      System.out.println(String.format(Locale.US, "zoom %d: %.2f ms per tile", zoom, millis));
+    }
+  }
+}
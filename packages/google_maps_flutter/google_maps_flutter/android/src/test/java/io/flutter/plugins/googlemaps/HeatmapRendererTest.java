@@ -0,0 +1,105 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class HeatmapRendererTest {
+  private static final HeatmapRenderer.Gradient RED =
+      new HeatmapRenderer.Gradient(new int[] {0xffff0000}, new float[] {1});
+
+  @Test
+  public void colorsThePeakOfASinglePointWithTheLastColor() {
+    final HeatmapRenderer renderer =
+        new HeatmapRenderer(new double[] {0, 0, 1}, new HeatmapRenderer.Options(10, RED, 1, 0));
+
+    // The point is at the top left corner of tile (1, 1) at zoom level 1.
+    final int[] pixels = renderer.render(1, 1, 1);
+
+    assertNotNull(pixels);
+    assertEquals(0xffff0000, pixels[0]);
+    assertEquals(0, alpha(pixels[20 * HeatmapRenderer.TILE_SIZE + 20]));
+    assertEquals(0, alpha(pixels[HeatmapRenderer.TILE_SIZE * HeatmapRenderer.TILE_SIZE - 1]));
+  }
+
+  @Test
+  public void colorsTheMarginOfNeighboringTiles() {
+    final HeatmapRenderer renderer =
+        new HeatmapRenderer(new double[] {0, 0, 1}, new HeatmapRenderer.Options(10, RED, 1, 0));
+
+    // Tile (0, 0) ends one pixel before the point, within its radius.
+    final int[] pixels = renderer.render(0, 0, 1);
+
+    assertNotNull(pixels);
+    final int corner = pixels[HeatmapRenderer.TILE_SIZE * HeatmapRenderer.TILE_SIZE - 1];
+    assertNotEquals(0, alpha(corner));
+  }
+
+  @Test
+  public void returnsNullForTilesWithoutPoints() {
+    final HeatmapRenderer renderer =
+        new HeatmapRenderer(
+            new double[] {52.5, 13.4, 1}, new HeatmapRenderer.Options(10, RED, 1, 0));
+
+    assertNull(renderer.render(0, 0, 4));
+    assertNotNull(renderer.render(8, 5, 4));
+  }
+
+  @Test
+  public void wrapsAroundTheAntimeridian() {
+    final HeatmapRenderer renderer =
+        new HeatmapRenderer(
+            new double[] {0, 179.99, 1}, new HeatmapRenderer.Options(10, RED, 1, 0));
+
+    // The point is at the right edge of the world, so it also colors the left edge.
+    final int[] pixels = renderer.render(0, 1, 1);
+
+    assertNotNull(pixels);
+    assertNotEquals(0, alpha(pixels[0]));
+  }
+
+  @Test
+  public void maximumIntensityIsTheDensestCell() {
+    final HeatmapRenderer renderer =
+        new HeatmapRenderer(
+            new double[] {10, 10, 2, 10.0001, 10.0001, 3, -40, -40, 4},
+            new HeatmapRenderer.Options(20, RED, 1, 0));
+
+    assertEquals(5, renderer.getMaxIntensity(8), 1e-9);
+  }
+
+  @Test
+  public void colorMapFadesInBelowTheFirstStartPoint() {
+    final HeatmapRenderer.Gradient gradient =
+        new HeatmapRenderer.Gradient(new int[] {0xff00ff00, 0xffff0000}, new float[] {0.5f, 1});
+
+    final int[] colorMap = gradient.toColorMap(5, 1);
+
+    assertArrayEquals(
+        new int[] {0x0000ff00, 0x8000ff00, 0xff00ff00, 0xff808000, 0xffff0000}, colorMap);
+    assertEquals(0x80ff0000, gradient.toColorMap(5, 0.5)[4]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsStartPointsOutOfOrder() {
+    new HeatmapRenderer.Gradient(new int[] {0xff00ff00, 0xffff0000}, new float[] {0.8f, 0.5f});
+  }
+
+  @Test
+  public void kernelIsSymmetricAndPeaksAtOne() {
+    final float[] kernel = HeatmapRenderer.gaussianKernel(3);
+
+    assertEquals(7, kernel.length);
+    assertEquals(1, kernel[3], 0);
+    assertEquals(kernel[0], kernel[6], 0);
+    assertEquals(Math.exp(-4.5), kernel[0], 1e-6);
+  }
+
+  private static int alpha(int color) {
+    return color >>> 24;
+  }
+}
@@ -0,0 +1,150 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.content.ContextWrapper;
+import com.google.android.gms.maps.MapView;
+import org.junit.Test;
+
+public class MapViewPoolTest {
+  private final Application application = mock(Application.class);
+  private final Activity context = activity(application);
+
+  @Test
+  public void destroysReleasedViewsUntilPreloaded() {
+    final MapViewPool pool = new MapViewPool();
+    final MapView mapView = mock(MapView.class);
+
+    assertFalse(pool.release(mapView, context, false));
+
+    verify(mapView).onDestroy();
+    assertNull(pool.acquire(context, false));
+  }
+
+  @Test
+  public void reusesStoppedViewsForTheirContextAndMode() {
+    final MapViewPool pool = new MapViewPool();
+    pool.ensureCapacity(context, 2);
+    final MapView mapView = mock(MapView.class);
+    final MapView liteMapView = mock(MapView.class);
+
+    assertTrue(pool.release(mapView, context, false));
+    assertTrue(pool.release(liteMapView, context, true));
+
+    verify(mapView).onPause();
+    verify(mapView).onStop();
+    verify(mapView, never()).onDestroy();
+    assertNull(pool.acquire(activity(application), false));
+    assertFalse(pool.release(mock(MapView.class), activity(application), false));
+    assertSame(liteMapView, pool.acquire(context, true));
+    assertSame(mapView, pool.acquire(context, false));
+    assertNull(pool.acquire(context, false));
+  }
+
+  @Test
+  public void destroysViewsBeyondCapacity() {
+    final MapViewPool pool = new MapViewPool();
+    pool.ensureCapacity(context, MapViewPool.MAX_SIZE + 1);
+    for (int i = 0; i < MapViewPool.MAX_SIZE; i++) {
+      assertTrue(pool.release(mock(MapView.class), context, false));
+    }
+    final MapView extra = mock(MapView.class);
+
+    assertFalse(pool.release(extra, context, false));
+
+    verify(extra).onDestroy();
+  }
+
+  @Test
+  public void destroysViewsOfAPreviousContext() {
+    final MapViewPool pool = new MapViewPool();
+    pool.ensureCapacity(context, 1);
+    final MapView mapView = mock(MapView.class);
+    pool.release(mapView, context, false);
+
+    pool.ensureCapacity(activity(application), 1);
+
+    verify(mapView).onDestroy();
+    assertNull(pool.acquire(context, false));
+  }
+
+  @Test
+  public void clearDestroysPooledViews() {
+    final MapViewPool pool = new MapViewPool();
+    pool.ensureCapacity(context, 1);
+    final MapView mapView = mock(MapView.class);
+    final MapView liteMapView = mock(MapView.class);
+    pool.release(mapView, context, false);
+    pool.release(liteMapView, context, true);
+
+    pool.clear();
+
+    verify(mapView).onDestroy();
+    verify(liteMapView).onDestroy();
+    assertNull(pool.acquire(context, false));
+    assertNull(pool.acquire(context, true));
+    assertFalse(pool.release(mock(MapView.class), context, false));
+  }
+
+  @Test
+  public void matchesContextsByTheActivityTheyWrap() {
+    final MapViewPool pool = new MapViewPool();
+    pool.ensureCapacity(context, 1);
+    final MapView mapView = mock(MapView.class);
+    assertTrue(pool.release(mapView, wrapper(context), false));
+
+    assertNull(pool.acquire(wrapper(activity(application)), false));
+    assertSame(mapView, pool.acquire(wrapper(context), false));
+  }
+
+  @Test
+  public void handsViewsOutForVirtualDisplayContextsOfTheApplication() {
+    final MapViewPool pool = new MapViewPool();
+    pool.ensureCapacity(context, 1);
+    final MapView mapView = mock(MapView.class);
+    pool.release(mapView, context, false);
+
+    assertNull(pool.acquire(displayContext(mock(Application.class)), false));
+    assertSame(mapView, pool.acquire(displayContext(application), false));
+  }
+
+  @Test
+  public void destroysViewsCreatedForVirtualDisplays() {
+    final MapViewPool pool = new MapViewPool();
+    pool.ensureCapacity(context, 1);
+    final MapView mapView = mock(MapView.class);
+
+    assertFalse(pool.release(mapView, displayContext(application), false));
+
+    verify(mapView).onDestroy();
+  }
+
+  private static Activity activity(Application application) {
+    final Activity activity = mock(Activity.class);
+    when(activity.getApplicationContext()).thenReturn(application);
+    return activity;
+  }
+
+  private static ContextWrapper wrapper(Context base) {
+    final ContextWrapper wrapper = mock(ContextWrapper.class);
+    when(wrapper.getBaseContext()).thenReturn(base);
+    return wrapper;
+  }
+
+  /** A context like the one of the virtual display a platform view is shown in, wrapping none. */
+  private static Context displayContext(Application application) {
+    final Context context = mock(Context.class);
+    when(context.getApplicationContext()).thenReturn(application);
+    return context;
+  }
+}
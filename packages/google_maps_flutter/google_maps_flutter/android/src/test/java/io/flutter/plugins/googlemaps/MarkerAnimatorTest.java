@@ -0,0 +1,132 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class MarkerAnimatorTest {
+  private final MarkerAnimator animator = new MarkerAnimator();
+  private final Map<String, double[]> moves = new HashMap<>();
+  private final MarkerAnimator.Listener listener =
+      new MarkerAnimator.Listener() {
+        @Override
+        public void onMarkerMoved(
+            String markerId, double latitude, double longitude, float rotation) {
+          moves.put(markerId, new double[] {latitude, longitude, rotation});
+        }
+      };
+
+  @Test
+  public void interpolatesTowardsTheTarget() {
+    animator.start("m", 0, 0, 0, keyframes(1000, 10, 20, Float.NaN), 5000);
+
+    animator.onFrame(5250, listener);
+
+    assertArrayEquals(new double[] {2.5, 5, Double.NaN}, moves.get("m"), 1e-9);
+    assertTrue(animator.isAnimating("m"));
+  }
+
+  @Test
+  public void endsAtTheLastKeyframe() {
+    animator.start("m", 0, 0, 0, keyframes(1000, 10, 20, Float.NaN), 0);
+
+    animator.onFrame(1500, listener);
+
+    assertArrayEquals(new double[] {10, 20, Double.NaN}, moves.get("m"), 1e-9);
+    assertFalse(animator.isRunning());
+  }
+
+  @Test
+  public void followsTimedPaths() {
+    final List<MarkerAnimator.Keyframe> path = new ArrayList<>();
+    path.add(new MarkerAnimator.Keyframe(100, 1, 0, Float.NaN));
+    path.add(new MarkerAnimator.Keyframe(300, 1, 4, Float.NaN));
+    animator.start("m", 0, 0, 0, path, 0);
+
+    animator.onFrame(50, listener);
+    assertArrayEquals(new double[] {0.5, 0, Double.NaN}, moves.get("m"), 1e-9);
+
+    animator.onFrame(200, listener);
+    assertArrayEquals(new double[] {1, 2, Double.NaN}, moves.get("m"), 1e-9);
+  }
+
+  @Test
+  public void crossesTheAntimeridianTheShortWay() {
+    animator.start("m", 0, 170, 0, keyframes(100, 0, -170, Float.NaN), 0);
+
+    animator.onFrame(75, listener);
+
+    assertEquals(-175, moves.get("m")[1], 1e-9);
+  }
+
+  @Test
+  public void rotatesTheShortWay() {
+    animator.start("m", 0, 0, 350, keyframes(100, 0, 0, 30), 0);
+
+    animator.onFrame(25, listener);
+    assertEquals(0, moves.get("m")[2], 1e-4);
+
+    animator.onFrame(100, listener);
+    assertEquals(30, moves.get("m")[2], 1e-4);
+  }
+
+  @Test
+  public void keepsThePreviousRotationForKeyframesWithout() {
+    final List<MarkerAnimator.Keyframe> path = new ArrayList<>();
+    path.add(new MarkerAnimator.Keyframe(100, 0, 0, 90));
+    path.add(new MarkerAnimator.Keyframe(200, 0, 0, Float.NaN));
+    animator.start("m", 0, 0, 0, path, 0);
+
+    animator.onFrame(150, listener);
+
+    assertEquals(90, moves.get("m")[2], 1e-4);
+  }
+
+  @Test
+  public void reportsPositionsBetweenFrames() {
+    animator.start("m", 0, 0, 0, keyframes(100, 10, 0, Float.NaN), 0);
+
+    assertArrayEquals(new double[] {5, 0, Double.NaN}, animator.getPosition("m", 50), 1e-9);
+    assertNull(animator.getPosition("other", 50));
+  }
+
+  @Test
+  public void cancelStopsTheAnimation() {
+    animator.start("m", 0, 0, 0, keyframes(100, 10, 0, Float.NaN), 0);
+
+    animator.cancel("m");
+    animator.onFrame(50, listener);
+
+    assertTrue(moves.isEmpty());
+    assertFalse(animator.isRunning());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsKeyframesOutOfOrder() {
+    animator.start(
+        "m",
+        0,
+        0,
+        0,
+        Arrays.asList(
+            new MarkerAnimator.Keyframe(200, 1, 1, Float.NaN),
+            new MarkerAnimator.Keyframe(100, 2, 2, Float.NaN)),
+        0);
+  }
+
+  private static List<MarkerAnimator.Keyframe> keyframes(
+      long timeMillis, double latitude, double longitude, float rotation) {
+    return Collections.singletonList(
+        new MarkerAnimator.Keyframe(timeMillis, latitude, longitude, rotation));
+  }
+}
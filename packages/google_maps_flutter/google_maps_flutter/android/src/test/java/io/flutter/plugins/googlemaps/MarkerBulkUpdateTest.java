@@ -0,0 +1,153 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class MarkerBulkUpdateTest {
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  @Test
+  public void decodesPositionsWithFullPrecision() {
+    final ByteBuffer buffer = newBuffer();
+    buffer.putInt(2);
+    putString(buffer, "truck_1");
+    buffer.putShort((short) MarkerBulkUpdate.FIELD_POSITION);
+    buffer.putDouble(52.520008123456789);
+    buffer.putDouble(13.404954987654321);
+    putString(buffer, "truck_2");
+    buffer.putShort((short) MarkerBulkUpdate.FIELD_POSITION);
+    buffer.putDouble(-33.8688);
+    buffer.putDouble(151.2093);
+
+    final List<String> decoded = decode(buffer);
+
+    assertEquals(
+        Arrays.asList(
+            "truck_1 1 52.52000812345679,13.404954987654321", "truck_2 1 -33.8688,151.2093"),
+        decoded);
+  }
+
+  @Test
+  public void decodesOnlyTheFieldsInTheMask() {
+    final ByteBuffer buffer = newBuffer();
+    buffer.putInt(1);
+    putString(buffer, "bus");
+    buffer.putShort(
+        (short)
+            (MarkerBulkUpdate.FIELD_ROTATION
+                | MarkerBulkUpdate.FIELD_VISIBLE
+                | MarkerBulkUpdate.FIELD_ICON));
+    buffer.putFloat(90);
+    buffer.put((byte) 0);
+    putString(buffer, "bus_icon");
+
+    final List<MarkerBulkUpdate.Entry> entries = new ArrayList<>();
+    MarkerBulkUpdate.decode(
+        toBytes(buffer),
+        new MarkerBulkUpdate.Visitor() {
+          @Override
+          public void visit(MarkerBulkUpdate.Entry entry) {
+            assertEquals("bus", entry.markerId);
+            assertFalse(entry.has(MarkerBulkUpdate.FIELD_POSITION));
+            assertTrue(entry.has(MarkerBulkUpdate.FIELD_ROTATION));
+            assertEquals(90f, entry.rotation, 0);
+            assertFalse(entry.visible);
+            assertEquals("bus_icon", entry.iconId);
+            entries.add(entry);
+          }
+        });
+    assertEquals(1, entries.size());
+  }
+
+  @Test
+  public void clearsIconIdOfEntriesWithoutIcon() {
+    final ByteBuffer buffer = newBuffer();
+    buffer.putInt(2);
+    putString(buffer, "a");
+    buffer.putShort((short) MarkerBulkUpdate.FIELD_ICON);
+    putString(buffer, "icon");
+    putString(buffer, "b");
+    buffer.putShort((short) MarkerBulkUpdate.FIELD_ALPHA);
+    buffer.putFloat(0.5f);
+
+    final List<String> iconIds = new ArrayList<>();
+    MarkerBulkUpdate.decode(
+        toBytes(buffer),
+        new MarkerBulkUpdate.Visitor() {
+          @Override
+          public void visit(MarkerBulkUpdate.Entry entry) {
+            iconIds.add(entry.iconId);
+          }
+        });
+    assertEquals("icon", iconIds.get(0));
+    assertNull(iconIds.get(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsTruncatedPayload() {
+    final ByteBuffer buffer = newBuffer();
+    buffer.putInt(1);
+    putString(buffer, "a");
+    buffer.putShort((short) MarkerBulkUpdate.FIELD_POSITION);
+    buffer.putDouble(1);
+
+    decode(buffer);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsUnknownFields() {
+    final ByteBuffer buffer = newBuffer();
+    buffer.putInt(1);
+    putString(buffer, "a");
+    buffer.putShort((short) (1 << 15));
+
+    decode(buffer);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsTrailingBytes() {
+    final ByteBuffer buffer = newBuffer();
+    buffer.putInt(0);
+    buffer.put((byte) 1);
+
+    decode(buffer);
+  }
+
+  private static ByteBuffer newBuffer() {
+    return ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static void putString(ByteBuffer buffer, String value) {
+    final byte[] bytes = value.getBytes(UTF_8);
+    buffer.putShort((short) bytes.length);
+    buffer.put(bytes);
+  }
+
+  private static byte[] toBytes(ByteBuffer buffer) {
+    return Arrays.copyOf(buffer.array(), buffer.position());
+  }
+
+  private static List<String> decode(ByteBuffer buffer) {
+    final List<String> decoded = new ArrayList<>();
+    MarkerBulkUpdate.decode(
+        toBytes(buffer),
+        new MarkerBulkUpdate.Visitor() {
+          @Override
+          public void visit(MarkerBulkUpdate.Entry entry) {
+            decoded.add(
+                entry.markerId + " " + entry.fields + " " + entry.latitude + "," + entry.longitude);
+          }
+        });
+    return decoded;
+  }
+}
@@ -0,0 +1,53 @@
+package io.flutter.plugins.googlemaps;
+
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Measures how long reclustering takes as the number of markers grows.
+ *
+ * <p>Excluded from the unit suite. Run it with {@code ./gradlew test -Pbenchmarks --tests
+ * '*MarkerClustererBenchmark'}; the measurements are printed.
+ */
+public class MarkerClustererBenchmark {
+  private static final int[] MARKER_COUNTS = {1000, 10000, 20000, 50000, 100000};
+  private static final int WARMUP_RUNS = 3;
+  private static final int MEASURED_RUNS = 10;
+
+  @Test
+  public void reclusterTimeVersusMarkerCount() {
+    for (String algorithm :
+        new String[] {MarkerClusterer.ALGORITHM_GRID, MarkerClusterer.ALGORITHM_DISTANCE}) {
+      final MarkerClusterer.Options options = new MarkerClusterer.Options(algorithm, 60, 2, 0);
+      for (int count : MARKER_COUNTS) {
+        final Random random = new Random(count);
+        final String[] ids = new String[count];
+        final double[] latLngs = new double[count * 2];
+        for (int i = 0; i < count; i++) {
+          ids[i] = "marker_" + i;
+          // Roughly the extent of a large city.
+          latLngs[2 * i] = 40.5 + random.nextDouble() * 0.4;
+          latLngs[2 * i + 1] = -74.2 + random.nextDouble() * 0.5;
+        }
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+          MarkerClusterer.cluster(ids, latLngs, 12, options);
+        }
+        int clusterCount = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+          clusterCount = MarkerClusterer.cluster(ids, latLngs, 12, options).size();
+        }
+        final double millis = (System.nanoTime() - start) / 1e6 / MEASURED_RUNS;
+        System.out.println(
+            String.format(
+                Locale.US,
+                "%s, %d markers -> %d clusters: %.2f ms",
+                algorithm,
+                count,
+                clusterCount,
+                millis));
+      }
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+public class MarkerClustererTest {
+  private static final MarkerClusterer.Options GRID =
+      new MarkerClusterer.Options(MarkerClusterer.ALGORITHM_GRID, 60, 2, 0);
+  private static final MarkerClusterer.Options DISTANCE =
+      new MarkerClusterer.Options(MarkerClusterer.ALGORITHM_DISTANCE, 60, 2, 0);
+
+  private static final String[] IDS = {"a", "b", "c"};
+  // a and b are about 11 m apart, c is on another continent.
+  private static final double[] LAT_LNGS = {52.5200, 13.4050, 52.5201, 13.4050, -33.8688, 151.2093};
+
+  @Test
+  public void grid_groupsNearbyMarkers() {
+    final List<MarkerClusterer.Cluster> clusters = MarkerClusterer.cluster(IDS, LAT_LNGS, 10, GRID);
+
+    assertEquals(2, clusters.size());
+    assertTrue(containsCluster(clusters, "a", "b"));
+    assertTrue(containsCluster(clusters, "c"));
+  }
+
+  @Test
+  public void distance_groupsNearbyMarkers() {
+    final List<MarkerClusterer.Cluster> clusters =
+        MarkerClusterer.cluster(IDS, LAT_LNGS, 10, DISTANCE);
+
+    assertEquals(2, clusters.size());
+    assertTrue(containsCluster(clusters, "a", "b"));
+    assertTrue(containsCluster(clusters, "c"));
+  }
+
+  @Test
+  public void markersSeparateWhenZoomedIn() {
+    final List<MarkerClusterer.Cluster> clusters =
+        MarkerClusterer.cluster(IDS, LAT_LNGS, 21, DISTANCE);
+
+    assertEquals(3, clusters.size());
+  }
+
+  @Test
+  public void singleMarkersKeepTheirMarkerId() {
+    final List<MarkerClusterer.Cluster> clusters = MarkerClusterer.cluster(IDS, LAT_LNGS, 21, GRID);
+
+    for (MarkerClusterer.Cluster cluster : clusters) {
+      assertTrue(cluster.isSingleMarker());
+      assertEquals(cluster.markerIds.get(0), cluster.id);
+    }
+  }
+
+  @Test
+  public void clusterIdsAreStableAcrossReclustering() {
+    final List<MarkerClusterer.Cluster> first = MarkerClusterer.cluster(IDS, LAT_LNGS, 10, GRID);
+    final List<MarkerClusterer.Cluster> second =
+        MarkerClusterer.cluster(IDS, LAT_LNGS, 10.5f, GRID);
+
+    assertEquals(clusterIds(first), clusterIds(second));
+  }
+
+  @Test
+  public void clusterPositionIsTheCentroid() {
+    final List<MarkerClusterer.Cluster> clusters = MarkerClusterer.cluster(IDS, LAT_LNGS, 10, GRID);
+    for (MarkerClusterer.Cluster cluster : clusters) {
+      if (!cluster.isSingleMarker()) {
+        assertEquals(52.52005, cluster.latitude, 1e-9);
+        assertEquals(13.4050, cluster.longitude, 1e-9);
+      }
+    }
+  }
+
+  @Test
+  public void respectsMinClusterSize() {
+    final MarkerClusterer.Options options =
+        new MarkerClusterer.Options(MarkerClusterer.ALGORITHM_GRID, 60, 3, 0);
+    final List<MarkerClusterer.Cluster> clusters =
+        MarkerClusterer.cluster(IDS, LAT_LNGS, 10, options);
+
+    assertEquals(3, clusters.size());
+  }
+
+  @Test
+  public void everyMarkerIsInExactlyOneCluster() {
+    final Random random = new Random(42);
+    final int count = 5000;
+    final String[] ids = new String[count];
+    final double[] latLngs = new double[count * 2];
+    for (int i = 0; i < count; i++) {
+      ids[i] = "marker_" + i;
+      latLngs[2 * i] = 48 + random.nextDouble();
+      latLngs[2 * i + 1] = 2 + random.nextDouble();
+    }
+    for (MarkerClusterer.Options options : Arrays.asList(GRID, DISTANCE)) {
+      final Set<String> seen = new HashSet<>();
+      for (MarkerClusterer.Cluster cluster : MarkerClusterer.cluster(ids, latLngs, 9, options)) {
+        for (String markerId : cluster.markerIds) {
+          assertTrue(seen.add(markerId));
+        }
+      }
+      assertEquals(count, seen.size());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsUnknownAlgorithm() {
+    new MarkerClusterer.Options("kmeans", 60, 2, 0);
+  }
+
+  private static boolean containsCluster(List<MarkerClusterer.Cluster> clusters, String... ids) {
+    final Set<String> expected = new HashSet<>(Arrays.asList(ids));
+    for (MarkerClusterer.Cluster cluster : clusters) {
+      if (cluster.markerIds.size() == expected.size()
+          && new HashSet<>(cluster.markerIds).equals(expected)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Set<String> clusterIds(List<MarkerClusterer.Cluster> clusters) {
+    final Set<String> ids = new HashSet<>();
+    for (MarkerClusterer.Cluster cluster : clusters) {
+      ids.add(cluster.id);
+    }
+    return ids;
+  }
+}
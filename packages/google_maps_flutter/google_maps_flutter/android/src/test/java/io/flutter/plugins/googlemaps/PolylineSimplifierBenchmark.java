@@ -0,0 +1,69 @@
+package io.flutter.plugins.googlemaps;
+
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Measures how long simplifying a long GPS track takes at the zoom levels it is typically viewed
+ * at, and how many points remain.
+ *
+ * <p>Excluded from the unit suite. Run it with {@code ./gradlew test -Pbenchmarks --tests
+ * '*PolylineSimplifierBenchmark'}; the measurements are printed.
+ */
+public class PolylineSimplifierBenchmark {
+  private static final int POINT_COUNT = 100000;
+  private static final int[] ZOOM_LEVELS = {5, 10, 13, 16, 19};
+  private static final int WARMUP_RUNS = 3;
+  private static final int MEASURED_RUNS = 10;
+
+  @Test
+  public void simplifyTimeVersusZoomLevel() {
+    final double[] latLngs = track(POINT_COUNT);
+    final double[] points = PolylineSimplifier.project(latLngs);
+    for (String algorithm :
+        new String[] {
+          PolylineSimplifier.ALGORITHM_DOUGLAS_PEUCKER, PolylineSimplifier.ALGORITHM_VISVALINGAM
+        }) {
+      final PolylineSimplifier.Options options = new PolylineSimplifier.Options(algorithm, 1);
+      for (int zoomLevel : ZOOM_LEVELS) {
+        final double tolerance = options.worldTolerance(zoomLevel);
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+          PolylineSimplifier.simplify(points, tolerance, algorithm);
+        }
+        int keptCount = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+          keptCount = PolylineSimplifier.simplify(points, tolerance, algorithm).length;
+        }
+        final double millis = (System.nanoTime() - start) / 1e6 / MEASURED_RUNS;
+        System.out.println(
+            String.format(
+                Locale.US,
+                "%s, zoom %d: %d -> %d points: %.2f ms",
+                algorithm,
+                zoomLevel,
+                POINT_COUNT,
+                keptCount,
+                millis));
+      }
+    }
+  }
+
+  /** A track sampled every second or so while driving, wandering around a city. */
+  private static double[] track(int count) {
+    final Random random = new Random(count);
+    final double[] latLngs = new double[count * 2];
+    double latitude = 48.85;
+    double longitude = 2.35;
+    double heading = 0;
+    for (int i = 0; i < count; i++) {
+      heading += random.nextGaussian() * 0.1;
+      latitude += Math.cos(heading) * 1e-4;
+      longitude += Math.sin(heading) * 1.5e-4;
+      latLngs[2 * i] = latitude;
+      latLngs[2 * i + 1] = longitude;
+    }
+    return latLngs;
+  }
+}
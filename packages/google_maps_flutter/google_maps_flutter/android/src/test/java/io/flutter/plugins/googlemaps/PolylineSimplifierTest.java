@@ -0,0 +1,120 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import org.junit.Test;
+
+public class PolylineSimplifierTest {
+  private static final String[] ALGORITHMS = {
+    PolylineSimplifier.ALGORITHM_DOUGLAS_PEUCKER, PolylineSimplifier.ALGORITHM_VISVALINGAM
+  };
+
+  @Test
+  public void removesCollinearPoints() {
+    final double[] points = {0, 0, 1, 0, 2, 0, 3, 0, 4, 0};
+
+    for (String algorithm : ALGORITHMS) {
+      assertArrayEquals(new int[] {0, 4}, PolylineSimplifier.simplify(points, 0.01, algorithm));
+    }
+  }
+
+  @Test
+  public void keepsCornersAboveTheTolerance() {
+    final double[] points = {0, 0, 1, 0.01, 2, 0, 2, 1, 2, 2};
+
+    for (String algorithm : ALGORITHMS) {
+      assertArrayEquals(new int[] {0, 2, 4}, PolylineSimplifier.simplify(points, 0.1, algorithm));
+    }
+  }
+
+  @Test
+  public void keepsShortLinesUnchanged() {
+    for (String algorithm : ALGORITHMS) {
+      assertArrayEquals(
+          new int[] {0, 1}, PolylineSimplifier.simplify(new double[] {0, 0, 5, 5}, 10, algorithm));
+      assertArrayEquals(new int[0], PolylineSimplifier.simplify(new double[0], 10, algorithm));
+    }
+  }
+
+  @Test
+  public void douglasPeucker_staysWithinTolerance() {
+    final double[] points = randomWalk(5000);
+    final double tolerance = 0.5;
+    final int[] kept =
+        PolylineSimplifier.simplify(
+            points, tolerance, PolylineSimplifier.ALGORITHM_DOUGLAS_PEUCKER);
+
+    for (int k = 0; k + 1 < kept.length; k++) {
+      for (int i = kept[k] + 1; i < kept[k + 1]; i++) {
+        assertTrue(distanceToSegment(points, i, kept[k], kept[k + 1]) <= tolerance + 1e-9);
+      }
+    }
+  }
+
+  @Test
+  public void keepsFewerPointsAsToleranceGrows() {
+    final double[] points = randomWalk(5000);
+
+    for (String algorithm : ALGORITHMS) {
+      int previous = Integer.MAX_VALUE;
+      for (double tolerance : new double[] {0.01, 0.1, 1, 10}) {
+        final int[] kept = PolylineSimplifier.simplify(points, tolerance, algorithm);
+        assertEquals(0, kept[0]);
+        assertEquals(4999, kept[kept.length - 1]);
+        for (int i = 1; i < kept.length; i++) {
+          assertTrue(kept[i] > kept[i - 1]);
+        }
+        assertTrue(kept.length <= previous);
+        previous = kept.length;
+      }
+    }
+  }
+
+  @Test
+  public void toleranceHalvesWithEachZoomLevel() {
+    final PolylineSimplifier.Options options =
+        new PolylineSimplifier.Options(PolylineSimplifier.ALGORITHM_DOUGLAS_PEUCKER, 2);
+
+    assertEquals(2, options.worldTolerance(0), 0);
+    assertEquals(0.5, options.worldTolerance(2), 0);
+  }
+
+  @Test
+  public void projectsToWorldCoordinates() {
+    final double[] projected = PolylineSimplifier.project(new double[] {0, 0, 0, 180});
+
+    assertArrayEquals(new double[] {128, 128, 256, 128}, projected, 1e-9);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsUnknownAlgorithm() {
+    new PolylineSimplifier.Options("reumannWitkam", 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsNonPositiveTolerance() {
+    new PolylineSimplifier.Options(PolylineSimplifier.ALGORITHM_VISVALINGAM, 0);
+  }
+
+  private static double[] randomWalk(int count) {
+    final Random random = new Random(7);
+    final double[] points = new double[count * 2];
+    for (int i = 1; i < count; i++) {
+      points[2 * i] = points[2 * i - 2] + random.nextDouble();
+      points[2 * i + 1] = points[2 * i - 1] + random.nextGaussian();
+    }
+    return points;
+  }
+
+  private static double distanceToSegment(double[] points, int i, int start, int end) {
+    final double x = points[2 * i] - points[2 * start];
+    final double y = points[2 * i + 1] - points[2 * start + 1];
+    final double dx = points[2 * end] - points[2 * start];
+    final double dy = points[2 * end + 1] - points[2 * start + 1];
+    final double t = Math.max(0, Math.min(1, (x * dx + y * dy) / (dx * dx + dy * dy)));
+    return Math.hypot(x - t * dx, y - t * dy);
+  }
+}
@@ -0,0 +1,63 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class SnapshotEncoderTest {
+
+  @Test
+  public void defaultsToLosslessPngBytes() {
+    final SnapshotEncoder.Options options = Convert.toSnapshotOptions(null);
+
+    assertSame(SnapshotEncoder.Options.DEFAULT, options);
+    assertEquals(SnapshotEncoder.FORMAT_PNG, options.format);
+    assertEquals(100, options.quality);
+    assertEquals(1, options.scale, 0);
+    assertNull(options.path);
+  }
+
+  @Test
+  public void readsOptionsFromArguments() {
+    final Map<String, Object> arguments = new HashMap<>();
+    arguments.put("format", "jpeg");
+    arguments.put("quality", 80);
+    arguments.put("scale", 0.5);
+    arguments.put("path", "/data/snapshot.jpg");
+
+    final SnapshotEncoder.Options options = Convert.toSnapshotOptions(arguments);
+
+    assertEquals(SnapshotEncoder.FORMAT_JPEG, options.format);
+    assertEquals(80, options.quality);
+    assertEquals(0.5f, options.scale, 0);
+    assertEquals("/data/snapshot.jpg", options.path);
+  }
+
+  @Test
+  public void scalesSizesWithoutReachingZero() {
+    final SnapshotEncoder.Options options =
+        new SnapshotEncoder.Options(SnapshotEncoder.FORMAT_WEBP, 90, 0.25f, null);
+
+    assertEquals(270, options.scaledSize(1080));
+    assertEquals(1, options.scaledSize(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsUnknownFormat() {
+    new SnapshotEncoder.Options("gif", 100, 1, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsQualityAbove100() {
+    new SnapshotEncoder.Options(SnapshotEncoder.FORMAT_JPEG, 101, 1, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsUpscaling() {
+    new SnapshotEncoder.Options(SnapshotEncoder.FORMAT_PNG, 100, 2, null);
+  }
+}
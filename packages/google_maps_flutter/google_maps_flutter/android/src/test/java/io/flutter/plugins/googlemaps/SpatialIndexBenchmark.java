@@ -0,0 +1,53 @@
+package io.flutter.plugins.googlemaps;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Measures how long finding the markers of a viewport takes as the number of markers grows, which
+ * is the work a virtualized map does each time the camera settles.
+ *
+ * <p>Excluded from the unit suite. Run it with {@code ./gradlew test -Pbenchmarks --tests
+ * '*SpatialIndexBenchmark'}; the measurements are printed.
+ */
+public class SpatialIndexBenchmark {
+  private static final int[] MARKER_COUNTS = {1000, 10000, 100000};
+  private static final int QUERIES = 1000;
+
+  @Test
+  public void viewportQueryTimeVersusMarkerCount() {
+    for (int count : MARKER_COUNTS) {
+      final Random random = new Random(count);
+      final SpatialIndex index = new SpatialIndex();
+      final long buildStart = System.nanoTime();
+      for (int i = 0; i < count; i++) {
+        // Roughly the extent of a large city.
+        index.put(
+            "marker_" + i, 40.5 + random.nextDouble() * 0.4, -74.2 + random.nextDouble() * 0.5);
+      }
+      final double buildMillis = (System.nanoTime() - buildStart) / 1e6;
+      int found = 0;
+      final long start = System.nanoTime();
+      for (int q = 0; q < QUERIES; q++) {
+        // A phone screen at about zoom level 14, with a margin of half a screen.
+        final double south = 40.5 + random.nextDouble() * 0.35;
+        final double west = -74.2 + random.nextDouble() * 0.45;
+        final Set<String> result = new HashSet<>();
+        index.query(south, west, south + 0.05, west + 0.05, result);
+        found += result.size();
+      }
+      final double millis = (System.nanoTime() - start) / 1e6 / QUERIES;
+      System.out.println(
+          String.format(
+              Locale.US,
+              "%d markers: build %.2f ms, query %.3f ms, %d markers in viewport",
+              count,
+              buildMillis,
+              millis,
+              found / QUERIES));
+    }
+  }
+}
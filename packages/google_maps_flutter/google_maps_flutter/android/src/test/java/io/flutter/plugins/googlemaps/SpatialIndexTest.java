@@ -0,0 +1,210 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+public class SpatialIndexTest {
+
+  @Test
+  public void findsPointsInRegion() {
+    final SpatialIndex index = new SpatialIndex();
+    index.put("berlin", 52.52, 13.405);
+    index.put("potsdam", 52.39, 13.065);
+    index.put("sydney", -33.87, 151.21);
+
+    assertEquals(new HashSet<>(Arrays.asList("berlin", "potsdam")), query(index, 52, 13, 53, 14));
+    assertEquals(new HashSet<>(Arrays.asList("berlin")), query(index, 52.5, 13.3, 52.6, 13.5));
+  }
+
+  @Test
+  public void movesAndRemovesItems() {
+    final SpatialIndex index = new SpatialIndex();
+    index.put("truck", 52.52, 13.405);
+    index.put("truck", 48.85, 2.35);
+
+    assertTrue(query(index, 52, 13, 53, 14).isEmpty());
+    assertEquals(new HashSet<>(Arrays.asList("truck")), query(index, 48, 2, 49, 3));
+    assertEquals(1, index.size());
+
+    assertTrue(index.remove("truck"));
+    assertFalse(index.remove("truck"));
+    assertTrue(query(index, 48, 2, 49, 3).isEmpty());
+  }
+
+  @Test
+  public void handlesRegionsAcrossTheAntimeridian() {
+    final SpatialIndex index = new SpatialIndex();
+    index.put("fiji", -17.7, 178.1);
+    index.put("samoa", -13.8, -172.1);
+    index.put("hawaii", 21.3, -157.8);
+
+    assertEquals(new HashSet<>(Arrays.asList("fiji", "samoa")), query(index, -20, 175, -10, -170));
+  }
+
+  @Test
+  public void findsBoxesOverlappingTheRegion() {
+    final SpatialIndex index = new SpatialIndex();
+    index.put("park", 52.50, 13.35, 52.52, 13.38);
+    index.put("country", 47, 5, 55, 15);
+    index.put("dateline", 60, 170, 70, -170);
+
+    assertEquals(
+        new HashSet<>(Arrays.asList("park", "country")), query(index, 52.51, 13.36, 52.6, 13.4));
+    assertEquals(new HashSet<>(Arrays.asList("dateline")), query(index, 65, -175, 66, -174));
+    assertTrue(index.remove("country"));
+    assertEquals(new HashSet<>(Arrays.asList("park")), query(index, 52.51, 13.36, 52.6, 13.4));
+  }
+
+  @Test
+  public void matchesABruteForceScan() {
+    final Random random = new Random(3);
+    final SpatialIndex index = new SpatialIndex();
+    final double[] latLngs = new double[2000];
+    for (int i = 0; i < latLngs.length; i += 2) {
+      latLngs[i] = 40 + random.nextDouble() * 10;
+      latLngs[i + 1] = -5 + random.nextDouble() * 10;
+      index.put("m" + i, latLngs[i], latLngs[i + 1]);
+    }
+    for (int q = 0; q < 20; q++) {
+      final double south = 40 + random.nextDouble() * 10;
+      final double west = -5 + random.nextDouble() * 10;
+      final double north = south + random.nextDouble() * 3;
+      final double east = west + random.nextDouble() * 3;
+      final Set<String> expected = new HashSet<>();
+      for (int i = 0; i < latLngs.length; i += 2) {
+        if (latLngs[i] >= south
+            && latLngs[i] <= north
+            && latLngs[i + 1] >= west
+            && latLngs[i + 1] <= east) {
+          expected.add("m" + i);
+        }
+      }
+      assertEquals(expected, query(index, south, west, north, east));
+    }
+  }
+
+  @Test
+  public void growsRegionsByTheMargin() {
+    assertArrayEquals(new double[] {9, 19, 13, 23}, SpatialIndex.grow(10, 20, 12, 22, 0.5), 1e-9);
+    assertArrayEquals(
+        new double[] {-0.5, 177, 1, -177}, SpatialIndex.grow(0, 179, 0.5, -179, 1), 1e-9);
+    assertArrayEquals(
+        new double[] {-90, -180, 90, 180}, SpatialIndex.grow(-60, -170, 60, 170, 0.5), 1e-9);
+  }
+
+  @Test
+  public void checksShapesAfterTheirBoundingBox() {
+    final SpatialIndex index = new SpatialIndex();
+    // A diagonal line whose bounding box covers the region but which passes by its corner.
+    index.put("diagonal", path(false, 0, 0, 10, 10));
+    // A polygon around the region, without any vertex in it.
+    index.put("square", path(true, -20, -20, -20, 20, 20, 20, 20, -20));
+    index.put("circle", new Geometry.Circle(1, -1, 150000));
+
+    assertEquals(new HashSet<>(Arrays.asList("square")), query(index, 6, 1, 7, 2));
+    assertEquals(
+        new HashSet<>(Arrays.asList("diagonal", "square", "circle")),
+        query(index, 0.5, 0.2, 0.6, 0.8));
+  }
+
+  @Test
+  public void findsTheNearestItems() {
+    final SpatialIndex index = new SpatialIndex();
+    index.put("berlin", 52.52, 13.405);
+    index.put("potsdam", 52.39, 13.065);
+    index.put("sydney", -33.87, 151.21);
+
+    final List<SpatialIndex.Neighbor> nearest = new ArrayList<>();
+    index.nearest(52.5, 13.3, 2, nearest);
+
+    assertEquals(2, nearest.size());
+    assertEquals("berlin", nearest.get(0).id);
+    assertEquals("potsdam", nearest.get(1).id);
+    assertEquals(7500, nearest.get(0).distanceMeters, 500);
+  }
+
+  @Test
+  public void findsTheNearestItemsAcrossTheAntimeridian() {
+    final SpatialIndex index = new SpatialIndex();
+    index.put("east", -17, 179.9);
+    index.put("west", -17, -179.5);
+    index.put("far", -17, 170);
+
+    final List<SpatialIndex.Neighbor> nearest = new ArrayList<>();
+    index.nearest(-17, -179.95, 2, nearest);
+
+    assertEquals("east", nearest.get(0).id);
+    assertEquals("west", nearest.get(1).id);
+  }
+
+  @Test
+  public void measuresTheDistanceToShapes() {
+    final SpatialIndex index = new SpatialIndex();
+    index.put("road", path(false, 0, 0, 0, 1));
+    index.put("park", path(true, 1, 0, 1, 1, 2, 1, 2, 0));
+    index.put("zone", new Geometry.Circle(0.5, 3, 10000));
+
+    final List<SpatialIndex.Neighbor> nearest = new ArrayList<>();
+    index.nearest(1.5, 0.5, 3, nearest);
+
+    assertEquals("park", nearest.get(0).id);
+    assertEquals(0, nearest.get(0).distanceMeters, 0);
+    assertEquals("road", nearest.get(1).id);
+    assertEquals(1.5 * 111195, nearest.get(1).distanceMeters, 200);
+    assertEquals("zone", nearest.get(2).id);
+  }
+
+  @Test
+  public void nearestMatchesABruteForceScan() {
+    final Random random = new Random(5);
+    final SpatialIndex index = new SpatialIndex();
+    final double[] latLngs = new double[4000];
+    for (int i = 0; i < latLngs.length; i += 2) {
+      latLngs[i] = -60 + random.nextDouble() * 120;
+      latLngs[i + 1] = -180 + random.nextDouble() * 360;
+      index.put("m" + i, latLngs[i], latLngs[i + 1]);
+    }
+    for (int q = 0; q < 20; q++) {
+      final double latitude = -60 + random.nextDouble() * 120;
+      final double longitude = -180 + random.nextDouble() * 360;
+      final List<Double> distances = new ArrayList<>();
+      for (int i = 0; i < latLngs.length; i += 2) {
+        distances.add(Geometry.distanceMeters(latitude, longitude, latLngs[i], latLngs[i + 1]));
+      }
+      Collections.sort(distances);
+      final List<SpatialIndex.Neighbor> nearest = new ArrayList<>();
+      index.nearest(latitude, longitude, 5, nearest);
+      assertEquals(5, nearest.size());
+      for (int i = 0; i < 5; i++) {
+        assertEquals(distances.get(i), nearest.get(i).distanceMeters, 1e-6);
+      }
+    }
+  }
+
+  private static Geometry.Path path(boolean closed, double... latLngs) {
+    final List<LatLng> points = new ArrayList<>();
+    for (int i = 0; i < latLngs.length; i += 2) {
+      points.add(new LatLng(latLngs[i], latLngs[i + 1]));
+    }
+    return new Geometry.Path(points, closed);
+  }
+
+  private static Set<String> query(
+      SpatialIndex index, double south, double west, double north, double east) {
+    final Set<String> result = new HashSet<>();
+    index.query(south, west, north, east, result);
+    return result;
+  }
+}
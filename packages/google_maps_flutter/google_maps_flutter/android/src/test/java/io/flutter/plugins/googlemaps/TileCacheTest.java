@@ -0,0 +1,82 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TileCacheTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void evictsLeastRecentlyUsedTilesFromMemory() {
+    final TileCache cache = new TileCache(300, null, 0);
+    cache.put("a", new byte[100]);
+    cache.put("b", new byte[100]);
+    cache.put("c", new byte[100]);
+    cache.get("a");
+
+    cache.put("d", new byte[100]);
+
+    assertTrue(cache.containsInMemory("a"));
+    assertNull(cache.get("b"));
+    assertTrue(cache.containsInMemory("c"));
+    assertTrue(cache.containsInMemory("d"));
+    assertEquals(300, cache.getMemoryByteCount());
+  }
+
+  @Test
+  public void keepsTilesOnDiskAcrossInstances() throws Exception {
+    final File directory = temporaryFolder.newFolder("tiles");
+    final byte[] tile = {1, 2, 3};
+    new TileCache(1024, directory, 1024).put(TileCache.key(1, 2, 3), tile);
+
+    final TileCache reopened = new TileCache(1024, directory, 1024);
+
+    assertArrayEquals(tile, reopened.get(TileCache.key(1, 2, 3)));
+    assertTrue(reopened.containsInMemory(TileCache.key(1, 2, 3)));
+    assertEquals(3, reopened.getDiskByteCount());
+  }
+
+  @Test
+  public void remembersMissingTilesOnDisk() throws Exception {
+    final File directory = temporaryFolder.newFolder("tiles");
+    new TileCache(1024, directory, 1024).put("missing", TileCache.NO_TILE);
+
+    assertSame(TileCache.NO_TILE, new TileCache(1024, directory, 1024).get("missing"));
+  }
+
+  @Test
+  public void trimsLeastRecentlyUsedFilesFromDisk() throws Exception {
+    final File directory = temporaryFolder.newFolder("tiles");
+    final TileCache cache = new TileCache(1, directory, 1000);
+    for (int i = 0; i < 4; i++) {
+      cache.put("tile" + i, new byte[300]);
+      new File(directory, "tile" + i + ".tile").setLastModified(1000000L * (i + 1));
+    }
+
+    // The fourth tile exceeds the budget, so the oldest are deleted down to 90% of it.
+    assertEquals(900, cache.getDiskByteCount());
+    assertEquals(3, directory.listFiles().length);
+    assertNull(new TileCache(1, directory, 1000).get("tile0"));
+  }
+
+  @Test
+  public void clearEmptiesBothTiers() throws Exception {
+    final File directory = temporaryFolder.newFolder("tiles");
+    final TileCache cache = new TileCache(1024, directory, 1024);
+    cache.put("a", new byte[10]);
+
+    cache.clear();
+
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.getMemoryByteCount());
+    assertEquals(0, cache.getDiskByteCount());
+  }
+}
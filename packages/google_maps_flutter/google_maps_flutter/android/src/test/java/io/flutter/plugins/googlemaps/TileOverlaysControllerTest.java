@@ -0,0 +1,55 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class TileOverlaysControllerTest {
+
+  @Test
+  public void prefetchRing_surroundsTheVisibleTiles() {
+    // At zoom level 4 these bounds cover tiles x 8..9 and y 6..7.
+    final Set<String> ring = toSet(TileOverlaysController.prefetchRing(10, 5, 40, 40, 4));
+
+    assertEquals(12, ring.size());
+    for (int x = 7; x <= 10; x++) {
+      assertTrue(ring.contains(x + "," + 5));
+      assertTrue(ring.contains(x + "," + 8));
+    }
+    assertTrue(ring.contains("7,6"));
+    assertTrue(ring.contains("10,7"));
+  }
+
+  @Test
+  public void prefetchRing_wrapsAroundTheAntimeridian() {
+    final Set<String> ring = toSet(TileOverlaysController.prefetchRing(10, 170, 40, -170, 4));
+
+    assertTrue(ring.contains("14,6"));
+    assertTrue(ring.contains("1,6"));
+  }
+
+  @Test
+  public void prefetchRing_skipsRowsOutsideTheWorld() {
+    final int[] ring = TileOverlaysController.prefetchRing(-85, -180, 85, 179.9, 1);
+
+    assertEquals(0, ring.length);
+  }
+
+  @Test
+  public void prefetchRing_isBounded() {
+    final int[] ring = TileOverlaysController.prefetchRing(-60, -100, 60, 100, 10);
+
+    assertEquals(128, ring.length);
+  }
+
+  private static Set<String> toSet(int[] ring) {
+    final Set<String> tiles = new HashSet<>();
+    for (int i = 0; i < ring.length; i += 2) {
+      tiles.add(ring[i] + "," + ring[i + 1]);
+    }
+    return tiles;
+  }
+}
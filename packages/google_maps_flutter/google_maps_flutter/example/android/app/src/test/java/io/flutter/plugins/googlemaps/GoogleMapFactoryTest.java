@@ -0,0 +1,70 @@
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import android.content.Context;
+import android.content.ContextWrapper;
+import androidx.activity.ComponentActivity;
+import com.google.android.gms.maps.MapView;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.platform.PlatformView;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class GoogleMapFactoryTest {
+
+  private ComponentActivity activity;
+  private MapViewPool mapViewPool;
+  private GoogleMapFactory factory;
+
+  @Mock BinaryMessenger mockMessenger;
+  @Mock MapView mockMapView;
+
+  @Before
+  public void before() {
+    MockitoAnnotations.initMocks(this);
+    activity = Robolectric.setupActivity(ComponentActivity.class);
+    mapViewPool = new MapViewPool();
+    mapViewPool.ensureCapacity(activity, 1);
+    mapViewPool.release(mockMapView, activity, false);
+    factory = new GoogleMapFactory(mockMessenger, activity::getLifecycle, mapViewPool);
+  }
+
+  @Test
+  public void CreateWithActivityWrapperUsesPooledView() {
+    PlatformView platformView = factory.create(new ContextWrapper(activity), 0, createArgs());
+    assertSame(mockMapView, platformView.getView());
+  }
+
+  @Test
+  public void CreateWithVirtualDisplayContextUsesPooledView() {
+    // Like the context of a virtual display, which wraps no activity.
+    Context displayContext = new ContextWrapper(activity.getApplicationContext());
+    PlatformView platformView = factory.create(displayContext, 0, createArgs());
+    assertSame(mockMapView, platformView.getView());
+  }
+
+  @Test
+  public void CreateWithAnotherActivityCreatesView() {
+    ComponentActivity otherActivity = Robolectric.setupActivity(ComponentActivity.class);
+    PlatformView platformView = factory.create(otherActivity, 0, createArgs());
+    assertNotSame(mockMapView, platformView.getView());
+  }
+
+  private static Map<String, Object> createArgs() {
+    Map<String, Object> options = new HashMap<>();
+    options.put("liteModeEnabled", false);
+    Map<String, Object> args = new HashMap<>();
+    args.put("options", options);
+    return args;
+  }
+}
@@ -29,6 +29,12 @@ export 'package:google_maps_flutter_platform_interface/google_maps_flutter_platf
         Cap,
         Circle,
         CircleId,
+        Cluster,
+        ClusterAlgorithm,
+        ClusterOptions,
+        Heatmap,
+        HeatmapGradient,
+        HeatmapId,
         InfoWindow,
         JointType,
         LatLng,
@@ -36,14 +42,24 @@ export 'package:google_maps_flutter_platform_interface/google_maps_flutter_platf
         MapStyleException,
         MapType,
         Marker,
+        MarkerAnimation,
         MarkerId,
+        MarkerKeyframe,
         MinMaxZoomPreference,
+        NearestOverlay,
+        OverlayType,
         PatternItem,
         Polygon,
         PolygonId,
         Polyline,
         PolylineId,
-        ScreenCoordinate;
+        RegionQueryResult,
+        ScreenCoordinate,
+        Tile,
+        TileOverlay,
+        TileOverlayId,
+        TileProvider,
+        WeightedLatLng;
 
 part 'src/controller.dart';
 part 'src/google_map.dart';
@@ -38,6 +38,17 @@ class GoogleMapController {
     );
   }
 
+  /// Initializes the maps SDK and creates up to [mapViewCount] map views ahead
+  /// of the first [GoogleMap], in lite mode if [liteMode] is true.
+  ///
+  /// Call it before showing a map, such as when the app starts, so that the
+  /// first map shows sooner. Only supported on Android.
+  static Future<void> initialize(
+      {int mapViewCount = 1, bool liteMode = false}) {
+    return _googleMapsFlutterPlatform.initializeMaps(
+        mapViewCount: mapViewCount, liteMode: liteMode);
+  }
+
   /// Used to communicate with the native platform.
   ///
   /// Accessible only for testing.
@@ -85,6 +96,10 @@ class GoogleMapController {
     _googleMapsFlutterPlatform
         .onCircleTap(mapId: mapId)
         .listen((CircleTapEvent e) => _googleMapState.onCircleTap(e.value));
+    if (_googleMapState.widget.onClusterTap != null) {
+      _googleMapsFlutterPlatform.onClusterTap(mapId: mapId).listen(
+          (ClusterTapEvent e) => _googleMapState.widget.onClusterTap(e.value));
+    }
     _googleMapsFlutterPlatform
         .onTap(mapId: mapId)
         .listen((MapTapEvent e) => _googleMapState.onTap(e.position));
@@ -152,6 +167,59 @@ class GoogleMapController {
         mapId: mapId);
   }
 
+  /// Updates tile overlay configuration.
+  ///
+  /// The returned [Future] completes once the update has been made on the
+  /// platform side.
+  Future<void> _updateTileOverlays(TileOverlayUpdates tileOverlayUpdates) {
+    assert(tileOverlayUpdates != null);
+    return _googleMapsFlutterPlatform.updateTileOverlays(tileOverlayUpdates,
+        mapId: mapId);
+  }
+
+  /// Updates heatmap configuration.
+  ///
+  /// The returned [Future] completes once the update has been made on the
+  /// platform side.
+  Future<void> _updateHeatmaps(HeatmapUpdates heatmapUpdates) {
+    assert(heatmapUpdates != null);
+    return _googleMapsFlutterPlatform.updateHeatmaps(heatmapUpdates,
+        mapId: mapId);
+  }
+
+  /// Updates the overlays of every type given in a single platform pass.
+  ///
+  /// The returned [Future] completes once the updates have been made on the
+  /// platform side.
+  Future<void> _updateOverlays({
+    MarkerUpdates markerUpdates,
+    PolygonUpdates polygonUpdates,
+    PolylineUpdates polylineUpdates,
+    CircleUpdates circleUpdates,
+    TileOverlayUpdates tileOverlayUpdates,
+    HeatmapUpdates heatmapUpdates,
+  }) {
+    return _googleMapsFlutterPlatform.updateOverlays(
+      markerUpdates: markerUpdates,
+      polygonUpdates: polygonUpdates,
+      polylineUpdates: polylineUpdates,
+      circleUpdates: circleUpdates,
+      tileOverlayUpdates: tileOverlayUpdates,
+      heatmapUpdates: heatmapUpdates,
+      mapId: mapId,
+    );
+  }
+
+  /// Drops the cached tiles of the tile overlay with [tileOverlayId], so that
+  /// they are loaded again from its URL or its [TileProvider].
+  ///
+  /// Only supported on Android.
+  Future<void> clearTileCache(TileOverlayId tileOverlayId) {
+    assert(tileOverlayId != null);
+    return _googleMapsFlutterPlatform.clearTileCache(tileOverlayId,
+        mapId: mapId);
+  }
+
   /// Starts an animated change of the map camera position.
   ///
   /// The returned [Future] completes after the change has been started on the
@@ -249,6 +317,72 @@ class GoogleMapController {
         mapId: mapId);
   }
 
+  /// Returns the overlays of the map that intersect [bounds].
+  ///
+  /// Markers hidden by clustering or virtualization are included.
+  ///
+  /// Only supported on Android.
+  Future<RegionQueryResult> queryRegion(LatLngBounds bounds) {
+    assert(bounds != null);
+    return _googleMapsFlutterPlatform.queryRegion(bounds, mapId: mapId);
+  }
+
+  /// Returns the [count] markers, polygons, polylines and circles nearest to
+  /// [position], nearest first.
+  ///
+  /// Only supported on Android.
+  Future<List<NearestOverlay>> queryNearest(LatLng position, {int count = 1}) {
+    assert(position != null);
+    return _googleMapsFlutterPlatform.queryNearest(position,
+        count: count, mapId: mapId);
+  }
+
+  /// Groups markers that are close to each other on screen with [options],
+  /// or stops grouping them if [options] is null.
+  ///
+  /// Markers in a cluster are drawn as one marker, and taps on it are reported
+  /// to [GoogleMap.onClusterTap]. Clusters are recomputed when markers change
+  /// and when the zoom level changes.
+  ///
+  /// Only supported on Android.
+  Future<void> setClusterOptions(ClusterOptions options) {
+    return _googleMapsFlutterPlatform.setClusterOptions(options, mapId: mapId);
+  }
+
+  /// Moves markers along [animations] on the platform, redrawing them on every
+  /// frame without a position being sent for each one.
+  ///
+  /// Markers move from where they are shown. Their final position applies
+  /// right away to clustering and queries; set it on the markers of the
+  /// [GoogleMap] as well, otherwise the next change to a marker moves it back.
+  ///
+  /// Only supported on Android.
+  Future<void> animateMarkers(List<MarkerAnimation> animations) {
+    return _googleMapsFlutterPlatform.animateMarkers(animations, mapId: mapId);
+  }
+
+  /// Decodes [icon] once and keeps it under [iconId] until [unregisterIcon]
+  /// is called.
+  ///
+  /// Markers using [BitmapDescriptor.registered] with [iconId] then share the
+  /// icon without sending its image again. A marker update referencing an id
+  /// that is not registered fails as a whole, before any marker is changed.
+  ///
+  /// Only supported on Android.
+  Future<void> registerIcon(String iconId, BitmapDescriptor icon) {
+    assert(iconId != null);
+    assert(icon != null);
+    return _googleMapsFlutterPlatform.registerIcon(iconId, icon, mapId: mapId);
+  }
+
+  /// Forgets the icon registered under [iconId].
+  ///
+  /// Markers already showing the icon keep it.
+  Future<void> unregisterIcon(String iconId) {
+    assert(iconId != null);
+    return _googleMapsFlutterPlatform.unregisterIcon(iconId, mapId: mapId);
+  }
+
   /// Returns the current zoom level of the map
   Future<double> getZoomLevel() {
     return _googleMapsFlutterPlatform.getZoomLevel(mapId: mapId);
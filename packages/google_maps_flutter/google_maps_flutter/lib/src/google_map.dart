@@ -49,11 +49,14 @@ class GoogleMap extends StatefulWidget {
     this.polygons,
     this.polylines,
     this.circles,
+    this.tileOverlays,
+    this.heatmaps,
     this.onCameraMoveStarted,
     this.onCameraMove,
     this.onCameraIdle,
     this.onTap,
     this.onLongPress,
+    this.onClusterTap,
   })  : assert(initialCameraPosition != null),
         super(key: key);
 
@@ -120,6 +123,16 @@ class GoogleMap extends StatefulWidget {
   /// Circles to be placed on the map.
   final Set<Circle> circles;
 
+  /// Tile overlays to be placed on the map.
+  ///
+  /// Only supported on Android.
+  final Set<TileOverlay> tileOverlays;
+
+  /// Heatmaps to be placed on the map.
+  ///
+  /// Only supported on Android.
+  final Set<Heatmap> heatmaps;
+
   /// Called when the camera starts moving.
   ///
   /// This can be initiated by the following:
@@ -147,6 +160,11 @@ class GoogleMap extends StatefulWidget {
   /// Called every time a [GoogleMap] is long pressed.
   final ArgumentCallback<LatLng> onLongPress;
 
+  /// Called every time a cluster of markers is tapped.
+  ///
+  /// See [GoogleMapController.setClusterOptions].
+  final ArgumentCallback<Cluster> onClusterTap;
+
   /// True if a "My Location" layer should be shown on the map.
   ///
   /// This layer includes a location indicator at the current device location,
@@ -220,6 +238,11 @@ class _GoogleMapState extends State<GoogleMap> {
   Map<PolygonId, Polygon> _polygons = <PolygonId, Polygon>{};
   Map<PolylineId, Polyline> _polylines = <PolylineId, Polyline>{};
   Map<CircleId, Circle> _circles = <CircleId, Circle>{};
+  // Tile overlays and heatmaps are not creation parameters; they are all sent
+  // once the map is created.
+  Map<TileOverlayId, TileOverlay> _tileOverlays =
+      <TileOverlayId, TileOverlay>{};
+  Map<HeatmapId, Heatmap> _heatmaps = <HeatmapId, Heatmap>{};
   _GoogleMapOptions _googleMapOptions;
 
   @override
@@ -262,10 +285,16 @@ class _GoogleMapState extends State<GoogleMap> {
   void didUpdateWidget(GoogleMap oldWidget) {
     super.didUpdateWidget(oldWidget);
     _updateOptions();
+    if (Platform.isAndroid) {
+      _updateOverlays();
+      return;
+    }
     _updateMarkers();
     _updatePolygons();
     _updatePolylines();
     _updateCircles();
+    _updateTileOverlays();
+    _updateHeatmaps();
   }
 
   void _updateOptions() async {
@@ -313,6 +342,64 @@ class _GoogleMapState extends State<GoogleMap> {
     _circles = keyByCircleId(widget.circles);
   }
 
+  void _updateTileOverlays() async {
+    final GoogleMapController controller = await _controller.future;
+    final TileOverlayUpdates updates = TileOverlayUpdates.from(
+        _tileOverlays.values.toSet(), widget.tileOverlays);
+    _tileOverlays = keyByTileOverlayId(widget.tileOverlays);
+    // Platforms without tile overlays are only called when some are used.
+    if (!updates.isEmpty) {
+      // ignore: unawaited_futures
+      controller._updateTileOverlays(updates);
+    }
+  }
+
+  void _updateHeatmaps() async {
+    final GoogleMapController controller = await _controller.future;
+    final HeatmapUpdates updates =
+        HeatmapUpdates.from(_heatmaps.values.toSet(), widget.heatmaps);
+    _heatmaps = keyByHeatmapId(widget.heatmaps);
+    // Platforms without heatmaps are only called when some are used.
+    if (!updates.isEmpty) {
+      // ignore: unawaited_futures
+      controller._updateHeatmaps(updates);
+    }
+  }
+
+  // Sends the overlay changes of every type in one call, which Android applies
+  // in a single pass instead of drawing a frame between types.
+  void _updateOverlays() async {
+    final GoogleMapController controller = await _controller.future;
+    final MarkerUpdates markerUpdates =
+        MarkerUpdates.from(_markers.values.toSet(), widget.markers);
+    final PolygonUpdates polygonUpdates =
+        PolygonUpdates.from(_polygons.values.toSet(), widget.polygons);
+    final PolylineUpdates polylineUpdates =
+        PolylineUpdates.from(_polylines.values.toSet(), widget.polylines);
+    final CircleUpdates circleUpdates =
+        CircleUpdates.from(_circles.values.toSet(), widget.circles);
+    final TileOverlayUpdates tileOverlayUpdates = TileOverlayUpdates.from(
+        _tileOverlays.values.toSet(), widget.tileOverlays);
+    final HeatmapUpdates heatmapUpdates =
+        HeatmapUpdates.from(_heatmaps.values.toSet(), widget.heatmaps);
+    _markers = keyByMarkerId(widget.markers);
+    _polygons = keyByPolygonId(widget.polygons);
+    _polylines = keyByPolylineId(widget.polylines);
+    _circles = keyByCircleId(widget.circles);
+    _tileOverlays = keyByTileOverlayId(widget.tileOverlays);
+    _heatmaps = keyByHeatmapId(widget.heatmaps);
+    // ignore: unawaited_futures
+    controller._updateOverlays(
+      markerUpdates: markerUpdates,
+      polygonUpdates: polygonUpdates,
+      polylineUpdates: polylineUpdates,
+      circleUpdates: circleUpdates,
+      tileOverlayUpdates:
+          tileOverlayUpdates.isEmpty ? null : tileOverlayUpdates,
+      heatmapUpdates: heatmapUpdates.isEmpty ? null : heatmapUpdates,
+    );
+  }
+
   Future<void> onPlatformViewCreated(int id) async {
     final GoogleMapController controller = await GoogleMapController.init(
       id,
@@ -320,6 +407,8 @@ class _GoogleMapState extends State<GoogleMap> {
       this,
     );
     _controller.complete(controller);
+    _updateTileOverlays();
+    _updateHeatmaps();
     if (widget.onMapCreated != null) {
       widget.onMapCreated(controller);
     }
@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:async';
+
 import 'package:flutter/widgets.dart';
 import 'package:flutter_test/flutter_test.dart';
 import 'package:google_maps_flutter/google_maps_flutter.dart';
@@ -77,6 +79,147 @@ void main() {
 
     verify(platform.dispose(mapId: anyNamed('mapId')));
   });
+
+  test('Forwards map initialization to the platform', () async {
+    await GoogleMapController.initialize(mapViewCount: 2, liteMode: true);
+
+    verify(platform.initializeMaps(mapViewCount: 2, liteMode: true));
+  });
+
+  testWidgets('Forwards icon registration to the platform', (
+    WidgetTester tester,
+  ) async {
+    final GoogleMapController controller = await _createController(tester);
+    final BitmapDescriptor icon = BitmapDescriptor.defaultMarker;
+
+    await controller.registerIcon('car', icon);
+    await controller.unregisterIcon('car');
+
+    verifyInOrder([
+      platform.registerIcon('car', icon, mapId: 0),
+      platform.unregisterIcon('car', mapId: 0),
+    ]);
+  });
+
+  testWidgets('Sends tile overlays once the map is created', (
+    WidgetTester tester,
+  ) async {
+    final TileOverlay first = TileOverlay(
+        tileOverlayId: TileOverlayId('first'),
+        urlTemplate: 'https://tile.example.com/{z}/{x}/{y}.png');
+    final TileOverlay second = TileOverlay(
+        tileOverlayId: TileOverlayId('second'), transparency: 0.5);
+    final CameraPosition position =
+        CameraPosition(target: LatLng(43.3608, -5.8702));
+
+    await tester.pumpWidget(GoogleMap(
+      initialCameraPosition: position,
+      tileOverlays: <TileOverlay>{first},
+    ));
+    await tester.pumpWidget(GoogleMap(
+      initialCameraPosition: position,
+      tileOverlays: <TileOverlay>{second},
+    ));
+    await tester.pump();
+
+    verifyInOrder([
+      platform.updateTileOverlays(
+          TileOverlayUpdates.from(<TileOverlay>{}, <TileOverlay>{first}),
+          mapId: 0),
+      platform.updateTileOverlays(
+          TileOverlayUpdates.from(<TileOverlay>{first}, <TileOverlay>{second}),
+          mapId: 0),
+    ]);
+  });
+
+  testWidgets('Sends heatmaps once the map is created', (
+    WidgetTester tester,
+  ) async {
+    final Heatmap heatmap = Heatmap(
+      heatmapId: HeatmapId('h'),
+      points: <WeightedLatLng>[WeightedLatLng(LatLng(43.36, -5.87))],
+    );
+
+    await tester.pumpWidget(GoogleMap(
+      initialCameraPosition: CameraPosition(target: LatLng(43.3608, -5.8702)),
+      heatmaps: <Heatmap>{heatmap},
+    ));
+    await tester.pump();
+
+    verify(platform.updateHeatmaps(
+        HeatmapUpdates.from(<Heatmap>{}, <Heatmap>{heatmap}),
+        mapId: 0));
+  });
+
+  testWidgets('Forwards tile cache clearing to the platform', (
+    WidgetTester tester,
+  ) async {
+    final GoogleMapController controller = await _createController(tester);
+
+    await controller.clearTileCache(TileOverlayId('first'));
+
+    verify(platform.clearTileCache(TileOverlayId('first'), mapId: 0));
+  });
+
+  testWidgets('Forwards overlay queries to the platform', (
+    WidgetTester tester,
+  ) async {
+    final GoogleMapController controller = await _createController(tester);
+    final LatLngBounds bounds = LatLngBounds(
+        southwest: LatLng(52.0, 13.0), northeast: LatLng(53.0, 14.0));
+
+    await controller.queryRegion(bounds);
+    await controller.queryNearest(LatLng(52.5, 13.4), count: 3);
+
+    verifyInOrder([
+      platform.queryRegion(bounds, mapId: 0),
+      platform.queryNearest(LatLng(52.5, 13.4), count: 3, mapId: 0),
+    ]);
+  });
+
+  testWidgets('Forwards marker animations to the platform', (
+    WidgetTester tester,
+  ) async {
+    final GoogleMapController controller = await _createController(tester);
+    final List<MarkerAnimation> animations = <MarkerAnimation>[
+      MarkerAnimation(
+        markerId: MarkerId('bus'),
+        position: LatLng(52.5, 13.4),
+        duration: const Duration(seconds: 2),
+      ),
+    ];
+
+    await controller.animateMarkers(animations);
+
+    verify(platform.animateMarkers(animations, mapId: 0));
+  });
+
+  testWidgets('Forwards cluster options to the platform', (
+    WidgetTester tester,
+  ) async {
+    final GoogleMapController controller = await _createController(tester);
+    const ClusterOptions options = ClusterOptions(minClusterSize: 5);
+
+    await controller.setClusterOptions(options);
+    await controller.setClusterOptions(null);
+
+    verifyInOrder([
+      platform.setClusterOptions(options, mapId: 0),
+      platform.setClusterOptions(null, mapId: 0),
+    ]);
+  });
+}
+
+Future<GoogleMapController> _createController(WidgetTester tester) async {
+  final Completer<GoogleMapController> controller =
+      Completer<GoogleMapController>();
+  await tester.pumpWidget(GoogleMap(
+    initialCameraPosition: CameraPosition(
+      target: LatLng(43.3608, -5.8702),
+    ),
+    onMapCreated: controller.complete,
+  ));
+  return controller.future;
 }
 
 // Some test setup classes below...
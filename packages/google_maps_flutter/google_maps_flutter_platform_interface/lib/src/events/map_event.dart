@@ -136,6 +136,14 @@ class CircleTapEvent extends MapEvent<CircleId> {
   CircleTapEvent(int mapId, CircleId circleId) : super(mapId, circleId);
 }
 
+/// An event fired when a [Cluster] is tapped.
+class ClusterTapEvent extends MapEvent<Cluster> {
+  /// Build a ClusterTap Event triggered from the map represented by `mapId`.
+  ///
+  /// The `value` of this event is the tapped [Cluster].
+  ClusterTapEvent(int mapId, Cluster cluster) : super(mapId, cluster);
+}
+
 /// An event fired when a Map is tapped.
 class MapTapEvent extends _PositionedMapEvent<void> {
   /// Build an MapTap Event triggered from the map represented by `mapId`.
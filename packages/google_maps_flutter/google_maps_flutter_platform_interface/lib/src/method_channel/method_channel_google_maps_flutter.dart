@@ -24,10 +24,18 @@ import 'package:stream_transform/stream_transform.dart';
 /// This is the instance that runs when the native side talks to your Flutter app through MethodChannels,
 /// like the Android and iOS platforms.
 class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
+  // The channel of the plugin, for calls that are not about a single map.
+  static const MethodChannel _pluginChannel =
+      MethodChannel('plugins.flutter.io/google_maps');
+
   // Keep a collection of id -> channel
   // Every method call passes the int mapId
   final Map<int, MethodChannel> _channels = {};
 
+  // The tile overlays of each map, which provide the tiles the platform asks
+  // for with `tileOverlay#getTile`.
+  final Map<int, Map<TileOverlayId, TileOverlay>> _tileOverlays = {};
+
   /// Accesses the MethodChannel associated to the passed mapId.
   MethodChannel channel(int mapId) {
     return _channels[mapId];
@@ -48,10 +56,22 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
     return channel.invokeMethod<void>('map#waitForMap');
   }
 
+  /// Initializes the maps SDK and creates map views ahead of the first map.
+  ///
+  /// Only supported on Android.
+  @override
+  Future<void> initializeMaps({int mapViewCount = 1, bool liteMode = false}) {
+    return _pluginChannel
+        .invokeMethod<void>('maps#initialize', <String, dynamic>{
+      'mapViewCount': mapViewCount,
+      'liteMode': liteMode,
+    });
+  }
+
   /// Dispose of the native resources.
   @override
   void dispose({int mapId}) {
-    // Noop!
+    _tileOverlays.remove(mapId);
   }
 
   // The controller we need to broadcast the different events coming
@@ -111,6 +131,11 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
     return _events(mapId).whereType<CircleTapEvent>();
   }
 
+  @override
+  Stream<ClusterTapEvent> onClusterTap({@required int mapId}) {
+    return _events(mapId).whereType<ClusterTapEvent>();
+  }
+
   @override
   Stream<MapTapEvent> onTap({@required int mapId}) {
     return _events(mapId).whereType<MapTapEvent>();
@@ -172,6 +197,14 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
           CircleId(call.arguments['circleId']),
         ));
         break;
+      case 'cluster#onTap':
+        _mapEventStreamController.add(ClusterTapEvent(
+          mapId,
+          Cluster.fromJson(call.arguments),
+        ));
+        break;
+      case 'tileOverlay#getTile':
+        return _getTile(call.arguments, mapId);
       case 'map#onTap':
         _mapEventStreamController.add(MapTapEvent(
           mapId,
@@ -189,6 +222,21 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
     }
   }
 
+  // Answers `tileOverlay#getTile` with the tile of the overlay's provider, or
+  // null if there is none.
+  Future<dynamic> _getTile(dynamic arguments, int mapId) async {
+    final Map<TileOverlayId, TileOverlay> tileOverlays = _tileOverlays[mapId];
+    final TileOverlay tileOverlay = tileOverlays == null
+        ? null
+        : tileOverlays[TileOverlayId(arguments['tileOverlayId'])];
+    if (tileOverlay?.tileProvider == null) {
+      return null;
+    }
+    final Tile tile = await tileOverlay.tileProvider
+        .getTile(arguments['x'], arguments['y'], arguments['zoom']);
+    return tile?.toJson();
+  }
+
   /// Updates configuration options of the map user interface.
   ///
   /// Change listeners are notified once the update has been made on the
@@ -281,6 +329,88 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
     );
   }
 
+  /// Updates tile overlay configuration.
+  ///
+  /// The overlays are kept to answer the tile requests of the platform.
+  @override
+  Future<void> updateTileOverlays(
+    TileOverlayUpdates tileOverlayUpdates, {
+    @required int mapId,
+  }) {
+    assert(tileOverlayUpdates != null);
+    _keepTileOverlays(tileOverlayUpdates, mapId);
+    return channel(mapId).invokeMethod<void>(
+      'tileOverlays#update',
+      tileOverlayUpdates.toJson(),
+    );
+  }
+
+  void _keepTileOverlays(TileOverlayUpdates tileOverlayUpdates, int mapId) {
+    final Map<TileOverlayId, TileOverlay> tileOverlays =
+        _tileOverlays.putIfAbsent(mapId, () => <TileOverlayId, TileOverlay>{});
+    tileOverlays
+      ..addAll(keyByTileOverlayId(tileOverlayUpdates.tileOverlaysToAdd))
+      ..addAll(keyByTileOverlayId(tileOverlayUpdates.tileOverlaysToChange));
+    tileOverlayUpdates.tileOverlayIdsToRemove.forEach(tileOverlays.remove);
+  }
+
+  /// Updates heatmap configuration.
+  @override
+  Future<void> updateHeatmaps(
+    HeatmapUpdates heatmapUpdates, {
+    @required int mapId,
+  }) {
+    assert(heatmapUpdates != null);
+    return channel(mapId).invokeMethod<void>(
+      'heatmaps#update',
+      heatmapUpdates.toJson(),
+    );
+  }
+
+  /// Updates the overlays of every type given in a single platform pass.
+  ///
+  /// Only supported on Android.
+  @override
+  Future<void> updateOverlays({
+    MarkerUpdates markerUpdates,
+    PolygonUpdates polygonUpdates,
+    PolylineUpdates polylineUpdates,
+    CircleUpdates circleUpdates,
+    TileOverlayUpdates tileOverlayUpdates,
+    HeatmapUpdates heatmapUpdates,
+    @required int mapId,
+  }) {
+    final Map<String, dynamic> overlays = <String, dynamic>{};
+
+    void addIfPresent(String fieldName, dynamic updates) {
+      if (updates != null) {
+        overlays[fieldName] = updates.toJson();
+      }
+    }
+
+    addIfPresent('markers', markerUpdates);
+    addIfPresent('polygons', polygonUpdates);
+    addIfPresent('polylines', polylineUpdates);
+    addIfPresent('circles', circleUpdates);
+    addIfPresent('tileOverlays', tileOverlayUpdates);
+    addIfPresent('heatmaps', heatmapUpdates);
+    if (tileOverlayUpdates != null) {
+      _keepTileOverlays(tileOverlayUpdates, mapId);
+    }
+    return channel(mapId).invokeMethod<void>('overlays#update', overlays);
+  }
+
+  /// Drops the cached tiles of the tile overlay with [tileOverlayId].
+  @override
+  Future<void> clearTileCache(
+    TileOverlayId tileOverlayId, {
+    @required int mapId,
+  }) {
+    assert(tileOverlayId != null);
+    return channel(mapId).invokeMethod<void>('tileOverlays#clearTileCache',
+        <String, String>{'tileOverlayId': tileOverlayId.value});
+  }
+
   /// Starts an animated change of the map camera position.
   ///
   /// The returned [Future] completes after the change has been started on the
@@ -435,6 +565,89 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
         <String, String>{'markerId': markerId.value});
   }
 
+  /// Decodes [icon] on the platform and keeps it under [iconId] until
+  /// [unregisterIcon] is called.
+  ///
+  /// Markers reference it with [BitmapDescriptor.registered].
+  @override
+  Future<void> registerIcon(
+    String iconId,
+    BitmapDescriptor icon, {
+    @required int mapId,
+  }) {
+    assert(iconId != null);
+    assert(icon != null);
+    return channel(mapId).invokeMethod<void>('icons#register',
+        <String, dynamic>{'iconId': iconId, 'icon': icon.toJson()});
+  }
+
+  /// Forgets the icon registered under [iconId].
+  @override
+  Future<void> unregisterIcon(
+    String iconId, {
+    @required int mapId,
+  }) {
+    assert(iconId != null);
+    return channel(mapId).invokeMethod<void>(
+        'icons#unregister', <String, String>{'iconId': iconId});
+  }
+
+  /// Returns the overlays of the map that intersect [bounds].
+  @override
+  Future<RegionQueryResult> queryRegion(
+    LatLngBounds bounds, {
+    @required int mapId,
+  }) async {
+    assert(bounds != null);
+    final Map<String, dynamic> result = await channel(mapId)
+        .invokeMapMethod<String, dynamic>(
+            'map#queryRegion', <String, dynamic>{'bounds': bounds.toJson()});
+    return RegionQueryResult.fromJson(result);
+  }
+
+  /// Returns the [count] overlays of any type nearest to [position], nearest
+  /// first.
+  @override
+  Future<List<NearestOverlay>> queryNearest(
+    LatLng position, {
+    int count = 1,
+    @required int mapId,
+  }) async {
+    assert(position != null);
+    final List<dynamic> result = await channel(mapId).invokeListMethod<dynamic>(
+        'map#queryNearest',
+        <String, dynamic>{'position': position.toJson(), 'count': count});
+    return result.map<NearestOverlay>(NearestOverlay.fromJson).toList();
+  }
+
+  /// Clusters the markers of the map with [options], or stops clustering them
+  /// if [options] is null.
+  @override
+  Future<void> setClusterOptions(
+    ClusterOptions options, {
+    @required int mapId,
+  }) {
+    return channel(mapId)
+        .invokeMethod<void>('markers#setClusterOptions', options?.toJson());
+  }
+
+  /// Moves markers along [animations] on the platform.
+  @override
+  Future<void> animateMarkers(
+    List<MarkerAnimation> animations, {
+    @required int mapId,
+  }) {
+    assert(animations != null);
+    return channel(mapId).invokeMethod<void>(
+      'markers#animate',
+      <String, dynamic>{
+        'animations': animations
+            .map<dynamic>((MarkerAnimation animation) => animation.toJson())
+            .toList(),
+      },
+    );
+  }
+
   /// Returns the current zoom level of the map
   @override
   Future<double> getZoomLevel({
@@ -50,6 +50,15 @@ abstract class GoogleMapsFlutterPlatform extends PlatformInterface {
     throw UnimplementedError('init() has not been implemented.');
   }
 
+  /// Initializes the maps SDK and creates up to [mapViewCount] map views ahead
+  /// of the first map, in lite mode if [liteMode] is true.
+  ///
+  /// Call it before showing a map, such as when the app starts, so that the
+  /// first map does not pay for the initialization.
+  Future<void> initializeMaps({int mapViewCount = 1, bool liteMode = false}) {
+    throw UnimplementedError('initializeMaps() has not been implemented.');
+  }
+
   /// Updates configuration options of the map user interface.
   ///
   /// Change listeners are notified once the update has been made on the
@@ -115,6 +124,59 @@ abstract class GoogleMapsFlutterPlatform extends PlatformInterface {
     throw UnimplementedError('updateCircles() has not been implemented.');
   }
 
+  /// Updates tile overlay configuration.
+  ///
+  /// Tiles of overlays without a URL template are requested from their
+  /// [TileOverlay.tileProvider].
+  ///
+  /// The returned [Future] completes once the update has been made on the
+  /// platform side.
+  Future<void> updateTileOverlays(
+    TileOverlayUpdates tileOverlayUpdates, {
+    @required int mapId,
+  }) {
+    throw UnimplementedError('updateTileOverlays() has not been implemented.');
+  }
+
+  /// Updates heatmap configuration.
+  ///
+  /// The returned [Future] completes once the update has been made on the
+  /// platform side.
+  Future<void> updateHeatmaps(
+    HeatmapUpdates heatmapUpdates, {
+    @required int mapId,
+  }) {
+    throw UnimplementedError('updateHeatmaps() has not been implemented.');
+  }
+
+  /// Updates the overlays of every type given in a single platform pass, so
+  /// that the map never draws some types updated and others not.
+  ///
+  /// If any of the updates is invalid, none of them is applied.
+  ///
+  /// The returned [Future] completes once the updates have been made on the
+  /// platform side.
+  Future<void> updateOverlays({
+    MarkerUpdates markerUpdates,
+    PolygonUpdates polygonUpdates,
+    PolylineUpdates polylineUpdates,
+    CircleUpdates circleUpdates,
+    TileOverlayUpdates tileOverlayUpdates,
+    HeatmapUpdates heatmapUpdates,
+    @required int mapId,
+  }) {
+    throw UnimplementedError('updateOverlays() has not been implemented.');
+  }
+
+  /// Drops the cached tiles of the tile overlay with [tileOverlayId], so that
+  /// they are loaded again.
+  Future<void> clearTileCache(
+    TileOverlayId tileOverlayId, {
+    @required int mapId,
+  }) {
+    throw UnimplementedError('clearTileCache() has not been implemented.');
+  }
+
   /// Starts an animated change of the map camera position.
   ///
   /// The returned [Future] completes after the change has been started on the
@@ -232,6 +294,70 @@ abstract class GoogleMapsFlutterPlatform extends PlatformInterface {
     throw UnimplementedError('updateMapOptions() has not been implemented.');
   }
 
+  /// Decodes [icon] on the platform and keeps it under [iconId] until
+  /// [unregisterIcon] is called.
+  ///
+  /// Markers reference it with [BitmapDescriptor.registered]. Registering an
+  /// id again replaces its icon for the markers added or changed afterwards.
+  Future<void> registerIcon(
+    String iconId,
+    BitmapDescriptor icon, {
+    @required int mapId,
+  }) {
+    throw UnimplementedError('registerIcon() has not been implemented.');
+  }
+
+  /// Forgets the icon registered under [iconId].
+  ///
+  /// Markers already showing the icon keep it, but markers can no longer be
+  /// added or changed to reference it.
+  Future<void> unregisterIcon(
+    String iconId, {
+    @required int mapId,
+  }) {
+    throw UnimplementedError('unregisterIcon() has not been implemented.');
+  }
+
+  /// Clusters the markers of the map with [options], or stops clustering them
+  /// if [options] is null.
+  ///
+  /// Taps on a cluster are reported by [onClusterTap].
+  Future<void> setClusterOptions(
+    ClusterOptions options, {
+    @required int mapId,
+  }) {
+    throw UnimplementedError('setClusterOptions() has not been implemented.');
+  }
+
+  /// Moves markers along [animations] on the platform.
+  ///
+  /// Animations of markers that are not on the map are ignored. A later
+  /// position change of an animated marker stops its animation.
+  Future<void> animateMarkers(
+    List<MarkerAnimation> animations, {
+    @required int mapId,
+  }) {
+    throw UnimplementedError('animateMarkers() has not been implemented.');
+  }
+
+  /// Returns the overlays of the map that intersect [bounds].
+  Future<RegionQueryResult> queryRegion(
+    LatLngBounds bounds, {
+    @required int mapId,
+  }) {
+    throw UnimplementedError('queryRegion() has not been implemented.');
+  }
+
+  /// Returns the [count] overlays of any type nearest to [position], nearest
+  /// first.
+  Future<List<NearestOverlay>> queryNearest(
+    LatLng position, {
+    int count = 1,
+    @required int mapId,
+  }) {
+    throw UnimplementedError('queryNearest() has not been implemented.');
+  }
+
   /// Returns the current zoom level of the map
   Future<double> getZoomLevel({
     @required int mapId,
@@ -294,6 +420,11 @@ abstract class GoogleMapsFlutterPlatform extends PlatformInterface {
     throw UnimplementedError('onCircleTap() has not been implemented.');
   }
 
+  /// A [Cluster] has been tapped.
+  Stream<ClusterTapEvent> onClusterTap({@required int mapId}) {
+    throw UnimplementedError('onClusterTap() has not been implemented.');
+  }
+
   /// A Map has been tapped at a certain [LatLng].
   Stream<MapTapEvent> onTap({@required int mapId}) {
     throw UnimplementedError('onTap() has not been implemented.');
@@ -21,12 +21,14 @@ class BitmapDescriptor {
   static const String _fromAsset = 'fromAsset';
   static const String _fromAssetImage = 'fromAssetImage';
   static const String _fromBytes = 'fromBytes';
+  static const String _registered = 'registered';
 
   static const Set<String> _validTypes = {
     _defaultMarker,
     _fromAsset,
     _fromAssetImage,
     _fromBytes,
+    _registered,
   };
 
   /// Convenience hue value representing red.
@@ -128,6 +130,16 @@ class BitmapDescriptor {
     return BitmapDescriptor._(<dynamic>[_fromBytes, byteData]);
   }
 
+  /// Creates a BitmapDescriptor that refers to an icon registered with
+  /// `registerIcon` under [iconId].
+  ///
+  /// Markers using it reference the icon by id, so its image is sent to the
+  /// platform once however many markers share it. Only supported on Android.
+  static BitmapDescriptor registered(String iconId) {
+    assert(iconId != null);
+    return BitmapDescriptor._(<dynamic>[_registered, iconId]);
+  }
+
   /// The inverse of .toJson.
   // This is needed in Web to re-hydrate BitmapDescriptors that have been
   // transformed to JSON for transport.
@@ -166,6 +178,10 @@ class BitmapDescriptor {
           assert((_json[3] as List).length == 2);
         }
         break;
+      case _registered:
+        assert(_json.length == 2);
+        assert(_json[1] != null && _json[1] is String);
+        break;
       default:
         break;
     }
@@ -0,0 +1,129 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show Color, hashList, hashValues;
+
+import 'package:flutter/foundation.dart' show listEquals;
+import 'package:meta/meta.dart' show immutable, required;
+
+import 'types.dart';
+
+/// How markers are grouped into clusters.
+enum ClusterAlgorithm {
+  /// Markers are grouped by the cell of a square screen grid they fall in.
+  grid,
+
+  /// Markers are grouped with the markers within a screen distance of them.
+  distance,
+}
+
+/// Clustering of the markers of a map, drawn as a single counted marker.
+///
+/// Only supported on Android.
+@immutable
+class ClusterOptions {
+  /// Creates immutable clustering options.
+  const ClusterOptions({
+    this.algorithm = ClusterAlgorithm.grid,
+    this.size = 60,
+    this.minClusterSize = 2,
+    this.color = const Color(0xff1a73e8),
+  })  : assert(algorithm != null),
+        assert(size != null && size > 0),
+        assert(minClusterSize != null && minClusterSize > 1);
+
+  /// How markers are grouped.
+  final ClusterAlgorithm algorithm;
+
+  /// The grid cell size or the grouping distance, in logical pixels.
+  final double size;
+
+  /// The fewest markers drawn as a cluster rather than one by one.
+  final int minClusterSize;
+
+  /// The color of the cluster markers.
+  final Color color;
+
+  /// Converts this object to something serializable in JSON.
+  dynamic toJson() {
+    return <String, dynamic>{
+      'algorithm': algorithm == ClusterAlgorithm.grid ? 'grid' : 'distance',
+      'size': size,
+      'minClusterSize': minClusterSize,
+      'color': color.value,
+    };
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final ClusterOptions typedOther = other;
+    return algorithm == typedOther.algorithm &&
+        size == typedOther.size &&
+        minClusterSize == typedOther.minClusterSize &&
+        color == typedOther.color;
+  }
+
+  @override
+  int get hashCode => hashValues(algorithm, size, minClusterSize, color);
+
+  @override
+  String toString() {
+    return 'ClusterOptions{algorithm: $algorithm, size: $size, '
+        'minClusterSize: $minClusterSize, color: $color}';
+  }
+}
+
+/// A group of markers drawn as a single marker by [ClusterOptions].
+@immutable
+class Cluster {
+  /// Creates an immutable cluster.
+  const Cluster({
+    @required this.clusterId,
+    @required this.position,
+    @required this.markerIds,
+  });
+
+  /// Identifies the cluster until the markers are clustered again.
+  final String clusterId;
+
+  /// Where the cluster is drawn.
+  final LatLng position;
+
+  /// The markers in the cluster.
+  final List<MarkerId> markerIds;
+
+  /// Parses the cluster sent by the platform with a `cluster#onTap` call.
+  static Cluster fromJson(dynamic json) {
+    if (json == null) {
+      return null;
+    }
+    return Cluster(
+      clusterId: json['clusterId'],
+      position: LatLng.fromJson(json['position']),
+      markerIds: List<MarkerId>.unmodifiable((json['markerIds'] as List)
+          .map<MarkerId>((dynamic markerId) => MarkerId(markerId))),
+    );
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final Cluster typedOther = other;
+    return clusterId == typedOther.clusterId &&
+        position == typedOther.position &&
+        listEquals(markerIds, typedOther.markerIds);
+  }
+
+  @override
+  int get hashCode => hashValues(clusterId, position, hashList(markerIds));
+
+  @override
+  String toString() {
+    return 'Cluster{clusterId: $clusterId, position: $position, '
+        'markerIds: $markerIds}';
+  }
+}
@@ -0,0 +1,227 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data' show Float64List;
+import 'dart:ui' show Color, hashList, hashValues;
+
+import 'package:flutter/foundation.dart' show listEquals;
+import 'package:meta/meta.dart' show immutable, required;
+
+import 'types.dart';
+
+/// Uniquely identifies a [Heatmap] among [GoogleMap] heatmaps.
+///
+/// This does not have to be globally unique, only unique among the list.
+@immutable
+class HeatmapId {
+  /// Creates an immutable identifier for a [Heatmap].
+  HeatmapId(this.value) : assert(value != null);
+
+  /// value of the [HeatmapId].
+  final String value;
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final HeatmapId typedOther = other;
+    return value == typedOther.value;
+  }
+
+  @override
+  int get hashCode => value.hashCode;
+
+  @override
+  String toString() {
+    return 'HeatmapId{value: $value}';
+  }
+}
+
+/// A position that contributes [weight] to the intensity of a [Heatmap].
+@immutable
+class WeightedLatLng {
+  /// Creates an immutable weighted position.
+  const WeightedLatLng(this.point, {this.weight = 1.0})
+      : assert(point != null),
+        assert(weight != null && weight >= 0);
+
+  /// The position.
+  final LatLng point;
+
+  /// The weight of the position; a weight of 2 counts like two positions.
+  final double weight;
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final WeightedLatLng typedOther = other;
+    return point == typedOther.point && weight == typedOther.weight;
+  }
+
+  @override
+  int get hashCode => hashValues(point, weight);
+
+  @override
+  String toString() {
+    return 'WeightedLatLng{point: $point, weight: $weight}';
+  }
+}
+
+/// The colors of a [Heatmap], interpolated by intensity.
+@immutable
+class HeatmapGradient {
+  /// Creates an immutable gradient with a color per start point.
+  ///
+  /// [startPoints] are increasing intensities relative to the maximum, in
+  /// (0, 1].
+  const HeatmapGradient({@required this.colors, @required this.startPoints})
+      : assert(colors != null),
+        assert(startPoints != null);
+
+  /// The gradient heatmaps are drawn with by default, from green to red.
+  static const HeatmapGradient defaultGradient = HeatmapGradient(
+    colors: <Color>[Color(0xff66e100), Color(0xffff0000)],
+    startPoints: <double>[0.2, 1.0],
+  );
+
+  /// The colors of the gradient.
+  final List<Color> colors;
+
+  /// The intensity, relative to the maximum, each color starts at.
+  final List<double> startPoints;
+
+  /// Converts this object to something serializable in JSON.
+  dynamic toJson() {
+    return <String, dynamic>{
+      'colors': colors.map<int>((Color color) => color.value).toList(),
+      'startPoints': startPoints,
+    };
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final HeatmapGradient typedOther = other;
+    return listEquals(colors, typedOther.colors) &&
+        listEquals(startPoints, typedOther.startPoints);
+  }
+
+  @override
+  int get hashCode => hashValues(hashList(colors), hashList(startPoints));
+
+  @override
+  String toString() {
+    return 'HeatmapGradient{colors: $colors, startPoints: $startPoints}';
+  }
+}
+
+/// Draws the density of weighted positions as colored tiles.
+///
+/// Tiles are rendered on the platform, so positions are sent once and only
+/// sent again when they change. Only supported on Android.
+@immutable
+class Heatmap {
+  /// Creates an immutable representation of a [Heatmap] to draw on
+  /// [GoogleMap].
+  const Heatmap({
+    @required this.heatmapId,
+    this.points = const <WeightedLatLng>[],
+    this.radius = 20,
+    this.gradient = HeatmapGradient.defaultGradient,
+    this.opacity = 0.7,
+    this.maxIntensity,
+    this.fadeIn = true,
+    this.zIndex = 0,
+    this.visible = true,
+  })  : assert(heatmapId != null),
+        assert(points != null),
+        assert(radius != null && radius >= 1 && radius <= 128),
+        assert(gradient != null),
+        assert(opacity != null && opacity >= 0.0 && opacity <= 1.0);
+
+  /// Uniquely identifies a [Heatmap].
+  final HeatmapId heatmapId;
+
+  /// The weighted positions drawn by the heatmap.
+  final List<WeightedLatLng> points;
+
+  /// The radius of the blur around each position, in tile pixels.
+  final int radius;
+
+  /// The colors of the heatmap.
+  final HeatmapGradient gradient;
+
+  /// The opacity of the heatmap, from 0 (invisible) to 1 (opaque).
+  final double opacity;
+
+  /// The intensity drawn with the last color of the [gradient], or null to
+  /// use the highest intensity of each zoom level.
+  final double maxIntensity;
+
+  /// Whether tiles fade in when they are shown.
+  final bool fadeIn;
+
+  /// The z-index of the heatmap, used to determine relative drawing order of
+  /// tile overlays.
+  final int zIndex;
+
+  /// True if the heatmap is visible.
+  final bool visible;
+
+  /// Converts this object to something serializable in JSON.
+  ///
+  /// The [points] are packed as latitude, longitude and weight triples.
+  dynamic toJson({bool includePoints = true}) {
+    final Map<String, dynamic> json = <String, dynamic>{
+      'heatmapId': heatmapId.value,
+      'radius': radius,
+      'gradient': gradient.toJson(),
+      'opacity': opacity,
+      'maxIntensity': maxIntensity ?? 0.0,
+      'fadeIn': fadeIn,
+      'zIndex': zIndex,
+      'visible': visible,
+    };
+    if (includePoints) {
+      final Float64List packed = Float64List(points.length * 3);
+      int i = 0;
+      for (final WeightedLatLng point in points) {
+        packed[i++] = point.point.latitude;
+        packed[i++] = point.point.longitude;
+        packed[i++] = point.weight;
+      }
+      json['points'] = packed;
+    }
+    return json;
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final Heatmap typedOther = other;
+    return heatmapId == typedOther.heatmapId &&
+        listEquals(points, typedOther.points) &&
+        radius == typedOther.radius &&
+        gradient == typedOther.gradient &&
+        opacity == typedOther.opacity &&
+        maxIntensity == typedOther.maxIntensity &&
+        fadeIn == typedOther.fadeIn &&
+        zIndex == typedOther.zIndex &&
+        visible == typedOther.visible;
+  }
+
+  @override
+  int get hashCode => heatmapId.hashCode;
+
+  @override
+  String toString() {
+    return 'Heatmap{heatmapId: $heatmapId, points: ${points.length}, '
+        'radius: $radius, gradient: $gradient, opacity: $opacity, '
+        'maxIntensity: $maxIntensity, fadeIn: $fadeIn, zIndex: $zIndex, '
+        'visible: $visible}';
+  }
+}
@@ -0,0 +1,105 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show hashValues;
+
+import 'package:flutter/foundation.dart' show listEquals, setEquals;
+
+import 'types.dart';
+import 'utils/heatmap.dart';
+
+/// [Heatmap] update events to be applied to the [GoogleMap].
+///
+/// Used in [GoogleMapController] when the map is updated.
+// (Do not re-export)
+class HeatmapUpdates {
+  /// Computes [HeatmapUpdates] given previous and current [Heatmap]s.
+  HeatmapUpdates.from(Set<Heatmap> previous, Set<Heatmap> current) {
+    final Map<HeatmapId, Heatmap> previousHeatmaps = keyByHeatmapId(previous);
+    final Map<HeatmapId, Heatmap> currentHeatmaps = keyByHeatmapId(current);
+
+    final Set<HeatmapId> prevHeatmapIds = previousHeatmaps.keys.toSet();
+    final Set<HeatmapId> currentHeatmapIds = currentHeatmaps.keys.toSet();
+
+    Heatmap idToCurrentHeatmap(HeatmapId id) {
+      return currentHeatmaps[id];
+    }
+
+    /// Returns `true` if [current] is not equals to previous one with the
+    /// same id.
+    bool hasChanged(Heatmap current) {
+      return current != previousHeatmaps[current.heatmapId];
+    }
+
+    heatmapIdsToRemove = prevHeatmapIds.difference(currentHeatmapIds);
+    heatmapsToAdd = currentHeatmapIds
+        .difference(prevHeatmapIds)
+        .map(idToCurrentHeatmap)
+        .toSet();
+    heatmapsToChange = currentHeatmapIds
+        .intersection(prevHeatmapIds)
+        .map(idToCurrentHeatmap)
+        .where(hasChanged)
+        .toSet();
+    _samePoints = heatmapsToChange
+        .where((Heatmap heatmap) => listEquals(
+            heatmap.points, previousHeatmaps[heatmap.heatmapId].points))
+        .map((Heatmap heatmap) => heatmap.heatmapId)
+        .toSet();
+  }
+
+  /// Set of Heatmaps to be added in this update.
+  Set<Heatmap> heatmapsToAdd;
+
+  /// Set of HeatmapIds to be removed in this update.
+  Set<HeatmapId> heatmapIdsToRemove;
+
+  /// Set of Heatmaps to be changed in this update.
+  Set<Heatmap> heatmapsToChange;
+
+  // The changed heatmaps whose points are unchanged, which are not sent again.
+  Set<HeatmapId> _samePoints;
+
+  /// Whether this update changes nothing.
+  bool get isEmpty =>
+      heatmapsToAdd.isEmpty &&
+      heatmapIdsToRemove.isEmpty &&
+      heatmapsToChange.isEmpty;
+
+  /// Converts this object to something serializable in JSON.
+  ///
+  /// Changed heatmaps only include their points if the points changed.
+  Map<String, dynamic> toJson() {
+    return <String, dynamic>{
+      'heatmapsToAdd': serializeHeatmapSet(heatmapsToAdd),
+      'heatmapsToChange': heatmapsToChange
+          .map<dynamic>((Heatmap heatmap) => heatmap.toJson(
+              includePoints: !_samePoints.contains(heatmap.heatmapId)))
+          .toList(),
+      'heatmapIdsToRemove':
+          heatmapIdsToRemove.map<dynamic>((HeatmapId h) => h.value).toList(),
+    };
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final HeatmapUpdates typedOther = other;
+    return setEquals(heatmapsToAdd, typedOther.heatmapsToAdd) &&
+        setEquals(heatmapIdsToRemove, typedOther.heatmapIdsToRemove) &&
+        setEquals(heatmapsToChange, typedOther.heatmapsToChange);
+  }
+
+  @override
+  int get hashCode =>
+      hashValues(heatmapsToAdd, heatmapIdsToRemove, heatmapsToChange);
+
+  @override
+  String toString() {
+    return 'HeatmapUpdates{heatmapsToAdd: $heatmapsToAdd, '
+        'heatmapIdsToRemove: $heatmapIdsToRemove, '
+        'heatmapsToChange: $heatmapsToChange}';
+  }
+}
@@ -0,0 +1,121 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show hashList, hashValues;
+
+import 'package:flutter/foundation.dart' show listEquals;
+import 'package:meta/meta.dart' show immutable, required;
+
+import 'types.dart';
+
+/// A position a [Marker] reaches at [time] from the start of its animation.
+@immutable
+class MarkerKeyframe {
+  /// Creates an immutable keyframe.
+  ///
+  /// The marker keeps its rotation if [rotation] is null.
+  const MarkerKeyframe({
+    @required this.position,
+    @required this.time,
+    this.rotation,
+  })  : assert(position != null),
+        assert(time != null);
+
+  /// The position of the marker.
+  final LatLng position;
+
+  /// When the marker is at [position], from the start of the animation.
+  final Duration time;
+
+  /// The rotation of the marker, in degrees clockwise about the anchor.
+  final double rotation;
+
+  /// Converts this object to something serializable in JSON.
+  dynamic toJson() {
+    return <dynamic>[
+      position.latitude,
+      position.longitude,
+      time.inMilliseconds,
+      if (rotation != null) rotation,
+    ];
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final MarkerKeyframe typedOther = other;
+    return position == typedOther.position &&
+        time == typedOther.time &&
+        rotation == typedOther.rotation;
+  }
+
+  @override
+  int get hashCode => hashValues(position, time, rotation);
+
+  @override
+  String toString() {
+    return 'MarkerKeyframe{position: $position, time: $time, '
+        'rotation: $rotation}';
+  }
+}
+
+/// Moves a [Marker] on the platform, from where it is shown, without
+/// sending a position for every frame.
+///
+/// The final position applies right away to clustering and queries. Set it
+/// on the marker in [GoogleMap.markers] as well, otherwise the next change to
+/// the marker moves it back.
+@immutable
+class MarkerAnimation {
+  /// Animates the marker [markerId] to [position] over [duration], turning
+  /// it to [rotation] if it is not null.
+  MarkerAnimation({
+    @required this.markerId,
+    @required LatLng position,
+    @required Duration duration,
+    double rotation,
+  })  : assert(markerId != null),
+        assert(position != null),
+        assert(duration != null),
+        path = <MarkerKeyframe>[
+          MarkerKeyframe(position: position, time: duration, rotation: rotation)
+        ];
+
+  /// Animates the marker [markerId] along [path], whose keyframes are in
+  /// increasing [MarkerKeyframe.time].
+  const MarkerAnimation.path({@required this.markerId, @required this.path})
+      : assert(markerId != null),
+        assert(path != null);
+
+  /// The marker to animate.
+  final MarkerId markerId;
+
+  /// The keyframes of the animation.
+  final List<MarkerKeyframe> path;
+
+  /// Converts this object to something serializable in JSON.
+  dynamic toJson() {
+    return <String, dynamic>{
+      'markerId': markerId.value,
+      'path': path.map<dynamic>((MarkerKeyframe key) => key.toJson()).toList(),
+    };
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final MarkerAnimation typedOther = other;
+    return markerId == typedOther.markerId && listEquals(path, typedOther.path);
+  }
+
+  @override
+  int get hashCode => hashValues(markerId, hashList(path));
+
+  @override
+  String toString() {
+    return 'MarkerAnimation{markerId: $markerId, path: $path}';
+  }
+}
@@ -0,0 +1,148 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show hashValues;
+
+import 'package:flutter/foundation.dart' show setEquals;
+import 'package:meta/meta.dart' show immutable, required;
+
+import 'types.dart';
+
+/// The overlays of a map that intersect a region.
+///
+/// Markers hidden by clustering or virtualization are included.
+@immutable
+class RegionQueryResult {
+  /// Creates an immutable region query result.
+  const RegionQueryResult({
+    this.markerIds = const <MarkerId>{},
+    this.polygonIds = const <PolygonId>{},
+    this.polylineIds = const <PolylineId>{},
+    this.circleIds = const <CircleId>{},
+  });
+
+  /// The markers positioned in the region.
+  final Set<MarkerId> markerIds;
+
+  /// The polygons intersecting the region.
+  final Set<PolygonId> polygonIds;
+
+  /// The polylines intersecting the region.
+  final Set<PolylineId> polylineIds;
+
+  /// The circles intersecting the region.
+  final Set<CircleId> circleIds;
+
+  /// Parses the result of a `map#queryRegion` call.
+  static RegionQueryResult fromJson(dynamic json) {
+    if (json == null) {
+      return null;
+    }
+    Set<T> ids<T>(String key, T Function(String value) toId) {
+      final List<dynamic> values = json[key] ?? const <dynamic>[];
+      return values.map<T>((dynamic value) => toId(value)).toSet();
+    }
+
+    return RegionQueryResult(
+      markerIds: ids('markerIds', (String value) => MarkerId(value)),
+      polygonIds: ids('polygonIds', (String value) => PolygonId(value)),
+      polylineIds: ids('polylineIds', (String value) => PolylineId(value)),
+      circleIds: ids('circleIds', (String value) => CircleId(value)),
+    );
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final RegionQueryResult typedOther = other;
+    return setEquals(markerIds, typedOther.markerIds) &&
+        setEquals(polygonIds, typedOther.polygonIds) &&
+        setEquals(polylineIds, typedOther.polylineIds) &&
+        setEquals(circleIds, typedOther.circleIds);
+  }
+
+  @override
+  int get hashCode => hashValues(markerIds.length, polygonIds.length,
+      polylineIds.length, circleIds.length);
+
+  @override
+  String toString() {
+    return 'RegionQueryResult{markerIds: $markerIds, '
+        'polygonIds: $polygonIds, polylineIds: $polylineIds, '
+        'circleIds: $circleIds}';
+  }
+}
+
+/// The type of an overlay found by a nearest query.
+enum OverlayType {
+  /// A [Marker], identified by its [MarkerId].
+  marker,
+
+  /// A [Polygon], identified by its [PolygonId].
+  polygon,
+
+  /// A [Polyline], identified by its [PolylineId].
+  polyline,
+
+  /// A [Circle], identified by its [CircleId].
+  circle,
+}
+
+const Map<String, OverlayType> _overlayTypes = <String, OverlayType>{
+  'marker': OverlayType.marker,
+  'polygon': OverlayType.polygon,
+  'polyline': OverlayType.polyline,
+  'circle': OverlayType.circle,
+};
+
+/// An overlay near a queried position.
+@immutable
+class NearestOverlay {
+  /// Creates an immutable nearest overlay.
+  const NearestOverlay({
+    @required this.type,
+    @required this.id,
+    @required this.distance,
+  });
+
+  /// The type of the overlay.
+  final OverlayType type;
+
+  /// The value of the id of the overlay, such as a [MarkerId.value].
+  final String id;
+
+  /// The distance from the queried position to the overlay, in meters.
+  final double distance;
+
+  /// Parses one overlay of the result of a `map#queryNearest` call.
+  static NearestOverlay fromJson(dynamic json) {
+    if (json == null) {
+      return null;
+    }
+    return NearestOverlay(
+      type: _overlayTypes[json['type']],
+      id: json['id'],
+      distance: (json['distance'] as num).toDouble(),
+    );
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final NearestOverlay typedOther = other;
+    return type == typedOther.type &&
+        id == typedOther.id &&
+        distance == typedOther.distance;
+  }
+
+  @override
+  int get hashCode => hashValues(type, id, distance);
+
+  @override
+  String toString() {
+    return 'NearestOverlay{type: $type, id: $id, distance: $distance}';
+  }
+}
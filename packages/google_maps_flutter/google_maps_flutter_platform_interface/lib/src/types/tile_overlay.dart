@@ -0,0 +1,177 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data' show Uint8List;
+
+import 'package:meta/meta.dart' show immutable, required;
+
+/// Uniquely identifies a [TileOverlay] among [GoogleMap] tile overlays.
+///
+/// This does not have to be globally unique, only unique among the list.
+@immutable
+class TileOverlayId {
+  /// Creates an immutable identifier for a [TileOverlay].
+  TileOverlayId(this.value) : assert(value != null);
+
+  /// value of the [TileOverlayId].
+  final String value;
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final TileOverlayId typedOther = other;
+    return value == typedOther.value;
+  }
+
+  @override
+  int get hashCode => value.hashCode;
+
+  @override
+  String toString() {
+    return 'TileOverlayId{value: $value}';
+  }
+}
+
+/// The image of a map tile.
+@immutable
+class Tile {
+  /// Creates an immutable tile from encoded image bytes, such as a PNG.
+  const Tile(this.data) : assert(data != null);
+
+  /// The encoded image of the tile.
+  final Uint8List data;
+
+  /// Converts this object to something serializable in JSON.
+  dynamic toJson() => <String, dynamic>{'data': data};
+}
+
+/// Provides the tiles of a [TileOverlay] that has no [TileOverlay.urlTemplate].
+abstract class TileProvider {
+  /// Returns the tile at [x], [y] for [zoom], or null if there is none.
+  ///
+  /// Tiles are cached by the platform, so each tile is usually requested
+  /// once. See [TileOverlay.memoryCacheSize] and [TileOverlay.diskCacheKey].
+  Future<Tile> getTile(int x, int y, int zoom);
+}
+
+/// Draws tiles above the base map, from a URL or from a [TileProvider].
+///
+/// Only supported on Android.
+@immutable
+class TileOverlay {
+  /// Creates an immutable representation of a [TileOverlay] to draw on
+  /// [GoogleMap].
+  const TileOverlay({
+    @required this.tileOverlayId,
+    this.fadeIn = true,
+    this.transparency = 0.0,
+    this.zIndex = 0,
+    this.visible = true,
+    this.urlTemplate,
+    this.tileProvider,
+    this.tileSize = 256,
+    this.memoryCacheSize,
+    this.diskCacheKey,
+    this.diskCacheSize,
+  })  : assert(tileOverlayId != null),
+        assert(transparency >= 0.0 && transparency <= 1.0),
+        assert(urlTemplate == null || tileProvider == null);
+
+  /// Uniquely identifies a [TileOverlay].
+  final TileOverlayId tileOverlayId;
+
+  /// Whether tiles fade in when they are shown.
+  final bool fadeIn;
+
+  /// The transparency of the tiles, from 0 (opaque) to 1 (invisible).
+  final double transparency;
+
+  /// The z-index of the tile overlay, used to determine relative drawing order
+  /// of tile overlays.
+  final int zIndex;
+
+  /// True if the tile overlay is visible.
+  final bool visible;
+
+  /// The URL tiles are downloaded from, with `{x}`, `{y}` and `{z}`
+  /// placeholders.
+  final String urlTemplate;
+
+  /// Provides the tiles when there is no [urlTemplate].
+  ///
+  /// Without either, the overlay has no tiles.
+  final TileProvider tileProvider;
+
+  /// The size of the tiles, in pixels.
+  final int tileSize;
+
+  /// How many bytes of tiles are kept in memory, or null for the platform
+  /// default.
+  final int memoryCacheSize;
+
+  /// Identifies the tiles on disk across sessions.
+  ///
+  /// Defaults to the [urlTemplate]. Tiles from a [tileProvider] are only kept
+  /// on disk if a key is given.
+  final String diskCacheKey;
+
+  /// How many bytes of tiles are kept on disk, or null for the platform
+  /// default.
+  final int diskCacheSize;
+
+  /// Converts this object to something serializable in JSON.
+  dynamic toJson() {
+    final Map<String, dynamic> json = <String, dynamic>{};
+
+    void addIfPresent(String fieldName, dynamic value) {
+      if (value != null) {
+        json[fieldName] = value;
+      }
+    }
+
+    addIfPresent('tileOverlayId', tileOverlayId.value);
+    addIfPresent('fadeIn', fadeIn);
+    addIfPresent('transparency', transparency);
+    addIfPresent('zIndex', zIndex);
+    addIfPresent('visible', visible);
+    addIfPresent('urlTemplate', urlTemplate);
+    addIfPresent('tileSize', tileSize);
+    addIfPresent('memoryCacheSize', memoryCacheSize);
+    addIfPresent('diskCacheKey', diskCacheKey);
+    addIfPresent('diskCacheSize', diskCacheSize);
+
+    return json;
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final TileOverlay typedOther = other;
+    return tileOverlayId == typedOther.tileOverlayId &&
+        fadeIn == typedOther.fadeIn &&
+        transparency == typedOther.transparency &&
+        zIndex == typedOther.zIndex &&
+        visible == typedOther.visible &&
+        urlTemplate == typedOther.urlTemplate &&
+        tileProvider == typedOther.tileProvider &&
+        tileSize == typedOther.tileSize &&
+        memoryCacheSize == typedOther.memoryCacheSize &&
+        diskCacheKey == typedOther.diskCacheKey &&
+        diskCacheSize == typedOther.diskCacheSize;
+  }
+
+  @override
+  int get hashCode => tileOverlayId.hashCode;
+
+  @override
+  String toString() {
+    return 'TileOverlay{tileOverlayId: $tileOverlayId, fadeIn: $fadeIn, '
+        'transparency: $transparency, zIndex: $zIndex, visible: $visible, '
+        'urlTemplate: $urlTemplate, tileProvider: $tileProvider, '
+        'tileSize: $tileSize, memoryCacheSize: $memoryCacheSize, '
+        'diskCacheKey: $diskCacheKey, diskCacheSize: $diskCacheSize}';
+  }
+}
@@ -0,0 +1,99 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:ui' show hashValues;
+
+import 'package:flutter/foundation.dart' show setEquals;
+
+import 'types.dart';
+import 'utils/tile_overlay.dart';
+
+/// [TileOverlay] update events to be applied to the [GoogleMap].
+///
+/// Used in [GoogleMapController] when the map is updated.
+// (Do not re-export)
+class TileOverlayUpdates {
+  /// Computes [TileOverlayUpdates] given previous and current [TileOverlay]s.
+  TileOverlayUpdates.from(
+      Set<TileOverlay> previous, Set<TileOverlay> current) {
+    final Map<TileOverlayId, TileOverlay> previousTileOverlays =
+        keyByTileOverlayId(previous);
+    final Map<TileOverlayId, TileOverlay> currentTileOverlays =
+        keyByTileOverlayId(current);
+
+    final Set<TileOverlayId> prevTileOverlayIds =
+        previousTileOverlays.keys.toSet();
+    final Set<TileOverlayId> currentTileOverlayIds =
+        currentTileOverlays.keys.toSet();
+
+    TileOverlay idToCurrentTileOverlay(TileOverlayId id) {
+      return currentTileOverlays[id];
+    }
+
+    /// Returns `true` if [current] is not equals to previous one with the
+    /// same id.
+    bool hasChanged(TileOverlay current) {
+      return current != previousTileOverlays[current.tileOverlayId];
+    }
+
+    tileOverlayIdsToRemove =
+        prevTileOverlayIds.difference(currentTileOverlayIds);
+    tileOverlaysToAdd = currentTileOverlayIds
+        .difference(prevTileOverlayIds)
+        .map(idToCurrentTileOverlay)
+        .toSet();
+    tileOverlaysToChange = currentTileOverlayIds
+        .intersection(prevTileOverlayIds)
+        .map(idToCurrentTileOverlay)
+        .where(hasChanged)
+        .toSet();
+  }
+
+  /// Set of TileOverlays to be added in this update.
+  Set<TileOverlay> tileOverlaysToAdd;
+
+  /// Set of TileOverlayIds to be removed in this update.
+  Set<TileOverlayId> tileOverlayIdsToRemove;
+
+  /// Set of TileOverlays to be changed in this update.
+  Set<TileOverlay> tileOverlaysToChange;
+
+  /// Whether this update changes nothing.
+  bool get isEmpty =>
+      tileOverlaysToAdd.isEmpty &&
+      tileOverlayIdsToRemove.isEmpty &&
+      tileOverlaysToChange.isEmpty;
+
+  /// Converts this object to something serializable in JSON.
+  Map<String, dynamic> toJson() {
+    return <String, dynamic>{
+      'tileOverlaysToAdd': serializeTileOverlaySet(tileOverlaysToAdd),
+      'tileOverlaysToChange': serializeTileOverlaySet(tileOverlaysToChange),
+      'tileOverlayIdsToRemove': tileOverlayIdsToRemove
+          .map<dynamic>((TileOverlayId t) => t.value)
+          .toList(),
+    };
+  }
+
+  @override
+  bool operator ==(Object other) {
+    if (identical(this, other)) return true;
+    if (other.runtimeType != runtimeType) return false;
+    final TileOverlayUpdates typedOther = other;
+    return setEquals(tileOverlaysToAdd, typedOther.tileOverlaysToAdd) &&
+        setEquals(tileOverlayIdsToRemove, typedOther.tileOverlayIdsToRemove) &&
+        setEquals(tileOverlaysToChange, typedOther.tileOverlaysToChange);
+  }
+
+  @override
+  int get hashCode => hashValues(
+      tileOverlaysToAdd, tileOverlayIdsToRemove, tileOverlaysToChange);
+
+  @override
+  String toString() {
+    return 'TileOverlayUpdates{tileOverlaysToAdd: $tileOverlaysToAdd, '
+        'tileOverlayIdsToRemove: $tileOverlayIdsToRemove, '
+        'tileOverlaysToChange: $tileOverlaysToChange}';
+  }
+}
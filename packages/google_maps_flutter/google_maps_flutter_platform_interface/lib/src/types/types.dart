@@ -9,20 +9,29 @@ export 'camera.dart';
 export 'cap.dart';
 export 'circle_updates.dart';
 export 'circle.dart';
+export 'cluster.dart';
+export 'heatmap_updates.dart';
+export 'heatmap.dart';
 export 'joint_type.dart';
 export 'location.dart';
+export 'marker_animation.dart';
 export 'marker_updates.dart';
 export 'marker.dart';
+export 'overlay_query.dart';
 export 'pattern_item.dart';
 export 'polygon_updates.dart';
 export 'polygon.dart';
 export 'polyline_updates.dart';
 export 'polyline.dart';
 export 'screen_coordinate.dart';
+export 'tile_overlay_updates.dart';
+export 'tile_overlay.dart';
 export 'ui.dart';
 
 // Export the utils, they're used by the Widget
 export 'utils/circle.dart';
+export 'utils/heatmap.dart';
 export 'utils/marker.dart';
 export 'utils/polygon.dart';
 export 'utils/polyline.dart';
+export 'utils/tile_overlay.dart';
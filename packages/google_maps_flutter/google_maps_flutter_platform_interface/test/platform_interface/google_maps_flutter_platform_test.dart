@@ -2,6 +2,9 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:async';
+import 'dart:typed_data';
+
 import 'package:mockito/mockito.dart';
 import 'package:flutter/services.dart';
 import 'package:flutter_test/flutter_test.dart';
@@ -59,6 +62,303 @@ void main() {
       );
     });
   });
+
+  group('$MethodChannelGoogleMapsFlutter map channel', () {
+    final MethodChannelGoogleMapsFlutter maps =
+        MethodChannelGoogleMapsFlutter();
+    const MethodChannel channel =
+        MethodChannel('plugins.flutter.io/google_maps_0');
+    final List<MethodCall> log = <MethodCall>[];
+    dynamic reply;
+
+    setUpAll(() async {
+      channel.setMockMethodCallHandler((MethodCall methodCall) async {
+        log.add(methodCall);
+        return reply;
+      });
+      await maps.init(0);
+    });
+
+    setUp(() {
+      log.clear();
+      reply = null;
+    });
+
+    test('initializeMaps', () async {
+      const MethodChannel pluginChannel =
+          MethodChannel('plugins.flutter.io/google_maps');
+      pluginChannel.setMockMethodCallHandler((MethodCall methodCall) async {
+        log.add(methodCall);
+      });
+
+      await maps.initializeMaps(mapViewCount: 2, liteMode: true);
+
+      expect(log, <Matcher>[
+        isMethodCall('maps#initialize', arguments: <String, dynamic>{
+          'mapViewCount': 2,
+          'liteMode': true,
+        }),
+      ]);
+      pluginChannel.setMockMethodCallHandler(null);
+    });
+
+    test('registerIcon', () async {
+      await maps.registerIcon('car', BitmapDescriptor.defaultMarker, mapId: 0);
+      expect(log, <Matcher>[
+        isMethodCall('icons#register', arguments: <String, dynamic>{
+          'iconId': 'car',
+          'icon': <dynamic>['defaultMarker'],
+        }),
+      ]);
+    });
+
+    test('unregisterIcon', () async {
+      await maps.unregisterIcon('car', mapId: 0);
+      expect(log, <Matcher>[
+        isMethodCall('icons#unregister',
+            arguments: <String, dynamic>{'iconId': 'car'}),
+      ]);
+    });
+
+    test('setClusterOptions', () async {
+      await maps.setClusterOptions(
+          ClusterOptions(algorithm: ClusterAlgorithm.distance, size: 40),
+          mapId: 0);
+      await maps.setClusterOptions(null, mapId: 0);
+      expect(log, <Matcher>[
+        isMethodCall('markers#setClusterOptions', arguments: <String, dynamic>{
+          'algorithm': 'distance',
+          'size': 40.0,
+          'minClusterSize': 2,
+          'color': 0xff1a73e8,
+        }),
+        isMethodCall('markers#setClusterOptions', arguments: null),
+      ]);
+    });
+
+    test('animateMarkers', () async {
+      await maps.animateMarkers(<MarkerAnimation>[
+        MarkerAnimation(
+          markerId: MarkerId('bus'),
+          position: LatLng(52.5, 13.4),
+          duration: Duration(seconds: 2),
+        ),
+        MarkerAnimation.path(markerId: MarkerId('tram'), path: <MarkerKeyframe>[
+          MarkerKeyframe(position: LatLng(52.0, 13.0), time: Duration.zero),
+          MarkerKeyframe(
+            position: LatLng(52.1, 13.1),
+            time: Duration(milliseconds: 500),
+            rotation: 90,
+          ),
+        ]),
+      ], mapId: 0);
+      expect(log, <Matcher>[
+        isMethodCall('markers#animate', arguments: <String, dynamic>{
+          'animations': <dynamic>[
+            <String, dynamic>{
+              'markerId': 'bus',
+              'path': <dynamic>[
+                <dynamic>[52.5, 13.4, 2000],
+              ],
+            },
+            <String, dynamic>{
+              'markerId': 'tram',
+              'path': <dynamic>[
+                <dynamic>[52.0, 13.0, 0],
+                <dynamic>[52.1, 13.1, 500, 90.0],
+              ],
+            },
+          ],
+        }),
+      ]);
+    });
+
+    test('updateTileOverlays', () async {
+      final TileOverlay tileOverlay = TileOverlay(
+          tileOverlayId: TileOverlayId('osm'),
+          urlTemplate: 'https://tile.example.com/{z}/{x}/{y}.png');
+      await maps.updateTileOverlays(
+          TileOverlayUpdates.from(null, <TileOverlay>{tileOverlay}),
+          mapId: 0);
+      expect(log, <Matcher>[
+        isMethodCall('tileOverlays#update', arguments: <String, dynamic>{
+          'tileOverlaysToAdd': <dynamic>[tileOverlay.toJson()],
+          'tileOverlaysToChange': <dynamic>[],
+          'tileOverlayIdsToRemove': <dynamic>[],
+        }),
+      ]);
+    });
+
+    test('updateHeatmaps', () async {
+      final Heatmap heatmap = Heatmap(
+        heatmapId: HeatmapId('h'),
+        points: <WeightedLatLng>[
+          WeightedLatLng(LatLng(52.5, 13.4)),
+          WeightedLatLng(LatLng(48.1, 11.6), weight: 3),
+        ],
+      );
+      final Heatmap faded = Heatmap(
+        heatmapId: HeatmapId('h'),
+        points: heatmap.points,
+        opacity: 0.3,
+      );
+
+      await maps.updateHeatmaps(HeatmapUpdates.from(null, <Heatmap>{heatmap}),
+          mapId: 0);
+      await maps.updateHeatmaps(
+          HeatmapUpdates.from(<Heatmap>{heatmap}, <Heatmap>{faded}),
+          mapId: 0);
+
+      expect(log, hasLength(2));
+      final Map<dynamic, dynamic> added = log[0].arguments['heatmapsToAdd'][0];
+      expect(log[0].method, 'heatmaps#update');
+      expect(added['points'],
+          Float64List.fromList(<double>[52.5, 13.4, 1, 48.1, 11.6, 3]));
+      expect(added['gradient'], <String, dynamic>{
+        'colors': <int>[0xff66e100, 0xffff0000],
+        'startPoints': <double>[0.2, 1.0],
+      });
+      final Map<dynamic, dynamic> changed =
+          log[1].arguments['heatmapsToChange'][0];
+      expect(changed['opacity'], 0.3);
+      expect(changed.containsKey('points'), isFalse);
+    });
+
+    test('updateOverlays', () async {
+      final MarkerUpdates markerUpdates = MarkerUpdates.from(
+          null, <Marker>{Marker(markerId: MarkerId('bus'))});
+      final CircleUpdates circleUpdates = CircleUpdates.from(
+          <Circle>{Circle(circleId: CircleId('zone'))}, null);
+      await maps.updateOverlays(
+          markerUpdates: markerUpdates, circleUpdates: circleUpdates, mapId: 0);
+      expect(log, <Matcher>[
+        isMethodCall('overlays#update', arguments: <String, dynamic>{
+          'markers': markerUpdates.toJson(),
+          'circles': circleUpdates.toJson(),
+        }),
+      ]);
+    });
+
+    test('clearTileCache', () async {
+      await maps.clearTileCache(TileOverlayId('osm'), mapId: 0);
+      expect(log, <Matcher>[
+        isMethodCall('tileOverlays#clearTileCache',
+            arguments: <String, dynamic>{'tileOverlayId': 'osm'}),
+      ]);
+    });
+
+    test('tileOverlay#getTile', () async {
+      Future<dynamic> getTile(String tileOverlayId) {
+        return _invokeFromPlatform('tileOverlay#getTile', <String, dynamic>{
+          'tileOverlayId': tileOverlayId,
+          'x': 1,
+          'y': 2,
+          'zoom': 3,
+        });
+      }
+
+      final TileOverlay tileOverlay = TileOverlay(
+          tileOverlayId: TileOverlayId('dart'),
+          tileProvider: _FakeTileProvider());
+      await maps.updateTileOverlays(
+          TileOverlayUpdates.from(null, <TileOverlay>{tileOverlay}),
+          mapId: 0);
+
+      final dynamic tile = await getTile('dart');
+      expect(tile, <String, dynamic>{
+        'data': Uint8List.fromList(<int>[1, 2, 3]),
+      });
+
+      final dynamic missing = await getTile('none');
+      expect(missing, isNull);
+
+      await maps.updateTileOverlays(
+          TileOverlayUpdates.from(<TileOverlay>{tileOverlay}, null),
+          mapId: 0);
+      final dynamic removed = await getTile('dart');
+      expect(removed, isNull);
+    });
+
+    test('queryRegion', () async {
+      reply = <String, dynamic>{
+        'markerIds': <String>['m1', 'm2'],
+        'polygonIds': <String>[],
+        'polylineIds': <String>['l1'],
+        'circleIds': <String>[],
+      };
+      final LatLngBounds bounds = LatLngBounds(
+          southwest: LatLng(52.0, 13.0), northeast: LatLng(53.0, 14.0));
+
+      final RegionQueryResult result = await maps.queryRegion(bounds, mapId: 0);
+
+      expect(log, <Matcher>[
+        isMethodCall('map#queryRegion',
+            arguments: <String, dynamic>{'bounds': bounds.toJson()}),
+      ]);
+      expect(
+          result,
+          RegionQueryResult(
+            markerIds: <MarkerId>{MarkerId('m1'), MarkerId('m2')},
+            polylineIds: <PolylineId>{PolylineId('l1')},
+          ));
+    });
+
+    test('queryNearest', () async {
+      reply = <dynamic>[
+        <String, dynamic>{'type': 'circle', 'id': 'c1', 'distance': 12.5},
+        <String, dynamic>{'type': 'marker', 'id': 'm1', 'distance': 40},
+      ];
+
+      final List<NearestOverlay> result =
+          await maps.queryNearest(LatLng(52.5, 13.4), count: 2, mapId: 0);
+
+      expect(log, <Matcher>[
+        isMethodCall('map#queryNearest', arguments: <String, dynamic>{
+          'position': <double>[52.5, 13.4],
+          'count': 2,
+        }),
+      ]);
+      expect(result, <NearestOverlay>[
+        NearestOverlay(type: OverlayType.circle, id: 'c1', distance: 12.5),
+        NearestOverlay(type: OverlayType.marker, id: 'm1', distance: 40),
+      ]);
+    });
+
+    test('cluster#onTap', () async {
+      final Future<ClusterTapEvent> event = maps.onClusterTap(mapId: 0).first;
+      await _invokeFromPlatform('cluster#onTap', <String, dynamic>{
+        'clusterId': 'c1',
+        'position': <double>[52.5, 13.4],
+        'markerIds': <String>['a', 'b'],
+      });
+      expect(
+          (await event).value,
+          Cluster(
+            clusterId: 'c1',
+            position: LatLng(52.5, 13.4),
+            markerIds: <MarkerId>[MarkerId('a'), MarkerId('b')],
+          ));
+    });
+  });
+}
+
+/// Sends a method call from the platform side of the channel of map 0.
+Future<dynamic> _invokeFromPlatform(String method, dynamic arguments) {
+  const MethodCodec codec = StandardMethodCodec();
+  final Completer<ByteData> reply = Completer<ByteData>();
+  ServicesBinding.instance.defaultBinaryMessenger.handlePlatformMessage(
+      'plugins.flutter.io/google_maps_0',
+      codec.encodeMethodCall(MethodCall(method, arguments)),
+      reply.complete);
+  return reply.future.then((ByteData data) => codec.decodeEnvelope(data));
+}
+
+/// Returns the tile coordinates as its bytes.
+class _FakeTileProvider implements TileProvider {
+  @override
+  Future<Tile> getTile(int x, int y, int zoom) async {
+    return Tile(Uint8List.fromList(<int>[x, y, zoom]));
+  }
 }
 
 class GoogleMapsFlutterPlatformMock extends Mock
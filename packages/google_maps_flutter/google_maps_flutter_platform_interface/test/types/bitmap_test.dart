@@ -162,6 +162,22 @@ void main() {
           }, throwsAssertionError);
         });
       });
+      group('registered', () {
+        test('id is passed', () {
+          expect(BitmapDescriptor.fromJson(['registered', 'car']),
+              isA<BitmapDescriptor>());
+          expect(BitmapDescriptor.registered('car').toJson(),
+              <dynamic>['registered', 'car']);
+        });
+        test('id cannot be null', () {
+          expect(() {
+            BitmapDescriptor.fromJson(['registered', null]);
+          }, throwsAssertionError);
+          expect(() {
+            BitmapDescriptor.fromJson(['registered']);
+          }, throwsAssertionError);
+        });
+      });
     });
   });
 }
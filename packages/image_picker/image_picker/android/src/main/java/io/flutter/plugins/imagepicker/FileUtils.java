@@ -32,6 +32,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 
 class FileUtils {
+  /** Large enough that copying a picked image takes few reads from its content provider. */
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
 
   String getPathFromUri(final Context context, final Uri uri) {
     File file = null;
@@ -88,7 +90,7 @@ class FileUtils {
   }
 
   private static void copy(InputStream in, OutputStream out) throws IOException {
-    final byte[] buffer = new byte[4 * 1024];
+    final byte[] buffer = new byte[COPY_BUFFER_SIZE];
     int bytesRead;
     while ((bytesRead = in.read(buffer)) != -1) {
       out.write(buffer, 0, bytesRead);
@@ -10,12 +10,15 @@ import android.net.Uri;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.common.MethodCall;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 class ImagePickerCache {
 
   static final String MAP_KEY_PATH = "path";
+  static final String MAP_KEY_PATH_LIST = "pathList";
   static final String MAP_KEY_MAX_WIDTH = "maxWidth";
   static final String MAP_KEY_MAX_HEIGHT = "maxHeight";
   static final String MAP_KEY_IMAGE_QUALITY = "imageQuality";
@@ -25,6 +28,11 @@ class ImagePickerCache {
 
   private static final String FLUTTER_IMAGE_PICKER_IMAGE_PATH_KEY =
       "flutter_image_picker_image_path";
+  // The paths picked by pickMultiImage, kept one key each to keep their order.
+  private static final String FLUTTER_IMAGE_PICKER_IMAGE_PATH_COUNT_KEY =
+      "flutter_image_picker_image_path_count";
+  private static final String FLUTTER_IMAGE_PICKER_IMAGE_PATH_LIST_KEY_PREFIX =
+      "flutter_image_picker_image_path_";
   private static final String SHARED_PREFERENCE_ERROR_CODE_KEY = "flutter_image_picker_error_code";
   private static final String SHARED_PREFERENCE_ERROR_MESSAGE_KEY =
       "flutter_image_picker_error_message";
@@ -50,7 +58,8 @@ class ImagePickerCache {
   }
 
   void saveTypeWithMethodCallName(String methodCallName) {
-    if (methodCallName.equals(ImagePickerPlugin.METHOD_CALL_IMAGE)) {
+    if (methodCallName.equals(ImagePickerPlugin.METHOD_CALL_IMAGE)
+        || methodCallName.equals(ImagePickerPlugin.METHOD_CALL_MULTI_IMAGE)) {
       setType("image");
     } else if (methodCallName.equals(ImagePickerPlugin.METHOD_CALL_VIDEO)) {
       setType("video");
@@ -114,6 +123,22 @@ class ImagePickerCache {
     editor.apply();
   }
 
+  /**
+   * Saves the paths of images picked together. The first path is also saved as the single result,
+   * for callers that only read one.
+   */
+  void saveResultList(List<String> paths) {
+    SharedPreferences.Editor editor = prefs.edit();
+    if (!paths.isEmpty() && paths.get(0) != null) {
+      editor.putString(FLUTTER_IMAGE_PICKER_IMAGE_PATH_KEY, paths.get(0));
+    }
+    editor.putInt(FLUTTER_IMAGE_PICKER_IMAGE_PATH_COUNT_KEY, paths.size());
+    for (int i = 0; i < paths.size(); i++) {
+      editor.putString(FLUTTER_IMAGE_PICKER_IMAGE_PATH_LIST_KEY_PREFIX + i, paths.get(i));
+    }
+    editor.apply();
+  }
+
   void clear() {
     prefs.edit().clear().apply();
   }
@@ -129,6 +154,16 @@ class ImagePickerCache {
       hasData = true;
     }
 
+    if (prefs.contains(FLUTTER_IMAGE_PICKER_IMAGE_PATH_COUNT_KEY)) {
+      final int count = prefs.getInt(FLUTTER_IMAGE_PICKER_IMAGE_PATH_COUNT_KEY, 0);
+      final List<String> paths = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        paths.add(prefs.getString(FLUTTER_IMAGE_PICKER_IMAGE_PATH_LIST_KEY_PREFIX + i, null));
+      }
+      resultMap.put(MAP_KEY_PATH_LIST, paths);
+      hasData = true;
+    }
+
     if (prefs.contains(SHARED_PREFERENCE_ERROR_CODE_KEY)) {
       final String errorCodeValue = prefs.getString(SHARED_PREFERENCE_ERROR_CODE_KEY, "");
       resultMap.put(MAP_KEY_ERROR_CODE, errorCodeValue);
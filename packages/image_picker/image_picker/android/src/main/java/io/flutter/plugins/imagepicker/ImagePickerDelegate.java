@@ -6,6 +6,7 @@ package io.flutter.plugins.imagepicker;
 
 import android.Manifest;
 import android.app.Activity;
+import android.content.ClipData;
 import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.content.pm.ResolveInfo;
@@ -22,9 +23,15 @@ import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.PluginRegistry;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 enum CameraDevice {
   REAR,
@@ -70,6 +77,15 @@ enum CameraDevice {
  * Finish with full path for the scaled image as the result.
  *
  * <p>C) User cancels picking an image. Finish with null result.
+ *
+ * <p>Copying the picked file, scaling it and copying its EXIF data happen on the background {@link
+ * #executor}, off the thread delivering the activity results. The result is then delivered from
+ * that thread, so the {@link MethodChannel.Result} given to this class must post it to the platform
+ * thread.
+ *
+ * <p>{@link #chooseMultiImageFromGallery} lets the user pick several images at once. They are
+ * copied and scaled in parallel on the executor, reported one by one to the {@link
+ * ProgressListener} as they are done, and the result lists them in the order they were picked.
  */
 public class ImagePickerDelegate
     implements PluginRegistry.ActivityResultListener,
@@ -82,6 +98,12 @@ public class ImagePickerDelegate
   @VisibleForTesting static final int REQUEST_CODE_TAKE_VIDEO_WITH_CAMERA = 2353;
   @VisibleForTesting static final int REQUEST_EXTERNAL_VIDEO_STORAGE_PERMISSION = 2354;
   @VisibleForTesting static final int REQUEST_CAMERA_VIDEO_PERMISSION = 2355;
+  @VisibleForTesting static final int REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY = 2346;
+  @VisibleForTesting static final int REQUEST_EXTERNAL_MULTI_IMAGE_STORAGE_PERMISSION = 2347;
+
+  private static final String ERROR_CODE_NO_ACTIVITY = "no_activity";
+  private static final String ERROR_MESSAGE_NO_ACTIVITY =
+      "The activity was destroyed before the picked image was processed.";
 
   @VisibleForTesting final String fileProviderName;
 
@@ -93,7 +115,10 @@ public class ImagePickerDelegate
   private final IntentResolver intentResolver;
   private final FileUriResolver fileUriResolver;
   private final FileUtils fileUtils;
+  private final Executor executor;
   private CameraDevice cameraDevice;
+  private volatile ProgressListener progressListener;
+  private volatile boolean closed;
 
   interface PermissionManager {
     boolean isPermissionGranted(String permissionName);
@@ -117,6 +142,15 @@ public class ImagePickerDelegate
     void onPathReady(String path);
   }
 
+  /** Receives the images picked by {@link #chooseMultiImageFromGallery} as they are processed. */
+  interface ProgressListener {
+    /**
+     * Called from the executor when the image at {@code index} of the {@code count} picked ones is
+     * ready at {@code path}, or null if it could not be read.
+     */
+    void onImageProcessed(int index, int count, String path);
+  }
+
   private Uri pendingCameraMediaUri;
   private MethodChannel.Result pendingResult;
   private MethodCall methodCall;
@@ -125,7 +159,8 @@ public class ImagePickerDelegate
       final Activity activity,
       final File externalFilesDirectory,
       final ImageResizer imageResizer,
-      final ImagePickerCache cache) {
+      final ImagePickerCache cache,
+      final Executor executor) {
     this(
         activity,
         externalFilesDirectory,
@@ -176,7 +211,8 @@ public class ImagePickerDelegate
                 });
           }
         },
-        new FileUtils());
+        new FileUtils(),
+        executor);
   }
 
   /**
@@ -195,6 +231,42 @@ public class ImagePickerDelegate
       final IntentResolver intentResolver,
       final FileUriResolver fileUriResolver,
       final FileUtils fileUtils) {
+    this(
+        activity,
+        externalFilesDirectory,
+        imageResizer,
+        result,
+        methodCall,
+        cache,
+        permissionManager,
+        intentResolver,
+        fileUriResolver,
+        fileUtils,
+        new Executor() {
+          @Override
+          public void execute(Runnable command) {
+            command.run();
+          }
+        });
+  }
+
+  /**
+   * This constructor is used exclusively for testing; unlike the one above, it runs the
+   * post-processing of the picked images on {@code executor}.
+   */
+  @VisibleForTesting
+  ImagePickerDelegate(
+      final Activity activity,
+      final File externalFilesDirectory,
+      final ImageResizer imageResizer,
+      final MethodChannel.Result result,
+      final MethodCall methodCall,
+      final ImagePickerCache cache,
+      final PermissionManager permissionManager,
+      final IntentResolver intentResolver,
+      final FileUriResolver fileUriResolver,
+      final FileUtils fileUtils,
+      final Executor executor) {
     this.activity = activity;
     this.externalFilesDirectory = externalFilesDirectory;
     this.imageResizer = imageResizer;
@@ -206,6 +278,16 @@ public class ImagePickerDelegate
     this.fileUriResolver = fileUriResolver;
     this.fileUtils = fileUtils;
     this.cache = cache;
+    this.executor = executor;
+  }
+
+  /**
+   * Stops the post-processing that has not finished yet, for instance when the activity is
+   * destroyed. The pending call is answered with an error, or the picked image is kept in the cache
+   * for {@link #retrieveLostImage}.
+   */
+  void close() {
+    closed = true;
   }
 
   void setCameraDevice(CameraDevice device) {
@@ -216,6 +298,10 @@ public class ImagePickerDelegate
     return cameraDevice;
   }
 
+  void setProgressListener(ProgressListener listener) {
+    progressListener = listener;
+  }
+
   // Save the state of the image picker so it can be retrieved with `retrieveLostImage`.
   void saveStateBeforeResult() {
     if (methodCall == null) {
@@ -229,10 +315,28 @@ public class ImagePickerDelegate
     }
   }
 
-  void retrieveLostImage(MethodChannel.Result result) {
+  void retrieveLostImage(final MethodChannel.Result result) {
+    runInBackground(
+        new Runnable() {
+          @Override
+          public void run() {
+            retrieveLostImageInBackground(result);
+          }
+        },
+        new Runnable() {
+          @Override
+          public void run() {
+            // The cache is left as it is, so the lost image can be retrieved again.
+            result.error(ERROR_CODE_NO_ACTIVITY, ERROR_MESSAGE_NO_ACTIVITY, null);
+          }
+        });
+  }
+
+  private void retrieveLostImageInBackground(MethodChannel.Result result) {
     Map<String, Object> resultMap = cache.getCacheMap();
     String path = (String) resultMap.get(cache.MAP_KEY_PATH);
-    if (path != null) {
+    // Images picked together were already scaled before they were saved.
+    if (path != null && !resultMap.containsKey(cache.MAP_KEY_PATH_LIST)) {
       Double maxWidth = (Double) resultMap.get(cache.MAP_KEY_MAX_WIDTH);
       Double maxHeight = (Double) resultMap.get(cache.MAP_KEY_MAX_HEIGHT);
       int imageQuality =
@@ -338,6 +442,31 @@ public class ImagePickerDelegate
     activity.startActivityForResult(pickImageIntent, REQUEST_CODE_CHOOSE_IMAGE_FROM_GALLERY);
   }
 
+  public void chooseMultiImageFromGallery(MethodCall methodCall, MethodChannel.Result result) {
+    if (!setPendingMethodCallAndResult(methodCall, result)) {
+      finishWithAlreadyActiveError(result);
+      return;
+    }
+
+    if (!permissionManager.isPermissionGranted(Manifest.permission.READ_EXTERNAL_STORAGE)) {
+      permissionManager.askForPermission(
+          Manifest.permission.READ_EXTERNAL_STORAGE,
+          REQUEST_EXTERNAL_MULTI_IMAGE_STORAGE_PERMISSION);
+      return;
+    }
+
+    launchMultiPickImageFromGalleryIntent();
+  }
+
+  private void launchMultiPickImageFromGalleryIntent() {
+    Intent pickImageIntent = new Intent(Intent.ACTION_GET_CONTENT);
+    pickImageIntent.setType("image/*");
+    // Ignored before API 18, where a single image is picked.
+    pickImageIntent.putExtra(Intent.EXTRA_ALLOW_MULTIPLE, true);
+
+    activity.startActivityForResult(pickImageIntent, REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY);
+  }
+
   public void takeImageWithCamera(MethodCall methodCall, MethodChannel.Result result) {
     if (!setPendingMethodCallAndResult(methodCall, result)) {
       finishWithAlreadyActiveError(result);
@@ -429,6 +558,11 @@ public class ImagePickerDelegate
           launchPickImageFromGalleryIntent();
         }
         break;
+      case REQUEST_EXTERNAL_MULTI_IMAGE_STORAGE_PERMISSION:
+        if (permissionGranted) {
+          launchMultiPickImageFromGalleryIntent();
+        }
+        break;
       case REQUEST_EXTERNAL_VIDEO_STORAGE_PERMISSION:
         if (permissionGranted) {
           launchPickVideoFromGalleryIntent();
@@ -451,6 +585,7 @@ public class ImagePickerDelegate
     if (!permissionGranted) {
       switch (requestCode) {
         case REQUEST_EXTERNAL_IMAGE_STORAGE_PERMISSION:
+        case REQUEST_EXTERNAL_MULTI_IMAGE_STORAGE_PERMISSION:
         case REQUEST_EXTERNAL_VIDEO_STORAGE_PERMISSION:
           finishWithError("photo_access_denied", "The user did not allow photo access.");
           break;
@@ -470,6 +605,9 @@ public class ImagePickerDelegate
       case REQUEST_CODE_CHOOSE_IMAGE_FROM_GALLERY:
         handleChooseImageResult(resultCode, data);
         break;
+      case REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY:
+        handleChooseMultiImageResult(resultCode, data);
+        break;
       case REQUEST_CODE_TAKE_IMAGE_WITH_CAMERA:
         handleCaptureImageResult(resultCode);
         break;
@@ -488,8 +626,16 @@ public class ImagePickerDelegate
 
   private void handleChooseImageResult(int resultCode, Intent data) {
     if (resultCode == Activity.RESULT_OK && data != null) {
-      String path = fileUtils.getPathFromUri(activity, data.getData());
-      handleImageResult(path, false);
+      final Uri uri = data.getData();
+      runInBackground(
+          new Runnable() {
+            @Override
+            public void run() {
+              String path = fileUtils.getPathFromUri(activity, uri);
+              processImage(path, false);
+            }
+          },
+          dropResult(null));
       return;
     }
 
@@ -497,10 +643,43 @@ public class ImagePickerDelegate
     finishWithSuccess(null);
   }
 
+  private void handleChooseMultiImageResult(int resultCode, Intent data) {
+    if (resultCode == Activity.RESULT_OK && data != null) {
+      List<Uri> uris = new ArrayList<>();
+      ClipData clipData = data.getClipData();
+      if (clipData != null) {
+        for (int i = 0; i < clipData.getItemCount(); i++) {
+          uris.add(clipData.getItemAt(i).getUri());
+        }
+      } else if (data.getData() != null) {
+        uris.add(data.getData());
+      }
+      if (!uris.isEmpty()) {
+        handleMultiImageResult(uris);
+        return;
+      }
+    }
+
+    // User cancelled choosing pictures.
+    finishWithListSuccess(null);
+  }
+
   private void handleChooseVideoResult(int resultCode, Intent data) {
     if (resultCode == Activity.RESULT_OK && data != null) {
-      String path = fileUtils.getPathFromUri(activity, data.getData());
-      handleVideoResult(path);
+      final Uri uri = data.getData();
+      runInBackground(
+          new Runnable() {
+            @Override
+            public void run() {
+              String path = fileUtils.getPathFromUri(activity, uri);
+              if (closed) {
+                finishWithDroppedResult(path);
+                return;
+              }
+              handleVideoResult(path);
+            }
+          },
+          dropResult(null));
       return;
     }
 
@@ -546,18 +725,49 @@ public class ImagePickerDelegate
     finishWithSuccess(null);
   }
 
-  private void handleImageResult(String path, boolean shouldDeleteOriginalIfScaled) {
+  private void handleImageResult(final String path, final boolean shouldDeleteOriginalIfScaled) {
+    runInBackground(
+        new Runnable() {
+          @Override
+          public void run() {
+            processImage(path, shouldDeleteOriginalIfScaled);
+          }
+        },
+        dropResult(path));
+  }
+
+  /** Scales the picked image if needed and finishes with its path. Runs on the executor. */
+  private void processImage(String path, boolean shouldDeleteOriginalIfScaled) {
+    MethodCall methodCall;
+    synchronized (this) {
+      methodCall = this.methodCall;
+    }
+    if (closed) {
+      finishWithDroppedResult(path);
+      return;
+    }
     if (methodCall != null) {
       Double maxWidth = methodCall.argument("maxWidth");
       Double maxHeight = methodCall.argument("maxHeight");
       Integer imageQuality = methodCall.argument("imageQuality");
+      String outputPath = methodCall.argument("outputPath");
 
       String finalImagePath =
-          imageResizer.resizeImageIfNeeded(path, maxWidth, maxHeight, imageQuality);
-
+          outputPath == null
+              ? imageResizer.resizeImageIfNeeded(path, maxWidth, maxHeight, imageQuality)
+              : imageResizer.resizeImageIfNeeded(
+                  path, maxWidth, maxHeight, imageQuality, outputPath);
+
+      if (closed) {
+        if (finalImagePath != null && !finalImagePath.equals(path)) {
+          new File(finalImagePath).delete();
+        }
+        finishWithDroppedResult(path);
+        return;
+      }
       finishWithSuccess(finalImagePath);
 
-      //delete original file if scaled
+      // delete original file if scaled
       if (finalImagePath != null && !finalImagePath.equals(path) && shouldDeleteOriginalIfScaled) {
         new File(path).delete();
       }
@@ -566,11 +776,107 @@ public class ImagePickerDelegate
     }
   }
 
+  /**
+   * Copies and scales each image in its own task, so that they are processed in parallel, and
+   * finishes once the last one is done. If they are stopped, the call is answered with an error
+   * only once.
+   */
+  private void handleMultiImageResult(final List<Uri> uris) {
+    final Double maxWidth;
+    final Double maxHeight;
+    final Integer imageQuality;
+    synchronized (this) {
+      maxWidth = methodCall == null ? null : (Double) methodCall.argument("maxWidth");
+      maxHeight = methodCall == null ? null : (Double) methodCall.argument("maxHeight");
+      imageQuality = methodCall == null ? null : (Integer) methodCall.argument("imageQuality");
+    }
+    final int count = uris.size();
+    final String[] paths = new String[count];
+    final AtomicInteger remaining = new AtomicInteger(count);
+    final AtomicBoolean dropped = new AtomicBoolean();
+    final Runnable dropAll =
+        new Runnable() {
+          @Override
+          public void run() {
+            if (dropped.compareAndSet(false, true)) {
+              finishWithDroppedResult(null);
+            }
+          }
+        };
+    for (int i = 0; i < count; i++) {
+      final int index = i;
+      runInBackground(
+          new Runnable() {
+            @Override
+            public void run() {
+              String path = fileUtils.getPathFromUri(activity, uris.get(index));
+              String finalImagePath =
+                  path == null
+                      ? null
+                      : imageResizer.resizeImageIfNeeded(path, maxWidth, maxHeight, imageQuality);
+              if (closed) {
+                if (finalImagePath != null && !finalImagePath.equals(path)) {
+                  new File(finalImagePath).delete();
+                }
+                dropAll.run();
+                return;
+              }
+              paths[index] = finalImagePath;
+              ProgressListener listener = progressListener;
+              if (listener != null) {
+                listener.onImageProcessed(index, count, finalImagePath);
+              }
+              // The task finishing last sees the paths of all the others.
+              if (remaining.decrementAndGet() == 0) {
+                finishWithListSuccess(Arrays.asList(paths));
+              }
+            }
+          },
+          dropAll);
+    }
+  }
+
   private void handleVideoResult(String path) {
     finishWithSuccess(path);
   }
 
-  private boolean setPendingMethodCallAndResult(
+  /**
+   * Runs the work on the executor, or {@code whenDropped} instead if this delegate was closed or
+   * the executor shut down before it started.
+   */
+  private void runInBackground(final Runnable work, final Runnable whenDropped) {
+    if (closed) {
+      whenDropped.run();
+      return;
+    }
+    try {
+      executor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              if (closed) {
+                whenDropped.run();
+              } else {
+                work.run();
+              }
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // The executor was shut down along with the activity.
+      whenDropped.run();
+    }
+  }
+
+  private Runnable dropResult(final String path) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        finishWithDroppedResult(path);
+      }
+    };
+  }
+
+  private synchronized boolean setPendingMethodCallAndResult(
       MethodCall methodCall, MethodChannel.Result result) {
     if (pendingResult != null) {
       return false;
@@ -585,7 +891,7 @@ public class ImagePickerDelegate
     return true;
   }
 
-  private void finishWithSuccess(String imagePath) {
+  private synchronized void finishWithSuccess(String imagePath) {
     if (pendingResult == null) {
       cache.saveResult(imagePath, null, null);
       return;
@@ -594,11 +900,24 @@ public class ImagePickerDelegate
     clearMethodCallAndResult();
   }
 
+  private synchronized void finishWithListSuccess(List<String> imagePaths) {
+    if (pendingResult == null) {
+      if (imagePaths == null) {
+        cache.saveResult(null, null, null);
+      } else {
+        cache.saveResultList(imagePaths);
+      }
+      return;
+    }
+    pendingResult.success(imagePaths);
+    clearMethodCallAndResult();
+  }
+
   private void finishWithAlreadyActiveError(MethodChannel.Result result) {
     result.error("already_active", "Image picker is already active", null);
   }
 
-  private void finishWithError(String errorCode, String errorMessage) {
+  private synchronized void finishWithError(String errorCode, String errorMessage) {
     if (pendingResult == null) {
       cache.saveResult(null, errorCode, errorMessage);
       return;
@@ -607,6 +926,21 @@ public class ImagePickerDelegate
     clearMethodCallAndResult();
   }
 
+  // Answers the pending call with an error, or without one keeps the picked image in the cache so
+  // that retrieveLostImage can still scale and return it.
+  private synchronized void finishWithDroppedResult(String path) {
+    if (pendingResult == null) {
+      if (path != null) {
+        cache.saveResult(path, null, null);
+      } else {
+        cache.saveResult(null, ERROR_CODE_NO_ACTIVITY, ERROR_MESSAGE_NO_ACTIVITY);
+      }
+      return;
+    }
+    pendingResult.error(ERROR_CODE_NO_ACTIVITY, ERROR_MESSAGE_NO_ACTIVITY, null);
+    clearMethodCallAndResult();
+  }
+
   private void clearMethodCallAndResult() {
     methodCall = null;
     pendingResult = null;
@@ -24,6 +24,11 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.PluginRegistry;
 import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 @SuppressWarnings("deprecation")
 public class ImagePickerPlugin
@@ -76,6 +81,9 @@ public class ImagePickerPlugin
 
     @Override
     public void onActivityDestroyed(Activity activity) {
+      if (thisActivity == activity && !activity.isChangingConfigurations()) {
+        cancelBackgroundWork();
+      }
       if (thisActivity == activity && activity.getApplicationContext() != null) {
         ((Application) activity.getApplicationContext())
             .unregisterActivityLifecycleCallbacks(
@@ -93,6 +101,8 @@ public class ImagePickerPlugin
 
   static final String METHOD_CALL_IMAGE = "pickImage";
   static final String METHOD_CALL_VIDEO = "pickVideo";
+  static final String METHOD_CALL_MULTI_IMAGE = "pickMultiImage";
+  private static final String METHOD_CALL_MULTI_IMAGE_PROGRESS = "multiImageProgress";
   private static final String METHOD_CALL_RETRIEVE = "retrieve";
   private static final int CAMERA_DEVICE_FRONT = 1;
   private static final int CAMERA_DEVICE_REAR = 0;
@@ -110,6 +120,8 @@ public class ImagePickerPlugin
   // This is null when not using v2 embedding;
   private Lifecycle lifecycle;
   private LifeCycleObserver observer;
+  // Runs the post-processing of the picked images, off the platform thread, several at once.
+  private ExecutorService executor;
 
   @SuppressWarnings("deprecation")
   public static void registerWith(io.flutter.plugin.common.PluginRegistry.Registrar registrar) {
@@ -164,12 +176,14 @@ public class ImagePickerPlugin
 
   @Override
   public void onDetachedFromActivity() {
+    cancelBackgroundWork();
     tearDown();
   }
 
   @Override
   public void onDetachedFromActivityForConfigChanges() {
-    onDetachedFromActivity();
+    // The activity is only recreated, so the images being processed still reach their callers.
+    tearDown();
   }
 
   @Override
@@ -185,8 +199,21 @@ public class ImagePickerPlugin
       final ActivityPluginBinding activityBinding) {
     this.activity = activity;
     this.application = application;
+    Runtime runtime = Runtime.getRuntime();
+    this.executor =
+        Executors.newFixedThreadPool(
+            ImageResizer.maxConcurrentResizes(runtime.availableProcessors(), runtime.maxMemory()),
+            new ThreadFactory() {
+              @Override
+              public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "image_picker");
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+              }
+            });
     this.delegate = constructDelegate(activity);
     channel = new MethodChannel(messenger, CHANNEL);
+    delegate.setProgressListener(new ProgressReporter(channel));
     channel.setMethodCallHandler(this);
     observer = new LifeCycleObserver(activity);
     if (registrar != null) {
@@ -204,6 +231,11 @@ public class ImagePickerPlugin
   }
 
   private void tearDown() {
+    if (executor != null) {
+      // Lets the work already submitted finish before the threads exit.
+      executor.shutdown();
+      executor = null;
+    }
     activityBinding.removeActivityResultListener(delegate);
     activityBinding.removeRequestPermissionsResultListener(delegate);
     activityBinding = null;
@@ -216,6 +248,22 @@ public class ImagePickerPlugin
     application = null;
   }
 
+  /**
+   * Stops the post-processing in progress, as its activity is gone. The work that never started is
+   * run here so that it answers its call or caches its result.
+   */
+  private void cancelBackgroundWork() {
+    if (delegate != null) {
+      delegate.close();
+    }
+    if (executor != null) {
+      for (Runnable dropped : executor.shutdownNow()) {
+        dropped.run();
+      }
+      executor = null;
+    }
+  }
+
   private final ImagePickerDelegate constructDelegate(final Activity setupActivity) {
     final ImagePickerCache cache = new ImagePickerCache(setupActivity);
 
@@ -223,7 +271,34 @@ public class ImagePickerPlugin
         setupActivity.getExternalFilesDir(Environment.DIRECTORY_PICTURES);
     final ExifDataCopier exifDataCopier = new ExifDataCopier();
     final ImageResizer imageResizer = new ImageResizer(externalFilesDirectory, exifDataCopier);
-    return new ImagePickerDelegate(setupActivity, externalFilesDirectory, imageResizer, cache);
+    return new ImagePickerDelegate(
+        setupActivity, externalFilesDirectory, imageResizer, cache, executor);
+  }
+
+  // Sends the images picked at once to Dart as they are processed, on the platform thread.
+  private static class ProgressReporter implements ImagePickerDelegate.ProgressListener {
+    private final MethodChannel channel;
+    private final Handler handler;
+
+    ProgressReporter(MethodChannel channel) {
+      this.channel = channel;
+      handler = new Handler(Looper.getMainLooper());
+    }
+
+    @Override
+    public void onImageProcessed(int index, int count, String path) {
+      final Map<String, Object> arguments = new HashMap<>();
+      arguments.put("index", index);
+      arguments.put("count", count);
+      arguments.put("path", path);
+      handler.post(
+          new Runnable() {
+            @Override
+            public void run() {
+              channel.invokeMethod(METHOD_CALL_MULTI_IMAGE_PROGRESS, arguments);
+            }
+          });
+    }
   }
 
   // MethodChannel.Result wrapper that responds on the platform thread.
@@ -303,6 +378,9 @@ public class ImagePickerPlugin
             throw new IllegalArgumentException("Invalid image source: " + imageSource);
         }
         break;
+      case METHOD_CALL_MULTI_IMAGE:
+        delegate.chooseMultiImageFromGallery(call, result);
+        break;
       case METHOD_CALL_VIDEO:
         imageSource = call.argument("source");
         switch (imageSource) {
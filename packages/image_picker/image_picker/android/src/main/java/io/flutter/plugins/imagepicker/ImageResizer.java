@@ -6,14 +6,38 @@ package io.flutter.plugins.imagepicker;
 
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
+import android.graphics.BitmapRegionDecoder;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
 import android.util.Log;
 import androidx.annotation.Nullable;
-import java.io.ByteArrayOutputStream;
+import androidx.annotation.VisibleForTesting;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 class ImageResizer {
+  /**
+   * Subsampled images bigger than this are decoded by strips drawn into the resized image, rather
+   * than whole and then scaled, so that the subsampled image is never in memory at once.
+   */
+  static final long REGION_DECODE_THRESHOLD_BYTES = 16 * 1024 * 1024;
+
+  /** The most memory a strip decoded from a huge image takes. */
+  private static final long REGION_BYTES = 4 * 1024 * 1024;
+
+  /**
+   * The memory set aside for each resize running in parallel: a subsampled image and the resized
+   * one, both at most the size above the threshold decoded by strips.
+   */
+  private static final long RESIZE_BUDGET_BYTES = 2 * REGION_DECODE_THRESHOLD_BYTES;
+
+  /** The size of the buffer the compressed image is written through. */
+  private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
   private final File externalFilesDirectory;
   private final ExifDataCopier exifDataCopier;
 
@@ -33,8 +57,21 @@ class ImageResizer {
       @Nullable Double maxWidth,
       @Nullable Double maxHeight,
       @Nullable Integer imageQuality) {
-    Bitmap bmp = decodeFile(imagePath);
-    if (bmp == null) {
+    return resizeImageIfNeeded(imagePath, maxWidth, maxHeight, imageQuality, null);
+  }
+
+  /**
+   * Like {@link #resizeImageIfNeeded(String, Double, Double, Integer)}, but writes the scaled image
+   * to {@code outputPath} when it is not null.
+   */
+  String resizeImageIfNeeded(
+      String imagePath,
+      @Nullable Double maxWidth,
+      @Nullable Double maxHeight,
+      @Nullable Integer imageQuality,
+      @Nullable String outputPath) {
+    BitmapFactory.Options bounds = decodeBounds(imagePath);
+    if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
       return null;
     }
     boolean shouldScale =
@@ -43,9 +80,15 @@ class ImageResizer {
       return imagePath;
     }
     try {
-      String[] pathParts = imagePath.split("/");
-      String imageName = pathParts[pathParts.length - 1];
-      File file = resizedImage(bmp, maxWidth, maxHeight, imageQuality, imageName);
+      File outputFile;
+      if (outputPath != null) {
+        outputFile = createFile(new File(outputPath));
+      } else {
+        String[] pathParts = imagePath.split("/");
+        String imageName = pathParts[pathParts.length - 1];
+        outputFile = createFile(new File(externalFilesDirectory, "/scaled_" + imageName));
+      }
+      File file = resizedImage(imagePath, bounds, maxWidth, maxHeight, imageQuality, outputFile);
       copyExif(imagePath, file.getPath());
       return file.getPath();
     } catch (IOException e) {
@@ -54,15 +97,35 @@ class ImageResizer {
   }
 
   private File resizedImage(
-      Bitmap bmp, Double maxWidth, Double maxHeight, Integer imageQuality, String outputImageName)
+      String imagePath,
+      BitmapFactory.Options bounds,
+      Double maxWidth,
+      Double maxHeight,
+      Integer imageQuality,
+      File outputFile)
       throws IOException {
-    double originalWidth = bmp.getWidth() * 1.0;
-    double originalHeight = bmp.getHeight() * 1.0;
-
     if (!isImageQualityValid(imageQuality)) {
       imageQuality = 100;
     }
 
+    int[] size = computeTargetSize(bounds.outWidth, bounds.outHeight, maxWidth, maxHeight);
+    Bitmap scaledBmp = decodeScaled(imagePath, bounds.outWidth, bounds.outHeight, size[0], size[1]);
+    if (scaledBmp == null) {
+      throw new IOException("Could not decode " + imagePath);
+    }
+    writeImage(outputFile, scaledBmp, imageQuality);
+    return outputFile;
+  }
+
+  /**
+   * Returns the width and height of the resized image: the original size, scaled down to fit within
+   * the maximum width and height while keeping its aspect ratio.
+   */
+  static int[] computeTargetSize(
+      double originalWidth,
+      double originalHeight,
+      @Nullable Double maxWidth,
+      @Nullable Double maxHeight) {
     boolean hasMaxWidth = maxWidth != null;
     boolean hasMaxHeight = maxHeight != null;
 
@@ -97,15 +160,104 @@ class ImageResizer {
         }
       }
     }
+    return new int[] {width.intValue(), height.intValue()};
+  }
 
-    Bitmap scaledBmp = createScaledBitmap(bmp, width.intValue(), height.intValue(), false);
-    File file =
-        createImageOnExternalDirectory("/scaled_" + outputImageName, scaledBmp, imageQuality);
-    return file;
+  /**
+   * Returns the largest power of two by which the image can be subsampled while staying at least as
+   * big as the target size, as {@link BitmapFactory.Options#inSampleSize} expects.
+   */
+  static int computeSampleSize(int width, int height, int targetWidth, int targetHeight) {
+    int sampleSize = 1;
+    while (width / (sampleSize * 2) >= targetWidth && height / (sampleSize * 2) >= targetHeight) {
+      sampleSize *= 2;
+    }
+    return sampleSize;
   }
 
-  private File createFile(File externalFilesDirectory, String child) {
-    File image = new File(externalFilesDirectory, child);
+  /**
+   * Decodes the image at exactly the target size, subsampling it while decoding so that the
+   * original resolution is never in memory.
+   */
+  @Nullable
+  private Bitmap decodeScaled(
+      String path, int width, int height, int targetWidth, int targetHeight) {
+    int sampleSize = computeSampleSize(width, height, targetWidth, targetHeight);
+    if (sampledBytes(width, height, sampleSize) > REGION_DECODE_THRESHOLD_BYTES) {
+      Bitmap bitmap = decodeByRegions(path, width, height, sampleSize, targetWidth, targetHeight);
+      if (bitmap != null) {
+        return bitmap;
+      }
+    }
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inSampleSize = sampleSize;
+    Bitmap sampled = decodeFile(path, options);
+    if (sampled == null) {
+      return null;
+    }
+    if (sampled.getWidth() == targetWidth && sampled.getHeight() == targetHeight) {
+      return sampled;
+    }
+    Bitmap scaled = createScaledBitmap(sampled, targetWidth, targetHeight, false);
+    if (scaled != sampled) {
+      sampled.recycle();
+    }
+    return scaled;
+  }
+
+  /**
+   * Draws the image into a bitmap of the target size one subsampled strip at a time, or returns
+   * null if its format cannot be decoded by region.
+   */
+  @VisibleForTesting
+  @Nullable
+  Bitmap decodeByRegions(
+      String path, int width, int height, int sampleSize, int targetWidth, int targetHeight) {
+    BitmapRegionDecoder decoder;
+    try {
+      decoder = BitmapRegionDecoder.newInstance(path, false);
+    } catch (IOException e) {
+      return null;
+    }
+    try {
+      long rowBytes = 4L * (width / sampleSize);
+      int stripHeight = (int) Math.max(1, REGION_BYTES / rowBytes) * sampleSize;
+      BitmapFactory.Options options = new BitmapFactory.Options();
+      options.inSampleSize = sampleSize;
+      Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+      Bitmap target = null;
+      Canvas canvas = null;
+      for (int top = 0; top < height; top += stripHeight) {
+        Rect region = new Rect(0, top, width, Math.min(height, top + stripHeight));
+        Bitmap strip = decoder.decodeRegion(region, options);
+        if (strip == null) {
+          if (target != null) {
+            target.recycle();
+          }
+          return null;
+        }
+        if (target == null) {
+          target = Bitmap.createBitmap(targetWidth, targetHeight, Bitmap.Config.ARGB_8888);
+          target.setHasAlpha(strip.hasAlpha());
+          canvas = new Canvas(target);
+        }
+        // Strips are placed by rounding their source rows, so that they abut without gaps.
+        Rect destination =
+            new Rect(
+                0,
+                (int) Math.round((double) region.top * targetHeight / height),
+                targetWidth,
+                (int) Math.round((double) region.bottom * targetHeight / height));
+        canvas.drawBitmap(strip, null, destination, paint);
+        strip.recycle();
+      }
+      return target;
+    } finally {
+      decoder.recycle();
+    }
+  }
+
+  private File createFile(File image) {
     if (!image.getParentFile().exists()) {
       image.getParentFile().mkdirs();
     }
@@ -120,8 +272,16 @@ class ImageResizer {
     exifDataCopier.copyExif(filePathOri, filePathDest);
   }
 
-  private Bitmap decodeFile(String path) {
-    return BitmapFactory.decodeFile(path);
+  private BitmapFactory.Options decodeBounds(String path) {
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inJustDecodeBounds = true;
+    BitmapFactory.decodeFile(path, options);
+    return options;
+  }
+
+  @VisibleForTesting
+  Bitmap decodeFile(String path, BitmapFactory.Options options) {
+    return BitmapFactory.decodeFile(path, options);
   }
 
   private Bitmap createScaledBitmap(Bitmap bmp, int width, int height, boolean filter) {
@@ -132,23 +292,44 @@ class ImageResizer {
     return imageQuality != null && imageQuality > 0 && imageQuality < 100;
   }
 
-  private File createImageOnExternalDirectory(String name, Bitmap bitmap, int imageQuality)
-      throws IOException {
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+  /**
+   * Compresses the bitmap straight into the file, through a small buffer rather than a copy of the
+   * whole compressed image, and recycles it.
+   */
+  private void writeImage(File imageFile, Bitmap bitmap, int imageQuality) throws IOException {
     boolean saveAsPNG = bitmap.hasAlpha();
     if (saveAsPNG) {
       Log.d(
           "ImageResizer",
           "image_picker: compressing is not supported for type PNG. Returning the image with original quality");
     }
-    bitmap.compress(
-        saveAsPNG ? Bitmap.CompressFormat.PNG : Bitmap.CompressFormat.JPEG,
-        imageQuality,
-        outputStream);
-    File imageFile = createFile(externalFilesDirectory, name);
-    FileOutputStream fileOutput = createOutputStream(imageFile);
-    fileOutput.write(outputStream.toByteArray());
-    fileOutput.close();
-    return imageFile;
+    OutputStream outputStream =
+        new BufferedOutputStream(createOutputStream(imageFile), OUTPUT_BUFFER_SIZE);
+    try {
+      boolean compressed =
+          bitmap.compress(
+              saveAsPNG ? Bitmap.CompressFormat.PNG : Bitmap.CompressFormat.JPEG,
+              imageQuality,
+              outputStream);
+      if (!compressed) {
+        throw new IOException("Could not compress the image into " + imageFile);
+      }
+    } finally {
+      bitmap.recycle();
+      outputStream.close();
+    }
+  }
+
+  /**
+   * Returns how many images can be resized at once: one per processor, but no more than fit in half
+   * of the heap.
+   */
+  static int maxConcurrentResizes(int processors, long maxMemoryBytes) {
+    long byMemory = maxMemoryBytes / 2 / RESIZE_BUDGET_BYTES;
+    return (int) Math.max(1, Math.min(processors, byMemory));
+  }
+
+  private static long sampledBytes(int width, int height, int sampleSize) {
+    return 4L * (width / sampleSize) * (height / sampleSize);
   }
 }
@@ -5,10 +5,13 @@
 package io.flutter.plugins.imagepicker;
 
 import static io.flutter.plugins.imagepicker.ImagePickerCache.MAP_KEY_IMAGE_QUALITY;
+import static io.flutter.plugins.imagepicker.ImagePickerCache.MAP_KEY_PATH;
+import static io.flutter.plugins.imagepicker.ImagePickerCache.MAP_KEY_PATH_LIST;
 import static io.flutter.plugins.imagepicker.ImagePickerCache.SHARED_PREFERENCES_NAME;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -17,6 +20,7 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.content.pm.PackageManager;
 import io.flutter.plugin.common.MethodCall;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Before;
@@ -112,4 +116,16 @@ public class ImagePickerCacheTest {
     int defaultImageQuality = (int) resultMapWithDefaultQuality.get(cache.MAP_KEY_IMAGE_QUALITY);
     assertThat(defaultImageQuality, equalTo(100));
   }
+
+  @Test
+  public void ImageCache_ShouldKeepEveryPickedPathInOrder() {
+    when(mockPreference.getString(any(String.class), isNull()))
+        .then(i -> preferenceStorage.get(i.getArgument(0)));
+    ImagePickerCache cache = new ImagePickerCache(mockActivity);
+    cache.saveResultList(Arrays.asList("first", "second"));
+    Map<String, Object> resultMap = cache.getCacheMap();
+
+    assertThat(resultMap.get(MAP_KEY_PATH), equalTo("first"));
+    assertThat(resultMap.get(MAP_KEY_PATH_LIST), equalTo(Arrays.asList("first", "second")));
+  }
 }
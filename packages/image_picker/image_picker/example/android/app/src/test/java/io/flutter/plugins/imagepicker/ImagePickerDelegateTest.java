@@ -4,13 +4,16 @@ import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import android.Manifest;
 import android.app.Activity;
+import android.content.ClipData;
 import android.content.Context;
 import android.content.Intent;
 import android.content.pm.PackageManager;
@@ -18,6 +21,10 @@ import android.net.Uri;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -313,6 +320,189 @@ public class ImagePickerDelegateTest {
     verifyNoMoreInteractions(mockResult);
   }
 
+  @Test
+  public void
+      onActivityResult_WhenImagePickedFromGallery_AndOutputPathGiven_FinishesWithOutputPath() {
+    when(mockMethodCall.argument("maxWidth")).thenReturn(WIDTH);
+    when(mockMethodCall.argument("outputPath")).thenReturn("outputPath");
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, null, null, "outputPath"))
+        .thenReturn("outputPath");
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall();
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_IMAGE_FROM_GALLERY, Activity.RESULT_OK, mockIntent);
+
+    verify(mockResult).success("outputPath");
+    verifyNoMoreInteractions(mockResult);
+  }
+
+  @Test
+  public void onActivityResult_WhenImagePickedFromGallery_ProcessesTheImageOnTheExecutor() {
+    when(mockMethodCall.argument("maxWidth")).thenReturn(WIDTH);
+    QueueExecutor executor = new QueueExecutor();
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall(executor);
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_IMAGE_FROM_GALLERY, Activity.RESULT_OK, mockIntent);
+
+    verifyZeroInteractions(mockFileUtils, mockImageResizer, mockResult);
+    executor.runAll();
+    verify(mockResult).success("scaledPath");
+    verifyNoMoreInteractions(mockResult);
+  }
+
+  @Test
+  public void onActivityResult_WhenClosedBeforeProcessing_FinishesWithError() {
+    QueueExecutor executor = new QueueExecutor();
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall(executor);
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_IMAGE_FROM_GALLERY, Activity.RESULT_OK, mockIntent);
+    delegate.close();
+    executor.runAll();
+
+    verifyZeroInteractions(mockFileUtils, mockImageResizer);
+    verify(mockResult).error(eq("no_activity"), any(String.class), isNull());
+    verifyNoMoreInteractions(mockResult);
+  }
+
+  @Test
+  public void onActivityResult_WhenClosedBeforeProcessing_AndNoPendingResult_CachesTheImage() {
+    QueueExecutor executor = new QueueExecutor();
+
+    ImagePickerDelegate delegate =
+        new ImagePickerDelegate(
+            mockActivity,
+            null,
+            mockImageResizer,
+            null,
+            null,
+            cache,
+            mockPermissionManager,
+            mockIntentResolver,
+            mockFileUriResolver,
+            mockFileUtils,
+            executor);
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_TAKE_IMAGE_WITH_CAMERA, Activity.RESULT_OK, mockIntent);
+    delegate.close();
+    executor.runAll();
+
+    verifyZeroInteractions(mockImageResizer);
+    verify(cache).saveResult("pathFromUri", null, null);
+  }
+
+  @Test
+  public void onActivityResult_WhenImagesPickedFromGallery_FinishesWithPathsInPickedOrder() {
+    when(mockMethodCall.argument("maxWidth")).thenReturn(WIDTH);
+    Uri firstUri = mock(Uri.class);
+    Uri secondUri = mock(Uri.class);
+    when(mockFileUtils.getPathFromUri(any(Context.class), eq(firstUri))).thenReturn("first");
+    when(mockFileUtils.getPathFromUri(any(Context.class), eq(secondUri))).thenReturn("second");
+    when(mockImageResizer.resizeImageIfNeeded("first", WIDTH, null, null))
+        .thenReturn("scaledFirst");
+    when(mockImageResizer.resizeImageIfNeeded("second", WIDTH, null, null))
+        .thenReturn("scaledSecond");
+    ClipData.Item firstItem = clipItem(firstUri);
+    ClipData.Item secondItem = clipItem(secondUri);
+    ClipData mockClipData = mock(ClipData.class);
+    when(mockClipData.getItemCount()).thenReturn(2);
+    when(mockClipData.getItemAt(0)).thenReturn(firstItem);
+    when(mockClipData.getItemAt(1)).thenReturn(secondItem);
+    when(mockIntent.getClipData()).thenReturn(mockClipData);
+    QueueExecutor executor = new QueueExecutor();
+    ImagePickerDelegate.ProgressListener mockProgressListener =
+        mock(ImagePickerDelegate.ProgressListener.class);
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall(executor);
+    delegate.setProgressListener(mockProgressListener);
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY,
+        Activity.RESULT_OK,
+        mockIntent);
+    executor.runInReverse();
+
+    verify(mockProgressListener).onImageProcessed(1, 2, "scaledSecond");
+    verify(mockProgressListener).onImageProcessed(0, 2, "scaledFirst");
+    verify(mockResult).success(Arrays.asList("scaledFirst", "scaledSecond"));
+    verifyNoMoreInteractions(mockResult);
+  }
+
+  @Test
+  public void onActivityResult_WhenImagesPickedWithoutPendingResult_CachesEveryPath() {
+    Uri firstUri = mock(Uri.class);
+    Uri secondUri = mock(Uri.class);
+    when(mockFileUtils.getPathFromUri(any(Context.class), eq(firstUri))).thenReturn("first");
+    when(mockFileUtils.getPathFromUri(any(Context.class), eq(secondUri))).thenReturn("second");
+    when(mockImageResizer.resizeImageIfNeeded("first", null, null, null)).thenReturn("first");
+    when(mockImageResizer.resizeImageIfNeeded("second", null, null, null)).thenReturn("second");
+    ClipData.Item firstItem = clipItem(firstUri);
+    ClipData.Item secondItem = clipItem(secondUri);
+    ClipData mockClipData = mock(ClipData.class);
+    when(mockClipData.getItemCount()).thenReturn(2);
+    when(mockClipData.getItemAt(0)).thenReturn(firstItem);
+    when(mockClipData.getItemAt(1)).thenReturn(secondItem);
+    when(mockIntent.getClipData()).thenReturn(mockClipData);
+    QueueExecutor executor = new QueueExecutor();
+
+    ImagePickerDelegate delegate =
+        new ImagePickerDelegate(
+            mockActivity,
+            null,
+            mockImageResizer,
+            null,
+            null,
+            cache,
+            mockPermissionManager,
+            mockIntentResolver,
+            mockFileUriResolver,
+            mockFileUtils,
+            executor);
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY,
+        Activity.RESULT_OK,
+        mockIntent);
+    executor.runAll();
+
+    verify(cache).saveResultList(Arrays.asList("first", "second"));
+  }
+
+  @Test
+  public void onActivityResult_WhenClosedWhileProcessingImages_FinishesWithErrorOnce() {
+    ClipData.Item firstItem = clipItem(mock(Uri.class));
+    ClipData.Item secondItem = clipItem(mock(Uri.class));
+    ClipData mockClipData = mock(ClipData.class);
+    when(mockClipData.getItemCount()).thenReturn(2);
+    when(mockClipData.getItemAt(0)).thenReturn(firstItem);
+    when(mockClipData.getItemAt(1)).thenReturn(secondItem);
+    when(mockIntent.getClipData()).thenReturn(mockClipData);
+    QueueExecutor executor = new QueueExecutor();
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall(executor);
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY,
+        Activity.RESULT_OK,
+        mockIntent);
+    delegate.close();
+    executor.runAll();
+
+    verify(mockResult).error(eq("no_activity"), any(String.class), isNull());
+    verifyNoMoreInteractions(mockResult);
+  }
+
+  @Test
+  public void onActivityResult_WhenNoImagesPickedFromGallery_FinishesWithNull() {
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall();
+
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY,
+        Activity.RESULT_CANCELED,
+        null);
+
+    verify(mockResult).success(null);
+    verifyNoMoreInteractions(mockResult);
+  }
+
   @Test
   public void
       onActivityResult_WhenVideoPickedFromGallery_AndResizeParametersSupplied_FinishesWithFilePath() {
@@ -415,6 +605,51 @@ public class ImagePickerDelegateTest {
         mockFileUtils);
   }
 
+  private ImagePickerDelegate createDelegateWithPendingResultAndMethodCall(Executor executor) {
+    return new ImagePickerDelegate(
+        mockActivity,
+        null,
+        mockImageResizer,
+        mockResult,
+        mockMethodCall,
+        cache,
+        mockPermissionManager,
+        mockIntentResolver,
+        mockFileUriResolver,
+        mockFileUtils,
+        executor);
+  }
+
+  private static ClipData.Item clipItem(Uri uri) {
+    ClipData.Item item = mock(ClipData.Item.class);
+    when(item.getUri()).thenReturn(uri);
+    return item;
+  }
+
+  /** Runs the submitted tasks only when asked to, like a busy background thread. */
+  private static class QueueExecutor implements Executor {
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Override
+    public void execute(Runnable command) {
+      tasks.add(command);
+    }
+
+    void runAll() {
+      for (Runnable task : tasks) {
+        task.run();
+      }
+      tasks.clear();
+    }
+
+    void runInReverse() {
+      for (int i = tasks.size() - 1; i >= 0; i--) {
+        tasks.get(i).run();
+      }
+      tasks.clear();
+    }
+  }
+
   private void verifyFinishedWithAlreadyActiveError() {
     verify(mockResult).error("already_active", "Image picker is already active", null);
   }
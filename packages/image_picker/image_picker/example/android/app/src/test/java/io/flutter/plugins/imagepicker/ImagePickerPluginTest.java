@@ -25,6 +25,7 @@ public class ImagePickerPluginTest {
   private static final int SOURCE_GALLERY = 1;
   private static final String PICK_IMAGE = "pickImage";
   private static final String PICK_VIDEO = "pickVideo";
+  private static final String PICK_MULTI_IMAGE = "pickMultiImage";
 
   @Rule public ExpectedException exception = ExpectedException.none();
 
@@ -84,6 +85,14 @@ public class ImagePickerPluginTest {
     verifyZeroInteractions(mockResult);
   }
 
+  @Test
+  public void onMethodCall_WhenPickingMultipleImages_InvokesChooseMultiImageFromGallery() {
+    MethodCall call = new MethodCall(PICK_MULTI_IMAGE, new HashMap<String, Object>());
+    plugin.onMethodCall(call, mockResult);
+    verify(mockImagePickerDelegate).chooseMultiImageFromGallery(eq(call), any());
+    verifyZeroInteractions(mockResult);
+  }
+
   @Test
   public void onMethodCall_WhenSourceIsCamera_InvokesTakeImageWithCamera() {
     MethodCall call = buildMethodCall(PICK_IMAGE, SOURCE_CAMERA);
@@ -6,6 +6,13 @@ package io.flutter.plugins.imagepicker;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
@@ -17,6 +24,7 @@ import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.MockitoAnnotations;
 import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowBitmapFactory;
 
 // RobolectricTestRunner always creates a default mock bitmap when reading from file. So we cannot actually test the scaling.
 // But we can still test whether the original or scaled file is created.
@@ -70,4 +78,87 @@ public class ImageResizerTest {
     String outoutFile = invalidResizer.resizeImageIfNeeded(imageFile.getPath(), null, 50.0, null);
     assertThat(outoutFile, equalTo(nonExistentDirectory.getPath() + "/scaled_pngImage.png"));
   }
+
+  @Test
+  public void onResizeImageIfNeeded_WhenOutputPathIsGiven_WritesTheResizedFileThere() {
+    File outputFile = new File(externalDirectory, "output/resized.png");
+    String outoutFile =
+        resizer.resizeImageIfNeeded(imageFile.getPath(), 50.0, null, null, outputFile.getPath());
+    assertThat(outoutFile, equalTo(outputFile.getPath()));
+    assertThat(outputFile.exists(), equalTo(true));
+  }
+
+  @Test
+  public void onResizeImageIfNeeded_OfAHugePhoto_DecodesItSubsampled() {
+    // A 108 MP photo used to be decoded whole: 12000 * 9000 * 4 bytes, about 430 MB.
+    ShadowBitmapFactory.provideWidthAndHeightHints(imageFile.getPath(), 12000, 9000);
+    ImageResizer spyResizer = spy(resizer);
+
+    spyResizer.resizeImageIfNeeded(imageFile.getPath(), 1024.0, null, null);
+
+    verify(spyResizer)
+        .decodeFile(eq(imageFile.getPath()), argThat(options -> options.inSampleSize == 8));
+    verify(spyResizer, never())
+        .decodeByRegions(anyString(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+  }
+
+  @Test
+  public void onResizeImageIfNeeded_WhenSubsampledImageIsLarge_DecodesByRegions() {
+    // Subsampled by 2 to 6000 * 4500, so 108 MB if decoded before scaling.
+    ShadowBitmapFactory.provideWidthAndHeightHints(imageFile.getPath(), 12000, 9000);
+    ImageResizer spyResizer = spy(resizer);
+
+    spyResizer.resizeImageIfNeeded(imageFile.getPath(), 4000.0, null, null);
+
+    verify(spyResizer).decodeByRegions(imageFile.getPath(), 12000, 9000, 2, 4000, 3000);
+  }
+
+  @Test
+  public void computeTargetSize_WhenWidthIsLimited_KeepsAspectRatio() {
+    assertThat(
+        ImageResizer.computeTargetSize(4000, 3000, 1024.0, null), equalTo(new int[] {1024, 768}));
+    assertThat(
+        ImageResizer.computeTargetSize(3000, 4000, 1024.0, null), equalTo(new int[] {1024, 1365}));
+  }
+
+  @Test
+  public void computeTargetSize_WhenHeightIsLimited_KeepsAspectRatio() {
+    assertThat(
+        ImageResizer.computeTargetSize(4000, 3000, null, 1024.0), equalTo(new int[] {1365, 1024}));
+  }
+
+  @Test
+  public void computeTargetSize_WhenBothAreLimited_FitsTheLongerSide() {
+    assertThat(
+        ImageResizer.computeTargetSize(4000, 3000, 1024.0, 1024.0), equalTo(new int[] {1024, 768}));
+    assertThat(
+        ImageResizer.computeTargetSize(3000, 4000, 1024.0, 1024.0), equalTo(new int[] {768, 1024}));
+    assertThat(
+        ImageResizer.computeTargetSize(3000, 4000, 2000.0, 1000.0), equalTo(new int[] {750, 1000}));
+    assertThat(
+        ImageResizer.computeTargetSize(1000, 1000, 500.0, 800.0), equalTo(new int[] {500, 500}));
+  }
+
+  @Test
+  public void computeTargetSize_WhenImageIsSmaller_KeepsOriginalSize() {
+    assertThat(
+        ImageResizer.computeTargetSize(4000, 3000, 5000.0, 5000.0),
+        equalTo(new int[] {4000, 3000}));
+  }
+
+  @Test
+  public void computeSampleSize_SubsamplesByPowersOfTwoNotBelowTarget() {
+    assertThat(ImageResizer.computeSampleSize(4000, 3000, 4000, 3000), equalTo(1));
+    assertThat(ImageResizer.computeSampleSize(4000, 3000, 1024, 768), equalTo(2));
+    assertThat(ImageResizer.computeSampleSize(3000, 4000, 750, 1000), equalTo(4));
+    assertThat(ImageResizer.computeSampleSize(12000, 9000, 1024, 768), equalTo(8));
+  }
+
+  @Test
+  public void maxConcurrentResizes_IsBoundByProcessorsAndMemory() {
+    long megabyte = 1024 * 1024;
+    assertThat(ImageResizer.maxConcurrentResizes(8, 256 * megabyte), equalTo(4));
+    assertThat(ImageResizer.maxConcurrentResizes(2, 512 * megabyte), equalTo(2));
+    assertThat(ImageResizer.maxConcurrentResizes(8, 32 * megabyte), equalTo(1));
+  }
 }
@@ -126,6 +126,10 @@ static const int SOURCE_GALLERY = 1;
                                    details:nil]);
         break;
     }
+  } else if ([@"pickMultiImage" isEqualToString:call.method]) {
+    result([FlutterError errorWithCode:@"unsupported"
+                               message:@"Picking several images is only supported on Android."
+                               details:nil]);
   } else {
     result(FlutterMethodNotImplemented);
   }
@@ -19,6 +19,7 @@ export 'package:image_picker_platform_interface/image_picker_platform_interface.
         CameraDevice,
         LostData,
         LostDataResponse,
+        MultiImageProgressCallback,
         PickedFile,
         RetrieveType;
 
@@ -112,6 +113,37 @@ class ImagePicker {
     );
   }
 
+  /// Returns a list of [PickedFile] objects wrapping the images that were
+  /// picked from the gallery, in the order they were picked.
+  ///
+  /// The returned [PickedFile]s are intended to be used within a single APP session. Do not save the file paths and use them across sessions.
+  ///
+  /// The `maxWidth`, `maxHeight` and `imageQuality` arguments apply to every
+  /// image, as they do in [getImage]. An entry is null if that image could not
+  /// be read, and the list is null if no image was picked.
+  ///
+  /// If specified, `onProgress` is called as each image is ready, so they can
+  /// be shown before all of them are.
+  ///
+  /// Only supported on Android. Where the gallery cannot pick several images,
+  /// the list has a single image.
+  ///
+  /// In Android, the MainActivity can be destroyed for various reasons. If that happens, the result will be lost
+  /// in this call. You can then call [getLostData] when your app relaunches to retrieve the lost data.
+  Future<List<PickedFile>> getMultiImage({
+    double maxWidth,
+    double maxHeight,
+    int imageQuality,
+    MultiImageProgressCallback onProgress,
+  }) {
+    return platform.pickMultiImage(
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      imageQuality: imageQuality,
+      onProgress: onProgress,
+    );
+  }
+
   /// Returns a [File] object pointing to the video that was picked.
   ///
   /// The returned [File] is intended to be used within a single APP session. Do not save the file path and use it across sessions.
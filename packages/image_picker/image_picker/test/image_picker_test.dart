@@ -189,6 +189,35 @@ void main() {
       });
     });
 
+    group('#getMultiImage', () {
+      test('passes the width, height and quality arguments correctly',
+          () async {
+        await picker.getMultiImage(maxWidth: 10.0, imageQuality: 70);
+
+        expect(
+          log,
+          <Matcher>[
+            isMethodCall('pickMultiImage', arguments: <String, dynamic>{
+              'maxWidth': 10.0,
+              'maxHeight': null,
+              'imageQuality': 70,
+            }),
+          ],
+        );
+      });
+
+      test('returns the picked files in order', () async {
+        channel.setMockMethodCallHandler((MethodCall methodCall) async {
+          return <String>['/first', '/second'];
+        });
+
+        final List<PickedFile> files = await picker.getMultiImage();
+
+        expect(files.map((PickedFile file) => file.path),
+            <String>['/first', '/second']);
+      });
+    });
+
     group('#pickVideo', () {
       test('passes the image source argument correctly', () async {
         await picker.getVideo(source: ImageSource.camera);
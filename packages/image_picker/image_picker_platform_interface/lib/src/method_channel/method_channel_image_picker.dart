@@ -19,6 +19,8 @@ class MethodChannelImagePicker extends ImagePickerPlatform {
   @visibleForTesting
   MethodChannel get channel => _channel;
 
+  MultiImageProgressCallback _multiImageProgress;
+
   @override
   Future<PickedFile> pickImage({
     @required ImageSource source,
@@ -71,6 +73,57 @@ class MethodChannelImagePicker extends ImagePickerPlatform {
     );
   }
 
+  @override
+  Future<List<PickedFile>> pickMultiImage({
+    double maxWidth,
+    double maxHeight,
+    int imageQuality,
+    MultiImageProgressCallback onProgress,
+  }) async {
+    if (imageQuality != null && (imageQuality < 0 || imageQuality > 100)) {
+      throw ArgumentError.value(
+          imageQuality, 'imageQuality', 'must be between 0 and 100');
+    }
+
+    if (maxWidth != null && maxWidth < 0) {
+      throw ArgumentError.value(maxWidth, 'maxWidth', 'cannot be negative');
+    }
+
+    if (maxHeight != null && maxHeight < 0) {
+      throw ArgumentError.value(maxHeight, 'maxHeight', 'cannot be negative');
+    }
+
+    // Only one pick runs at a time, so a single callback is enough.
+    _multiImageProgress = onProgress;
+    if (onProgress != null) {
+      _channel.setMethodCallHandler(_handleMethodCall);
+    }
+    try {
+      final List<dynamic> paths = await _channel.invokeListMethod<dynamic>(
+        'pickMultiImage',
+        <String, dynamic>{
+          'maxWidth': maxWidth,
+          'maxHeight': maxHeight,
+          'imageQuality': imageQuality,
+        },
+      );
+      return paths
+          ?.map<PickedFile>(
+              (dynamic path) => path != null ? PickedFile(path) : null)
+          ?.toList();
+    } finally {
+      _multiImageProgress = null;
+    }
+  }
+
+  Future<dynamic> _handleMethodCall(MethodCall call) async {
+    if (call.method == 'multiImageProgress' && _multiImageProgress != null) {
+      final String path = call.arguments['path'];
+      _multiImageProgress(call.arguments['index'], call.arguments['count'],
+          path != null ? PickedFile(path) : null);
+    }
+  }
+
   @override
   Future<PickedFile> pickVideo({
     @required ImageSource source,
@@ -111,7 +164,9 @@ class MethodChannelImagePicker extends ImagePickerPlatform {
       return LostData.empty();
     }
 
-    assert(result.containsKey('path') ^ result.containsKey('errorCode'));
+    // The first of several picked images has no 'path' if it was unreadable.
+    assert((result.containsKey('path') || result.containsKey('pathList')) ^
+        result.containsKey('errorCode'));
 
     final String type = result['type'];
     assert(type == kTypeImage || type == kTypeVideo);
@@ -130,11 +185,16 @@ class MethodChannelImagePicker extends ImagePickerPlatform {
     }
 
     final String path = result['path'];
+    final List<dynamic> pathList = result['pathList'];
 
     return LostData(
       file: path != null ? PickedFile(path) : null,
       exception: exception,
       type: retrieveType,
+      files: pathList
+          ?.map<PickedFile>(
+              (dynamic path) => path != null ? PickedFile(path) : null)
+          ?.toList(),
     );
   }
 
@@ -151,6 +151,30 @@ abstract class ImagePickerPlatform extends PlatformInterface {
     throw UnimplementedError('pickImage() has not been implemented.');
   }
 
+  /// Returns a list of [PickedFile]s with the images that were picked from the
+  /// gallery, in the order they were picked, or null if none were picked.
+  ///
+  /// The `maxWidth`, `maxHeight` and `imageQuality` arguments apply to every
+  /// image, as they do in [pickImage]. An entry is null if that image could
+  /// not be read.
+  ///
+  /// If specified, `onProgress` is called as each image is ready, before the
+  /// returned future completes.
+  ///
+  /// Only supported on Android. Where the gallery cannot pick several images,
+  /// the list has a single image.
+  ///
+  /// In Android, the MainActivity can be destroyed for various reasons. If that happens, the result will be lost
+  /// in this call. You can then call [retrieveLostData] when your app relaunches to retrieve the lost data.
+  Future<List<PickedFile>> pickMultiImage({
+    double maxWidth,
+    double maxHeight,
+    int imageQuality,
+    MultiImageProgressCallback onProgress,
+  }) {
+    throw UnimplementedError('pickMultiImage() has not been implemented.');
+  }
+
   /// Returns a [PickedFile] containing the video that was picked.
   ///
   /// The [source] argument controls where the video comes from. This can
@@ -0,0 +1,14 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:image_picker_platform_interface/src/types/types.dart';
+
+/// Called as each image picked by [ImagePickerPlatform.pickMultiImage] is
+/// ready, before all of them are.
+///
+/// [index] is the position of the image among the [count] picked images, and
+/// images can be ready in any order. [file] is null if the image could not be
+/// read.
+typedef MultiImageProgressCallback = void Function(
+    int index, int count, PickedFile file);
@@ -11,9 +11,10 @@ import 'package:image_picker_platform_interface/src/types/types.dart';
 /// See also:
 /// * [ImagePicker.retrieveLostData] for more details on retrieving lost data.
 class LostData {
-  /// Creates an instance with the given [file], [exception], and [type]. Any of
-  /// the params may be null, but this is never considered to be empty.
-  LostData({this.file, this.exception, this.type});
+  /// Creates an instance with the given [file], [exception], [type] and
+  /// [files]. Any of the params may be null, but this is never considered to
+  /// be empty.
+  LostData({this.file, this.exception, this.type, this.files});
 
   /// Initializes an instance with all member params set to null and considered
   /// to be empty.
@@ -21,6 +22,7 @@ class LostData {
       : file = null,
         exception = null,
         type = null,
+        files = null,
         _empty = true;
 
   /// Whether it is an empty response.
@@ -45,5 +47,12 @@ class LostData {
   /// Can either be [RetrieveType.image] or [RetrieveType.video];
   final RetrieveType type;
 
+  /// The files that were lost in a previous [pickMultiImage] call, in the
+  /// order they were picked.
+  ///
+  /// [file] is the first of them. Null if the lost call was not a
+  /// [pickMultiImage] call.
+  final List<PickedFile> files;
+
   bool _empty = false;
 }
@@ -1,6 +1,7 @@
 export 'camera_device.dart';
 export 'image_source.dart';
 export 'lost_data_response.dart';
+export 'multi_image_progress.dart';
 export 'retrieve_type.dart';
 export 'picked_file/picked_file.dart';
 
@@ -196,6 +196,92 @@ void main() {
       });
     });
 
+    group('#pickMultiImage', () {
+      test('passes the width, height and quality arguments correctly',
+          () async {
+        await picker.pickMultiImage();
+        await picker.pickMultiImage(
+          maxWidth: 10.0,
+          maxHeight: 20.0,
+          imageQuality: 70,
+        );
+
+        expect(
+          log,
+          <Matcher>[
+            isMethodCall('pickMultiImage', arguments: <String, dynamic>{
+              'maxWidth': null,
+              'maxHeight': null,
+              'imageQuality': null,
+            }),
+            isMethodCall('pickMultiImage', arguments: <String, dynamic>{
+              'maxWidth': 10.0,
+              'maxHeight': 20.0,
+              'imageQuality': 70,
+            }),
+          ],
+        );
+      });
+
+      test('does not accept an invalid imageQuality argument', () {
+        expect(
+          () => picker.pickMultiImage(imageQuality: -1),
+          throwsArgumentError,
+        );
+
+        expect(
+          () => picker.pickMultiImage(imageQuality: 101),
+          throwsArgumentError,
+        );
+      });
+
+      test('returns the picked files in order', () async {
+        picker.channel.setMockMethodCallHandler((MethodCall methodCall) async {
+          return <String>['/first', null, '/third'];
+        });
+
+        final List<PickedFile> files = await picker.pickMultiImage();
+
+        expect(files.length, 3);
+        expect(files[0].path, '/first');
+        expect(files[1], isNull);
+        expect(files[2].path, '/third');
+      });
+
+      test('handles a null response gracefully', () async {
+        picker.channel
+            .setMockMethodCallHandler((MethodCall methodCall) => null);
+
+        expect(await picker.pickMultiImage(), isNull);
+      });
+
+      test('forwards progress before the result', () async {
+        picker.channel.setMockMethodCallHandler((MethodCall methodCall) async {
+          await ServicesBinding.instance.defaultBinaryMessenger
+              .handlePlatformMessage(
+            picker.channel.name,
+            picker.channel.codec.encodeMethodCall(
+                MethodCall('multiImageProgress', <String, dynamic>{
+              'index': 1,
+              'count': 2,
+              'path': '/second',
+            })),
+            (_) {},
+          );
+          return <String>['/first', '/second'];
+        });
+        final List<String> progress = <String>[];
+
+        await picker.pickMultiImage(
+          onProgress: (int index, int count, PickedFile file) {
+            progress.add('$index/$count ${file.path}');
+          },
+        );
+
+        expect(progress, <String>['1/2 /second']);
+      });
+    });
+
     group('#pickVideoPath', () {
       test('passes the image source argument correctly', () async {
         await picker.pickVideo(source: ImageSource.camera);
@@ -315,6 +401,20 @@ void main() {
         expect(response.file.path, '/example/path');
       });
 
+      test('retrieveLostData get every path of several images', () async {
+        picker.channel.setMockMethodCallHandler((MethodCall methodCall) async {
+          return <String, dynamic>{
+            'type': 'image',
+            'path': '/first',
+            'pathList': <String>['/first', '/second'],
+          };
+        });
+        final LostData response = await picker.retrieveLostData();
+        expect(response.file.path, '/first');
+        expect(response.files.map((PickedFile file) => file.path),
+            <String>['/first', '/second']);
+      });
+
       test('retrieveLostData get error response', () async {
         picker.channel.setMockMethodCallHandler((MethodCall methodCall) async {
           return <String, String>{
@@ -0,0 +1,81 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import okhttp3.Dns;
+
+/**
+ * A {@link Dns} which remembers successful lookups for a fixed time to live.
+ *
+ * <p>Segmented streams resolve the same few hosts for every segment, so caching the answer avoids a
+ * resolver round-trip per request. At most {@code maxEntries} hosts are kept, evicting the least
+ * recently used one.
+ */
+final class CachingDns implements Dns {
+  /** Source of the current time, in milliseconds. */
+  interface Clock {
+    long currentTimeMillis();
+  }
+
+  private final Dns delegate;
+  private final long ttlMillis;
+  private final Clock clock;
+  private final Map<String, Entry> cache;
+
+  CachingDns(Dns delegate, long ttlMillis, int maxEntries) {
+    this(delegate, ttlMillis, maxEntries, System::currentTimeMillis);
+  }
+
+  CachingDns(Dns delegate, long ttlMillis, final int maxEntries, Clock clock) {
+    this.delegate = delegate;
+    this.ttlMillis = ttlMillis;
+    this.clock = clock;
+    this.cache =
+        new LinkedHashMap<String, Entry>(maxEntries, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+          }
+        };
+  }
+
+  @Override
+  public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+    long now = clock.currentTimeMillis();
+    synchronized (cache) {
+      Entry entry = cache.get(hostname);
+      if (entry != null && entry.expiresAtMillis > now) {
+        return entry.addresses;
+      }
+    }
+    List<InetAddress> addresses = delegate.lookup(hostname);
+    synchronized (cache) {
+      cache.put(hostname, new Entry(addresses, now + ttlMillis));
+    }
+    return addresses;
+  }
+
+  /** Forgets all cached lookups, for example after a network change. */
+  void clear() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  private static final class Entry {
+    final List<InetAddress> addresses;
+    final long expiresAtMillis;
+
+    Entry(List<InetAddress> addresses, long expiresAtMillis) {
+      this.addresses = addresses;
+      this.expiresAtMillis = expiresAtMillis;
+    }
+  }
+}
@@ -0,0 +1,135 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Keeps the number of players holding video decoders within a budget.
+ *
+ * <p>Hardware decoders are a scarce, device-wide resource. When more players want a decoder than
+ * the budget allows, the decoders of the least recently played paused players are released.
+ * Released players keep their position, but not their buffer, and are restored when they are played
+ * again. Playing players are never released; when only playing players are left, the budget is
+ * exceeded until one of them pauses and the player that went over it is told so.
+ *
+ * <p>This class is not thread-safe and must be used from the platform thread.
+ */
+final class DecoderScheduler {
+  /** A player whose decoders can be released and restored. */
+  interface Client {
+    /** Whether the client is playing or buffering to play, in which case it is never released. */
+    boolean isPlaying();
+
+    void releaseDecoders();
+
+    void restoreDecoders();
+
+    /** Called when the client holds a decoder over the budget because no paused client is left. */
+    void onDecoderBudgetExceeded(int activeDecoders, int maxActiveDecoders);
+  }
+
+  /** Clients holding decoders, from least to most recently played. */
+  private final LinkedHashSet<Client> activeClients = new LinkedHashSet<>();
+
+  private final Set<Client> releasedClients = new HashSet<>();
+  private int maxActiveDecoders = Integer.MAX_VALUE;
+
+  /** Sets the maximum number of clients that may hold decoders at the same time. */
+  void setMaxActiveDecoders(int maxActiveDecoders) {
+    if (maxActiveDecoders < 1) {
+      throw new IllegalArgumentException(
+          "maxActiveDecoders must be positive, was " + maxActiveDecoders);
+    }
+    this.maxActiveDecoders = maxActiveDecoders;
+    if (!enforceBudget(null)) {
+      reportBudgetExceeded(mostRecentlyPlayed());
+    }
+  }
+
+  /** Registers a newly created client, which acquires its decoders as it prepares. */
+  void register(Client client) {
+    activeClients.add(client);
+    if (!enforceBudget(client)) {
+      reportBudgetExceeded(client);
+    }
+  }
+
+  /** Marks {@code client} as the most recently played one, restoring its decoders if needed. */
+  void onPlay(Client client) {
+    if (releasedClients.remove(client)) {
+      client.restoreDecoders();
+    }
+    activeClients.remove(client);
+    activeClients.add(client);
+    if (!enforceBudget(client)) {
+      reportBudgetExceeded(client);
+    }
+  }
+
+  /** Releases decoders that were kept over the budget because every other client was playing. */
+  void onPause() {
+    enforceBudget(null);
+  }
+
+  void unregister(Client client) {
+    activeClients.remove(client);
+    releasedClients.remove(client);
+  }
+
+  void clear() {
+    activeClients.clear();
+    releasedClients.clear();
+  }
+
+  int getActiveDecoderCount() {
+    return activeClients.size();
+  }
+
+  boolean isReleased(Client client) {
+    return releasedClients.contains(client);
+  }
+
+  /**
+   * Releases paused clients other than {@code keep} until the budget is met.
+   *
+   * @return whether the budget is met.
+   */
+  private boolean enforceBudget(Client keep) {
+    while (activeClients.size() > maxActiveDecoders) {
+      Client victim = findVictim(keep);
+      if (victim == null) {
+        return false;
+      }
+      activeClients.remove(victim);
+      releasedClients.add(victim);
+      victim.releaseDecoders();
+    }
+    return true;
+  }
+
+  private void reportBudgetExceeded(Client client) {
+    client.onDecoderBudgetExceeded(activeClients.size(), maxActiveDecoders);
+  }
+
+  private Client findVictim(Client keep) {
+    for (Client client : activeClients) {
+      if (client != keep && !client.isPlaying()) {
+        return client;
+      }
+    }
+    return null;
+  }
+
+  private Client mostRecentlyPlayed() {
+    Client last = null;
+    for (Client client : activeClients) {
+      last = client;
+    }
+    return last;
+  }
+}
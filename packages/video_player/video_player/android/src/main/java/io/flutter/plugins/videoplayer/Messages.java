@@ -83,12 +83,45 @@ public class Messages {
       this.formatHint = setterArg;
     }
 
+    private HashMap httpHeaders;
+
+    public HashMap getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(HashMap setterArg) {
+      this.httpHeaders = setterArg;
+    }
+
+    private Long connectTimeoutMillis;
+
+    public Long getConnectTimeoutMillis() {
+      return connectTimeoutMillis;
+    }
+
+    public void setConnectTimeoutMillis(Long setterArg) {
+      this.connectTimeoutMillis = setterArg;
+    }
+
+    private Long readTimeoutMillis;
+
+    public Long getReadTimeoutMillis() {
+      return readTimeoutMillis;
+    }
+
+    public void setReadTimeoutMillis(Long setterArg) {
+      this.readTimeoutMillis = setterArg;
+    }
+
     HashMap toMap() {
       HashMap<String, Object> toMapResult = new HashMap<>();
       toMapResult.put("asset", asset);
       toMapResult.put("uri", uri);
       toMapResult.put("packageName", packageName);
       toMapResult.put("formatHint", formatHint);
+      toMapResult.put("httpHeaders", httpHeaders);
+      toMapResult.put("connectTimeoutMillis", connectTimeoutMillis);
+      toMapResult.put("readTimeoutMillis", readTimeoutMillis);
       return toMapResult;
     }
 
@@ -102,6 +135,22 @@ public class Messages {
       fromMapResult.packageName = (String) packageName;
       Object formatHint = map.get("formatHint");
       fromMapResult.formatHint = (String) formatHint;
+      Object httpHeaders = map.get("httpHeaders");
+      fromMapResult.httpHeaders = (HashMap) httpHeaders;
+      Object connectTimeoutMillis = map.get("connectTimeoutMillis");
+      fromMapResult.connectTimeoutMillis =
+          (connectTimeoutMillis == null)
+              ? null
+              : ((connectTimeoutMillis instanceof Integer)
+                  ? (Integer) connectTimeoutMillis
+                  : (Long) connectTimeoutMillis);
+      Object readTimeoutMillis = map.get("readTimeoutMillis");
+      fromMapResult.readTimeoutMillis =
+          (readTimeoutMillis == null)
+              ? null
+              : ((readTimeoutMillis instanceof Integer)
+                  ? (Integer) readTimeoutMillis
+                  : (Long) readTimeoutMillis);
       return fromMapResult;
     }
   }
@@ -177,21 +226,507 @@ public class Messages {
       return toMapResult;
     }
 
-    static VolumeMessage fromMap(HashMap map) {
-      VolumeMessage fromMapResult = new VolumeMessage();
+    static VolumeMessage fromMap(HashMap map) {
+      VolumeMessage fromMapResult = new VolumeMessage();
+      Object textureId = map.get("textureId");
+      fromMapResult.textureId =
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
+      Object volume = map.get("volume");
+      fromMapResult.volume = (Double) volume;
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlaybackSpeedMessage {
+    private Long textureId;
+
+    public Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(Long setterArg) {
+      this.textureId = setterArg;
+    }
+
+    private Double speed;
+
+    public Double getSpeed() {
+      return speed;
+    }
+
+    public void setSpeed(Double setterArg) {
+      this.speed = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("speed", speed);
+      return toMapResult;
+    }
+
+    static PlaybackSpeedMessage fromMap(HashMap map) {
+      PlaybackSpeedMessage fromMapResult = new PlaybackSpeedMessage();
+      Object textureId = map.get("textureId");
+      fromMapResult.textureId =
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
+      Object speed = map.get("speed");
+      fromMapResult.speed = (Double) speed;
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PositionMessage {
+    private Long textureId;
+
+    public Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(Long setterArg) {
+      this.textureId = setterArg;
+    }
+
+    private Long position;
+
+    public Long getPosition() {
+      return position;
+    }
+
+    public void setPosition(Long setterArg) {
+      this.position = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("position", position);
+      return toMapResult;
+    }
+
+    static PositionMessage fromMap(HashMap map) {
+      PositionMessage fromMapResult = new PositionMessage();
+      Object textureId = map.get("textureId");
+      fromMapResult.textureId =
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
+      Object position = map.get("position");
+      fromMapResult.position =
+          (position == null)
+              ? null
+              : ((position instanceof Integer) ? (Integer) position : (Long) position);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class MixWithOthersMessage {
+    private Boolean mixWithOthers;
+
+    public Boolean getMixWithOthers() {
+      return mixWithOthers;
+    }
+
+    public void setMixWithOthers(Boolean setterArg) {
+      this.mixWithOthers = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("mixWithOthers", mixWithOthers);
+      return toMapResult;
+    }
+
+    static MixWithOthersMessage fromMap(HashMap map) {
+      MixWithOthersMessage fromMapResult = new MixWithOthersMessage();
+      Object mixWithOthers = map.get("mixWithOthers");
+      fromMapResult.mixWithOthers = (Boolean) mixWithOthers;
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class VideoTrackConstraintsMessage {
+    private Long textureId;
+
+    public Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(Long setterArg) {
+      this.textureId = setterArg;
+    }
+
+    private Long maxWidth;
+
+    public Long getMaxWidth() {
+      return maxWidth;
+    }
+
+    public void setMaxWidth(Long setterArg) {
+      this.maxWidth = setterArg;
+    }
+
+    private Long maxHeight;
+
+    public Long getMaxHeight() {
+      return maxHeight;
+    }
+
+    public void setMaxHeight(Long setterArg) {
+      this.maxHeight = setterArg;
+    }
+
+    private Long maxBitrate;
+
+    public Long getMaxBitrate() {
+      return maxBitrate;
+    }
+
+    public void setMaxBitrate(Long setterArg) {
+      this.maxBitrate = setterArg;
+    }
+
+    private Long viewportWidth;
+
+    public Long getViewportWidth() {
+      return viewportWidth;
+    }
+
+    public void setViewportWidth(Long setterArg) {
+      this.viewportWidth = setterArg;
+    }
+
+    private Long viewportHeight;
+
+    public Long getViewportHeight() {
+      return viewportHeight;
+    }
+
+    public void setViewportHeight(Long setterArg) {
+      this.viewportHeight = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("maxWidth", maxWidth);
+      toMapResult.put("maxHeight", maxHeight);
+      toMapResult.put("maxBitrate", maxBitrate);
+      toMapResult.put("viewportWidth", viewportWidth);
+      toMapResult.put("viewportHeight", viewportHeight);
+      return toMapResult;
+    }
+
+    static VideoTrackConstraintsMessage fromMap(HashMap map) {
+      VideoTrackConstraintsMessage fromMapResult = new VideoTrackConstraintsMessage();
+      Object textureId = map.get("textureId");
+      fromMapResult.textureId =
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
+      Object maxWidth = map.get("maxWidth");
+      fromMapResult.maxWidth =
+          (maxWidth == null)
+              ? null
+              : ((maxWidth instanceof Integer) ? (Integer) maxWidth : (Long) maxWidth);
+      Object maxHeight = map.get("maxHeight");
+      fromMapResult.maxHeight =
+          (maxHeight == null)
+              ? null
+              : ((maxHeight instanceof Integer) ? (Integer) maxHeight : (Long) maxHeight);
+      Object maxBitrate = map.get("maxBitrate");
+      fromMapResult.maxBitrate =
+          (maxBitrate == null)
+              ? null
+              : ((maxBitrate instanceof Integer) ? (Integer) maxBitrate : (Long) maxBitrate);
+      Object viewportWidth = map.get("viewportWidth");
+      fromMapResult.viewportWidth =
+          (viewportWidth == null)
+              ? null
+              : ((viewportWidth instanceof Integer)
+                  ? (Integer) viewportWidth
+                  : (Long) viewportWidth);
+      Object viewportHeight = map.get("viewportHeight");
+      fromMapResult.viewportHeight =
+          (viewportHeight == null)
+              ? null
+              : ((viewportHeight instanceof Integer)
+                  ? (Integer) viewportHeight
+                  : (Long) viewportHeight);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class RenditionMessage {
+    private Long textureId;
+
+    public Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(Long setterArg) {
+      this.textureId = setterArg;
+    }
+
+    private Long groupIndex;
+
+    public Long getGroupIndex() {
+      return groupIndex;
+    }
+
+    public void setGroupIndex(Long setterArg) {
+      this.groupIndex = setterArg;
+    }
+
+    private Long trackIndex;
+
+    public Long getTrackIndex() {
+      return trackIndex;
+    }
+
+    public void setTrackIndex(Long setterArg) {
+      this.trackIndex = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("groupIndex", groupIndex);
+      toMapResult.put("trackIndex", trackIndex);
+      return toMapResult;
+    }
+
+    static RenditionMessage fromMap(HashMap map) {
+      RenditionMessage fromMapResult = new RenditionMessage();
+      Object textureId = map.get("textureId");
+      fromMapResult.textureId =
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
+      Object groupIndex = map.get("groupIndex");
+      fromMapResult.groupIndex =
+          (groupIndex == null)
+              ? null
+              : ((groupIndex instanceof Integer) ? (Integer) groupIndex : (Long) groupIndex);
+      Object trackIndex = map.get("trackIndex");
+      fromMapResult.trackIndex =
+          (trackIndex == null)
+              ? null
+              : ((trackIndex instanceof Integer) ? (Integer) trackIndex : (Long) trackIndex);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlaylistItemMessage {
+    private Long textureId;
+
+    public Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(Long setterArg) {
+      this.textureId = setterArg;
+    }
+
+    private Long index;
+
+    public Long getIndex() {
+      return index;
+    }
+
+    public void setIndex(Long setterArg) {
+      this.index = setterArg;
+    }
+
+    private String asset;
+
+    public String getAsset() {
+      return asset;
+    }
+
+    public void setAsset(String setterArg) {
+      this.asset = setterArg;
+    }
+
+    private String uri;
+
+    public String getUri() {
+      return uri;
+    }
+
+    public void setUri(String setterArg) {
+      this.uri = setterArg;
+    }
+
+    private String packageName;
+
+    public String getPackageName() {
+      return packageName;
+    }
+
+    public void setPackageName(String setterArg) {
+      this.packageName = setterArg;
+    }
+
+    private String formatHint;
+
+    public String getFormatHint() {
+      return formatHint;
+    }
+
+    public void setFormatHint(String setterArg) {
+      this.formatHint = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("index", index);
+      toMapResult.put("asset", asset);
+      toMapResult.put("uri", uri);
+      toMapResult.put("packageName", packageName);
+      toMapResult.put("formatHint", formatHint);
+      return toMapResult;
+    }
+
+    static PlaylistItemMessage fromMap(HashMap map) {
+      PlaylistItemMessage fromMapResult = new PlaylistItemMessage();
+      Object textureId = map.get("textureId");
+      fromMapResult.textureId =
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
+      Object index = map.get("index");
+      fromMapResult.index =
+          (index == null) ? null : ((index instanceof Integer) ? (Integer) index : (Long) index);
+      Object asset = map.get("asset");
+      fromMapResult.asset = (String) asset;
+      Object uri = map.get("uri");
+      fromMapResult.uri = (String) uri;
+      Object packageName = map.get("packageName");
+      fromMapResult.packageName = (String) packageName;
+      Object formatHint = map.get("formatHint");
+      fromMapResult.formatHint = (String) formatHint;
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlaylistIndexMessage {
+    private Long textureId;
+
+    public Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(Long setterArg) {
+      this.textureId = setterArg;
+    }
+
+    private Long index;
+
+    public Long getIndex() {
+      return index;
+    }
+
+    public void setIndex(Long setterArg) {
+      this.index = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("index", index);
+      return toMapResult;
+    }
+
+    static PlaylistIndexMessage fromMap(HashMap map) {
+      PlaylistIndexMessage fromMapResult = new PlaylistIndexMessage();
+      Object textureId = map.get("textureId");
+      fromMapResult.textureId =
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
+      Object index = map.get("index");
+      fromMapResult.index =
+          (index == null) ? null : ((index instanceof Integer) ? (Integer) index : (Long) index);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlaylistMoveMessage {
+    private Long textureId;
+
+    public Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(Long setterArg) {
+      this.textureId = setterArg;
+    }
+
+    private Long fromIndex;
+
+    public Long getFromIndex() {
+      return fromIndex;
+    }
+
+    public void setFromIndex(Long setterArg) {
+      this.fromIndex = setterArg;
+    }
+
+    private Long toIndex;
+
+    public Long getToIndex() {
+      return toIndex;
+    }
+
+    public void setToIndex(Long setterArg) {
+      this.toIndex = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("fromIndex", fromIndex);
+      toMapResult.put("toIndex", toIndex);
+      return toMapResult;
+    }
+
+    static PlaylistMoveMessage fromMap(HashMap map) {
+      PlaylistMoveMessage fromMapResult = new PlaylistMoveMessage();
       Object textureId = map.get("textureId");
       fromMapResult.textureId =
           (textureId == null)
               ? null
               : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
-      Object volume = map.get("volume");
-      fromMapResult.volume = (Double) volume;
+      Object fromIndex = map.get("fromIndex");
+      fromMapResult.fromIndex =
+          (fromIndex == null)
+              ? null
+              : ((fromIndex instanceof Integer) ? (Integer) fromIndex : (Long) fromIndex);
+      Object toIndex = map.get("toIndex");
+      fromMapResult.toIndex =
+          (toIndex == null)
+              ? null
+              : ((toIndex instanceof Integer) ? (Integer) toIndex : (Long) toIndex);
       return fromMapResult;
     }
   }
 
   /** Generated class from Pigeon that represents data sent in messages. */
-  public static class PlaybackSpeedMessage {
+  public static class StatsMessage {
     private Long textureId;
 
     public Long getTextureId() {
@@ -202,38 +737,149 @@ public class Messages {
       this.textureId = setterArg;
     }
 
-    private Double speed;
+    private Long timeToFirstFrameMs;
 
-    public Double getSpeed() {
-      return speed;
+    public Long getTimeToFirstFrameMs() {
+      return timeToFirstFrameMs;
     }
 
-    public void setSpeed(Double setterArg) {
-      this.speed = setterArg;
+    public void setTimeToFirstFrameMs(Long setterArg) {
+      this.timeToFirstFrameMs = setterArg;
+    }
+
+    private Long rebufferCount;
+
+    public Long getRebufferCount() {
+      return rebufferCount;
+    }
+
+    public void setRebufferCount(Long setterArg) {
+      this.rebufferCount = setterArg;
+    }
+
+    private Long rebufferDurationMs;
+
+    public Long getRebufferDurationMs() {
+      return rebufferDurationMs;
+    }
+
+    public void setRebufferDurationMs(Long setterArg) {
+      this.rebufferDurationMs = setterArg;
+    }
+
+    private Long droppedFrames;
+
+    public Long getDroppedFrames() {
+      return droppedFrames;
+    }
+
+    public void setDroppedFrames(Long setterArg) {
+      this.droppedFrames = setterArg;
+    }
+
+    private Long videoDecoderInitializationMs;
+
+    public Long getVideoDecoderInitializationMs() {
+      return videoDecoderInitializationMs;
+    }
+
+    public void setVideoDecoderInitializationMs(Long setterArg) {
+      this.videoDecoderInitializationMs = setterArg;
+    }
+
+    private Long bandwidthEstimate;
+
+    public Long getBandwidthEstimate() {
+      return bandwidthEstimate;
+    }
+
+    public void setBandwidthEstimate(Long setterArg) {
+      this.bandwidthEstimate = setterArg;
+    }
+
+    private Long videoBitrate;
+
+    public Long getVideoBitrate() {
+      return videoBitrate;
+    }
+
+    public void setVideoBitrate(Long setterArg) {
+      this.videoBitrate = setterArg;
     }
 
     HashMap toMap() {
       HashMap<String, Object> toMapResult = new HashMap<>();
       toMapResult.put("textureId", textureId);
-      toMapResult.put("speed", speed);
+      toMapResult.put("timeToFirstFrameMs", timeToFirstFrameMs);
+      toMapResult.put("rebufferCount", rebufferCount);
+      toMapResult.put("rebufferDurationMs", rebufferDurationMs);
+      toMapResult.put("droppedFrames", droppedFrames);
+      toMapResult.put("videoDecoderInitializationMs", videoDecoderInitializationMs);
+      toMapResult.put("bandwidthEstimate", bandwidthEstimate);
+      toMapResult.put("videoBitrate", videoBitrate);
       return toMapResult;
     }
 
-    static PlaybackSpeedMessage fromMap(HashMap map) {
-      PlaybackSpeedMessage fromMapResult = new PlaybackSpeedMessage();
+    static StatsMessage fromMap(HashMap map) {
+      StatsMessage fromMapResult = new StatsMessage();
       Object textureId = map.get("textureId");
       fromMapResult.textureId =
           (textureId == null)
               ? null
               : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
-      Object speed = map.get("speed");
-      fromMapResult.speed = (Double) speed;
+      Object timeToFirstFrameMs = map.get("timeToFirstFrameMs");
+      fromMapResult.timeToFirstFrameMs =
+          (timeToFirstFrameMs == null)
+              ? null
+              : ((timeToFirstFrameMs instanceof Integer)
+                  ? (Integer) timeToFirstFrameMs
+                  : (Long) timeToFirstFrameMs);
+      Object rebufferCount = map.get("rebufferCount");
+      fromMapResult.rebufferCount =
+          (rebufferCount == null)
+              ? null
+              : ((rebufferCount instanceof Integer)
+                  ? (Integer) rebufferCount
+                  : (Long) rebufferCount);
+      Object rebufferDurationMs = map.get("rebufferDurationMs");
+      fromMapResult.rebufferDurationMs =
+          (rebufferDurationMs == null)
+              ? null
+              : ((rebufferDurationMs instanceof Integer)
+                  ? (Integer) rebufferDurationMs
+                  : (Long) rebufferDurationMs);
+      Object droppedFrames = map.get("droppedFrames");
+      fromMapResult.droppedFrames =
+          (droppedFrames == null)
+              ? null
+              : ((droppedFrames instanceof Integer)
+                  ? (Integer) droppedFrames
+                  : (Long) droppedFrames);
+      Object videoDecoderInitializationMs = map.get("videoDecoderInitializationMs");
+      fromMapResult.videoDecoderInitializationMs =
+          (videoDecoderInitializationMs == null)
+              ? null
+              : ((videoDecoderInitializationMs instanceof Integer)
+                  ? (Integer) videoDecoderInitializationMs
+                  : (Long) videoDecoderInitializationMs);
+      Object bandwidthEstimate = map.get("bandwidthEstimate");
+      fromMapResult.bandwidthEstimate =
+          (bandwidthEstimate == null)
+              ? null
+              : ((bandwidthEstimate instanceof Integer)
+                  ? (Integer) bandwidthEstimate
+                  : (Long) bandwidthEstimate);
+      Object videoBitrate = map.get("videoBitrate");
+      fromMapResult.videoBitrate =
+          (videoBitrate == null)
+              ? null
+              : ((videoBitrate instanceof Integer) ? (Integer) videoBitrate : (Long) videoBitrate);
       return fromMapResult;
     }
   }
 
   /** Generated class from Pigeon that represents data sent in messages. */
-  public static class PositionMessage {
+  public static class MetricsIntervalMessage {
     private Long textureId;
 
     public Long getTextureId() {
@@ -244,61 +890,68 @@ public class Messages {
       this.textureId = setterArg;
     }
 
-    private Long position;
+    private Long intervalMillis;
 
-    public Long getPosition() {
-      return position;
+    public Long getIntervalMillis() {
+      return intervalMillis;
     }
 
-    public void setPosition(Long setterArg) {
-      this.position = setterArg;
+    public void setIntervalMillis(Long setterArg) {
+      this.intervalMillis = setterArg;
     }
 
     HashMap toMap() {
       HashMap<String, Object> toMapResult = new HashMap<>();
       toMapResult.put("textureId", textureId);
-      toMapResult.put("position", position);
+      toMapResult.put("intervalMillis", intervalMillis);
       return toMapResult;
     }
 
-    static PositionMessage fromMap(HashMap map) {
-      PositionMessage fromMapResult = new PositionMessage();
+    static MetricsIntervalMessage fromMap(HashMap map) {
+      MetricsIntervalMessage fromMapResult = new MetricsIntervalMessage();
       Object textureId = map.get("textureId");
       fromMapResult.textureId =
           (textureId == null)
               ? null
               : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
-      Object position = map.get("position");
-      fromMapResult.position =
-          (position == null)
+      Object intervalMillis = map.get("intervalMillis");
+      fromMapResult.intervalMillis =
+          (intervalMillis == null)
               ? null
-              : ((position instanceof Integer) ? (Integer) position : (Long) position);
+              : ((intervalMillis instanceof Integer)
+                  ? (Integer) intervalMillis
+                  : (Long) intervalMillis);
       return fromMapResult;
     }
   }
 
   /** Generated class from Pigeon that represents data sent in messages. */
-  public static class MixWithOthersMessage {
-    private Boolean mixWithOthers;
+  public static class DecoderBudgetMessage {
+    private Long maxActiveDecoders;
 
-    public Boolean getMixWithOthers() {
-      return mixWithOthers;
+    public Long getMaxActiveDecoders() {
+      return maxActiveDecoders;
     }
 
-    public void setMixWithOthers(Boolean setterArg) {
-      this.mixWithOthers = setterArg;
+    public void setMaxActiveDecoders(Long setterArg) {
+      this.maxActiveDecoders = setterArg;
     }
 
     HashMap toMap() {
       HashMap<String, Object> toMapResult = new HashMap<>();
-      toMapResult.put("mixWithOthers", mixWithOthers);
+      toMapResult.put("maxActiveDecoders", maxActiveDecoders);
       return toMapResult;
     }
 
-    static MixWithOthersMessage fromMap(HashMap map) {
-      MixWithOthersMessage fromMapResult = new MixWithOthersMessage();
-      Object mixWithOthers = map.get("mixWithOthers");
-      fromMapResult.mixWithOthers = (Boolean) mixWithOthers;
+    static DecoderBudgetMessage fromMap(HashMap map) {
+      DecoderBudgetMessage fromMapResult = new DecoderBudgetMessage();
+      Object maxActiveDecoders = map.get("maxActiveDecoders");
+      fromMapResult.maxActiveDecoders =
+          (maxActiveDecoders == null)
+              ? null
+              : ((maxActiveDecoders instanceof Integer)
+                  ? (Integer) maxActiveDecoders
+                  : (Long) maxActiveDecoders);
       return fromMapResult;
     }
   }
@@ -327,6 +980,22 @@ public class Messages {
 
     void setMixWithOthers(MixWithOthersMessage arg);
 
+    void setVideoTrackConstraints(VideoTrackConstraintsMessage arg);
+
+    void selectRendition(RenditionMessage arg);
+
+    void addPlaylistItem(PlaylistItemMessage arg);
+
+    void removePlaylistItem(PlaylistIndexMessage arg);
+
+    void movePlaylistItem(PlaylistMoveMessage arg);
+
+    StatsMessage getStats(TextureMessage arg);
+
+    void setMetricsInterval(MetricsIntervalMessage arg);
+
+    void setMaxActiveDecoders(DecoderBudgetMessage arg);
+
     /** Sets up an instance of `VideoPlayerApi` to handle messages through the `binaryMessenger` */
     static void setup(BinaryMessenger binaryMessenger, VideoPlayerApi api) {
       {
@@ -591,6 +1260,199 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.setVideoTrackConstraints",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  VideoTrackConstraintsMessage input =
+                      VideoTrackConstraintsMessage.fromMap((HashMap) message);
+                  api.setVideoTrackConstraints(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.selectRendition",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  RenditionMessage input = RenditionMessage.fromMap((HashMap) message);
+                  api.selectRendition(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.addPlaylistItem",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  PlaylistItemMessage input = PlaylistItemMessage.fromMap((HashMap) message);
+                  api.addPlaylistItem(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.removePlaylistItem",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  PlaylistIndexMessage input = PlaylistIndexMessage.fromMap((HashMap) message);
+                  api.removePlaylistItem(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.movePlaylistItem",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  PlaylistMoveMessage input = PlaylistMoveMessage.fromMap((HashMap) message);
+                  api.movePlaylistItem(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.getStats",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  TextureMessage input = TextureMessage.fromMap((HashMap) message);
+                  StatsMessage output = api.getStats(input);
+                  wrapped.put("result", output.toMap());
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.setMetricsInterval",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  MetricsIntervalMessage input = MetricsIntervalMessage.fromMap((HashMap) message);
+                  api.setMetricsInterval(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.setMaxActiveDecoders",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  DecoderBudgetMessage input = DecoderBudgetMessage.fromMap((HashMap) message);
+                  api.setMaxActiveDecoders(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -0,0 +1,168 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.view.Surface;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.analytics.AnalyticsListener;
+import com.google.android.exoplayer2.source.MediaLoadData;
+import com.google.android.exoplayer2.util.Clock;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Collects quality of service metrics of a single player from ExoPlayer's analytics callbacks.
+ *
+ * <p>Durations are in milliseconds and are -1 until known. Buffering that starts where a seek or a
+ * playlist transition landed is not counted as a rebuffer.
+ */
+final class PlaybackMetrics implements AnalyticsListener {
+  // How far playback may have moved past a discontinuity for buffering to still be caused by it.
+  private static final long DISCONTINUITY_TOLERANCE_MS = 500;
+
+  private final Clock clock;
+  private final long createdAtMs;
+
+  private long timeToFirstFrameMs = C.TIME_UNSET;
+  private long videoDecoderInitializationMs = C.TIME_UNSET;
+  private boolean hasBeenReady;
+  private int discontinuityWindowIndex = C.INDEX_UNSET;
+  private long discontinuityPositionMs;
+  private int rebufferCount;
+  private long rebufferDurationMs;
+  private long rebufferStartedAtMs = C.TIME_UNSET;
+  private long droppedFrames;
+  private long bandwidthEstimate = C.LENGTH_UNSET;
+  private int videoBitrate = Format.NO_VALUE;
+
+  PlaybackMetrics() {
+    this(Clock.DEFAULT);
+  }
+
+  PlaybackMetrics(Clock clock) {
+    this.clock = clock;
+    this.createdAtMs = clock.elapsedRealtime();
+  }
+
+  @Override
+  public void onRenderedFirstFrame(EventTime eventTime, Surface surface) {
+    if (timeToFirstFrameMs == C.TIME_UNSET) {
+      timeToFirstFrameMs = eventTime.realtimeMs - createdAtMs;
+    }
+  }
+
+  @Override
+  public void onPositionDiscontinuity(EventTime eventTime, int reason) {
+    // Seeks and playlist transitions both report the position playback continues from.
+    discontinuityWindowIndex = eventTime.windowIndex;
+    discontinuityPositionMs = eventTime.eventPlaybackPositionMs;
+  }
+
+  @Override
+  public void onPlaybackStateChanged(EventTime eventTime, int state) {
+    if (state == Player.STATE_BUFFERING) {
+      if (hasBeenReady && !followsDiscontinuity(eventTime) && rebufferStartedAtMs == C.TIME_UNSET) {
+        rebufferCount++;
+        rebufferStartedAtMs = eventTime.realtimeMs;
+      }
+      return;
+    }
+    if (rebufferStartedAtMs != C.TIME_UNSET) {
+      rebufferDurationMs += eventTime.realtimeMs - rebufferStartedAtMs;
+      rebufferStartedAtMs = C.TIME_UNSET;
+    }
+    if (state == Player.STATE_READY) {
+      hasBeenReady = true;
+    }
+  }
+
+  private boolean followsDiscontinuity(EventTime eventTime) {
+    return eventTime.windowIndex == discontinuityWindowIndex
+        && eventTime.eventPlaybackPositionMs >= discontinuityPositionMs
+        && eventTime.eventPlaybackPositionMs - discontinuityPositionMs
+            <= DISCONTINUITY_TOLERANCE_MS;
+  }
+
+  @Override
+  public void onDroppedVideoFrames(EventTime eventTime, int droppedFrames, long elapsedMs) {
+    this.droppedFrames += droppedFrames;
+  }
+
+  @Override
+  @SuppressWarnings("deprecation")
+  public void onDecoderInitialized(
+      EventTime eventTime, int trackType, String decoderName, long initializationDurationMs) {
+    if (trackType == C.TRACK_TYPE_VIDEO) {
+      videoDecoderInitializationMs = initializationDurationMs;
+    }
+  }
+
+  @Override
+  public void onBandwidthEstimate(
+      EventTime eventTime, int totalLoadTimeMs, long totalBytesLoaded, long bitrateEstimate) {
+    bandwidthEstimate = bitrateEstimate;
+  }
+
+  @Override
+  public void onDownstreamFormatChanged(EventTime eventTime, MediaLoadData mediaLoadData) {
+    if (mediaLoadData.trackFormat != null
+        && (mediaLoadData.trackType == C.TRACK_TYPE_VIDEO
+            || mediaLoadData.trackType == C.TRACK_TYPE_DEFAULT)) {
+      videoBitrate = mediaLoadData.trackFormat.bitrate;
+    }
+  }
+
+  long getTimeToFirstFrameMs() {
+    return orUnknown(timeToFirstFrameMs);
+  }
+
+  int getRebufferCount() {
+    return rebufferCount;
+  }
+
+  /** Returns the time spent rebuffering, including a rebuffer that is still in progress. */
+  long getRebufferDurationMs() {
+    if (rebufferStartedAtMs == C.TIME_UNSET) {
+      return rebufferDurationMs;
+    }
+    return rebufferDurationMs + clock.elapsedRealtime() - rebufferStartedAtMs;
+  }
+
+  long getDroppedFrames() {
+    return droppedFrames;
+  }
+
+  long getVideoDecoderInitializationMs() {
+    return orUnknown(videoDecoderInitializationMs);
+  }
+
+  /** Returns the estimated network bandwidth in bits per second. */
+  long getBandwidthEstimate() {
+    return bandwidthEstimate == C.LENGTH_UNSET ? -1 : bandwidthEstimate;
+  }
+
+  /** Returns the bitrate of the video rendition being loaded, in bits per second. */
+  int getVideoBitrate() {
+    return videoBitrate == Format.NO_VALUE ? -1 : videoBitrate;
+  }
+
+  Map<String, Object> toMap() {
+    Map<String, Object> metrics = new HashMap<>();
+    metrics.put("timeToFirstFrameMs", getTimeToFirstFrameMs());
+    metrics.put("rebufferCount", getRebufferCount());
+    metrics.put("rebufferDurationMs", getRebufferDurationMs());
+    metrics.put("droppedFrames", getDroppedFrames());
+    metrics.put("videoDecoderInitializationMs", getVideoDecoderInitializationMs());
+    metrics.put("bandwidthEstimate", getBandwidthEstimate());
+    metrics.put("videoBitrate", getVideoBitrate());
+    return metrics;
+  }
+
+  private static long orUnknown(long durationMs) {
+    return durationMs == C.TIME_UNSET ? -1 : durationMs;
+  }
+}
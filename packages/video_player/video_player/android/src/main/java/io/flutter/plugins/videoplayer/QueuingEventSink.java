@@ -6,6 +6,12 @@ package io.flutter.plugins.videoplayer;
 
 import io.flutter.plugin.common.EventChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * And implementation of {@link EventChannel.EventSink} which can wrap an underlying sink.
@@ -13,14 +19,48 @@ import java.util.ArrayList;
  * <p>It delivers messages immediately when downstream is available, but it queues messages before
  * the delegate event sink is set with setDelegate.
  *
- * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
- * externally.
+ * <p>While queued, an event whose type supersedes earlier events of the same type (for example
+ * {@code bufferingUpdate}) replaces the previously queued one in place, and the queue is bounded:
+ * once it holds {@code maxQueueSize} events the oldest event that is not a lifecycle event is
+ * dropped. Lifecycle events ({@code initialized}, {@code completed}, errors and end of stream) are
+ * never dropped or reordered.
+ *
+ * <p>Like the delegate it wraps, this class must be used from the platform thread.
  */
 final class QueuingEventSink implements EventChannel.EventSink {
+  static final int DEFAULT_MAX_QUEUE_SIZE = 64;
+
+  /** Event types for which only the most recent queued event is relevant. */
+  private static final Set<String> SUPERSEDING_EVENTS =
+      Collections.unmodifiableSet(
+          new HashSet<>(
+              Arrays.asList(
+                  "bufferingUpdate",
+                  "progress",
+                  "metrics",
+                  "renditionChanged",
+                  "renditionsChanged")));
+
+  /** Event types which must always reach the listener. */
+  private static final Set<String> LIFECYCLE_EVENTS =
+      Collections.unmodifiableSet(new HashSet<>(Arrays.asList("initialized", "completed")));
+
+  private final int maxQueueSize;
   private EventChannel.EventSink delegate;
-  private ArrayList<Object> eventQueue = new ArrayList<>();
+  private final ArrayList<Object> eventQueue = new ArrayList<>();
   private boolean done = false;
 
+  QueuingEventSink() {
+    this(DEFAULT_MAX_QUEUE_SIZE);
+  }
+
+  QueuingEventSink(int maxQueueSize) {
+    if (maxQueueSize < 1) {
+      throw new IllegalArgumentException("maxQueueSize must be positive, was " + maxQueueSize);
+    }
+    this.maxQueueSize = maxQueueSize;
+  }
+
   public void setDelegate(EventChannel.EventSink delegate) {
     this.delegate = delegate;
     maybeFlush();
@@ -45,13 +85,40 @@ final class QueuingEventSink implements EventChannel.EventSink {
     maybeFlush();
   }
 
+  /** Returns the number of events waiting for a delegate. */
+  int queuedEventCount() {
+    return eventQueue.size();
+  }
+
   private void enqueue(Object event) {
     if (done) {
       return;
     }
+    String type = eventType(event);
+    if (type != null && SUPERSEDING_EVENTS.contains(type)) {
+      for (int i = 0; i < eventQueue.size(); i++) {
+        if (type.equals(eventType(eventQueue.get(i)))) {
+          eventQueue.set(i, event);
+          return;
+        }
+      }
+    }
+    if (eventQueue.size() >= maxQueueSize) {
+      dropOldestDroppableEvent();
+    }
     eventQueue.add(event);
   }
 
+  private void dropOldestDroppableEvent() {
+    Iterator<Object> iterator = eventQueue.iterator();
+    while (iterator.hasNext()) {
+      if (!isLifecycleEvent(iterator.next())) {
+        iterator.remove();
+        return;
+      }
+    }
+  }
+
   private void maybeFlush() {
     if (delegate == null) {
       return;
@@ -69,6 +136,22 @@ final class QueuingEventSink implements EventChannel.EventSink {
     eventQueue.clear();
   }
 
+  private static boolean isLifecycleEvent(Object event) {
+    if (event instanceof EndOfStreamEvent || event instanceof ErrorEvent) {
+      return true;
+    }
+    String type = eventType(event);
+    return type != null && LIFECYCLE_EVENTS.contains(type);
+  }
+
+  private static String eventType(Object event) {
+    if (!(event instanceof Map)) {
+      return null;
+    }
+    Object type = ((Map<?, ?>) event).get("event");
+    return type instanceof String ? (String) type : null;
+  }
+
   private static class EndOfStreamEvent {}
 
   private static class ErrorEvent {
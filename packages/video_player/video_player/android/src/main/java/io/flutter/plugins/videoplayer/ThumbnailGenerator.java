@@ -0,0 +1,419 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.graphics.Bitmap;
+import android.media.MediaMetadataRetriever;
+import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes single video frames into encoded images without creating a player or a texture.
+ *
+ * <p>Frames are extracted with {@link MediaMetadataRetriever} on a background thread and the
+ * encoded bytes are kept in an in-memory LRU cache backed by a size-bounded disk cache, both keyed
+ * by source, position, width and format.
+ */
+final class ThumbnailGenerator {
+  /** Receives the outcome of {@link #getThumbnail} on the main thread. */
+  interface Callback {
+    void onThumbnail(byte[] bytes);
+
+    void onError(Exception error);
+  }
+
+  /** Decodes and encodes a single frame. Called on a background thread. */
+  interface FrameDecoder {
+    byte[] decode(
+        String dataSource,
+        Map<String, String> httpHeaders,
+        long positionMs,
+        int maxWidth,
+        String format)
+        throws IOException;
+  }
+
+  private static final String CACHE_DIRECTORY = "video_player_thumbnails";
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final int MEMORY_CACHE_BYTES = 4 * 1024 * 1024;
+  private static final long DISK_CACHE_BYTES = 32 * 1024 * 1024;
+  private static final int THREAD_COUNT = 2;
+  private static final int QUALITY = 80;
+
+  private final File cacheDirectory;
+  private final long diskCacheBytes;
+  private final FrameDecoder frameDecoder;
+  private final ExecutorService executor;
+  private final Executor mainThreadExecutor;
+  private final MemoryCache memoryCache;
+
+  ThumbnailGenerator(Context context) {
+    this(
+        new File(context.getCacheDir(), CACHE_DIRECTORY),
+        MEMORY_CACHE_BYTES,
+        DISK_CACHE_BYTES,
+        new RetrieverFrameDecoder(context),
+        Executors.newFixedThreadPool(THREAD_COUNT),
+        new Handler(Looper.getMainLooper())::post);
+  }
+
+  ThumbnailGenerator(
+      File cacheDirectory,
+      int memoryCacheBytes,
+      long diskCacheBytes,
+      FrameDecoder frameDecoder,
+      ExecutorService executor,
+      Executor mainThreadExecutor) {
+    this.cacheDirectory = cacheDirectory;
+    this.diskCacheBytes = diskCacheBytes;
+    this.frameDecoder = frameDecoder;
+    this.executor = executor;
+    this.mainThreadExecutor = mainThreadExecutor;
+    this.memoryCache = new MemoryCache(memoryCacheBytes);
+  }
+
+  /**
+   * Returns the frame of {@code dataSource} closest to {@code positionMs}, scaled down to at most
+   * {@code maxWidth} pixels wide (if positive) and encoded as {@code format} ("jpeg", "png" or
+   * "webp").
+   */
+  void getThumbnail(
+      final String dataSource,
+      final Map<String, String> httpHeaders,
+      final long positionMs,
+      final int maxWidth,
+      String format,
+      final Callback callback) {
+    final String normalizedFormat;
+    try {
+      normalizedFormat = normalizeFormat(format);
+    } catch (IllegalArgumentException e) {
+      callback.onError(e);
+      return;
+    }
+    final String key = dataSource + "@" + positionMs + ":" + maxWidth + "." + normalizedFormat;
+    byte[] cached = memoryCache.get(key);
+    if (cached != null) {
+      callback.onThumbnail(cached);
+      return;
+    }
+    Request request =
+        new Request(callback) {
+          @Override
+          public void run() {
+            try {
+              File cacheFile = new File(cacheDirectory, hash(key));
+              byte[] bytes = readFile(cacheFile);
+              if (bytes == null) {
+                bytes =
+                    frameDecoder.decode(
+                        dataSource, httpHeaders, positionMs, maxWidth, normalizedFormat);
+                writeToDiskCache(cacheFile, bytes);
+              }
+              memoryCache.put(key, bytes);
+              final byte[] result = bytes;
+              mainThreadExecutor.execute(() -> callback.onThumbnail(result));
+            } catch (Exception e) {
+              fail(e);
+            }
+          }
+        };
+    try {
+      executor.execute(request);
+    } catch (RejectedExecutionException e) {
+      request.fail(new CancellationException("The thumbnail generator was disposed."));
+    }
+  }
+
+  /**
+   * Stops decoding. Requests that have not started yet fail with a {@link CancellationException}.
+   */
+  void dispose() {
+    for (Runnable dropped : executor.shutdownNow()) {
+      ((Request) dropped).fail(new CancellationException("The thumbnail generator was disposed."));
+    }
+    memoryCache.clear();
+  }
+
+  /** A queued thumbnail, which can still answer its callback if it never runs. */
+  private abstract class Request implements Runnable {
+    private final Callback callback;
+
+    Request(Callback callback) {
+      this.callback = callback;
+    }
+
+    void fail(final Exception error) {
+      mainThreadExecutor.execute(() -> callback.onError(error));
+    }
+  }
+
+  /** Keeps the most recently used thumbnails up to a total number of bytes. */
+  private static final class MemoryCache {
+    private final int maxBytes;
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int bytes;
+
+    MemoryCache(int maxBytes) {
+      this.maxBytes = maxBytes;
+    }
+
+    synchronized byte[] get(String key) {
+      return entries.get(key);
+    }
+
+    synchronized void put(String key, byte[] value) {
+      byte[] previous = entries.put(key, value);
+      bytes += value.length - (previous == null ? 0 : previous.length);
+      Iterator<byte[]> iterator = entries.values().iterator();
+      while (bytes > maxBytes && iterator.hasNext()) {
+        bytes -= iterator.next().length;
+        iterator.remove();
+      }
+    }
+
+    synchronized void clear() {
+      entries.clear();
+      bytes = 0;
+    }
+  }
+
+  /** Extracts frames with {@link MediaMetadataRetriever}. */
+  private static final class RetrieverFrameDecoder implements FrameDecoder {
+    private final Context context;
+
+    RetrieverFrameDecoder(Context context) {
+      this.context = context;
+    }
+
+    @Override
+    public byte[] decode(
+        String dataSource,
+        Map<String, String> httpHeaders,
+        long positionMs,
+        int maxWidth,
+        String format)
+        throws IOException {
+      return decodeFrame(dataSource, httpHeaders, positionMs, maxWidth, toCompressFormat(format));
+    }
+
+    private byte[] decodeFrame(
+        String dataSource,
+        Map<String, String> httpHeaders,
+        long positionMs,
+        int maxWidth,
+        Bitmap.CompressFormat compressFormat)
+        throws IOException {
+      MediaMetadataRetriever retriever = new MediaMetadataRetriever();
+      Bitmap frame = null;
+      try {
+        setDataSource(retriever, dataSource, httpHeaders);
+        long timeUs = TimeUnit.MILLISECONDS.toMicros(positionMs);
+        frame = getFrame(retriever, timeUs, maxWidth);
+        if (frame == null) {
+          throw new IOException(
+              "Unable to decode a frame at " + positionMs + "ms of " + dataSource);
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        frame.compress(compressFormat, QUALITY, outputStream);
+        return outputStream.toByteArray();
+      } finally {
+        if (frame != null) {
+          frame.recycle();
+        }
+        retriever.release();
+      }
+    }
+
+    private void setDataSource(
+        MediaMetadataRetriever retriever, String dataSource, Map<String, String> httpHeaders)
+        throws IOException {
+      Uri uri = Uri.parse(dataSource);
+      String scheme = uri.getScheme();
+      if ("http".equals(scheme) || "https".equals(scheme)) {
+        retriever.setDataSource(dataSource, httpHeaders);
+      } else if ("asset".equals(scheme)) {
+        String assetPath = uri.getPath();
+        if (assetPath != null && assetPath.startsWith("/")) {
+          assetPath = assetPath.substring(1);
+        }
+        try (AssetFileDescriptor descriptor = context.getAssets().openFd(assetPath)) {
+          retriever.setDataSource(
+              descriptor.getFileDescriptor(), descriptor.getStartOffset(), descriptor.getLength());
+        }
+      } else {
+        retriever.setDataSource(context, uri);
+      }
+    }
+
+    private static Bitmap getFrame(MediaMetadataRetriever retriever, long timeUs, int maxWidth) {
+      int option = MediaMetadataRetriever.OPTION_CLOSEST_SYNC;
+      if (maxWidth <= 0) {
+        return retriever.getFrameAtTime(timeUs, option);
+      }
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O_MR1) {
+        int width = parseMetadata(retriever, MediaMetadataRetriever.METADATA_KEY_VIDEO_WIDTH);
+        int height = parseMetadata(retriever, MediaMetadataRetriever.METADATA_KEY_VIDEO_HEIGHT);
+        int rotation = parseMetadata(retriever, MediaMetadataRetriever.METADATA_KEY_VIDEO_ROTATION);
+        if (rotation == 90 || rotation == 270) {
+          int swap = width;
+          width = height;
+          height = swap;
+        }
+        if (width > maxWidth && height > 0) {
+          // Lets the decoder scale the frame instead of allocating a full-size bitmap first.
+          return retriever.getScaledFrameAtTime(
+              timeUs, option, maxWidth, Math.max(1, Math.round(height * maxWidth / (float) width)));
+        }
+      }
+      Bitmap frame = retriever.getFrameAtTime(timeUs, option);
+      if (frame == null || frame.getWidth() <= maxWidth) {
+        return frame;
+      }
+      int height = Math.max(1, Math.round(frame.getHeight() * maxWidth / (float) frame.getWidth()));
+      Bitmap scaled = Bitmap.createScaledBitmap(frame, maxWidth, height, true);
+      if (scaled != frame) {
+        frame.recycle();
+      }
+      return scaled;
+    }
+
+    private static int parseMetadata(MediaMetadataRetriever retriever, int key) {
+      String value = retriever.extractMetadata(key);
+      if (value == null) {
+        return 0;
+      }
+      try {
+        return Integer.parseInt(value);
+      } catch (NumberFormatException e) {
+        return 0;
+      }
+    }
+
+    private static Bitmap.CompressFormat toCompressFormat(String format) {
+      switch (format) {
+        case "png":
+          return Bitmap.CompressFormat.PNG;
+        case "webp":
+          return Bitmap.CompressFormat.WEBP;
+        default:
+          return Bitmap.CompressFormat.JPEG;
+      }
+    }
+  }
+
+  private static String normalizeFormat(String format) {
+    if (format == null || format.equals("jpeg") || format.equals("jpg")) {
+      return "jpeg";
+    } else if (format.equals("png") || format.equals("webp")) {
+      return format;
+    }
+    throw new IllegalArgumentException("Unsupported thumbnail format: " + format);
+  }
+
+  private static byte[] readFile(File file) throws IOException {
+    if (!file.isFile()) {
+      return null;
+    }
+    byte[] bytes = new byte[(int) file.length()];
+    try (InputStream inputStream = new FileInputStream(file)) {
+      int offset = 0;
+      while (offset < bytes.length) {
+        int read = inputStream.read(bytes, offset, bytes.length - offset);
+        if (read < 0) {
+          return null;
+        }
+        offset += read;
+      }
+    }
+    // Marks the entry as recently used for the disk cache trimming below.
+    file.setLastModified(System.currentTimeMillis());
+    return bytes;
+  }
+
+  private void writeToDiskCache(File file, byte[] bytes) throws IOException {
+    if (!cacheDirectory.isDirectory() && !cacheDirectory.mkdirs()) {
+      return;
+    }
+    // A unique name keeps concurrent writes of the same entry from interleaving.
+    File tempFile = File.createTempFile(file.getName(), TEMP_SUFFIX, cacheDirectory);
+    try (OutputStream outputStream = new FileOutputStream(tempFile)) {
+      outputStream.write(bytes);
+    }
+    if (!tempFile.renameTo(file)) {
+      tempFile.delete();
+      return;
+    }
+    trimDiskCache();
+  }
+
+  private synchronized void trimDiskCache() {
+    // Temporary files are still being written and are not part of the cache yet.
+    File[] files = cacheDirectory.listFiles(file -> !file.getName().endsWith(TEMP_SUFFIX));
+    if (files == null) {
+      return;
+    }
+    long totalBytes = 0;
+    for (File file : files) {
+      totalBytes += file.length();
+    }
+    if (totalBytes <= diskCacheBytes) {
+      return;
+    }
+    Arrays.sort(
+        files,
+        new Comparator<File>() {
+          @Override
+          public int compare(File a, File b) {
+            long difference = a.lastModified() - b.lastModified();
+            return difference < 0 ? -1 : (difference > 0 ? 1 : 0);
+          }
+        });
+    for (File file : files) {
+      if (totalBytes <= diskCacheBytes) {
+        break;
+      }
+      long length = file.length();
+      if (file.delete()) {
+        totalBytes -= length;
+      }
+    }
+  }
+
+  private static String hash(String key) throws NoSuchAlgorithmException {
+    byte[] digest =
+        MessageDigest.getInstance("SHA-1").digest(key.getBytes(Charset.forName("UTF-8")));
+    StringBuilder builder = new StringBuilder(digest.length * 2);
+    for (byte b : digest) {
+      builder.append(String.format("%02x", b));
+    }
+    return builder.toString();
+  }
+}
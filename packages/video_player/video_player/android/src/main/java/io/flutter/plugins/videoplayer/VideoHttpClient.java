@@ -0,0 +1,123 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Build;
+import com.google.android.exoplayer2.ext.okhttp.OkHttpDataSourceFactory;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import io.flutter.Log;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
+import okhttp3.ConnectionPool;
+import okhttp3.Dns;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+/**
+ * The HTTP stack shared by the data sources of all video players.
+ *
+ * <p>All players share one connection pool and DNS cache, so segment requests of adaptive streams
+ * reuse warm (and, where the server supports it, HTTP/2) connections instead of repeating the TCP
+ * and TLS handshakes per player.
+ */
+final class VideoHttpClient {
+  private static final String TAG = "VideoHttpClient";
+  private static final String USER_AGENT = "ExoPlayer";
+
+  private static final int MAX_IDLE_CONNECTIONS = 8;
+  private static final long KEEP_ALIVE_DURATION_MINUTES = 5;
+  private static final long DNS_CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+  private static final int DNS_CACHE_MAX_ENTRIES = 32;
+
+  private final OkHttpClient client;
+  private final CachingDns dns;
+
+  VideoHttpClient() {
+    dns = new CachingDns(Dns.SYSTEM, DNS_CACHE_TTL_MILLIS, DNS_CACHE_MAX_ENTRIES);
+    OkHttpClient.Builder builder =
+        new OkHttpClient.Builder()
+            .connectionPool(
+                new ConnectionPool(
+                    MAX_IDLE_CONNECTIONS, KEEP_ALIVE_DURATION_MINUTES, TimeUnit.MINUTES))
+            .dns(dns)
+            .connectTimeout(
+                DefaultHttpDataSource.DEFAULT_CONNECT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+            .readTimeout(DefaultHttpDataSource.DEFAULT_READ_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+            .followRedirects(true)
+            .followSslRedirects(true);
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+      enableModernTls(builder);
+    }
+    client = builder.build();
+  }
+
+  /**
+   * Returns a factory for data sources that use the shared connection pool.
+   *
+   * @param headers extra request headers, or null.
+   * @param connectTimeoutMillis the connect timeout, or a non-positive value for the default.
+   * @param readTimeoutMillis the read timeout, or a non-positive value for the default.
+   */
+  DataSource.Factory createDataSourceFactory(
+      Map<String, String> headers, int connectTimeoutMillis, int readTimeoutMillis) {
+    OkHttpClient.Builder builder = client.newBuilder();
+    if (connectTimeoutMillis > 0) {
+      builder.connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+    if (readTimeoutMillis > 0) {
+      builder.readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+    if (headers != null && !headers.isEmpty()) {
+      final Map<String, String> requestHeaders =
+          Collections.unmodifiableMap(new HashMap<>(headers));
+      builder.addInterceptor(
+          chain -> {
+            Request.Builder request = chain.request().newBuilder();
+            for (Map.Entry<String, String> header : requestHeaders.entrySet()) {
+              request.header(header.getKey(), header.getValue());
+            }
+            return chain.proceed(request.build());
+          });
+    }
+    // The derived client shares the connection pool, dispatcher and DNS cache with the base client.
+    return new OkHttpDataSourceFactory(builder.build(), USER_AGENT);
+  }
+
+  /** Closes idle connections and forgets cached DNS answers. */
+  void evictAll() {
+    client.connectionPool().evictAll();
+    dns.clear();
+  }
+
+  /** Enables TLSv1.1 and TLSv1.2, which are disabled by default on API 19 and below. */
+  private static void enableModernTls(OkHttpClient.Builder builder) {
+    try {
+      TrustManagerFactory trustManagerFactory =
+          TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+      trustManagerFactory.init((KeyStore) null);
+      for (TrustManager trustManager : trustManagerFactory.getTrustManagers()) {
+        if (trustManager instanceof X509TrustManager) {
+          builder.sslSocketFactory(new CustomSSLSocketFactory(), (X509TrustManager) trustManager);
+          return;
+        }
+      }
+    } catch (GeneralSecurityException e) {
+      Log.w(
+          TAG,
+          "Failed to enable TLSv1.1 and TLSv1.2 Protocols for API level 19 and below.\n"
+              + "For more information about Socket Security, please consult the following link:\n"
+              + "https://developer.android.com/reference/javax/net/ssl/SSLSocket",
+          e);
+    }
+  }
+}
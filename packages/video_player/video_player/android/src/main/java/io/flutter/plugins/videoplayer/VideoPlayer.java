@@ -6,6 +6,8 @@ import static com.google.android.exoplayer2.Player.REPEAT_MODE_OFF;
 import android.content.Context;
 import android.net.Uri;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.Surface;
 import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.ExoPlaybackException;
@@ -15,28 +17,35 @@ import com.google.android.exoplayer2.PlaybackParameters;
 import com.google.android.exoplayer2.Player;
 import com.google.android.exoplayer2.Player.EventListener;
 import com.google.android.exoplayer2.SimpleExoPlayer;
+import com.google.android.exoplayer2.analytics.AnalyticsListener;
 import com.google.android.exoplayer2.audio.AudioAttributes;
+import com.google.android.exoplayer2.source.ConcatenatingMediaSource;
+import com.google.android.exoplayer2.source.MediaLoadData;
 import com.google.android.exoplayer2.source.MediaSource;
 import com.google.android.exoplayer2.source.ProgressiveMediaSource;
+import com.google.android.exoplayer2.source.TrackGroup;
+import com.google.android.exoplayer2.source.TrackGroupArray;
 import com.google.android.exoplayer2.source.dash.DashMediaSource;
 import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
 import com.google.android.exoplayer2.source.hls.HlsMediaSource;
 import com.google.android.exoplayer2.source.smoothstreaming.DefaultSsChunkSource;
 import com.google.android.exoplayer2.source.smoothstreaming.SsMediaSource;
+import com.google.android.exoplayer2.trackselection.DefaultTrackSelector;
+import com.google.android.exoplayer2.trackselection.MappingTrackSelector.MappedTrackInfo;
+import com.google.android.exoplayer2.trackselection.TrackSelectionArray;
 import com.google.android.exoplayer2.upstream.DataSource;
 import com.google.android.exoplayer2.upstream.DefaultDataSourceFactory;
-import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
-import com.google.android.exoplayer2.upstream.DefaultHttpDataSourceFactory;
 import com.google.android.exoplayer2.util.Util;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.view.TextureRegistry;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-final class VideoPlayer {
+final class VideoPlayer implements DecoderScheduler.Client {
   private static final String FORMAT_SS = "ss";
   private static final String FORMAT_DASH = "dash";
   private static final String FORMAT_HLS = "hls";
@@ -44,6 +53,31 @@ final class VideoPlayer {
 
   private SimpleExoPlayer exoPlayer;
 
+  private final DefaultTrackSelector trackSelector;
+
+  private final ConcatenatingMediaSource playlist = new ConcatenatingMediaSource();
+
+  private final Context context;
+
+  private final DataSource.Factory httpDataSourceFactory;
+
+  private final PlaybackMetrics metrics = new PlaybackMetrics();
+
+  private final Handler metricsHandler = new Handler(Looper.getMainLooper());
+
+  private final Runnable metricsReporter =
+      new Runnable() {
+        @Override
+        public void run() {
+          sendMetrics();
+          metricsHandler.postDelayed(this, metricsIntervalMillis);
+        }
+      };
+
+  private int metricsIntervalMillis;
+
+  private Format renditionFormat;
+
   private Surface surface;
 
   private final TextureRegistry.SurfaceTextureEntry textureEntry;
@@ -62,33 +96,38 @@ final class VideoPlayer {
       TextureRegistry.SurfaceTextureEntry textureEntry,
       String dataSource,
       String formatHint,
+      DataSource.Factory httpDataSourceFactory,
       VideoPlayerOptions options) {
+    this.context = context;
+    this.httpDataSourceFactory = httpDataSourceFactory;
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
 
-    exoPlayer = new SimpleExoPlayer.Builder(context).build();
+    trackSelector = new DefaultTrackSelector(context);
+    exoPlayer = new SimpleExoPlayer.Builder(context).setTrackSelector(trackSelector).build();
+    exoPlayer.addAnalyticsListener(metrics);
+
+    // Every player plays a playlist so that further sources can be queued for gapless playback;
+    // a player created for a single source simply has a playlist of one.
+    playlist.addMediaSource(buildMediaSource(dataSource, formatHint));
+    exoPlayer.setMediaSource(playlist);
+    exoPlayer.prepare();
+
+    setupVideoPlayer(eventChannel, textureEntry);
+  }
 
+  private MediaSource buildMediaSource(String dataSource, String formatHint) {
     Uri uri = Uri.parse(dataSource);
 
     DataSource.Factory dataSourceFactory;
     if (isHTTP(uri)) {
-      dataSourceFactory =
-          new DefaultHttpDataSourceFactory(
-              "ExoPlayer",
-              null,
-              DefaultHttpDataSource.DEFAULT_CONNECT_TIMEOUT_MILLIS,
-              DefaultHttpDataSource.DEFAULT_READ_TIMEOUT_MILLIS,
-              true);
+      dataSourceFactory = httpDataSourceFactory;
     } else {
       dataSourceFactory = new DefaultDataSourceFactory(context, "ExoPlayer");
     }
 
-    MediaSource mediaSource = buildMediaSource(uri, dataSourceFactory, formatHint, context);
-    exoPlayer.setMediaSource(mediaSource);
-    exoPlayer.prepare();
-
-    setupVideoPlayer(eventChannel, textureEntry);
+    return buildMediaSource(uri, dataSourceFactory, formatHint, context);
   }
 
   private static boolean isHTTP(Uri uri) {
@@ -192,9 +231,113 @@ final class VideoPlayer {
               eventSink.error("VideoError", "Video player had error " + error, null);
             }
           }
+
+          @Override
+          public void onMediaItemTransition(MediaItem mediaItem, int reason) {
+            sendPlaylistItemTransition(reason);
+          }
+
+          @Override
+          public void onTracksChanged(
+              TrackGroupArray trackGroups, TrackSelectionArray trackSelections) {
+            sendRenditionsChanged();
+          }
+        });
+
+    exoPlayer.addAnalyticsListener(
+        new AnalyticsListener() {
+          @Override
+          public void onDownstreamFormatChanged(EventTime eventTime, MediaLoadData mediaLoadData) {
+            if (mediaLoadData.trackType == C.TRACK_TYPE_VIDEO
+                || mediaLoadData.trackType == C.TRACK_TYPE_DEFAULT) {
+              maybeSendRenditionChanged(mediaLoadData.trackFormat);
+            }
+          }
         });
   }
 
+  private void sendPlaylistItemTransition(int reason) {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "playlistItemTransition");
+    event.put("index", exoPlayer.getCurrentWindowIndex());
+    event.put("duration", exoPlayer.getDuration());
+    switch (reason) {
+      case Player.MEDIA_ITEM_TRANSITION_REASON_AUTO:
+        event.put("reason", "auto");
+        break;
+      case Player.MEDIA_ITEM_TRANSITION_REASON_REPEAT:
+        event.put("reason", "repeat");
+        break;
+      case Player.MEDIA_ITEM_TRANSITION_REASON_SEEK:
+        event.put("reason", "seek");
+        break;
+      case Player.MEDIA_ITEM_TRANSITION_REASON_PLAYLIST_CHANGED:
+      default:
+        event.put("reason", "playlistChanged");
+        break;
+    }
+    eventSink.success(event);
+  }
+
+  private void sendRenditionsChanged() {
+    MappedTrackInfo mappedTrackInfo = trackSelector.getCurrentMappedTrackInfo();
+    int rendererIndex = getVideoRendererIndex(mappedTrackInfo);
+    if (rendererIndex == C.INDEX_UNSET) {
+      return;
+    }
+    List<Map<String, Object>> renditions = new ArrayList<>();
+    TrackGroupArray trackGroups = mappedTrackInfo.getTrackGroups(rendererIndex);
+    for (int groupIndex = 0; groupIndex < trackGroups.length; groupIndex++) {
+      TrackGroup trackGroup = trackGroups.get(groupIndex);
+      for (int trackIndex = 0; trackIndex < trackGroup.length; trackIndex++) {
+        Map<String, Object> rendition = renditionToMap(trackGroup.getFormat(trackIndex));
+        rendition.put("groupIndex", groupIndex);
+        rendition.put("trackIndex", trackIndex);
+        renditions.add(rendition);
+      }
+    }
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "renditionsChanged");
+    event.put("renditions", renditions);
+    eventSink.success(event);
+  }
+
+  private void maybeSendRenditionChanged(Format format) {
+    if (format == null
+        || (renditionFormat != null
+            && renditionFormat.width == format.width
+            && renditionFormat.height == format.height
+            && renditionFormat.bitrate == format.bitrate)) {
+      return;
+    }
+    renditionFormat = format;
+    Map<String, Object> event = renditionToMap(format);
+    event.put("event", "renditionChanged");
+    eventSink.success(event);
+  }
+
+  private static Map<String, Object> renditionToMap(Format format) {
+    Map<String, Object> rendition = new HashMap<>();
+    rendition.put("width", format.width);
+    rendition.put("height", format.height);
+    rendition.put("bitrate", format.bitrate);
+    rendition.put("codecs", format.codecs);
+    return rendition;
+  }
+
+  private static int getVideoRendererIndex(MappedTrackInfo mappedTrackInfo) {
+    if (mappedTrackInfo == null) {
+      return C.INDEX_UNSET;
+    }
+    for (int i = 0; i < mappedTrackInfo.getRendererCount(); i++) {
+      if (mappedTrackInfo.getRendererType(i) == C.TRACK_TYPE_VIDEO
+          && mappedTrackInfo.getTrackGroups(i).length > 0) {
+        return i;
+      }
+    }
+    return C.INDEX_UNSET;
+  }
+
   void sendBufferingUpdate() {
     Map<String, Object> event = new HashMap<>();
     event.put("event", "bufferingUpdate");
@@ -214,6 +357,50 @@ final class VideoPlayer {
     }
   }
 
+  @Override
+  public boolean isPlaying() {
+    int state = exoPlayer.getPlaybackState();
+    return (state == Player.STATE_READY || state == Player.STATE_BUFFERING)
+        && exoPlayer.getPlayWhenReady();
+  }
+
+  /**
+   * Releases the video decoder by disabling the video renderer. The player keeps its position and
+   * the texture keeps showing the last rendered frame.
+   *
+   * <p>ExoPlayer can only release a renderer through a new track selection, which discards the
+   * buffered media. Restoring the decoder selects the video track again, so the video is loaded
+   * again from the current position.
+   */
+  @Override
+  public void releaseDecoders() {
+    setVideoRendererDisabled(true);
+  }
+
+  @Override
+  public void restoreDecoders() {
+    setVideoRendererDisabled(false);
+  }
+
+  @Override
+  public void onDecoderBudgetExceeded(int activeDecoders, int maxActiveDecoders) {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "decoderBudgetExceeded");
+    event.put("activeDecoders", activeDecoders);
+    event.put("maxActiveDecoders", maxActiveDecoders);
+    eventSink.success(event);
+  }
+
+  private void setVideoRendererDisabled(boolean disabled) {
+    DefaultTrackSelector.ParametersBuilder parameters = trackSelector.buildUponParameters();
+    for (int i = 0; i < exoPlayer.getRendererCount(); i++) {
+      if (exoPlayer.getRendererType(i) == C.TRACK_TYPE_VIDEO) {
+        parameters.setRendererDisabled(i, disabled);
+      }
+    }
+    trackSelector.setParameters(parameters);
+  }
+
   void play() {
     exoPlayer.setPlayWhenReady(true);
   }
@@ -239,6 +426,110 @@ final class VideoPlayer {
     exoPlayer.setPlaybackParameters(playbackParameters);
   }
 
+  /**
+   * Inserts a source into the playlist at {@code index}, or appends it when {@code index} is
+   * negative.
+   *
+   * <p>Sources may mix progressive and adaptive formats. The next item is buffered ahead of the
+   * current one ending, so transitions are gapless.
+   */
+  void addPlaylistItem(int index, String dataSource, String formatHint) {
+    MediaSource mediaSource = buildMediaSource(dataSource, formatHint);
+    if (index < 0 || index > playlist.getSize()) {
+      playlist.addMediaSource(mediaSource);
+    } else {
+      playlist.addMediaSource(index, mediaSource);
+    }
+  }
+
+  void removePlaylistItem(int index) {
+    checkPlaylistIndex(index);
+    playlist.removeMediaSource(index);
+  }
+
+  void movePlaylistItem(int fromIndex, int toIndex) {
+    checkPlaylistIndex(fromIndex);
+    checkPlaylistIndex(toIndex);
+    playlist.moveMediaSource(fromIndex, toIndex);
+  }
+
+  private void checkPlaylistIndex(int index) {
+    if (index < 0 || index >= playlist.getSize()) {
+      throw new IndexOutOfBoundsException(
+          "Playlist index " + index + " out of range [0, " + playlist.getSize() + ")");
+    }
+  }
+
+  /**
+   * Constrains adaptive track selection to renditions no larger than the given size and bitrate.
+   *
+   * <p>Pass {@link Integer#MAX_VALUE} to leave a limit unset. When both viewport dimensions are
+   * positive, the smallest rendition that still covers the viewport is preferred.
+   */
+  void setVideoTrackConstraints(
+      int maxWidth, int maxHeight, int maxBitrate, int viewportWidth, int viewportHeight) {
+    DefaultTrackSelector.ParametersBuilder parameters =
+        trackSelector
+            .buildUponParameters()
+            .setMaxVideoSize(maxWidth, maxHeight)
+            .setMaxVideoBitrate(maxBitrate);
+    if (viewportWidth > 0 && viewportHeight > 0) {
+      parameters.setViewportSize(viewportWidth, viewportHeight, false);
+    } else {
+      parameters.clearViewportSizeConstraints();
+    }
+    trackSelector.setParameters(parameters);
+  }
+
+  /**
+   * Forces playback of a single rendition, as reported by the {@code renditionsChanged} event.
+   *
+   * <p>A negative {@code groupIndex} returns to adaptive selection.
+   */
+  void selectRendition(int groupIndex, int trackIndex) {
+    MappedTrackInfo mappedTrackInfo = trackSelector.getCurrentMappedTrackInfo();
+    int rendererIndex = getVideoRendererIndex(mappedTrackInfo);
+    if (rendererIndex == C.INDEX_UNSET) {
+      throw new IllegalStateException("No video renditions are available.");
+    }
+    DefaultTrackSelector.ParametersBuilder parameters = trackSelector.buildUponParameters();
+    if (groupIndex < 0) {
+      parameters.clearSelectionOverrides(rendererIndex);
+    } else {
+      TrackGroupArray trackGroups = mappedTrackInfo.getTrackGroups(rendererIndex);
+      if (groupIndex >= trackGroups.length
+          || trackIndex < 0
+          || trackIndex >= trackGroups.get(groupIndex).length) {
+        throw new IllegalArgumentException(
+            "Unknown rendition: group " + groupIndex + ", track " + trackIndex);
+      }
+      parameters.setSelectionOverride(
+          rendererIndex,
+          trackGroups,
+          new DefaultTrackSelector.SelectionOverride(groupIndex, trackIndex));
+    }
+    trackSelector.setParameters(parameters);
+  }
+
+  PlaybackMetrics getMetrics() {
+    return metrics;
+  }
+
+  /** Sends a {@code metrics} event every {@code intervalMillis}, or stops if not positive. */
+  void setMetricsInterval(int intervalMillis) {
+    metricsHandler.removeCallbacks(metricsReporter);
+    metricsIntervalMillis = intervalMillis;
+    if (intervalMillis > 0) {
+      metricsHandler.postDelayed(metricsReporter, intervalMillis);
+    }
+  }
+
+  private void sendMetrics() {
+    Map<String, Object> event = metrics.toMap();
+    event.put("event", "metrics");
+    eventSink.success(event);
+  }
+
   void seekTo(int location) {
     exoPlayer.seekTo(location);
   }
@@ -272,6 +563,7 @@ final class VideoPlayer {
   }
 
   void dispose() {
+    metricsHandler.removeCallbacks(metricsReporter);
     if (isInitialized) {
       exoPlayer.stop();
     }
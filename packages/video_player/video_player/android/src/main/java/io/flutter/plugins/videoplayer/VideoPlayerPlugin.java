@@ -5,32 +5,45 @@
 package io.flutter.plugins.videoplayer;
 
 import android.content.Context;
-import android.os.Build;
 import android.util.LongSparseArray;
 import io.flutter.FlutterInjector;
 import io.flutter.Log;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import io.flutter.plugins.videoplayer.Messages.DecoderBudgetMessage;
 import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
+import io.flutter.plugins.videoplayer.Messages.MetricsIntervalMessage;
 import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
 import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaylistIndexMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaylistItemMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaylistMoveMessage;
 import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.RenditionMessage;
+import io.flutter.plugins.videoplayer.Messages.StatsMessage;
 import io.flutter.plugins.videoplayer.Messages.TextureMessage;
 import io.flutter.plugins.videoplayer.Messages.VideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.VideoTrackConstraintsMessage;
 import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
 import io.flutter.view.TextureRegistry;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import javax.net.ssl.HttpsURLConnection;
+import java.util.HashMap;
+import java.util.Map;
 
 /** Android platform implementation of the VideoPlayerPlugin. */
-public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
+public class VideoPlayerPlugin
+    implements FlutterPlugin, VideoPlayerApi, MethodChannel.MethodCallHandler {
   private static final String TAG = "VideoPlayerPlugin";
+  // Thumbnails are answered asynchronously, which the pigeon version in use cannot generate.
+  private static final String THUMBNAIL_CHANNEL = "flutter.io/videoPlayer/thumbnails";
   private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
   private FlutterState flutterState;
   private VideoPlayerOptions options = new VideoPlayerOptions();
+  private final VideoHttpClient httpClient = new VideoHttpClient();
+  private final DecoderScheduler decoderScheduler = new DecoderScheduler();
 
   /** Register this with the v2 embedding for the plugin to respond to lifecycle callbacks. */
   public VideoPlayerPlugin() {}
@@ -60,20 +73,6 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
 
   @Override
   public void onAttachedToEngine(FlutterPluginBinding binding) {
-
-    if (android.os.Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
-      try {
-        HttpsURLConnection.setDefaultSSLSocketFactory(new CustomSSLSocketFactory());
-      } catch (KeyManagementException | NoSuchAlgorithmException e) {
-        Log.w(
-            TAG,
-            "Failed to enable TLSv1.1 and TLSv1.2 Protocols for API level 19 and below.\n"
-                + "For more information about Socket Security, please consult the following link:\n"
-                + "https://developer.android.com/reference/javax/net/ssl/SSLSocket",
-            e);
-      }
-    }
-
     final FlutterInjector injector = FlutterInjector.instance();
     this.flutterState =
         new FlutterState(
@@ -91,8 +90,10 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
       Log.wtf(TAG, "Detached from the engine before registering to it.");
     }
     flutterState.stopListening(binding.getBinaryMessenger());
+    flutterState.thumbnailGenerator.dispose();
     flutterState = null;
     initialize();
+    httpClient.evictAll();
   }
 
   private void disposeAllPlayers() {
@@ -100,6 +101,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
       videoPlayers.valueAt(i).dispose();
     }
     videoPlayers.clear();
+    decoderScheduler.clear();
   }
 
   private void onDestroy() {
@@ -109,6 +111,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
     // be replaced with just asserting that videoPlayers.isEmpty().
     // https://github.com/flutter/flutter/issues/20989 tracks this.
     disposeAllPlayers();
+    flutterState.thumbnailGenerator.dispose();
   }
 
   public void initialize() {
@@ -122,42 +125,42 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
         new EventChannel(
             flutterState.binaryMessenger, "flutter.io/videoPlayer/videoEvents" + handle.id());
 
-    VideoPlayer player;
-    if (arg.getAsset() != null) {
-      String assetLookupKey;
-      if (arg.getPackageName() != null) {
-        assetLookupKey =
-            flutterState.keyForAssetAndPackageName.get(arg.getAsset(), arg.getPackageName());
-      } else {
-        assetLookupKey = flutterState.keyForAsset.get(arg.getAsset());
-      }
-      player =
-          new VideoPlayer(
-              flutterState.applicationContext,
-              eventChannel,
-              handle,
-              "asset:///" + assetLookupKey,
-              null,
-              options);
-    } else {
-      player =
-          new VideoPlayer(
-              flutterState.applicationContext,
-              eventChannel,
-              handle,
-              arg.getUri(),
-              arg.getFormatHint(),
-              options);
-    }
+    VideoPlayer player =
+        new VideoPlayer(
+            flutterState.applicationContext,
+            eventChannel,
+            handle,
+            dataSourceFor(arg.getAsset(), arg.getPackageName(), arg.getUri()),
+            arg.getAsset() != null ? null : arg.getFormatHint(),
+            httpClient.createDataSourceFactory(
+                toHeaders(arg.getHttpHeaders()),
+                toIntOrDefault(arg.getConnectTimeoutMillis(), 0),
+                toIntOrDefault(arg.getReadTimeoutMillis(), 0)),
+            options);
     videoPlayers.put(handle.id(), player);
+    decoderScheduler.register(player);
 
     TextureMessage result = new TextureMessage();
     result.setTextureId(handle.id());
     return result;
   }
 
+  private String dataSourceFor(String asset, String packageName, String uri) {
+    if (asset == null) {
+      return uri;
+    }
+    String assetLookupKey;
+    if (packageName != null) {
+      assetLookupKey = flutterState.keyForAssetAndPackageName.get(asset, packageName);
+    } else {
+      assetLookupKey = flutterState.keyForAsset.get(asset);
+    }
+    return "asset:///" + assetLookupKey;
+  }
+
   public void dispose(TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    decoderScheduler.unregister(player);
     player.dispose();
     videoPlayers.remove(arg.getTextureId());
   }
@@ -179,6 +182,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
 
   public void play(TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    decoderScheduler.onPlay(player);
     player.play();
   }
 
@@ -198,6 +202,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
   public void pause(TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     player.pause();
+    decoderScheduler.onPause();
   }
 
   @Override
@@ -205,6 +210,122 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
     options.mixWithOthers = arg.getMixWithOthers();
   }
 
+  @Override
+  public void setVideoTrackConstraints(VideoTrackConstraintsMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setVideoTrackConstraints(
+        toIntOrDefault(arg.getMaxWidth(), Integer.MAX_VALUE),
+        toIntOrDefault(arg.getMaxHeight(), Integer.MAX_VALUE),
+        toIntOrDefault(arg.getMaxBitrate(), Integer.MAX_VALUE),
+        toIntOrDefault(arg.getViewportWidth(), 0),
+        toIntOrDefault(arg.getViewportHeight(), 0));
+  }
+
+  @Override
+  public void selectRendition(RenditionMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.selectRendition(
+        toIntOrDefault(arg.getGroupIndex(), -1), toIntOrDefault(arg.getTrackIndex(), 0));
+  }
+
+  @Override
+  public void addPlaylistItem(PlaylistItemMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.addPlaylistItem(
+        toIntOrDefault(arg.getIndex(), -1),
+        dataSourceFor(arg.getAsset(), arg.getPackageName(), arg.getUri()),
+        arg.getAsset() != null ? null : arg.getFormatHint());
+  }
+
+  @Override
+  public void removePlaylistItem(PlaylistIndexMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.removePlaylistItem(arg.getIndex().intValue());
+  }
+
+  @Override
+  public void movePlaylistItem(PlaylistMoveMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.movePlaylistItem(arg.getFromIndex().intValue(), arg.getToIndex().intValue());
+  }
+
+  @Override
+  public StatsMessage getStats(TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    PlaybackMetrics metrics = player.getMetrics();
+    StatsMessage result = new StatsMessage();
+    result.setTextureId(arg.getTextureId());
+    result.setTimeToFirstFrameMs(metrics.getTimeToFirstFrameMs());
+    result.setRebufferCount((long) metrics.getRebufferCount());
+    result.setRebufferDurationMs(metrics.getRebufferDurationMs());
+    result.setDroppedFrames(metrics.getDroppedFrames());
+    result.setVideoDecoderInitializationMs(metrics.getVideoDecoderInitializationMs());
+    result.setBandwidthEstimate(metrics.getBandwidthEstimate());
+    result.setVideoBitrate((long) metrics.getVideoBitrate());
+    return result;
+  }
+
+  @Override
+  public void setMetricsInterval(MetricsIntervalMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setMetricsInterval(toIntOrDefault(arg.getIntervalMillis(), 0));
+  }
+
+  @Override
+  public void setMaxActiveDecoders(DecoderBudgetMessage arg) {
+    decoderScheduler.setMaxActiveDecoders(
+        toIntOrDefault(arg.getMaxActiveDecoders(), Integer.MAX_VALUE));
+  }
+
+  @Override
+  public void onMethodCall(MethodCall call, MethodChannel.Result result) {
+    if (call.method.equals("getThumbnail")) {
+      getThumbnail(call, result);
+    } else {
+      result.notImplemented();
+    }
+  }
+
+  private void getThumbnail(MethodCall call, final MethodChannel.Result result) {
+    String asset = call.argument("asset");
+    Number positionMs = call.argument("positionMs");
+    Number maxWidth = call.argument("maxWidth");
+    flutterState.thumbnailGenerator.getThumbnail(
+        dataSourceFor(asset, call.<String>argument("packageName"), call.<String>argument("uri")),
+        toHeaders(call.<Map<?, ?>>argument("httpHeaders")),
+        positionMs == null ? 0 : positionMs.longValue(),
+        maxWidth == null ? 0 : maxWidth.intValue(),
+        call.<String>argument("format"),
+        new ThumbnailGenerator.Callback() {
+          @Override
+          public void onThumbnail(byte[] bytes) {
+            result.success(bytes);
+          }
+
+          @Override
+          public void onError(Exception error) {
+            result.error("VideoError", error.toString(), null);
+          }
+        });
+  }
+
+  private static Map<String, String> toHeaders(Map<?, ?> httpHeaders) {
+    if (httpHeaders == null) {
+      return null;
+    }
+    Map<String, String> headers = new HashMap<>();
+    for (Map.Entry<?, ?> header : httpHeaders.entrySet()) {
+      if (header.getKey() != null && header.getValue() != null) {
+        headers.put(header.getKey().toString(), header.getValue().toString());
+      }
+    }
+    return headers;
+  }
+
+  private static int toIntOrDefault(Long value, int defaultValue) {
+    return value == null ? defaultValue : (int) Math.min(value, Integer.MAX_VALUE);
+  }
+
   private interface KeyForAssetFn {
     String get(String asset);
   }
@@ -219,6 +340,8 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
     private final KeyForAssetFn keyForAsset;
     private final KeyForAssetAndPackageName keyForAssetAndPackageName;
     private final TextureRegistry textureRegistry;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final MethodChannel thumbnailChannel;
 
     FlutterState(
         Context applicationContext,
@@ -231,14 +354,18 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
       this.keyForAsset = keyForAsset;
       this.keyForAssetAndPackageName = keyForAssetAndPackageName;
       this.textureRegistry = textureRegistry;
+      this.thumbnailGenerator = new ThumbnailGenerator(applicationContext);
+      this.thumbnailChannel = new MethodChannel(messenger, THUMBNAIL_CHANNEL);
     }
 
     void startListening(VideoPlayerPlugin methodCallHandler, BinaryMessenger messenger) {
       VideoPlayerApi.setup(messenger, methodCallHandler);
+      thumbnailChannel.setMethodCallHandler(methodCallHandler);
     }
 
     void stopListening(BinaryMessenger messenger) {
       VideoPlayerApi.setup(messenger, null);
+      thumbnailChannel.setMethodCallHandler(null);
     }
   }
 }
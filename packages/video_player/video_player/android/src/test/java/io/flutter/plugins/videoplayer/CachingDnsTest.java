@@ -0,0 +1,84 @@
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.List;
+import okhttp3.Dns;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CachingDnsTest {
+  private static final long TTL_MILLIS = 1000;
+
+  private Dns delegate;
+  private long now;
+  private CachingDns dns;
+
+  @Before
+  public void setUp() throws UnknownHostException {
+    delegate = mock(Dns.class);
+    when(delegate.lookup("a.example"))
+        .thenReturn(Collections.singletonList(InetAddress.getByAddress(new byte[] {10, 0, 0, 1})));
+    when(delegate.lookup("b.example"))
+        .thenReturn(Collections.singletonList(InetAddress.getByAddress(new byte[] {10, 0, 0, 2})));
+    when(delegate.lookup("c.example"))
+        .thenReturn(Collections.singletonList(InetAddress.getByAddress(new byte[] {10, 0, 0, 3})));
+    now = 0;
+    dns = new CachingDns(delegate, TTL_MILLIS, 2, () -> now);
+  }
+
+  @Test
+  public void reusesLookupWithinTtl() throws UnknownHostException {
+    final List<InetAddress> first = dns.lookup("a.example");
+    now = TTL_MILLIS - 1;
+    final List<InetAddress> second = dns.lookup("a.example");
+
+    assertEquals(first, second);
+    verify(delegate, times(1)).lookup("a.example");
+  }
+
+  @Test
+  public void resolvesAgainAfterTtl() throws UnknownHostException {
+    dns.lookup("a.example");
+    now = TTL_MILLIS;
+    dns.lookup("a.example");
+
+    verify(delegate, times(2)).lookup("a.example");
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedHost() throws UnknownHostException {
+    dns.lookup("a.example");
+    dns.lookup("b.example");
+    dns.lookup("a.example");
+    dns.lookup("c.example");
+
+    dns.lookup("a.example");
+    dns.lookup("b.example");
+
+    verify(delegate, times(1)).lookup("a.example");
+    verify(delegate, times(2)).lookup("b.example");
+  }
+
+  @Test
+  public void clearForgetsLookups() throws UnknownHostException {
+    dns.lookup("a.example");
+    dns.clear();
+    dns.lookup("a.example");
+
+    verify(delegate, times(2)).lookup("a.example");
+  }
+
+  @Test(expected = UnknownHostException.class)
+  public void propagatesLookupFailures() throws UnknownHostException {
+    when(delegate.lookup("missing.example")).thenThrow(new UnknownHostException("missing"));
+    dns.lookup("missing.example");
+  }
+}
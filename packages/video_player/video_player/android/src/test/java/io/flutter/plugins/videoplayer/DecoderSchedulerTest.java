@@ -0,0 +1,156 @@
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class DecoderSchedulerTest {
+  private DecoderScheduler scheduler;
+  private DecoderScheduler.Client first;
+  private DecoderScheduler.Client second;
+  private DecoderScheduler.Client third;
+
+  @Before
+  public void setUp() {
+    scheduler = new DecoderScheduler();
+    first = mock(DecoderScheduler.Client.class);
+    second = mock(DecoderScheduler.Client.class);
+    third = mock(DecoderScheduler.Client.class);
+  }
+
+  @Test
+  public void isUnboundedByDefault() {
+    scheduler.register(first);
+    scheduler.register(second);
+    scheduler.register(third);
+
+    assertEquals(3, scheduler.getActiveDecoderCount());
+    verify(first, never()).releaseDecoders();
+  }
+
+  @Test
+  public void releasesLeastRecentlyPlayedWhenOverBudget() {
+    scheduler.setMaxActiveDecoders(2);
+    scheduler.register(first);
+    scheduler.register(second);
+    scheduler.onPlay(first);
+    scheduler.register(third);
+
+    verify(second).releaseDecoders();
+    verify(first, never()).releaseDecoders();
+    assertTrue(scheduler.isReleased(second));
+    assertEquals(2, scheduler.getActiveDecoderCount());
+  }
+
+  @Test
+  public void prefersReleasingPausedPlayers() {
+    when(first.isPlaying()).thenReturn(true);
+    scheduler.setMaxActiveDecoders(2);
+    scheduler.register(first);
+    scheduler.register(second);
+    scheduler.register(third);
+
+    verify(first, never()).releaseDecoders();
+    verify(second).releaseDecoders();
+  }
+
+  @Test
+  public void neverReleasesPlayingPlayers() {
+    when(first.isPlaying()).thenReturn(true);
+    when(second.isPlaying()).thenReturn(true);
+    scheduler.setMaxActiveDecoders(1);
+    scheduler.register(first);
+    scheduler.register(second);
+
+    verify(first, never()).releaseDecoders();
+    verify(second, never()).releaseDecoders();
+    assertEquals(2, scheduler.getActiveDecoderCount());
+  }
+
+  @Test
+  public void reportsWhenBudgetCannotBeMet() {
+    when(first.isPlaying()).thenReturn(true);
+    scheduler.setMaxActiveDecoders(1);
+    scheduler.register(first);
+    scheduler.register(second);
+
+    verify(second).onDecoderBudgetExceeded(2, 1);
+    verify(first, never()).onDecoderBudgetExceeded(anyInt(), anyInt());
+  }
+
+  @Test
+  public void loweringBudgetBelowPlayingPlayersReportsToMostRecentlyPlayed() {
+    when(first.isPlaying()).thenReturn(true);
+    when(second.isPlaying()).thenReturn(true);
+    scheduler.register(first);
+    scheduler.register(second);
+    scheduler.onPlay(first);
+    scheduler.setMaxActiveDecoders(1);
+
+    verify(first).onDecoderBudgetExceeded(2, 1);
+    verify(second, never()).onDecoderBudgetExceeded(anyInt(), anyInt());
+  }
+
+  @Test
+  public void releasesPlayerKeptOverBudgetOncePaused() {
+    when(first.isPlaying()).thenReturn(true);
+    scheduler.setMaxActiveDecoders(1);
+    scheduler.register(first);
+    scheduler.register(second);
+
+    verify(first, never()).releaseDecoders();
+
+    when(first.isPlaying()).thenReturn(false);
+    scheduler.onPause();
+
+    verify(first).releaseDecoders();
+    assertEquals(1, scheduler.getActiveDecoderCount());
+  }
+
+  @Test
+  public void restoresReleasedPlayerOnPlay() {
+    scheduler.setMaxActiveDecoders(1);
+    scheduler.register(first);
+    scheduler.register(second);
+    scheduler.onPlay(first);
+
+    verify(first).restoreDecoders();
+    verify(second).releaseDecoders();
+    assertFalse(scheduler.isReleased(first));
+    assertTrue(scheduler.isReleased(second));
+  }
+
+  @Test
+  public void loweringBudgetReleasesImmediately() {
+    scheduler.register(first);
+    scheduler.register(second);
+    scheduler.setMaxActiveDecoders(1);
+
+    verify(first).releaseDecoders();
+    assertEquals(1, scheduler.getActiveDecoderCount());
+  }
+
+  @Test
+  public void unregisterFreesBudget() {
+    scheduler.setMaxActiveDecoders(1);
+    scheduler.register(first);
+    scheduler.unregister(first);
+    scheduler.register(second);
+
+    verify(first, never()).releaseDecoders();
+    assertEquals(1, scheduler.getActiveDecoderCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsNonPositiveBudget() {
+    scheduler.setMaxActiveDecoders(0);
+  }
+}
@@ -0,0 +1,124 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.Timeline;
+import com.google.android.exoplayer2.analytics.AnalyticsListener.EventTime;
+import com.google.android.exoplayer2.util.Clock;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PlaybackMetricsTest {
+  private Clock clock;
+  private PlaybackMetrics metrics;
+
+  @Before
+  public void setUp() {
+    clock = mock(Clock.class);
+    when(clock.elapsedRealtime()).thenReturn(1000L);
+    metrics = new PlaybackMetrics(clock);
+  }
+
+  @Test
+  public void reportsUnknownValuesBeforePlayback() {
+    assertEquals(-1, metrics.getTimeToFirstFrameMs());
+    assertEquals(-1, metrics.getVideoDecoderInitializationMs());
+    assertEquals(-1, metrics.getBandwidthEstimate());
+    assertEquals(-1, metrics.getVideoBitrate());
+    assertEquals(0, metrics.getRebufferCount());
+    assertEquals(0, metrics.getRebufferDurationMs());
+  }
+
+  @Test
+  public void measuresTimeToFirstFrameOnce() {
+    metrics.onRenderedFirstFrame(eventTime(1350, 0, 0), null);
+    metrics.onRenderedFirstFrame(eventTime(5000, 1, 0), null);
+
+    assertEquals(350, metrics.getTimeToFirstFrameMs());
+  }
+
+  @Test
+  public void sumsDroppedFrames() {
+    metrics.onDroppedVideoFrames(eventTime(2000, 0, 500), 3, 1000);
+    metrics.onDroppedVideoFrames(eventTime(3000, 0, 1500), 4, 1000);
+
+    assertEquals(7, metrics.getDroppedFrames());
+  }
+
+  @Test
+  public void ignoresInitialBuffering() {
+    metrics.onPlaybackStateChanged(eventTime(1000, 0, 0), Player.STATE_BUFFERING);
+    metrics.onPlaybackStateChanged(eventTime(1500, 0, 0), Player.STATE_READY);
+
+    assertEquals(0, metrics.getRebufferCount());
+    assertEquals(0, metrics.getRebufferDurationMs());
+  }
+
+  @Test
+  public void countsRebuffers() {
+    metrics.onPlaybackStateChanged(eventTime(1500, 0, 0), Player.STATE_READY);
+    metrics.onPlaybackStateChanged(eventTime(4000, 0, 2500), Player.STATE_BUFFERING);
+    metrics.onPlaybackStateChanged(eventTime(4600, 0, 2500), Player.STATE_READY);
+    metrics.onPlaybackStateChanged(eventTime(9000, 0, 6900), Player.STATE_BUFFERING);
+
+    assertEquals(2, metrics.getRebufferCount());
+    when(clock.elapsedRealtime()).thenReturn(9200L);
+    // Includes the rebuffer still in progress.
+    assertEquals(800, metrics.getRebufferDurationMs());
+
+    metrics.onPlaybackStateChanged(eventTime(9400, 0, 6900), Player.STATE_READY);
+    assertEquals(1000, metrics.getRebufferDurationMs());
+  }
+
+  @Test
+  public void ignoresBufferingAfterSeek() {
+    metrics.onPlaybackStateChanged(eventTime(1500, 0, 0), Player.STATE_READY);
+    metrics.onPositionDiscontinuity(eventTime(3000, 0, 60000), Player.DISCONTINUITY_REASON_SEEK);
+    metrics.onPlaybackStateChanged(eventTime(3000, 0, 60000), Player.STATE_BUFFERING);
+    metrics.onPlaybackStateChanged(eventTime(3800, 0, 60000), Player.STATE_READY);
+
+    assertEquals(0, metrics.getRebufferCount());
+    assertEquals(0, metrics.getRebufferDurationMs());
+  }
+
+  @Test
+  public void ignoresBufferingAfterPlaylistTransition() {
+    metrics.onPlaybackStateChanged(eventTime(1500, 0, 0), Player.STATE_READY);
+    metrics.onPositionDiscontinuity(
+        eventTime(20000, 1, 0), Player.DISCONTINUITY_REASON_PERIOD_TRANSITION);
+    metrics.onPlaybackStateChanged(eventTime(20100, 1, 100), Player.STATE_BUFFERING);
+    metrics.onPlaybackStateChanged(eventTime(21000, 1, 100), Player.STATE_READY);
+
+    assertEquals(0, metrics.getRebufferCount());
+  }
+
+  @Test
+  public void countsRebufferLongAfterDiscontinuity() {
+    metrics.onPlaybackStateChanged(eventTime(1500, 0, 0), Player.STATE_READY);
+    metrics.onPositionDiscontinuity(eventTime(3000, 0, 60000), Player.DISCONTINUITY_REASON_SEEK);
+    metrics.onPlaybackStateChanged(eventTime(13000, 0, 70000), Player.STATE_BUFFERING);
+
+    assertEquals(1, metrics.getRebufferCount());
+  }
+
+  private static EventTime eventTime(long realtimeMs, int windowIndex, long positionMs) {
+    return new EventTime(
+        realtimeMs,
+        Timeline.EMPTY,
+        windowIndex,
+        /* mediaPeriodId= */ null,
+        positionMs,
+        Timeline.EMPTY,
+        windowIndex,
+        /* currentMediaPeriodId= */ null,
+        positionMs,
+        /* totalBufferedDurationMs= */ 0);
+  }
+}
@@ -0,0 +1,181 @@
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import io.flutter.plugin.common.EventChannel;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class QueuingEventSinkTest {
+
+  private static Map<String, Object> event(String type) {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", type);
+    return event;
+  }
+
+  private static Map<String, Object> bufferingUpdate(long bufferedPosition) {
+    Map<String, Object> event = event("bufferingUpdate");
+    event.put("values", bufferedPosition);
+    return event;
+  }
+
+  @Test
+  public void deliversImmediatelyWhenDelegateIsSet() {
+    final EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    final QueuingEventSink sink = new QueuingEventSink();
+    sink.setDelegate(delegate);
+
+    final Map<String, Object> initialized = event("initialized");
+    sink.success(initialized);
+
+    verify(delegate).success(initialized);
+    assertEquals(0, sink.queuedEventCount());
+  }
+
+  @Test
+  public void flushesQueuedLifecycleEventsInOrder() {
+    final EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    final QueuingEventSink sink = new QueuingEventSink();
+
+    final Map<String, Object> initialized = event("initialized");
+    final Map<String, Object> completed = event("completed");
+    sink.success(initialized);
+    sink.error("VideoError", "Video player had error", null);
+    sink.success(completed);
+    sink.endOfStream();
+
+    sink.setDelegate(delegate);
+
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).success(initialized);
+    inOrder.verify(delegate).error("VideoError", "Video player had error", null);
+    inOrder.verify(delegate).success(completed);
+    inOrder.verify(delegate).endOfStream();
+    verifyNoMoreInteractions(delegate);
+  }
+
+  @Test
+  public void coalescesSupersedingEvents() {
+    final EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    final QueuingEventSink sink = new QueuingEventSink();
+
+    final Map<String, Object> initialized = event("initialized");
+    final Map<String, Object> completed = event("completed");
+    sink.success(bufferingUpdate(1));
+    sink.success(initialized);
+    sink.success(bufferingUpdate(2));
+    sink.success(bufferingUpdate(3));
+    sink.success(completed);
+    assertEquals(3, sink.queuedEventCount());
+
+    sink.setDelegate(delegate);
+
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).success(bufferingUpdate(3));
+    inOrder.verify(delegate).success(initialized);
+    inOrder.verify(delegate).success(completed);
+    verifyNoMoreInteractions(delegate);
+  }
+
+  @Test
+  public void replacesSupersededEventInPlace() {
+    final EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    final QueuingEventSink sink = new QueuingEventSink();
+
+    final Map<String, Object> completed = event("completed");
+    sink.success(bufferingUpdate(1));
+    sink.success(completed);
+    sink.success(bufferingUpdate(2));
+
+    sink.setDelegate(delegate);
+
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).success(bufferingUpdate(2));
+    inOrder.verify(delegate).success(completed);
+    verifyNoMoreInteractions(delegate);
+  }
+
+  @Test
+  public void dropsOldestNonLifecycleEventWhenFull() {
+    final EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    final QueuingEventSink sink = new QueuingEventSink(3);
+
+    final Map<String, Object> initialized = event("initialized");
+    final Map<String, Object> first = event("custom");
+    final Map<String, Object> second = event("custom");
+    final Map<String, Object> third = event("custom");
+    sink.success(initialized);
+    sink.success(first);
+    sink.success(second);
+    sink.success(third);
+    assertEquals(3, sink.queuedEventCount());
+
+    sink.setDelegate(delegate);
+
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).success(initialized);
+    inOrder.verify(delegate, times(2)).success(event("custom"));
+    verifyNoMoreInteractions(delegate);
+  }
+
+  @Test
+  public void keepsLifecycleEventsWhenFull() {
+    final EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    final QueuingEventSink sink = new QueuingEventSink(1);
+
+    final Map<String, Object> initialized = event("initialized");
+    sink.success(initialized);
+    sink.error("VideoError", "Video player had error", null);
+    sink.endOfStream();
+    assertEquals(3, sink.queuedEventCount());
+
+    sink.setDelegate(delegate);
+
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).success(initialized);
+    inOrder.verify(delegate).error("VideoError", "Video player had error", null);
+    inOrder.verify(delegate).endOfStream();
+  }
+
+  @Test
+  public void ignoresEventsAfterEndOfStream() {
+    final EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    final QueuingEventSink sink = new QueuingEventSink();
+
+    sink.endOfStream();
+    sink.success(event("completed"));
+    sink.error("VideoError", "Video player had error", null);
+    sink.setDelegate(delegate);
+
+    verify(delegate).endOfStream();
+    verify(delegate, never()).success(any());
+    verify(delegate, never()).error(anyString(), anyString(), any());
+  }
+
+  @Test
+  public void queuesAgainAfterDelegateIsCleared() {
+    final EventChannel.EventSink delegate = mock(EventChannel.EventSink.class);
+    final QueuingEventSink sink = new QueuingEventSink();
+    sink.setDelegate(delegate);
+    sink.setDelegate(null);
+
+    final Map<String, Object> completed = event("completed");
+    sink.success(completed);
+    verify(delegate, never()).success(any());
+    assertEquals(1, sink.queuedEventCount());
+
+    sink.setDelegate(delegate);
+    verify(delegate).success(completed);
+  }
+}
@@ -0,0 +1,225 @@
+// Copyright 2020 The Chromium Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ThumbnailGeneratorTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File cacheDirectory;
+  private FakeFrameDecoder frameDecoder;
+  private ExecutorService executor;
+  private ThumbnailGenerator generator;
+
+  @Before
+  public void setUp() throws IOException {
+    cacheDirectory = temporaryFolder.newFolder("thumbnails");
+    frameDecoder = new FakeFrameDecoder();
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @After
+  public void tearDown() {
+    if (generator != null) {
+      generator.dispose();
+    }
+  }
+
+  @Test
+  public void servesRepeatedRequestsFromMemory() throws Exception {
+    generator = createGenerator(1024, 1024);
+
+    byte[] first = getThumbnail("a", 0);
+    byte[] second = getThumbnail("a", 0);
+
+    assertArrayEquals(first, second);
+    assertEquals(Arrays.asList("a@0"), frameDecoder.decoded);
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedFromMemory() throws Exception {
+    // Without a disk budget every miss in memory reaches the decoder.
+    generator = createGenerator(8, 0);
+
+    getThumbnail("a", 0);
+    getThumbnail("b", 0);
+    getThumbnail("a", 0);
+    getThumbnail("c", 0);
+    getThumbnail("a", 0);
+    getThumbnail("b", 0);
+
+    assertEquals(Arrays.asList("a@0", "b@0", "c@0", "b@0"), frameDecoder.decoded);
+  }
+
+  @Test
+  public void readsFromDiskAfterRestart() throws Exception {
+    generator = createGenerator(1024, 1024);
+    byte[] bytes = getThumbnail("a", 1000);
+    generator.dispose();
+
+    executor = Executors.newSingleThreadExecutor();
+    generator = createGenerator(1024, 1024);
+
+    assertArrayEquals(bytes, getThumbnail("a", 1000));
+    assertEquals(Arrays.asList("a@1000"), frameDecoder.decoded);
+    assertEquals(1, cacheDirectory.listFiles().length);
+  }
+
+  @Test
+  public void trimsLeastRecentlyUsedFilesAndIgnoresTemporaryFiles() throws Exception {
+    File inFlight = new File(cacheDirectory, "pending.tmp");
+    Files.write(inFlight.toPath(), new byte[100]);
+    generator = createGenerator(1024, 8);
+
+    getThumbnail("a", 0);
+    File a = singleEntry();
+    assertTrue(a.setLastModified(1000));
+    getThumbnail("b", 0);
+    File b = otherEntry(a);
+    assertTrue(b.setLastModified(2000));
+    getThumbnail("c", 0);
+
+    assertFalse(a.exists());
+    assertTrue(b.exists());
+    assertTrue(inFlight.exists());
+    assertEquals(3, cacheDirectory.listFiles().length);
+  }
+
+  @Test
+  public void rejectsUnsupportedFormats() throws Exception {
+    generator = createGenerator(1024, 1024);
+    ResultQueue results = new ResultQueue();
+
+    generator.getThumbnail("a", null, 0, 0, "gif", results);
+
+    assertTrue(results.take() instanceof IllegalArgumentException);
+    assertTrue(frameDecoder.decoded.isEmpty());
+  }
+
+  @Test
+  public void failsQueuedRequestsOnDispose() throws Exception {
+    generator = createGenerator(1024, 1024);
+    frameDecoder.blocked = new CountDownLatch(1);
+    ResultQueue running = new ResultQueue();
+    ResultQueue queued = new ResultQueue();
+
+    generator.getThumbnail("a", null, 0, 0, "jpeg", running);
+    assertTrue(frameDecoder.started.await(5, TimeUnit.SECONDS));
+    generator.getThumbnail("b", null, 0, 0, "jpeg", queued);
+    generator.dispose();
+
+    assertTrue(queued.take() instanceof CancellationException);
+    assertTrue(running.take() instanceof InterruptedIOException);
+
+    ResultQueue late = new ResultQueue();
+    generator.getThumbnail("c", null, 0, 0, "jpeg", late);
+    assertTrue(late.take() instanceof CancellationException);
+  }
+
+  private ThumbnailGenerator createGenerator(int memoryCacheBytes, long diskCacheBytes) {
+    return new ThumbnailGenerator(
+        cacheDirectory, memoryCacheBytes, diskCacheBytes, frameDecoder, executor, Runnable::run);
+  }
+
+  private byte[] getThumbnail(String dataSource, long positionMs) throws Exception {
+    ResultQueue results = new ResultQueue();
+    generator.getThumbnail(dataSource, null, positionMs, 0, "jpeg", results);
+    Object result = results.take();
+    if (result instanceof Exception) {
+      throw (Exception) result;
+    }
+    return (byte[]) result;
+  }
+
+  private File singleEntry() {
+    File entry = otherEntry(null);
+    assertNotNull(entry);
+    return entry;
+  }
+
+  private File otherEntry(File known) {
+    for (File file : cacheDirectory.listFiles()) {
+      if (!file.getName().endsWith(".tmp") && !file.equals(known)) {
+        return file;
+      }
+    }
+    return null;
+  }
+
+  /** Returns four bytes per frame and records every decoded source and position. */
+  private static final class FakeFrameDecoder implements ThumbnailGenerator.FrameDecoder {
+    final List<String> decoded = new ArrayList<>();
+    final CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch blocked;
+
+    @Override
+    public byte[] decode(
+        String dataSource,
+        Map<String, String> httpHeaders,
+        long positionMs,
+        int maxWidth,
+        String format)
+        throws IOException {
+      synchronized (decoded) {
+        decoded.add(dataSource + "@" + positionMs);
+      }
+      started.countDown();
+      if (blocked != null) {
+        try {
+          blocked.await();
+        } catch (InterruptedException e) {
+          throw new InterruptedIOException();
+        }
+      }
+      return new byte[] {(byte) dataSource.charAt(0), (byte) positionMs, 0, 0};
+    }
+  }
+
+  private static final class ResultQueue implements ThumbnailGenerator.Callback {
+    private final BlockingQueue<Object> results = new LinkedBlockingQueue<>();
+
+    @Override
+    public void onThumbnail(byte[] bytes) {
+      results.add(bytes);
+    }
+
+    @Override
+    public void onError(Exception error) {
+      results.add(error);
+    }
+
+    Object take() throws InterruptedException {
+      Object result = results.poll(5, TimeUnit.SECONDS);
+      assertNotNull("No thumbnail result", result);
+      return result;
+    }
+  }
+}
@@ -457,6 +457,20 @@ static inline CGFloat radiansToDegrees(CGFloat radians) {
   FLTVideoPlayerPlugin* instance = [[FLTVideoPlayerPlugin alloc] initWithRegistrar:registrar];
   [registrar publish:instance];
   FLTVideoPlayerApiSetup(registrar.messenger, instance);
+  FlutterMethodChannel* thumbnailChannel =
+      [FlutterMethodChannel methodChannelWithName:@"flutter.io/videoPlayer/thumbnails"
+                                  binaryMessenger:[registrar messenger]];
+  [registrar addMethodCallDelegate:instance channel:thumbnailChannel];
+}
+
+- (void)handleMethodCall:(FlutterMethodCall*)call result:(FlutterResult)result {
+  if ([@"getThumbnail" isEqualToString:call.method]) {
+    result([FlutterError errorWithCode:@"video_player"
+                               message:@"getThumbnail is not supported on iOS"
+                               details:nil]);
+  } else {
+    result(FlutterMethodNotImplemented);
+  }
 }
 
 - (instancetype)initWithRegistrar:(NSObject<FlutterPluginRegistrar>*)registrar {
@@ -600,4 +614,54 @@ static inline CGFloat radiansToDegrees(CGFloat radians) {
   }
 }
 
+- (void)setVideoTrackConstraints:(FLTVideoTrackConstraintsMessage*)input
+                           error:(FlutterError**)error {
+  *error = [FlutterError errorWithCode:@"video_player"
+                               message:@"setVideoTrackConstraints is not supported on iOS"
+                               details:nil];
+}
+
+- (void)selectRendition:(FLTRenditionMessage*)input error:(FlutterError**)error {
+  *error = [FlutterError errorWithCode:@"video_player"
+                               message:@"selectRendition is not supported on iOS"
+                               details:nil];
+}
+
+- (void)addPlaylistItem:(FLTPlaylistItemMessage*)input error:(FlutterError**)error {
+  *error = [FlutterError errorWithCode:@"video_player"
+                               message:@"addPlaylistItem is not supported on iOS"
+                               details:nil];
+}
+
+- (void)removePlaylistItem:(FLTPlaylistIndexMessage*)input error:(FlutterError**)error {
+  *error = [FlutterError errorWithCode:@"video_player"
+                               message:@"removePlaylistItem is not supported on iOS"
+                               details:nil];
+}
+
+- (void)movePlaylistItem:(FLTPlaylistMoveMessage*)input error:(FlutterError**)error {
+  *error = [FlutterError errorWithCode:@"video_player"
+                               message:@"movePlaylistItem is not supported on iOS"
+                               details:nil];
+}
+
+- (FLTStatsMessage*)getStats:(FLTTextureMessage*)input error:(FlutterError**)error {
+  *error = [FlutterError errorWithCode:@"video_player"
+                               message:@"getStats is not supported on iOS"
+                               details:nil];
+  return nil;
+}
+
+- (void)setMetricsInterval:(FLTMetricsIntervalMessage*)input error:(FlutterError**)error {
+  *error = [FlutterError errorWithCode:@"video_player"
+                               message:@"setMetricsInterval is not supported on iOS"
+                               details:nil];
+}
+
+- (void)setMaxActiveDecoders:(FLTDecoderBudgetMessage*)input error:(FlutterError**)error {
+  *error = [FlutterError errorWithCode:@"video_player"
+                               message:@"setMaxActiveDecoders is not supported on iOS"
+                               details:nil];
+}
+
 @end
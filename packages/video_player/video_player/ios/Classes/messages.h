@@ -14,6 +14,14 @@ NS_ASSUME_NONNULL_BEGIN
 @class FLTPlaybackSpeedMessage;
 @class FLTPositionMessage;
 @class FLTMixWithOthersMessage;
+@class FLTVideoTrackConstraintsMessage;
+@class FLTRenditionMessage;
+@class FLTPlaylistItemMessage;
+@class FLTPlaylistIndexMessage;
+@class FLTPlaylistMoveMessage;
+@class FLTStatsMessage;
+@class FLTMetricsIntervalMessage;
+@class FLTDecoderBudgetMessage;
 
 @interface FLTTextureMessage : NSObject
 @property(nonatomic, strong, nullable) NSNumber *textureId;
@@ -24,6 +32,9 @@ NS_ASSUME_NONNULL_BEGIN
 @property(nonatomic, copy, nullable) NSString *uri;
 @property(nonatomic, copy, nullable) NSString *packageName;
 @property(nonatomic, copy, nullable) NSString *formatHint;
+@property(nonatomic, strong, nullable) NSDictionary *httpHeaders;
+@property(nonatomic, strong, nullable) NSNumber *connectTimeoutMillis;
+@property(nonatomic, strong, nullable) NSNumber *readTimeoutMillis;
 @end
 
 @interface FLTLoopingMessage : NSObject
@@ -50,6 +61,61 @@ NS_ASSUME_NONNULL_BEGIN
 @property(nonatomic, strong, nullable) NSNumber *mixWithOthers;
 @end
 
+@interface FLTVideoTrackConstraintsMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber *textureId;
+@property(nonatomic, strong, nullable) NSNumber *maxWidth;
+@property(nonatomic, strong, nullable) NSNumber *maxHeight;
+@property(nonatomic, strong, nullable) NSNumber *maxBitrate;
+@property(nonatomic, strong, nullable) NSNumber *viewportWidth;
+@property(nonatomic, strong, nullable) NSNumber *viewportHeight;
+@end
+
+@interface FLTRenditionMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber *textureId;
+@property(nonatomic, strong, nullable) NSNumber *groupIndex;
+@property(nonatomic, strong, nullable) NSNumber *trackIndex;
+@end
+
+@interface FLTPlaylistItemMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber *textureId;
+@property(nonatomic, strong, nullable) NSNumber *index;
+@property(nonatomic, copy, nullable) NSString *asset;
+@property(nonatomic, copy, nullable) NSString *uri;
+@property(nonatomic, copy, nullable) NSString *packageName;
+@property(nonatomic, copy, nullable) NSString *formatHint;
+@end
+
+@interface FLTPlaylistIndexMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber *textureId;
+@property(nonatomic, strong, nullable) NSNumber *index;
+@end
+
+@interface FLTPlaylistMoveMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber *textureId;
+@property(nonatomic, strong, nullable) NSNumber *fromIndex;
+@property(nonatomic, strong, nullable) NSNumber *toIndex;
+@end
+
+@interface FLTStatsMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber *textureId;
+@property(nonatomic, strong, nullable) NSNumber *timeToFirstFrameMs;
+@property(nonatomic, strong, nullable) NSNumber *rebufferCount;
+@property(nonatomic, strong, nullable) NSNumber *rebufferDurationMs;
+@property(nonatomic, strong, nullable) NSNumber *droppedFrames;
+@property(nonatomic, strong, nullable) NSNumber *videoDecoderInitializationMs;
+@property(nonatomic, strong, nullable) NSNumber *bandwidthEstimate;
+@property(nonatomic, strong, nullable) NSNumber *videoBitrate;
+@end
+
+@interface FLTMetricsIntervalMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber *textureId;
+@property(nonatomic, strong, nullable) NSNumber *intervalMillis;
+@end
+
+@interface FLTDecoderBudgetMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber *maxActiveDecoders;
+@end
+
 @protocol FLTVideoPlayerApi
 - (void)initialize:(FlutterError *_Nullable *_Nonnull)error;
 - (nullable FLTTextureMessage *)create:(FLTCreateMessage *)input
@@ -66,6 +132,21 @@ NS_ASSUME_NONNULL_BEGIN
 - (void)pause:(FLTTextureMessage *)input error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)setMixWithOthers:(FLTMixWithOthersMessage *)input
                    error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)setVideoTrackConstraints:(FLTVideoTrackConstraintsMessage *)input
+                           error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)selectRendition:(FLTRenditionMessage *)input error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)addPlaylistItem:(FLTPlaylistItemMessage *)input
+                  error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)removePlaylistItem:(FLTPlaylistIndexMessage *)input
+                     error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)movePlaylistItem:(FLTPlaylistMoveMessage *)input
+                   error:(FlutterError *_Nullable *_Nonnull)error;
+- (nullable FLTStatsMessage *)getStats:(FLTTextureMessage *)input
+                                 error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)setMetricsInterval:(FLTMetricsIntervalMessage *)input
+                     error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)setMaxActiveDecoders:(FLTDecoderBudgetMessage *)input
+                       error:(FlutterError *_Nullable *_Nonnull)error;
 @end
 
 extern void FLTVideoPlayerApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
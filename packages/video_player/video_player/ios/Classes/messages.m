@@ -48,6 +48,38 @@ static NSDictionary *wrapResult(NSDictionary *result, FlutterError *error) {
 + (FLTMixWithOthersMessage *)fromMap:(NSDictionary *)dict;
 - (NSDictionary *)toMap;
 @end
+@interface FLTVideoTrackConstraintsMessage ()
++ (FLTVideoTrackConstraintsMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
+@interface FLTRenditionMessage ()
++ (FLTRenditionMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
+@interface FLTPlaylistItemMessage ()
++ (FLTPlaylistItemMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
+@interface FLTPlaylistIndexMessage ()
++ (FLTPlaylistIndexMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
+@interface FLTPlaylistMoveMessage ()
++ (FLTPlaylistMoveMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
+@interface FLTStatsMessage ()
++ (FLTStatsMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
+@interface FLTMetricsIntervalMessage ()
++ (FLTMetricsIntervalMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
+@interface FLTDecoderBudgetMessage ()
++ (FLTDecoderBudgetMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
 
 @implementation FLTTextureMessage
 + (FLTTextureMessage *)fromMap:(NSDictionary *)dict {
@@ -84,6 +116,18 @@ static NSDictionary *wrapResult(NSDictionary *result, FlutterError *error) {
   if ((NSNull *)result.formatHint == [NSNull null]) {
     result.formatHint = nil;
   }
+  result.httpHeaders = dict[@"httpHeaders"];
+  if ((NSNull *)result.httpHeaders == [NSNull null]) {
+    result.httpHeaders = nil;
+  }
+  result.connectTimeoutMillis = dict[@"connectTimeoutMillis"];
+  if ((NSNull *)result.connectTimeoutMillis == [NSNull null]) {
+    result.connectTimeoutMillis = nil;
+  }
+  result.readTimeoutMillis = dict[@"readTimeoutMillis"];
+  if ((NSNull *)result.readTimeoutMillis == [NSNull null]) {
+    result.readTimeoutMillis = nil;
+  }
   return result;
 }
 - (NSDictionary *)toMap {
@@ -93,7 +137,15 @@ static NSDictionary *wrapResult(NSDictionary *result, FlutterError *error) {
                                    (self.packageName ? self.packageName : [NSNull null]),
                                    @"packageName",
                                    (self.formatHint ? self.formatHint : [NSNull null]),
-                                   @"formatHint", nil];
+                                   @"formatHint",
+                                   (self.httpHeaders ? self.httpHeaders : [NSNull null]),
+                                   @"httpHeaders",
+                                   (self.connectTimeoutMillis != nil ? self.connectTimeoutMillis
+                                                                     : [NSNull null]),
+                                   @"connectTimeoutMillis",
+                                   (self.readTimeoutMillis != nil ? self.readTimeoutMillis
+                                                                  : [NSNull null]),
+                                   @"readTimeoutMillis", nil];
 }
 @end
 
@@ -199,6 +251,275 @@ static NSDictionary *wrapResult(NSDictionary *result, FlutterError *error) {
 }
 @end
 
+@implementation FLTVideoTrackConstraintsMessage
++ (FLTVideoTrackConstraintsMessage *)fromMap:(NSDictionary *)dict {
+  FLTVideoTrackConstraintsMessage *result = [[FLTVideoTrackConstraintsMessage alloc] init];
+  result.textureId = dict[@"textureId"];
+  if ((NSNull *)result.textureId == [NSNull null]) {
+    result.textureId = nil;
+  }
+  result.maxWidth = dict[@"maxWidth"];
+  if ((NSNull *)result.maxWidth == [NSNull null]) {
+    result.maxWidth = nil;
+  }
+  result.maxHeight = dict[@"maxHeight"];
+  if ((NSNull *)result.maxHeight == [NSNull null]) {
+    result.maxHeight = nil;
+  }
+  result.maxBitrate = dict[@"maxBitrate"];
+  if ((NSNull *)result.maxBitrate == [NSNull null]) {
+    result.maxBitrate = nil;
+  }
+  result.viewportWidth = dict[@"viewportWidth"];
+  if ((NSNull *)result.viewportWidth == [NSNull null]) {
+    result.viewportWidth = nil;
+  }
+  result.viewportHeight = dict[@"viewportHeight"];
+  if ((NSNull *)result.viewportHeight == [NSNull null]) {
+    result.viewportHeight = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.textureId != nil ? self.textureId : [NSNull null]),
+                                   @"textureId",
+                                   (self.maxWidth != nil ? self.maxWidth : [NSNull null]),
+                                   @"maxWidth",
+                                   (self.maxHeight != nil ? self.maxHeight : [NSNull null]),
+                                   @"maxHeight",
+                                   (self.maxBitrate != nil ? self.maxBitrate : [NSNull null]),
+                                   @"maxBitrate",
+                                   (self.viewportWidth != nil ? self.viewportWidth : [NSNull null]),
+                                   @"viewportWidth",
+                                   (self.viewportHeight != nil ? self.viewportHeight
+                                                               : [NSNull null]),
+                                   @"viewportHeight", nil];
+}
+@end
+
+@implementation FLTRenditionMessage
++ (FLTRenditionMessage *)fromMap:(NSDictionary *)dict {
+  FLTRenditionMessage *result = [[FLTRenditionMessage alloc] init];
+  result.textureId = dict[@"textureId"];
+  if ((NSNull *)result.textureId == [NSNull null]) {
+    result.textureId = nil;
+  }
+  result.groupIndex = dict[@"groupIndex"];
+  if ((NSNull *)result.groupIndex == [NSNull null]) {
+    result.groupIndex = nil;
+  }
+  result.trackIndex = dict[@"trackIndex"];
+  if ((NSNull *)result.trackIndex == [NSNull null]) {
+    result.trackIndex = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.textureId != nil ? self.textureId : [NSNull null]),
+                                   @"textureId",
+                                   (self.groupIndex != nil ? self.groupIndex : [NSNull null]),
+                                   @"groupIndex",
+                                   (self.trackIndex != nil ? self.trackIndex : [NSNull null]),
+                                   @"trackIndex", nil];
+}
+@end
+
+@implementation FLTPlaylistItemMessage
++ (FLTPlaylistItemMessage *)fromMap:(NSDictionary *)dict {
+  FLTPlaylistItemMessage *result = [[FLTPlaylistItemMessage alloc] init];
+  result.textureId = dict[@"textureId"];
+  if ((NSNull *)result.textureId == [NSNull null]) {
+    result.textureId = nil;
+  }
+  result.index = dict[@"index"];
+  if ((NSNull *)result.index == [NSNull null]) {
+    result.index = nil;
+  }
+  result.asset = dict[@"asset"];
+  if ((NSNull *)result.asset == [NSNull null]) {
+    result.asset = nil;
+  }
+  result.uri = dict[@"uri"];
+  if ((NSNull *)result.uri == [NSNull null]) {
+    result.uri = nil;
+  }
+  result.packageName = dict[@"packageName"];
+  if ((NSNull *)result.packageName == [NSNull null]) {
+    result.packageName = nil;
+  }
+  result.formatHint = dict[@"formatHint"];
+  if ((NSNull *)result.formatHint == [NSNull null]) {
+    result.formatHint = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.textureId != nil ? self.textureId : [NSNull null]),
+                                   @"textureId", (self.index != nil ? self.index : [NSNull null]),
+                                   @"index", (self.asset ? self.asset : [NSNull null]), @"asset",
+                                   (self.uri ? self.uri : [NSNull null]), @"uri",
+                                   (self.packageName ? self.packageName : [NSNull null]),
+                                   @"packageName",
+                                   (self.formatHint ? self.formatHint : [NSNull null]),
+                                   @"formatHint", nil];
+}
+@end
+
+@implementation FLTPlaylistIndexMessage
++ (FLTPlaylistIndexMessage *)fromMap:(NSDictionary *)dict {
+  FLTPlaylistIndexMessage *result = [[FLTPlaylistIndexMessage alloc] init];
+  result.textureId = dict[@"textureId"];
+  if ((NSNull *)result.textureId == [NSNull null]) {
+    result.textureId = nil;
+  }
+  result.index = dict[@"index"];
+  if ((NSNull *)result.index == [NSNull null]) {
+    result.index = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.textureId != nil ? self.textureId : [NSNull null]),
+                                   @"textureId", (self.index != nil ? self.index : [NSNull null]),
+                                   @"index", nil];
+}
+@end
+
+@implementation FLTPlaylistMoveMessage
++ (FLTPlaylistMoveMessage *)fromMap:(NSDictionary *)dict {
+  FLTPlaylistMoveMessage *result = [[FLTPlaylistMoveMessage alloc] init];
+  result.textureId = dict[@"textureId"];
+  if ((NSNull *)result.textureId == [NSNull null]) {
+    result.textureId = nil;
+  }
+  result.fromIndex = dict[@"fromIndex"];
+  if ((NSNull *)result.fromIndex == [NSNull null]) {
+    result.fromIndex = nil;
+  }
+  result.toIndex = dict[@"toIndex"];
+  if ((NSNull *)result.toIndex == [NSNull null]) {
+    result.toIndex = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.textureId != nil ? self.textureId : [NSNull null]),
+                                   @"textureId",
+                                   (self.fromIndex != nil ? self.fromIndex : [NSNull null]),
+                                   @"fromIndex",
+                                   (self.toIndex != nil ? self.toIndex : [NSNull null]),
+                                   @"toIndex", nil];
+}
+@end
+
+@implementation FLTStatsMessage
++ (FLTStatsMessage *)fromMap:(NSDictionary *)dict {
+  FLTStatsMessage *result = [[FLTStatsMessage alloc] init];
+  result.textureId = dict[@"textureId"];
+  if ((NSNull *)result.textureId == [NSNull null]) {
+    result.textureId = nil;
+  }
+  result.timeToFirstFrameMs = dict[@"timeToFirstFrameMs"];
+  if ((NSNull *)result.timeToFirstFrameMs == [NSNull null]) {
+    result.timeToFirstFrameMs = nil;
+  }
+  result.rebufferCount = dict[@"rebufferCount"];
+  if ((NSNull *)result.rebufferCount == [NSNull null]) {
+    result.rebufferCount = nil;
+  }
+  result.rebufferDurationMs = dict[@"rebufferDurationMs"];
+  if ((NSNull *)result.rebufferDurationMs == [NSNull null]) {
+    result.rebufferDurationMs = nil;
+  }
+  result.droppedFrames = dict[@"droppedFrames"];
+  if ((NSNull *)result.droppedFrames == [NSNull null]) {
+    result.droppedFrames = nil;
+  }
+  result.videoDecoderInitializationMs = dict[@"videoDecoderInitializationMs"];
+  if ((NSNull *)result.videoDecoderInitializationMs == [NSNull null]) {
+    result.videoDecoderInitializationMs = nil;
+  }
+  result.bandwidthEstimate = dict[@"bandwidthEstimate"];
+  if ((NSNull *)result.bandwidthEstimate == [NSNull null]) {
+    result.bandwidthEstimate = nil;
+  }
+  result.videoBitrate = dict[@"videoBitrate"];
+  if ((NSNull *)result.videoBitrate == [NSNull null]) {
+    result.videoBitrate = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.textureId != nil ? self.textureId : [NSNull null]),
+                                   @"textureId",
+                                   (self.timeToFirstFrameMs != nil ? self.timeToFirstFrameMs
+                                                                   : [NSNull null]),
+                                   @"timeToFirstFrameMs",
+                                   (self.rebufferCount != nil ? self.rebufferCount : [NSNull null]),
+                                   @"rebufferCount",
+                                   (self.rebufferDurationMs != nil ? self.rebufferDurationMs
+                                                                   : [NSNull null]),
+                                   @"rebufferDurationMs",
+                                   (self.droppedFrames != nil ? self.droppedFrames : [NSNull null]),
+                                   @"droppedFrames",
+                                   (self.videoDecoderInitializationMs != nil
+                                        ? self.videoDecoderInitializationMs
+                                        : [NSNull null]),
+                                   @"videoDecoderInitializationMs",
+                                   (self.bandwidthEstimate != nil ? self.bandwidthEstimate
+                                                                  : [NSNull null]),
+                                   @"bandwidthEstimate",
+                                   (self.videoBitrate != nil ? self.videoBitrate : [NSNull null]),
+                                   @"videoBitrate", nil];
+}
+@end
+
+@implementation FLTMetricsIntervalMessage
++ (FLTMetricsIntervalMessage *)fromMap:(NSDictionary *)dict {
+  FLTMetricsIntervalMessage *result = [[FLTMetricsIntervalMessage alloc] init];
+  result.textureId = dict[@"textureId"];
+  if ((NSNull *)result.textureId == [NSNull null]) {
+    result.textureId = nil;
+  }
+  result.intervalMillis = dict[@"intervalMillis"];
+  if ((NSNull *)result.intervalMillis == [NSNull null]) {
+    result.intervalMillis = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.textureId != nil ? self.textureId : [NSNull null]),
+                                   @"textureId",
+                                   (self.intervalMillis != nil ? self.intervalMillis
+                                                               : [NSNull null]),
+                                   @"intervalMillis", nil];
+}
+@end
+
+@implementation FLTDecoderBudgetMessage
++ (FLTDecoderBudgetMessage *)fromMap:(NSDictionary *)dict {
+  FLTDecoderBudgetMessage *result = [[FLTDecoderBudgetMessage alloc] init];
+  result.maxActiveDecoders = dict[@"maxActiveDecoders"];
+  if ((NSNull *)result.maxActiveDecoders == [NSNull null]) {
+    result.maxActiveDecoders = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.maxActiveDecoders != nil ? self.maxActiveDecoders
+                                                                  : [NSNull null]),
+                                   @"maxActiveDecoders", nil];
+}
+@end
+
 void FLTVideoPlayerApiSetup(id<FlutterBinaryMessenger> binaryMessenger, id<FLTVideoPlayerApi> api) {
   {
     FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
@@ -364,4 +685,124 @@ void FLTVideoPlayerApiSetup(id<FlutterBinaryMessenger> binaryMessenger, id<FLTVi
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VideoPlayerApi.setVideoTrackConstraints"
+               binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FlutterError *error;
+        FLTVideoTrackConstraintsMessage *input = [FLTVideoTrackConstraintsMessage fromMap:message];
+        [api setVideoTrackConstraints:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VideoPlayerApi.selectRendition"
+               binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FlutterError *error;
+        FLTRenditionMessage *input = [FLTRenditionMessage fromMap:message];
+        [api selectRendition:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VideoPlayerApi.addPlaylistItem"
+               binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FlutterError *error;
+        FLTPlaylistItemMessage *input = [FLTPlaylistItemMessage fromMap:message];
+        [api addPlaylistItem:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VideoPlayerApi.removePlaylistItem"
+               binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FlutterError *error;
+        FLTPlaylistIndexMessage *input = [FLTPlaylistIndexMessage fromMap:message];
+        [api removePlaylistItem:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VideoPlayerApi.movePlaylistItem"
+               binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FlutterError *error;
+        FLTPlaylistMoveMessage *input = [FLTPlaylistMoveMessage fromMap:message];
+        [api movePlaylistItem:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VideoPlayerApi.getStats"
+               binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FlutterError *error;
+        FLTTextureMessage *input = [FLTTextureMessage fromMap:message];
+        FLTStatsMessage *output = [api getStats:input error:&error];
+        callback(wrapResult([output toMap], error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VideoPlayerApi.setMetricsInterval"
+               binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FlutterError *error;
+        FLTMetricsIntervalMessage *input = [FLTMetricsIntervalMessage fromMap:message];
+        [api setMetricsInterval:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VideoPlayerApi.setMaxActiveDecoders"
+               binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FlutterError *error;
+        FLTDecoderBudgetMessage *input = [FLTDecoderBudgetMessage fromMap:message];
+        [api setMaxActiveDecoders:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
 }
@@ -4,6 +4,7 @@
 
 import 'dart:async';
 import 'dart:io';
+import 'dart:typed_data';
 
 import 'package:flutter/foundation.dart';
 import 'package:flutter/material.dart';
@@ -12,7 +13,17 @@ import 'package:meta/meta.dart';
 import 'package:video_player_platform_interface/video_player_platform_interface.dart';
 
 export 'package:video_player_platform_interface/video_player_platform_interface.dart'
-    show DurationRange, DataSourceType, VideoFormat, VideoPlayerOptions;
+    show
+        DurationRange,
+        DataSource,
+        DataSourceType,
+        PlaylistTransitionReason,
+        ThumbnailFormat,
+        VideoPlaybackMetrics,
+        VideoFormat,
+        VideoPlayerOptions,
+        VideoRendition,
+        VideoTrackConstraints;
 
 import 'src/closed_caption_file.dart';
 export 'src/closed_caption_file.dart';
@@ -39,6 +50,10 @@ class VideoPlayerValue {
     this.volume = 1.0,
     this.playbackSpeed = 1.0,
     this.errorDescription,
+    this.renditions = const <VideoRendition>[],
+    this.rendition,
+    this.playlistIndex = 0,
+    this.metrics,
   });
 
   /// Returns an instance with a `null` [Duration].
@@ -86,6 +101,25 @@ class VideoPlayerValue {
   /// If [hasError] is false this is [null].
   final String errorDescription;
 
+  /// **Android only**. The renditions of an adaptive video.
+  ///
+  /// Empty until the platform reports them.
+  final List<VideoRendition> renditions;
+
+  /// **Android only**. The rendition of an adaptive video being played.
+  final VideoRendition rendition;
+
+  /// **Android only**. The index of the playlist item being played.
+  ///
+  /// The [dataSource] of the controller is item 0.
+  final int playlistIndex;
+
+  /// **Android only**. The latest quality of service metrics of the player.
+  ///
+  /// Null until the platform reports them, see
+  /// [VideoPlayerController.setMetricsInterval].
+  final VideoPlaybackMetrics metrics;
+
   /// The [size] of the currently loaded video.
   ///
   /// Is null when [initialized] is false.
@@ -125,6 +159,10 @@ class VideoPlayerValue {
     double volume,
     double playbackSpeed,
     String errorDescription,
+    List<VideoRendition> renditions,
+    VideoRendition rendition,
+    int playlistIndex,
+    VideoPlaybackMetrics metrics,
   }) {
     return VideoPlayerValue(
       duration: duration ?? this.duration,
@@ -138,6 +176,10 @@ class VideoPlayerValue {
       volume: volume ?? this.volume,
       playbackSpeed: playbackSpeed ?? this.playbackSpeed,
       errorDescription: errorDescription ?? this.errorDescription,
+      renditions: renditions ?? this.renditions,
+      rendition: rendition ?? this.rendition,
+      playlistIndex: playlistIndex ?? this.playlistIndex,
+      metrics: metrics ?? this.metrics,
     );
   }
 
@@ -154,7 +196,11 @@ class VideoPlayerValue {
         'isBuffering: $isBuffering, '
         'volume: $volume, '
         'playbackSpeed: $playbackSpeed, '
-        'errorDescription: $errorDescription)';
+        'errorDescription: $errorDescription, '
+        'renditions: [${renditions.join(', ')}], '
+        'rendition: $rendition, '
+        'playlistIndex: $playlistIndex, '
+        'metrics: $metrics)';
   }
 }
 
@@ -250,36 +296,12 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
     _lifeCycleObserver.initialize();
     _creatingCompleter = Completer<void>();
 
-    DataSource dataSourceDescription;
-    switch (dataSourceType) {
-      case DataSourceType.asset:
-        dataSourceDescription = DataSource(
-          sourceType: DataSourceType.asset,
-          asset: dataSource,
-          package: package,
-        );
-        break;
-      case DataSourceType.network:
-        dataSourceDescription = DataSource(
-          sourceType: DataSourceType.network,
-          uri: dataSource,
-          formatHint: formatHint,
-        );
-        break;
-      case DataSourceType.file:
-        dataSourceDescription = DataSource(
-          sourceType: DataSourceType.file,
-          uri: dataSource,
-        );
-        break;
-    }
-
     if (videoPlayerOptions?.mixWithOthers != null) {
       await _videoPlayerPlatform
           .setMixWithOthers(videoPlayerOptions.mixWithOthers);
     }
 
-    _textureId = await _videoPlayerPlatform.create(dataSourceDescription);
+    _textureId = await _videoPlayerPlatform.create(_dataSourceDescription);
     _creatingCompleter.complete(null);
     final Completer<void> initializingCompleter = Completer<void>();
 
@@ -312,6 +334,22 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
         case VideoEventType.bufferingEnd:
           value = value.copyWith(isBuffering: false);
           break;
+        case VideoEventType.renditionsChanged:
+          value = value.copyWith(renditions: event.renditions);
+          break;
+        case VideoEventType.renditionChanged:
+          value = value.copyWith(rendition: event.rendition);
+          break;
+        case VideoEventType.playlistItemTransition:
+          value = value.copyWith(
+            playlistIndex: event.playlistIndex,
+            duration: event.duration,
+          );
+          break;
+        case VideoEventType.metrics:
+          value = value.copyWith(metrics: event.metrics);
+          break;
+        case VideoEventType.decoderBudgetExceeded:
         case VideoEventType.unknown:
           break;
       }
@@ -510,6 +548,129 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
     await _applyPlaybackSpeed();
   }
 
+  /// **Android only**. Limits the renditions of an adaptive (HLS, DASH or
+  /// SmoothStreaming) video the player may select to [constraints].
+  Future<void> setVideoTrackConstraints(
+      VideoTrackConstraints constraints) async {
+    if (!value.initialized || _isDisposed) {
+      return;
+    }
+    await _videoPlayerPlatform.setVideoTrackConstraints(
+        _textureId, constraints);
+  }
+
+  /// **Android only**. Plays only [rendition], one of
+  /// [VideoPlayerValue.renditions], or returns to adaptive selection when it is
+  /// null.
+  Future<void> selectRendition(VideoRendition rendition) async {
+    if (!value.initialized || _isDisposed) {
+      return;
+    }
+    await _videoPlayerPlatform.selectRendition(_textureId, rendition);
+  }
+
+  /// **Android only**. Appends [dataSource] to the playlist of this controller
+  /// for gapless playback, or inserts it at [index] when it is given.
+  Future<void> addPlaylistItem(DataSource dataSource, {int index}) async {
+    if (!value.initialized || _isDisposed) {
+      return;
+    }
+    await _videoPlayerPlatform.addPlaylistItem(_textureId, dataSource,
+        index: index);
+  }
+
+  /// **Android only**. Removes the playlist item at [index].
+  Future<void> removePlaylistItem(int index) async {
+    if (!value.initialized || _isDisposed) {
+      return;
+    }
+    await _videoPlayerPlatform.removePlaylistItem(_textureId, index);
+  }
+
+  /// **Android only**. Moves the playlist item at [fromIndex] to [toIndex].
+  Future<void> movePlaylistItem(int fromIndex, int toIndex) async {
+    if (!value.initialized || _isDisposed) {
+      return;
+    }
+    await _videoPlayerPlatform.movePlaylistItem(
+        _textureId, fromIndex, toIndex);
+  }
+
+  /// **Android only**. Caps how many players hold a video decoder at once, or
+  /// removes the cap when [maxActiveDecoders] is null.
+  ///
+  /// Over the cap, the decoders of the least recently played paused
+  /// controllers are released. They keep their position and load their video
+  /// again when they are played.
+  static Future<void> setMaxActiveDecoders(int maxActiveDecoders) {
+    return _videoPlayerPlatform.setMaxActiveDecoders(maxActiveDecoders);
+  }
+
+  /// **Android only**. Returns the quality of service metrics collected since
+  /// the video was initialized.
+  Future<VideoPlaybackMetrics> getMetrics() async {
+    if (!value.initialized || _isDisposed) {
+      return null;
+    }
+    return await _videoPlayerPlatform.getMetrics(_textureId);
+  }
+
+  /// **Android only**. Updates [VideoPlayerValue.metrics] every [interval], or
+  /// stops when it is null.
+  Future<void> setMetricsInterval(Duration interval) async {
+    if (!value.initialized || _isDisposed) {
+      return;
+    }
+    await _videoPlayerPlatform.setMetricsInterval(_textureId, interval);
+  }
+
+  /// Returns the frame of this controller's video closest to [position],
+  /// scaled down to at most [maxWidth] pixels wide and encoded as [format].
+  ///
+  /// The frame is decoded without the player, so the controller does not need
+  /// to be initialized.
+  Future<Uint8List> getThumbnail({
+    Duration position = Duration.zero,
+    int maxWidth,
+    ThumbnailFormat format = ThumbnailFormat.jpeg,
+    Map<String, String> httpHeaders,
+  }) {
+    return _videoPlayerPlatform.getThumbnail(
+      _dataSourceDescription,
+      position: position,
+      maxWidth: maxWidth,
+      format: format,
+      httpHeaders: httpHeaders,
+    );
+  }
+
+  DataSource get _dataSourceDescription {
+    DataSource dataSourceDescription;
+    switch (dataSourceType) {
+      case DataSourceType.asset:
+        dataSourceDescription = DataSource(
+          sourceType: DataSourceType.asset,
+          asset: dataSource,
+          package: package,
+        );
+        break;
+      case DataSourceType.network:
+        dataSourceDescription = DataSource(
+          sourceType: DataSourceType.network,
+          uri: dataSource,
+          formatHint: formatHint,
+        );
+        break;
+      case DataSourceType.file:
+        dataSourceDescription = DataSource(
+          sourceType: DataSourceType.file,
+          uri: dataSource,
+        );
+        break;
+    }
+    return dataSourceDescription;
+  }
+
   /// The closed caption based on the current [position] in the video.
   ///
   /// If there are no closed captions at the current [position], this will
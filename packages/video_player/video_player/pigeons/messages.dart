@@ -29,12 +29,70 @@ class CreateMessage {
   String uri;
   String packageName;
   String formatHint;
+  Map httpHeaders;
+  int connectTimeoutMillis;
+  int readTimeoutMillis;
 }
 
 class MixWithOthersMessage {
   bool mixWithOthers;
 }
 
+class VideoTrackConstraintsMessage {
+  int textureId;
+  int maxWidth;
+  int maxHeight;
+  int maxBitrate;
+  int viewportWidth;
+  int viewportHeight;
+}
+
+class RenditionMessage {
+  int textureId;
+  int groupIndex;
+  int trackIndex;
+}
+
+class PlaylistItemMessage {
+  int textureId;
+  int index;
+  String asset;
+  String uri;
+  String packageName;
+  String formatHint;
+}
+
+class PlaylistIndexMessage {
+  int textureId;
+  int index;
+}
+
+class StatsMessage {
+  int textureId;
+  int timeToFirstFrameMs;
+  int rebufferCount;
+  int rebufferDurationMs;
+  int droppedFrames;
+  int videoDecoderInitializationMs;
+  int bandwidthEstimate;
+  int videoBitrate;
+}
+
+class MetricsIntervalMessage {
+  int textureId;
+  int intervalMillis;
+}
+
+class DecoderBudgetMessage {
+  int maxActiveDecoders;
+}
+
+class PlaylistMoveMessage {
+  int textureId;
+  int fromIndex;
+  int toIndex;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVideoPlayerApi')
 abstract class VideoPlayerApi {
   void initialize();
@@ -48,6 +106,14 @@ abstract class VideoPlayerApi {
   void seekTo(PositionMessage msg);
   void pause(TextureMessage msg);
   void setMixWithOthers(MixWithOthersMessage msg);
+  void setVideoTrackConstraints(VideoTrackConstraintsMessage msg);
+  void selectRendition(RenditionMessage msg);
+  void addPlaylistItem(PlaylistItemMessage msg);
+  void removePlaylistItem(PlaylistIndexMessage msg);
+  void movePlaylistItem(PlaylistMoveMessage msg);
+  StatsMessage getStats(TextureMessage msg);
+  void setMetricsInterval(MetricsIntervalMessage msg);
+  void setMaxActiveDecoders(DecoderBudgetMessage msg);
 }
 
 void configurePigeon(PigeonOptions opts) {
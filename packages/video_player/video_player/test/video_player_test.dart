@@ -6,6 +6,7 @@
 
 import 'dart:async';
 import 'dart:io';
+import 'dart:typed_data';
 
 import 'package:flutter/foundation.dart';
 import 'package:flutter/material.dart';
@@ -69,6 +70,37 @@ class FakeController extends ValueNotifier<VideoPlayerValue>
 
   @override
   VideoPlayerOptions get videoPlayerOptions => null;
+
+  @override
+  Future<void> setVideoTrackConstraints(
+      VideoTrackConstraints constraints) async {}
+
+  @override
+  Future<void> selectRendition(VideoRendition rendition) async {}
+
+  @override
+  Future<void> addPlaylistItem(DataSource dataSource, {int index}) async {}
+
+  @override
+  Future<void> removePlaylistItem(int index) async {}
+
+  @override
+  Future<void> movePlaylistItem(int fromIndex, int toIndex) async {}
+
+  @override
+  Future<VideoPlaybackMetrics> getMetrics() async => null;
+
+  @override
+  Future<void> setMetricsInterval(Duration interval) async {}
+
+  @override
+  Future<Uint8List> getThumbnail({
+    Duration position = Duration.zero,
+    int maxWidth,
+    ThumbnailFormat format = ThumbnailFormat.jpeg,
+    Map<String, String> httpHeaders,
+  }) async =>
+      null;
 }
 
 Future<ClosedCaptionFile> _loadClosedCaption() async =>
@@ -299,6 +331,89 @@ void main() {
       expect(fakeVideoPlayerPlatform.calls.last, 'pause');
     });
 
+    test('setVideoTrackConstraints', () async {
+      final VideoPlayerController controller = VideoPlayerController.network(
+        'https://127.0.0.1',
+      );
+      await controller.initialize();
+
+      await controller.setVideoTrackConstraints(
+          const VideoTrackConstraints(maxHeight: 720));
+
+      expect(fakeVideoPlayerPlatform.calls.last, 'setVideoTrackConstraints');
+    });
+
+    test('selectRendition', () async {
+      final VideoPlayerController controller = VideoPlayerController.network(
+        'https://127.0.0.1',
+      );
+      await controller.initialize();
+
+      await controller.selectRendition(null);
+
+      expect(fakeVideoPlayerPlatform.calls.last, 'selectRendition');
+    });
+
+    test('playlist', () async {
+      final VideoPlayerController controller = VideoPlayerController.network(
+        'https://127.0.0.1',
+      );
+      await controller.initialize();
+
+      await controller.addPlaylistItem(DataSource(
+        sourceType: DataSourceType.network,
+        uri: 'https://127.0.0.2',
+      ));
+      expect(fakeVideoPlayerPlatform.calls.last, 'addPlaylistItem');
+      await controller.movePlaylistItem(1, 0);
+      expect(fakeVideoPlayerPlatform.calls.last, 'movePlaylistItem');
+      await controller.removePlaylistItem(1);
+      expect(fakeVideoPlayerPlatform.calls.last, 'removePlaylistItem');
+    });
+
+    test('metrics', () async {
+      final VideoPlayerController controller = VideoPlayerController.network(
+        'https://127.0.0.1',
+      );
+      await controller.initialize();
+
+      await controller.setMetricsInterval(const Duration(seconds: 1));
+      expect(fakeVideoPlayerPlatform.calls.last, 'setMetricsInterval');
+      final VideoPlaybackMetrics metrics = await controller.getMetrics();
+      expect(fakeVideoPlayerPlatform.calls.last, 'getStats');
+      expect(metrics, const VideoPlaybackMetrics());
+    });
+
+    test('setMaxActiveDecoders', () async {
+      await VideoPlayerController.setMaxActiveDecoders(2);
+      expect(fakeVideoPlayerPlatform.calls.last, 'setMaxActiveDecoders');
+    });
+
+    test('getThumbnail', () async {
+      const MethodChannel channel =
+          MethodChannel('flutter.io/videoPlayer/thumbnails');
+      MethodCall call;
+      channel.setMockMethodCallHandler((MethodCall methodCall) async {
+        call = methodCall;
+        return Uint8List.fromList(<int>[1, 2, 3]);
+      });
+      final VideoPlayerController controller = VideoPlayerController.asset(
+        'a.avi',
+      );
+
+      final Uint8List bytes = await controller.getThumbnail(
+        position: const Duration(seconds: 1),
+        format: ThumbnailFormat.png,
+      );
+
+      expect(bytes, <int>[1, 2, 3]);
+      expect(call.method, 'getThumbnail');
+      expect(call.arguments['asset'], 'a.avi');
+      expect(call.arguments['positionMs'], 1000);
+      expect(call.arguments['format'], 'png');
+      channel.setMockMethodCallHandler(null);
+    });
+
     group('seekTo', () {
       test('works', () async {
         final VideoPlayerController controller = VideoPlayerController.network(
@@ -573,7 +688,11 @@ void main() {
           'isBuffering: true, '
           'volume: 0.5, '
           'playbackSpeed: 1.5, '
-          'errorDescription: null)');
+          'errorDescription: null, '
+          'renditions: [], '
+          'rendition: null, '
+          'playlistIndex: 0, '
+          'metrics: null)');
     });
 
     test('copyWith()', () {
@@ -728,6 +847,47 @@ class FakeVideoPlayerPlatform extends TestHostVideoPlayerApi {
   void setMixWithOthers(MixWithOthersMessage arg) {
     calls.add('setMixWithOthers');
   }
+
+  @override
+  void setVideoTrackConstraints(VideoTrackConstraintsMessage arg) {
+    calls.add('setVideoTrackConstraints');
+  }
+
+  @override
+  void selectRendition(RenditionMessage arg) {
+    calls.add('selectRendition');
+  }
+
+  @override
+  void addPlaylistItem(PlaylistItemMessage arg) {
+    calls.add('addPlaylistItem');
+  }
+
+  @override
+  void removePlaylistItem(PlaylistIndexMessage arg) {
+    calls.add('removePlaylistItem');
+  }
+
+  @override
+  void movePlaylistItem(PlaylistMoveMessage arg) {
+    calls.add('movePlaylistItem');
+  }
+
+  @override
+  StatsMessage getStats(TextureMessage arg) {
+    calls.add('getStats');
+    return StatsMessage()..textureId = arg.textureId;
+  }
+
+  @override
+  void setMetricsInterval(MetricsIntervalMessage arg) {
+    calls.add('setMetricsInterval');
+  }
+
+  @override
+  void setMaxActiveDecoders(DecoderBudgetMessage arg) {
+    calls.add('setMaxActiveDecoders');
+  }
 }
 
 class FakeVideoEventStream {
@@ -31,6 +31,9 @@ class CreateMessage {
   String uri;
   String packageName;
   String formatHint;
+  Map httpHeaders;
+  int connectTimeoutMillis;
+  int readTimeoutMillis;
   // ignore: unused_element
   Map<dynamic, dynamic> _toMap() {
     final Map<dynamic, dynamic> pigeonMap = <dynamic, dynamic>{};
@@ -38,6 +41,9 @@ class CreateMessage {
     pigeonMap['uri'] = uri;
     pigeonMap['packageName'] = packageName;
     pigeonMap['formatHint'] = formatHint;
+    pigeonMap['httpHeaders'] = httpHeaders;
+    pigeonMap['connectTimeoutMillis'] = connectTimeoutMillis;
+    pigeonMap['readTimeoutMillis'] = readTimeoutMillis;
     return pigeonMap;
   }
 
@@ -51,6 +57,9 @@ class CreateMessage {
     result.uri = pigeonMap['uri'];
     result.packageName = pigeonMap['packageName'];
     result.formatHint = pigeonMap['formatHint'];
+    result.httpHeaders = pigeonMap['httpHeaders'];
+    result.connectTimeoutMillis = pigeonMap['connectTimeoutMillis'];
+    result.readTimeoutMillis = pigeonMap['readTimeoutMillis'];
     return result;
   }
 }
@@ -167,6 +176,236 @@ class MixWithOthersMessage {
   }
 }
 
+class VideoTrackConstraintsMessage {
+  int textureId;
+  int maxWidth;
+  int maxHeight;
+  int maxBitrate;
+  int viewportWidth;
+  int viewportHeight;
+  // ignore: unused_element
+  Map<dynamic, dynamic> _toMap() {
+    final Map<dynamic, dynamic> pigeonMap = <dynamic, dynamic>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['maxWidth'] = maxWidth;
+    pigeonMap['maxHeight'] = maxHeight;
+    pigeonMap['maxBitrate'] = maxBitrate;
+    pigeonMap['viewportWidth'] = viewportWidth;
+    pigeonMap['viewportHeight'] = viewportHeight;
+    return pigeonMap;
+  }
+
+  // ignore: unused_element
+  static VideoTrackConstraintsMessage _fromMap(
+      Map<dynamic, dynamic> pigeonMap) {
+    if (pigeonMap == null) {
+      return null;
+    }
+    final VideoTrackConstraintsMessage result = VideoTrackConstraintsMessage();
+    result.textureId = pigeonMap['textureId'];
+    result.maxWidth = pigeonMap['maxWidth'];
+    result.maxHeight = pigeonMap['maxHeight'];
+    result.maxBitrate = pigeonMap['maxBitrate'];
+    result.viewportWidth = pigeonMap['viewportWidth'];
+    result.viewportHeight = pigeonMap['viewportHeight'];
+    return result;
+  }
+}
+
+class RenditionMessage {
+  int textureId;
+  int groupIndex;
+  int trackIndex;
+  // ignore: unused_element
+  Map<dynamic, dynamic> _toMap() {
+    final Map<dynamic, dynamic> pigeonMap = <dynamic, dynamic>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['groupIndex'] = groupIndex;
+    pigeonMap['trackIndex'] = trackIndex;
+    return pigeonMap;
+  }
+
+  // ignore: unused_element
+  static RenditionMessage _fromMap(Map<dynamic, dynamic> pigeonMap) {
+    if (pigeonMap == null) {
+      return null;
+    }
+    final RenditionMessage result = RenditionMessage();
+    result.textureId = pigeonMap['textureId'];
+    result.groupIndex = pigeonMap['groupIndex'];
+    result.trackIndex = pigeonMap['trackIndex'];
+    return result;
+  }
+}
+
+class PlaylistItemMessage {
+  int textureId;
+  int index;
+  String asset;
+  String uri;
+  String packageName;
+  String formatHint;
+  // ignore: unused_element
+  Map<dynamic, dynamic> _toMap() {
+    final Map<dynamic, dynamic> pigeonMap = <dynamic, dynamic>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['index'] = index;
+    pigeonMap['asset'] = asset;
+    pigeonMap['uri'] = uri;
+    pigeonMap['packageName'] = packageName;
+    pigeonMap['formatHint'] = formatHint;
+    return pigeonMap;
+  }
+
+  // ignore: unused_element
+  static PlaylistItemMessage _fromMap(Map<dynamic, dynamic> pigeonMap) {
+    if (pigeonMap == null) {
+      return null;
+    }
+    final PlaylistItemMessage result = PlaylistItemMessage();
+    result.textureId = pigeonMap['textureId'];
+    result.index = pigeonMap['index'];
+    result.asset = pigeonMap['asset'];
+    result.uri = pigeonMap['uri'];
+    result.packageName = pigeonMap['packageName'];
+    result.formatHint = pigeonMap['formatHint'];
+    return result;
+  }
+}
+
+class PlaylistIndexMessage {
+  int textureId;
+  int index;
+  // ignore: unused_element
+  Map<dynamic, dynamic> _toMap() {
+    final Map<dynamic, dynamic> pigeonMap = <dynamic, dynamic>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['index'] = index;
+    return pigeonMap;
+  }
+
+  // ignore: unused_element
+  static PlaylistIndexMessage _fromMap(Map<dynamic, dynamic> pigeonMap) {
+    if (pigeonMap == null) {
+      return null;
+    }
+    final PlaylistIndexMessage result = PlaylistIndexMessage();
+    result.textureId = pigeonMap['textureId'];
+    result.index = pigeonMap['index'];
+    return result;
+  }
+}
+
+class PlaylistMoveMessage {
+  int textureId;
+  int fromIndex;
+  int toIndex;
+  // ignore: unused_element
+  Map<dynamic, dynamic> _toMap() {
+    final Map<dynamic, dynamic> pigeonMap = <dynamic, dynamic>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['fromIndex'] = fromIndex;
+    pigeonMap['toIndex'] = toIndex;
+    return pigeonMap;
+  }
+
+  // ignore: unused_element
+  static PlaylistMoveMessage _fromMap(Map<dynamic, dynamic> pigeonMap) {
+    if (pigeonMap == null) {
+      return null;
+    }
+    final PlaylistMoveMessage result = PlaylistMoveMessage();
+    result.textureId = pigeonMap['textureId'];
+    result.fromIndex = pigeonMap['fromIndex'];
+    result.toIndex = pigeonMap['toIndex'];
+    return result;
+  }
+}
+
+class StatsMessage {
+  int textureId;
+  int timeToFirstFrameMs;
+  int rebufferCount;
+  int rebufferDurationMs;
+  int droppedFrames;
+  int videoDecoderInitializationMs;
+  int bandwidthEstimate;
+  int videoBitrate;
+  // ignore: unused_element
+  Map<dynamic, dynamic> _toMap() {
+    final Map<dynamic, dynamic> pigeonMap = <dynamic, dynamic>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['timeToFirstFrameMs'] = timeToFirstFrameMs;
+    pigeonMap['rebufferCount'] = rebufferCount;
+    pigeonMap['rebufferDurationMs'] = rebufferDurationMs;
+    pigeonMap['droppedFrames'] = droppedFrames;
+    pigeonMap['videoDecoderInitializationMs'] = videoDecoderInitializationMs;
+    pigeonMap['bandwidthEstimate'] = bandwidthEstimate;
+    pigeonMap['videoBitrate'] = videoBitrate;
+    return pigeonMap;
+  }
+
+  // ignore: unused_element
+  static StatsMessage _fromMap(Map<dynamic, dynamic> pigeonMap) {
+    if (pigeonMap == null) {
+      return null;
+    }
+    final StatsMessage result = StatsMessage();
+    result.textureId = pigeonMap['textureId'];
+    result.timeToFirstFrameMs = pigeonMap['timeToFirstFrameMs'];
+    result.rebufferCount = pigeonMap['rebufferCount'];
+    result.rebufferDurationMs = pigeonMap['rebufferDurationMs'];
+    result.droppedFrames = pigeonMap['droppedFrames'];
+    result.videoDecoderInitializationMs = pigeonMap['videoDecoderInitializationMs'];
+    result.bandwidthEstimate = pigeonMap['bandwidthEstimate'];
+    result.videoBitrate = pigeonMap['videoBitrate'];
+    return result;
+  }
+}
+
+class MetricsIntervalMessage {
+  int textureId;
+  int intervalMillis;
+  // ignore: unused_element
+  Map<dynamic, dynamic> _toMap() {
+    final Map<dynamic, dynamic> pigeonMap = <dynamic, dynamic>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['intervalMillis'] = intervalMillis;
+    return pigeonMap;
+  }
+
+  // ignore: unused_element
+  static MetricsIntervalMessage _fromMap(Map<dynamic, dynamic> pigeonMap) {
+    if (pigeonMap == null) {
+      return null;
+    }
+    final MetricsIntervalMessage result = MetricsIntervalMessage();
+    result.textureId = pigeonMap['textureId'];
+    result.intervalMillis = pigeonMap['intervalMillis'];
+    return result;
+  }
+}
+
+class DecoderBudgetMessage {
+  int maxActiveDecoders;
+  // ignore: unused_element
+  Map<dynamic, dynamic> _toMap() {
+    final Map<dynamic, dynamic> pigeonMap = <dynamic, dynamic>{};
+    pigeonMap['maxActiveDecoders'] = maxActiveDecoders;
+    return pigeonMap;
+  }
+
+  // ignore: unused_element
+  static DecoderBudgetMessage _fromMap(Map<dynamic, dynamic> pigeonMap) {
+    if (pigeonMap == null) {
+      return null;
+    }
+    final DecoderBudgetMessage result = DecoderBudgetMessage();
+    result.maxActiveDecoders = pigeonMap['maxActiveDecoders'];
+    return result;
+  }
+}
+
 class VideoPlayerApi {
   Future<void> initialize() async {
     const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
@@ -410,6 +649,190 @@ class VideoPlayerApi {
       // noop
     }
   }
+
+  Future<void> setVideoTrackConstraints(
+      VideoTrackConstraintsMessage arg) async {
+    final Map<dynamic, dynamic> requestMap = arg._toMap();
+    const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+        'dev.flutter.pigeon.VideoPlayerApi.setVideoTrackConstraints',
+        StandardMessageCodec());
+
+    final Map<dynamic, dynamic> replyMap = await channel.send(requestMap);
+    if (replyMap == null) {
+      throw PlatformException(
+          code: 'channel-error',
+          message: 'Unable to establish connection on channel.',
+          details: null);
+    } else if (replyMap['error'] != null) {
+      final Map<dynamic, dynamic> error = replyMap['error'];
+      throw PlatformException(
+          code: error['code'],
+          message: error['message'],
+          details: error['details']);
+    } else {
+      // noop
+    }
+  }
+
+  Future<void> selectRendition(RenditionMessage arg) async {
+    final Map<dynamic, dynamic> requestMap = arg._toMap();
+    const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+        'dev.flutter.pigeon.VideoPlayerApi.selectRendition',
+        StandardMessageCodec());
+
+    final Map<dynamic, dynamic> replyMap = await channel.send(requestMap);
+    if (replyMap == null) {
+      throw PlatformException(
+          code: 'channel-error',
+          message: 'Unable to establish connection on channel.',
+          details: null);
+    } else if (replyMap['error'] != null) {
+      final Map<dynamic, dynamic> error = replyMap['error'];
+      throw PlatformException(
+          code: error['code'],
+          message: error['message'],
+          details: error['details']);
+    } else {
+      // noop
+    }
+  }
+
+  Future<void> addPlaylistItem(PlaylistItemMessage arg) async {
+    final Map<dynamic, dynamic> requestMap = arg._toMap();
+    const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+        'dev.flutter.pigeon.VideoPlayerApi.addPlaylistItem',
+        StandardMessageCodec());
+
+    final Map<dynamic, dynamic> replyMap = await channel.send(requestMap);
+    if (replyMap == null) {
+      throw PlatformException(
+          code: 'channel-error',
+          message: 'Unable to establish connection on channel.',
+          details: null);
+    } else if (replyMap['error'] != null) {
+      final Map<dynamic, dynamic> error = replyMap['error'];
+      throw PlatformException(
+          code: error['code'],
+          message: error['message'],
+          details: error['details']);
+    } else {
+      // noop
+    }
+  }
+
+  Future<void> removePlaylistItem(PlaylistIndexMessage arg) async {
+    final Map<dynamic, dynamic> requestMap = arg._toMap();
+    const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+        'dev.flutter.pigeon.VideoPlayerApi.removePlaylistItem',
+        StandardMessageCodec());
+
+    final Map<dynamic, dynamic> replyMap = await channel.send(requestMap);
+    if (replyMap == null) {
+      throw PlatformException(
+          code: 'channel-error',
+          message: 'Unable to establish connection on channel.',
+          details: null);
+    } else if (replyMap['error'] != null) {
+      final Map<dynamic, dynamic> error = replyMap['error'];
+      throw PlatformException(
+          code: error['code'],
+          message: error['message'],
+          details: error['details']);
+    } else {
+      // noop
+    }
+  }
+
+  Future<void> movePlaylistItem(PlaylistMoveMessage arg) async {
+    final Map<dynamic, dynamic> requestMap = arg._toMap();
+    const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+        'dev.flutter.pigeon.VideoPlayerApi.movePlaylistItem',
+        StandardMessageCodec());
+
+    final Map<dynamic, dynamic> replyMap = await channel.send(requestMap);
+    if (replyMap == null) {
+      throw PlatformException(
+          code: 'channel-error',
+          message: 'Unable to establish connection on channel.',
+          details: null);
+    } else if (replyMap['error'] != null) {
+      final Map<dynamic, dynamic> error = replyMap['error'];
+      throw PlatformException(
+          code: error['code'],
+          message: error['message'],
+          details: error['details']);
+    } else {
+      // noop
+    }
+  }
+
+  Future<StatsMessage> getStats(TextureMessage arg) async {
+    final Map<dynamic, dynamic> requestMap = arg._toMap();
+    const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+        'dev.flutter.pigeon.VideoPlayerApi.getStats', StandardMessageCodec());
+
+    final Map<dynamic, dynamic> replyMap = await channel.send(requestMap);
+    if (replyMap == null) {
+      throw PlatformException(
+          code: 'channel-error',
+          message: 'Unable to establish connection on channel.',
+          details: null);
+    } else if (replyMap['error'] != null) {
+      final Map<dynamic, dynamic> error = replyMap['error'];
+      throw PlatformException(
+          code: error['code'],
+          message: error['message'],
+          details: error['details']);
+    } else {
+      return StatsMessage._fromMap(replyMap['result']);
+    }
+  }
+
+  Future<void> setMetricsInterval(MetricsIntervalMessage arg) async {
+    final Map<dynamic, dynamic> requestMap = arg._toMap();
+    const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+        'dev.flutter.pigeon.VideoPlayerApi.setMetricsInterval',
+        StandardMessageCodec());
+
+    final Map<dynamic, dynamic> replyMap = await channel.send(requestMap);
+    if (replyMap == null) {
+      throw PlatformException(
+          code: 'channel-error',
+          message: 'Unable to establish connection on channel.',
+          details: null);
+    } else if (replyMap['error'] != null) {
+      final Map<dynamic, dynamic> error = replyMap['error'];
+      throw PlatformException(
+          code: error['code'],
+          message: error['message'],
+          details: error['details']);
+    } else {
+      // noop
+    }
+  }
+
+  Future<void> setMaxActiveDecoders(DecoderBudgetMessage arg) async {
+    final Map<dynamic, dynamic> requestMap = arg._toMap();
+    const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+        'dev.flutter.pigeon.VideoPlayerApi.setMaxActiveDecoders',
+        StandardMessageCodec());
+
+    final Map<dynamic, dynamic> replyMap = await channel.send(requestMap);
+    if (replyMap == null) {
+      throw PlatformException(
+          code: 'channel-error',
+          message: 'Unable to establish connection on channel.',
+          details: null);
+    } else if (replyMap['error'] != null) {
+      final Map<dynamic, dynamic> error = replyMap['error'];
+      throw PlatformException(
+          code: error['code'],
+          message: error['message'],
+          details: error['details']);
+    } else {
+      // noop
+    }
+  }
 }
 
 abstract class TestHostVideoPlayerApi {
@@ -424,6 +847,14 @@ abstract class TestHostVideoPlayerApi {
   void seekTo(PositionMessage arg);
   void pause(TextureMessage arg);
   void setMixWithOthers(MixWithOthersMessage arg);
+  void setVideoTrackConstraints(VideoTrackConstraintsMessage arg);
+  void selectRendition(RenditionMessage arg);
+  void addPlaylistItem(PlaylistItemMessage arg);
+  void removePlaylistItem(PlaylistIndexMessage arg);
+  void movePlaylistItem(PlaylistMoveMessage arg);
+  StatsMessage getStats(TextureMessage arg);
+  void setMetricsInterval(MetricsIntervalMessage arg);
+  void setMaxActiveDecoders(DecoderBudgetMessage arg);
   static void setup(TestHostVideoPlayerApi api) {
     {
       const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
@@ -550,5 +981,106 @@ abstract class TestHostVideoPlayerApi {
         return <dynamic, dynamic>{};
       });
     }
+    {
+      const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+          'dev.flutter.pigeon.VideoPlayerApi.setVideoTrackConstraints',
+          StandardMessageCodec());
+      channel.setMockMessageHandler((dynamic message) async {
+        final Map<dynamic, dynamic> mapMessage =
+            message as Map<dynamic, dynamic>;
+        final VideoTrackConstraintsMessage input =
+            VideoTrackConstraintsMessage._fromMap(mapMessage);
+        api.setVideoTrackConstraints(input);
+        return <dynamic, dynamic>{};
+      });
+    }
+    {
+      const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+          'dev.flutter.pigeon.VideoPlayerApi.selectRendition',
+          StandardMessageCodec());
+      channel.setMockMessageHandler((dynamic message) async {
+        final Map<dynamic, dynamic> mapMessage =
+            message as Map<dynamic, dynamic>;
+        final RenditionMessage input = RenditionMessage._fromMap(mapMessage);
+        api.selectRendition(input);
+        return <dynamic, dynamic>{};
+      });
+    }
+    {
+      const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+          'dev.flutter.pigeon.VideoPlayerApi.addPlaylistItem',
+          StandardMessageCodec());
+      channel.setMockMessageHandler((dynamic message) async {
+        final Map<dynamic, dynamic> mapMessage =
+            message as Map<dynamic, dynamic>;
+        final PlaylistItemMessage input =
+            PlaylistItemMessage._fromMap(mapMessage);
+        api.addPlaylistItem(input);
+        return <dynamic, dynamic>{};
+      });
+    }
+    {
+      const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+          'dev.flutter.pigeon.VideoPlayerApi.removePlaylistItem',
+          StandardMessageCodec());
+      channel.setMockMessageHandler((dynamic message) async {
+        final Map<dynamic, dynamic> mapMessage =
+            message as Map<dynamic, dynamic>;
+        final PlaylistIndexMessage input =
+            PlaylistIndexMessage._fromMap(mapMessage);
+        api.removePlaylistItem(input);
+        return <dynamic, dynamic>{};
+      });
+    }
+    {
+      const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+          'dev.flutter.pigeon.VideoPlayerApi.movePlaylistItem',
+          StandardMessageCodec());
+      channel.setMockMessageHandler((dynamic message) async {
+        final Map<dynamic, dynamic> mapMessage =
+            message as Map<dynamic, dynamic>;
+        final PlaylistMoveMessage input =
+            PlaylistMoveMessage._fromMap(mapMessage);
+        api.movePlaylistItem(input);
+        return <dynamic, dynamic>{};
+      });
+    }
+    {
+      const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+          'dev.flutter.pigeon.VideoPlayerApi.getStats', StandardMessageCodec());
+      channel.setMockMessageHandler((dynamic message) async {
+        final Map<dynamic, dynamic> mapMessage =
+            message as Map<dynamic, dynamic>;
+        final TextureMessage input = TextureMessage._fromMap(mapMessage);
+        final StatsMessage output = api.getStats(input);
+        return <dynamic, dynamic>{'result': output._toMap()};
+      });
+    }
+    {
+      const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+          'dev.flutter.pigeon.VideoPlayerApi.setMetricsInterval',
+          StandardMessageCodec());
+      channel.setMockMessageHandler((dynamic message) async {
+        final Map<dynamic, dynamic> mapMessage =
+            message as Map<dynamic, dynamic>;
+        final MetricsIntervalMessage input =
+            MetricsIntervalMessage._fromMap(mapMessage);
+        api.setMetricsInterval(input);
+        return <dynamic, dynamic>{};
+      });
+    }
+    {
+      const BasicMessageChannel<dynamic> channel = BasicMessageChannel<dynamic>(
+          'dev.flutter.pigeon.VideoPlayerApi.setMaxActiveDecoders',
+          StandardMessageCodec());
+      channel.setMockMessageHandler((dynamic message) async {
+        final Map<dynamic, dynamic> mapMessage =
+            message as Map<dynamic, dynamic>;
+        final DecoderBudgetMessage input =
+            DecoderBudgetMessage._fromMap(mapMessage);
+        api.setMaxActiveDecoders(input);
+        return <dynamic, dynamic>{};
+      });
+    }
   }
 }
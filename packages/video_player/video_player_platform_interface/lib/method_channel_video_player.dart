@@ -3,6 +3,7 @@
 // found in the LICENSE file.
 
 import 'dart:async';
+import 'dart:typed_data';
 import 'dart:ui';
 
 import 'package:flutter/services.dart';
@@ -123,6 +124,38 @@ class MethodChannelVideoPlayer extends VideoPlayerPlatform {
           return VideoEvent(eventType: VideoEventType.bufferingStart);
         case 'bufferingEnd':
           return VideoEvent(eventType: VideoEventType.bufferingEnd);
+        case 'renditionsChanged':
+          final List<dynamic> renditions = map['renditions'];
+
+          return VideoEvent(
+            eventType: VideoEventType.renditionsChanged,
+            renditions: renditions.map<VideoRendition>(_toRendition).toList(),
+          );
+        case 'renditionChanged':
+          return VideoEvent(
+            eventType: VideoEventType.renditionChanged,
+            rendition: _toRendition(map),
+          );
+        case 'playlistItemTransition':
+          final int duration = map['duration'];
+
+          return VideoEvent(
+            eventType: VideoEventType.playlistItemTransition,
+            duration: duration < 0 ? null : Duration(milliseconds: duration),
+            playlistIndex: map['index'],
+            transitionReason: _transitionReasonMap[map['reason']],
+          );
+        case 'metrics':
+          return VideoEvent(
+            eventType: VideoEventType.metrics,
+            metrics: _toMetrics(map),
+          );
+        case 'decoderBudgetExceeded':
+          return VideoEvent(
+            eventType: VideoEventType.decoderBudgetExceeded,
+            activeDecoders: map['activeDecoders'],
+            maxActiveDecoders: map['maxActiveDecoders'],
+          );
         default:
           return VideoEvent(eventType: VideoEventType.unknown);
       }
@@ -141,6 +174,128 @@ class MethodChannelVideoPlayer extends VideoPlayerPlatform {
     );
   }
 
+  @override
+  Future<void> setVideoTrackConstraints(
+      int textureId, VideoTrackConstraints constraints) {
+    return _api.setVideoTrackConstraints(VideoTrackConstraintsMessage()
+      ..textureId = textureId
+      ..maxWidth = constraints.maxWidth
+      ..maxHeight = constraints.maxHeight
+      ..maxBitrate = constraints.maxBitrate
+      ..viewportWidth = constraints.viewportSize?.width?.round()
+      ..viewportHeight = constraints.viewportSize?.height?.round());
+  }
+
+  @override
+  Future<void> selectRendition(int textureId, VideoRendition rendition) {
+    return _api.selectRendition(RenditionMessage()
+      ..textureId = textureId
+      ..groupIndex = rendition?.groupIndex ?? -1
+      ..trackIndex = rendition?.trackIndex ?? 0);
+  }
+
+  @override
+  Future<void> addPlaylistItem(int textureId, DataSource dataSource,
+      {int index}) {
+    PlaylistItemMessage message = PlaylistItemMessage()
+      ..textureId = textureId
+      ..index = index;
+
+    switch (dataSource.sourceType) {
+      case DataSourceType.asset:
+        message.asset = dataSource.asset;
+        message.packageName = dataSource.package;
+        break;
+      case DataSourceType.network:
+        message.uri = dataSource.uri;
+        message.formatHint = _videoFormatStringMap[dataSource.formatHint];
+        break;
+      case DataSourceType.file:
+        message.uri = dataSource.uri;
+        break;
+    }
+
+    return _api.addPlaylistItem(message);
+  }
+
+  @override
+  Future<void> removePlaylistItem(int textureId, int index) {
+    return _api.removePlaylistItem(PlaylistIndexMessage()
+      ..textureId = textureId
+      ..index = index);
+  }
+
+  @override
+  Future<void> movePlaylistItem(int textureId, int fromIndex, int toIndex) {
+    return _api.movePlaylistItem(PlaylistMoveMessage()
+      ..textureId = textureId
+      ..fromIndex = fromIndex
+      ..toIndex = toIndex);
+  }
+
+  @override
+  Future<Uint8List> getThumbnail(
+    DataSource dataSource, {
+    Duration position = Duration.zero,
+    int maxWidth,
+    ThumbnailFormat format = ThumbnailFormat.jpeg,
+    Map<String, String> httpHeaders,
+  }) {
+    final Map<String, dynamic> arguments = <String, dynamic>{
+      'positionMs': position.inMilliseconds,
+      'maxWidth': maxWidth,
+      'format': _thumbnailFormatStringMap[format],
+      'httpHeaders': httpHeaders,
+    };
+
+    switch (dataSource.sourceType) {
+      case DataSourceType.asset:
+        arguments['asset'] = dataSource.asset;
+        arguments['packageName'] = dataSource.package;
+        break;
+      case DataSourceType.network:
+      case DataSourceType.file:
+        arguments['uri'] = dataSource.uri;
+        break;
+    }
+
+    return _thumbnailChannel.invokeMethod<Uint8List>('getThumbnail', arguments);
+  }
+
+  @override
+  Future<VideoPlaybackMetrics> getMetrics(int textureId) async {
+    StatsMessage response =
+        await _api.getStats(TextureMessage()..textureId = textureId);
+    return _toMetrics(<dynamic, dynamic>{
+      'timeToFirstFrameMs': response.timeToFirstFrameMs,
+      'rebufferCount': response.rebufferCount,
+      'rebufferDurationMs': response.rebufferDurationMs,
+      'droppedFrames': response.droppedFrames,
+      'videoDecoderInitializationMs': response.videoDecoderInitializationMs,
+      'bandwidthEstimate': response.bandwidthEstimate,
+      'videoBitrate': response.videoBitrate,
+    });
+  }
+
+  @override
+  Future<void> setMetricsInterval(int textureId, Duration interval) {
+    return _api.setMetricsInterval(MetricsIntervalMessage()
+      ..textureId = textureId
+      ..intervalMillis = interval?.inMilliseconds ?? 0);
+  }
+
+  @override
+  Future<void> setMaxActiveDecoders(int maxActiveDecoders) {
+    return _api.setMaxActiveDecoders(
+      DecoderBudgetMessage()..maxActiveDecoders = maxActiveDecoders,
+    );
+  }
+
+  // Thumbnails are answered asynchronously, which the pigeon version in use
+  // cannot generate.
+  static const MethodChannel _thumbnailChannel =
+      MethodChannel('flutter.io/videoPlayer/thumbnails');
+
   EventChannel _eventChannelFor(int textureId) {
     return EventChannel('flutter.io/videoPlayer/videoEvents$textureId');
   }
@@ -153,6 +308,52 @@ class MethodChannelVideoPlayer extends VideoPlayerPlatform {
     VideoFormat.other: 'other',
   };
 
+  static const Map<ThumbnailFormat, String> _thumbnailFormatStringMap =
+      <ThumbnailFormat, String>{
+    ThumbnailFormat.jpeg: 'jpeg',
+    ThumbnailFormat.png: 'png',
+    ThumbnailFormat.webp: 'webp',
+  };
+
+  static const Map<String, PlaylistTransitionReason> _transitionReasonMap =
+      <String, PlaylistTransitionReason>{
+    'auto': PlaylistTransitionReason.auto,
+    'repeat': PlaylistTransitionReason.repeat,
+    'seek': PlaylistTransitionReason.seek,
+    'playlistChanged': PlaylistTransitionReason.playlistChanged,
+  };
+
+  VideoRendition _toRendition(dynamic value) {
+    final Map<dynamic, dynamic> map = value;
+    return VideoRendition(
+      width: map['width'],
+      height: map['height'],
+      bitrate: map['bitrate'],
+      codecs: map['codecs'],
+      groupIndex: map['groupIndex'],
+      trackIndex: map['trackIndex'],
+    );
+  }
+
+  VideoPlaybackMetrics _toMetrics(Map<dynamic, dynamic> map) {
+    return VideoPlaybackMetrics(
+      timeToFirstFrame: _toDurationOrNull(map['timeToFirstFrameMs']),
+      rebufferCount: map['rebufferCount'] ?? 0,
+      rebufferDuration: Duration(milliseconds: map['rebufferDurationMs'] ?? 0),
+      droppedFrames: map['droppedFrames'] ?? 0,
+      videoDecoderInitialization:
+          _toDurationOrNull(map['videoDecoderInitializationMs']),
+      bandwidthEstimate: map['bandwidthEstimate'] ?? -1,
+      videoBitrate: map['videoBitrate'] ?? -1,
+    );
+  }
+
+  Duration _toDurationOrNull(int milliseconds) {
+    return milliseconds == null || milliseconds < 0
+        ? null
+        : Duration(milliseconds: milliseconds);
+  }
+
   DurationRange _toDurationRange(dynamic value) {
     final List<dynamic> pair = value;
     return DurationRange(
@@ -3,6 +3,7 @@
 // found in the LICENSE file.
 
 import 'dart:async';
+import 'dart:typed_data';
 import 'dart:ui';
 
 import 'package:flutter/foundation.dart';
@@ -120,6 +121,71 @@ abstract class VideoPlayerPlatform {
     throw UnimplementedError('setMixWithOthers() has not been implemented.');
   }
 
+  /// Limits the adaptive renditions the player may select to [constraints].
+  Future<void> setVideoTrackConstraints(
+      int textureId, VideoTrackConstraints constraints) {
+    throw UnimplementedError(
+        'setVideoTrackConstraints() has not been implemented.');
+  }
+
+  /// Plays [rendition] only, or returns to adaptive selection when it is null.
+  Future<void> selectRendition(int textureId, VideoRendition rendition) {
+    throw UnimplementedError('selectRendition() has not been implemented.');
+  }
+
+  /// Appends [dataSource] to the playlist for gapless playback, or inserts it
+  /// at [index] when it is given.
+  Future<void> addPlaylistItem(int textureId, DataSource dataSource,
+      {int index}) {
+    throw UnimplementedError('addPlaylistItem() has not been implemented.');
+  }
+
+  /// Removes the playlist item at [index].
+  Future<void> removePlaylistItem(int textureId, int index) {
+    throw UnimplementedError('removePlaylistItem() has not been implemented.');
+  }
+
+  /// Moves the playlist item at [fromIndex] to [toIndex].
+  Future<void> movePlaylistItem(int textureId, int fromIndex, int toIndex) {
+    throw UnimplementedError('movePlaylistItem() has not been implemented.');
+  }
+
+  /// Returns the frame of [dataSource] closest to [position], scaled down to
+  /// at most [maxWidth] pixels wide and encoded as [format], without creating
+  /// a player.
+  Future<Uint8List> getThumbnail(
+    DataSource dataSource, {
+    Duration position = Duration.zero,
+    int maxWidth,
+    ThumbnailFormat format = ThumbnailFormat.jpeg,
+    Map<String, String> httpHeaders,
+  }) {
+    throw UnimplementedError('getThumbnail() has not been implemented.');
+  }
+
+  /// Returns the quality of service metrics collected since [textureId] was
+  /// created.
+  Future<VideoPlaybackMetrics> getMetrics(int textureId) {
+    throw UnimplementedError('getMetrics() has not been implemented.');
+  }
+
+  /// Emits a [VideoEventType.metrics] event every [interval], or stops when
+  /// it is null or not positive.
+  Future<void> setMetricsInterval(int textureId, Duration interval) {
+    throw UnimplementedError('setMetricsInterval() has not been implemented.');
+  }
+
+  /// Caps how many players hold a video decoder at once, or removes the cap
+  /// when [maxActiveDecoders] is null.
+  ///
+  /// Over the cap, the decoders of the least recently played paused players
+  /// are released. When only playing players are left, the player that went
+  /// over the cap emits a [VideoEventType.decoderBudgetExceeded] event.
+  Future<void> setMaxActiveDecoders(int maxActiveDecoders) {
+    throw UnimplementedError(
+        'setMaxActiveDecoders() has not been implemented.');
+  }
+
   // This method makes sure that VideoPlayer isn't implemented with `implements`.
   //
   // See class doc for more details on why implementing this class is forbidden.
@@ -207,19 +273,41 @@ enum VideoFormat {
   other,
 }
 
+/// The image encoding of a thumbnail returned by
+/// [VideoPlayerPlatform.getThumbnail].
+enum ThumbnailFormat {
+  /// JPEG, the default.
+  jpeg,
+
+  /// PNG.
+  png,
+
+  /// WebP.
+  webp,
+}
+
 /// Event emitted from the platform implementation.
 class VideoEvent {
   /// Creates an instance of [VideoEvent].
   ///
   /// The [eventType] argument is required.
   ///
-  /// Depending on the [eventType], the [duration], [size] and [buffered]
-  /// arguments can be null.
+  /// Depending on the [eventType], the [duration], [size], [buffered],
+  /// [renditions], [rendition], [playlistIndex], [transitionReason],
+  /// [metrics], [activeDecoders] and [maxActiveDecoders] arguments can be
+  /// null.
   VideoEvent({
     @required this.eventType,
     this.duration,
     this.size,
     this.buffered,
+    this.renditions,
+    this.rendition,
+    this.playlistIndex,
+    this.transitionReason,
+    this.metrics,
+    this.activeDecoders,
+    this.maxActiveDecoders,
   });
 
   /// The type of the event.
@@ -227,7 +315,9 @@ class VideoEvent {
 
   /// Duration of the video.
   ///
-  /// Only used if [eventType] is [VideoEventType.initialized].
+  /// Only used if [eventType] is [VideoEventType.initialized] or
+  /// [VideoEventType.playlistItemTransition]. It is null when the duration of
+  /// a new playlist item is not known yet.
   final Duration duration;
 
   /// Size of the video.
@@ -240,6 +330,41 @@ class VideoEvent {
   /// Only used if [eventType] is [VideoEventType.bufferingUpdate].
   final List<DurationRange> buffered;
 
+  /// Renditions the player can choose from.
+  ///
+  /// Only used if [eventType] is [VideoEventType.renditionsChanged].
+  final List<VideoRendition> renditions;
+
+  /// The rendition being played.
+  ///
+  /// Only used if [eventType] is [VideoEventType.renditionChanged].
+  final VideoRendition rendition;
+
+  /// The index of the playlist item being played.
+  ///
+  /// Only used if [eventType] is [VideoEventType.playlistItemTransition].
+  final int playlistIndex;
+
+  /// Why the player moved to another playlist item.
+  ///
+  /// Only used if [eventType] is [VideoEventType.playlistItemTransition].
+  final PlaylistTransitionReason transitionReason;
+
+  /// The quality of service metrics of the player.
+  ///
+  /// Only used if [eventType] is [VideoEventType.metrics].
+  final VideoPlaybackMetrics metrics;
+
+  /// The number of players holding a video decoder.
+  ///
+  /// Only used if [eventType] is [VideoEventType.decoderBudgetExceeded].
+  final int activeDecoders;
+
+  /// The cap set with [VideoPlayerPlatform.setMaxActiveDecoders].
+  ///
+  /// Only used if [eventType] is [VideoEventType.decoderBudgetExceeded].
+  final int maxActiveDecoders;
+
   @override
   bool operator ==(Object other) {
     return identical(this, other) ||
@@ -248,7 +373,14 @@ class VideoEvent {
             eventType == other.eventType &&
             duration == other.duration &&
             size == other.size &&
-            listEquals(buffered, other.buffered);
+            listEquals(buffered, other.buffered) &&
+            listEquals(renditions, other.renditions) &&
+            rendition == other.rendition &&
+            playlistIndex == other.playlistIndex &&
+            transitionReason == other.transitionReason &&
+            metrics == other.metrics &&
+            activeDecoders == other.activeDecoders &&
+            maxActiveDecoders == other.maxActiveDecoders;
   }
 
   @override
@@ -256,7 +388,14 @@ class VideoEvent {
       eventType.hashCode ^
       duration.hashCode ^
       size.hashCode ^
-      buffered.hashCode;
+      buffered.hashCode ^
+      renditions.hashCode ^
+      rendition.hashCode ^
+      playlistIndex.hashCode ^
+      transitionReason.hashCode ^
+      metrics.hashCode ^
+      activeDecoders.hashCode ^
+      maxActiveDecoders.hashCode;
 }
 
 /// Type of the event.
@@ -279,10 +418,43 @@ enum VideoEventType {
   /// The video stopped to buffer.
   bufferingEnd,
 
+  /// The renditions of an adaptive video are known or have changed.
+  renditionsChanged,
+
+  /// The player switched to another rendition of an adaptive video.
+  renditionChanged,
+
+  /// The player moved to another item of its playlist.
+  playlistItemTransition,
+
+  /// Periodic quality of service metrics, see
+  /// [VideoPlayerPlatform.setMetricsInterval].
+  metrics,
+
+  /// This player holds a video decoder over the cap set with
+  /// [VideoPlayerPlatform.setMaxActiveDecoders] because every other player
+  /// holding one is playing.
+  decoderBudgetExceeded,
+
   /// An unknown event has been received.
   unknown,
 }
 
+/// Why the player moved to another playlist item.
+enum PlaylistTransitionReason {
+  /// The previous item finished playing.
+  auto,
+
+  /// The same item started again because the playlist is looping.
+  repeat,
+
+  /// The player sought into another item.
+  seek,
+
+  /// The playlist was changed.
+  playlistChanged,
+}
+
 /// Describes a discrete segment of time within a video using a [start] and
 /// [end] [Duration].
 class DurationRange {
@@ -351,3 +523,160 @@ class VideoPlayerOptions {
   /// set additional optional player settings
   VideoPlayerOptions({this.mixWithOthers = false});
 }
+
+/// **Android only**. Limits on the renditions of an adaptive (HLS, DASH or
+/// SmoothStreaming) video that the player may select.
+///
+/// A null limit leaves that dimension unconstrained.
+class VideoTrackConstraints {
+  /// Constructs an instance of [VideoTrackConstraints].
+  const VideoTrackConstraints({
+    this.maxWidth,
+    this.maxHeight,
+    this.maxBitrate,
+    this.viewportSize,
+  });
+
+  /// The maximum width of a selected rendition, in pixels.
+  final int maxWidth;
+
+  /// The maximum height of a selected rendition, in pixels.
+  final int maxHeight;
+
+  /// The maximum bitrate of a selected rendition, in bits per second.
+  final int maxBitrate;
+
+  /// The size, in physical pixels, the video is rendered at. Renditions
+  /// larger than needed for it are avoided.
+  final Size viewportSize;
+}
+
+/// **Android only**. One rendition of an adaptive video.
+class VideoRendition {
+  /// Constructs an instance of [VideoRendition].
+  const VideoRendition({
+    this.width,
+    this.height,
+    this.bitrate,
+    this.codecs,
+    this.groupIndex,
+    this.trackIndex,
+  });
+
+  /// The width of the rendition in pixels, or -1 if unknown.
+  final int width;
+
+  /// The height of the rendition in pixels, or -1 if unknown.
+  final int height;
+
+  /// The bitrate of the rendition in bits per second, or -1 if unknown.
+  final int bitrate;
+
+  /// The codecs of the rendition, if known.
+  final String codecs;
+
+  /// The index of the track group holding this rendition.
+  ///
+  /// Only set for the renditions of [VideoEventType.renditionsChanged].
+  final int groupIndex;
+
+  /// The index of this rendition in its track group.
+  ///
+  /// Only set for the renditions of [VideoEventType.renditionsChanged].
+  final int trackIndex;
+
+  @override
+  String toString() => '$runtimeType(width: $width, height: $height, '
+      'bitrate: $bitrate, codecs: $codecs, '
+      'groupIndex: $groupIndex, trackIndex: $trackIndex)';
+
+  @override
+  bool operator ==(Object other) =>
+      identical(this, other) ||
+      other is VideoRendition &&
+          runtimeType == other.runtimeType &&
+          width == other.width &&
+          height == other.height &&
+          bitrate == other.bitrate &&
+          codecs == other.codecs &&
+          groupIndex == other.groupIndex &&
+          trackIndex == other.trackIndex;
+
+  @override
+  int get hashCode =>
+      width.hashCode ^
+      height.hashCode ^
+      bitrate.hashCode ^
+      codecs.hashCode ^
+      groupIndex.hashCode ^
+      trackIndex.hashCode;
+}
+
+/// **Android only**. Quality of service metrics of a single player.
+class VideoPlaybackMetrics {
+  /// Constructs an instance of [VideoPlaybackMetrics].
+  const VideoPlaybackMetrics({
+    this.timeToFirstFrame,
+    this.rebufferCount = 0,
+    this.rebufferDuration = Duration.zero,
+    this.droppedFrames = 0,
+    this.videoDecoderInitialization,
+    this.bandwidthEstimate = -1,
+    this.videoBitrate = -1,
+  });
+
+  /// The time from creating the player to rendering its first frame, or null
+  /// until a frame is rendered.
+  final Duration timeToFirstFrame;
+
+  /// How many times playback stalled to buffer after it first started.
+  ///
+  /// Buffering right after a seek or a playlist transition is not counted.
+  final int rebufferCount;
+
+  /// The total time spent in the stalls counted by [rebufferCount].
+  final Duration rebufferDuration;
+
+  /// The number of video frames dropped because they were rendered late.
+  final int droppedFrames;
+
+  /// The time taken to initialize the video decoder, or null if unknown.
+  final Duration videoDecoderInitialization;
+
+  /// The estimated network bandwidth in bits per second, or -1 if unknown.
+  final int bandwidthEstimate;
+
+  /// The bitrate of the video rendition being loaded in bits per second, or
+  /// -1 if unknown.
+  final int videoBitrate;
+
+  @override
+  String toString() => '$runtimeType(timeToFirstFrame: $timeToFirstFrame, '
+      'rebufferCount: $rebufferCount, rebufferDuration: $rebufferDuration, '
+      'droppedFrames: $droppedFrames, '
+      'videoDecoderInitialization: $videoDecoderInitialization, '
+      'bandwidthEstimate: $bandwidthEstimate, videoBitrate: $videoBitrate)';
+
+  @override
+  bool operator ==(Object other) =>
+      identical(this, other) ||
+      other is VideoPlaybackMetrics &&
+          runtimeType == other.runtimeType &&
+          timeToFirstFrame == other.timeToFirstFrame &&
+          rebufferCount == other.rebufferCount &&
+          rebufferDuration == other.rebufferDuration &&
+          droppedFrames == other.droppedFrames &&
+          videoDecoderInitialization == other.videoDecoderInitialization &&
+          bandwidthEstimate == other.bandwidthEstimate &&
+          videoBitrate == other.videoBitrate;
+
+  @override
+  int get hashCode =>
+      timeToFirstFrame.hashCode ^
+      rebufferCount.hashCode ^
+      rebufferDuration.hashCode ^
+      droppedFrames.hashCode ^
+      videoDecoderInitialization.hashCode ^
+      bandwidthEstimate.hashCode ^
+      videoBitrate.hashCode;
+}
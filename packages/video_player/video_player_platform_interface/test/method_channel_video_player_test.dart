@@ -2,6 +2,7 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
 import 'dart:ui';
 
 import 'package:flutter/services.dart';
@@ -20,6 +21,13 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   VolumeMessage volumeMessage;
   PlaybackSpeedMessage playbackSpeedMessage;
   MixWithOthersMessage mixWithOthersMessage;
+  VideoTrackConstraintsMessage videoTrackConstraintsMessage;
+  RenditionMessage renditionMessage;
+  PlaylistItemMessage playlistItemMessage;
+  PlaylistIndexMessage playlistIndexMessage;
+  PlaylistMoveMessage playlistMoveMessage;
+  MetricsIntervalMessage metricsIntervalMessage;
+  DecoderBudgetMessage decoderBudgetMessage;
 
   @override
   TextureMessage create(CreateMessage arg) {
@@ -87,6 +95,63 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     log.add('setPlaybackSpeed');
     playbackSpeedMessage = arg;
   }
+
+  @override
+  void setVideoTrackConstraints(VideoTrackConstraintsMessage arg) {
+    log.add('setVideoTrackConstraints');
+    videoTrackConstraintsMessage = arg;
+  }
+
+  @override
+  void selectRendition(RenditionMessage arg) {
+    log.add('selectRendition');
+    renditionMessage = arg;
+  }
+
+  @override
+  void addPlaylistItem(PlaylistItemMessage arg) {
+    log.add('addPlaylistItem');
+    playlistItemMessage = arg;
+  }
+
+  @override
+  void removePlaylistItem(PlaylistIndexMessage arg) {
+    log.add('removePlaylistItem');
+    playlistIndexMessage = arg;
+  }
+
+  @override
+  void movePlaylistItem(PlaylistMoveMessage arg) {
+    log.add('movePlaylistItem');
+    playlistMoveMessage = arg;
+  }
+
+  @override
+  StatsMessage getStats(TextureMessage arg) {
+    log.add('getStats');
+    textureMessage = arg;
+    return StatsMessage()
+      ..textureId = arg.textureId
+      ..timeToFirstFrameMs = 350
+      ..rebufferCount = 2
+      ..rebufferDurationMs = 1200
+      ..droppedFrames = 5
+      ..videoDecoderInitializationMs = -1
+      ..bandwidthEstimate = 4000000
+      ..videoBitrate = -1;
+  }
+
+  @override
+  void setMetricsInterval(MetricsIntervalMessage arg) {
+    log.add('setMetricsInterval');
+    metricsIntervalMessage = arg;
+  }
+
+  @override
+  void setMaxActiveDecoders(DecoderBudgetMessage arg) {
+    log.add('setMaxActiveDecoders');
+    decoderBudgetMessage = arg;
+  }
 }
 
 void main() {
@@ -230,6 +295,149 @@ void main() {
       expect(position, const Duration(milliseconds: 234));
     });
 
+    test('setVideoTrackConstraints', () async {
+      await player.setVideoTrackConstraints(
+          1,
+          const VideoTrackConstraints(
+            maxBitrate: 2000000,
+            viewportSize: Size(1280.4, 720.6),
+          ));
+      expect(log.log.last, 'setVideoTrackConstraints');
+      expect(log.videoTrackConstraintsMessage.textureId, 1);
+      expect(log.videoTrackConstraintsMessage.maxWidth, null);
+      expect(log.videoTrackConstraintsMessage.maxBitrate, 2000000);
+      expect(log.videoTrackConstraintsMessage.viewportWidth, 1280);
+      expect(log.videoTrackConstraintsMessage.viewportHeight, 721);
+    });
+
+    test('selectRendition', () async {
+      await player.selectRendition(
+          1, const VideoRendition(groupIndex: 2, trackIndex: 3));
+      expect(log.log.last, 'selectRendition');
+      expect(log.renditionMessage.textureId, 1);
+      expect(log.renditionMessage.groupIndex, 2);
+      expect(log.renditionMessage.trackIndex, 3);
+
+      await player.selectRendition(1, null);
+      expect(log.renditionMessage.groupIndex, -1);
+    });
+
+    test('addPlaylistItem', () async {
+      await player.addPlaylistItem(
+          1,
+          DataSource(
+            sourceType: DataSourceType.network,
+            uri: 'someUri',
+            formatHint: VideoFormat.hls,
+          ),
+          index: 2);
+      expect(log.log.last, 'addPlaylistItem');
+      expect(log.playlistItemMessage.textureId, 1);
+      expect(log.playlistItemMessage.index, 2);
+      expect(log.playlistItemMessage.uri, 'someUri');
+      expect(log.playlistItemMessage.formatHint, 'hls');
+    });
+
+    test('removePlaylistItem', () async {
+      await player.removePlaylistItem(1, 2);
+      expect(log.log.last, 'removePlaylistItem');
+      expect(log.playlistIndexMessage.textureId, 1);
+      expect(log.playlistIndexMessage.index, 2);
+    });
+
+    test('movePlaylistItem', () async {
+      await player.movePlaylistItem(1, 2, 0);
+      expect(log.log.last, 'movePlaylistItem');
+      expect(log.playlistMoveMessage.textureId, 1);
+      expect(log.playlistMoveMessage.fromIndex, 2);
+      expect(log.playlistMoveMessage.toIndex, 0);
+    });
+
+    test('getMetrics', () async {
+      final VideoPlaybackMetrics metrics = await player.getMetrics(1);
+      expect(log.log.last, 'getStats');
+      expect(log.textureMessage.textureId, 1);
+      expect(
+          metrics,
+          const VideoPlaybackMetrics(
+            timeToFirstFrame: Duration(milliseconds: 350),
+            rebufferCount: 2,
+            rebufferDuration: Duration(milliseconds: 1200),
+            droppedFrames: 5,
+            bandwidthEstimate: 4000000,
+          ));
+    });
+
+    test('setMetricsInterval', () async {
+      await player.setMetricsInterval(1, const Duration(seconds: 2));
+      expect(log.log.last, 'setMetricsInterval');
+      expect(log.metricsIntervalMessage.textureId, 1);
+      expect(log.metricsIntervalMessage.intervalMillis, 2000);
+
+      await player.setMetricsInterval(1, null);
+      expect(log.metricsIntervalMessage.intervalMillis, 0);
+    });
+
+    test('setMaxActiveDecoders', () async {
+      await player.setMaxActiveDecoders(2);
+      expect(log.log.last, 'setMaxActiveDecoders');
+      expect(log.decoderBudgetMessage.maxActiveDecoders, 2);
+    });
+
+    group('getThumbnail', () {
+      const MethodChannel channel =
+          MethodChannel('flutter.io/videoPlayer/thumbnails');
+      final List<MethodCall> calls = <MethodCall>[];
+
+      setUp(() {
+        calls.clear();
+        channel.setMockMethodCallHandler((MethodCall methodCall) async {
+          calls.add(methodCall);
+          return Uint8List.fromList(<int>[1, 2, 3]);
+        });
+      });
+
+      tearDown(() {
+        channel.setMockMethodCallHandler(null);
+      });
+
+      test('with network', () async {
+        final Uint8List bytes = await player.getThumbnail(
+          DataSource(sourceType: DataSourceType.network, uri: 'someUri'),
+          position: const Duration(seconds: 2),
+          maxWidth: 320,
+          format: ThumbnailFormat.webp,
+          httpHeaders: <String, String>{'Authorization': 'token'},
+        );
+        expect(bytes, <int>[1, 2, 3]);
+        expect(calls, hasLength(1));
+        expect(calls.single.method, 'getThumbnail');
+        expect(calls.single.arguments, <String, dynamic>{
+          'positionMs': 2000,
+          'maxWidth': 320,
+          'format': 'webp',
+          'httpHeaders': <String, String>{'Authorization': 'token'},
+          'uri': 'someUri',
+        });
+      });
+
+      test('with asset', () async {
+        await player.getThumbnail(DataSource(
+          sourceType: DataSourceType.asset,
+          asset: 'someAsset',
+          package: 'somePackage',
+        ));
+        expect(calls.single.arguments, <String, dynamic>{
+          'positionMs': 0,
+          'maxWidth': null,
+          'format': 'jpeg',
+          'httpHeaders': null,
+          'asset': 'someAsset',
+          'packageName': 'somePackage',
+        });
+      });
+    });
+
     test('videoEventsFor', () async {
       // TODO(cbenhagen): This has been deprecated and should be replaced
       // with `ServicesBinding.instance.defaultBinaryMessenger` when it's
@@ -341,6 +549,146 @@ void main() {
             VideoEvent(eventType: VideoEventType.bufferingEnd),
           ]));
     });
+
+    test('videoEventsFor Android extensions', () async {
+      // TODO(cbenhagen): This has been deprecated and should be replaced
+      // with `ServicesBinding.instance.defaultBinaryMessenger` when it's
+      // available on all the versions of Flutter that we test.
+      // ignore: deprecated_member_use
+      defaultBinaryMessenger.setMockMessageHandler(
+        "flutter.io/videoPlayer/videoEvents124",
+        (ByteData message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            // ignore: deprecated_member_use
+            await defaultBinaryMessenger.handlePlatformMessage(
+                "flutter.io/videoPlayer/videoEvents124",
+                const StandardMethodCodec()
+                    .encodeSuccessEnvelope(<String, dynamic>{
+                  'event': 'renditionsChanged',
+                  'renditions': <Map<String, dynamic>>[
+                    <String, dynamic>{
+                      'width': 1280,
+                      'height': 720,
+                      'bitrate': 2000000,
+                      'codecs': 'avc1.4d401f',
+                      'groupIndex': 0,
+                      'trackIndex': 1,
+                    },
+                  ],
+                }),
+                (ByteData data) {});
+
+            // ignore: deprecated_member_use
+            await defaultBinaryMessenger.handlePlatformMessage(
+                "flutter.io/videoPlayer/videoEvents124",
+                const StandardMethodCodec()
+                    .encodeSuccessEnvelope(<String, dynamic>{
+                  'event': 'renditionChanged',
+                  'width': 1280,
+                  'height': 720,
+                  'bitrate': 2000000,
+                  'codecs': 'avc1.4d401f',
+                }),
+                (ByteData data) {});
+
+            // ignore: deprecated_member_use
+            await defaultBinaryMessenger.handlePlatformMessage(
+                "flutter.io/videoPlayer/videoEvents124",
+                const StandardMethodCodec()
+                    .encodeSuccessEnvelope(<String, dynamic>{
+                  'event': 'playlistItemTransition',
+                  'index': 1,
+                  'duration': 5000,
+                  'reason': 'auto',
+                }),
+                (ByteData data) {});
+
+            // ignore: deprecated_member_use
+            await defaultBinaryMessenger.handlePlatformMessage(
+                "flutter.io/videoPlayer/videoEvents124",
+                const StandardMethodCodec()
+                    .encodeSuccessEnvelope(<String, dynamic>{
+                  'event': 'metrics',
+                  'timeToFirstFrameMs': 350,
+                  'rebufferCount': 1,
+                  'rebufferDurationMs': 800,
+                  'droppedFrames': 3,
+                  'videoDecoderInitializationMs': 40,
+                  'bandwidthEstimate': -1,
+                  'videoBitrate': 2000000,
+                }),
+                (ByteData data) {});
+
+            // ignore: deprecated_member_use
+            await defaultBinaryMessenger.handlePlatformMessage(
+                "flutter.io/videoPlayer/videoEvents124",
+                const StandardMethodCodec()
+                    .encodeSuccessEnvelope(<String, dynamic>{
+                  'event': 'decoderBudgetExceeded',
+                  'activeDecoders': 3,
+                  'maxActiveDecoders': 2,
+                }),
+                (ByteData data) {});
+
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else if (methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else {
+            fail('Expected listen or cancel');
+          }
+        },
+      );
+      expect(
+          player.videoEventsFor(124),
+          emitsInOrder(<dynamic>[
+            VideoEvent(
+              eventType: VideoEventType.renditionsChanged,
+              renditions: <VideoRendition>[
+                const VideoRendition(
+                  width: 1280,
+                  height: 720,
+                  bitrate: 2000000,
+                  codecs: 'avc1.4d401f',
+                  groupIndex: 0,
+                  trackIndex: 1,
+                ),
+              ],
+            ),
+            VideoEvent(
+              eventType: VideoEventType.renditionChanged,
+              rendition: const VideoRendition(
+                width: 1280,
+                height: 720,
+                bitrate: 2000000,
+                codecs: 'avc1.4d401f',
+              ),
+            ),
+            VideoEvent(
+              eventType: VideoEventType.playlistItemTransition,
+              duration: const Duration(milliseconds: 5000),
+              playlistIndex: 1,
+              transitionReason: PlaylistTransitionReason.auto,
+            ),
+            VideoEvent(
+              eventType: VideoEventType.metrics,
+              metrics: const VideoPlaybackMetrics(
+                timeToFirstFrame: Duration(milliseconds: 350),
+                rebufferCount: 1,
+                rebufferDuration: Duration(milliseconds: 800),
+                droppedFrames: 3,
+                videoDecoderInitialization: Duration(milliseconds: 40),
+                videoBitrate: 2000000,
+              ),
+            ),
+            VideoEvent(
+              eventType: VideoEventType.decoderBudgetExceeded,
+              activeDecoders: 3,
+              maxActiveDecoders: 2,
+            ),
+          ]));
+    });
   });
 }
 